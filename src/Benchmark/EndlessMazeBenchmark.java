@@ -0,0 +1,85 @@
+package Benchmark;
+
+import Model.EndlessMaze;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Walks down an endless maze and reports the heap in use and the time per row at
+ * increasing depths, with and without a spill file, to show that memory stays flat.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class EndlessMazeBenchmark {
+    /**
+     * The depths at which a line is printed.
+     */
+    private static final long[] DEPTHS = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    /**
+     * The width of the maze.
+     */
+    private static final int COLS = 64;
+    /**
+     * The number of rows kept in memory.
+     */
+    private static final int WINDOW_ROWS = 256;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private EndlessMazeBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs unused.
+     * @throws IOException if the spill file cannot be created.
+     */
+    public static void main(final String[] theArgs) throws IOException {
+        try (EndlessMaze maze = new EndlessMaze(COLS, WINDOW_ROWS, new Random(1))) {
+            walk("dropped", maze);
+        }
+        final File spill = File.createTempFile("endless", ".maze");
+        try (EndlessMaze maze = new EndlessMaze(COLS, WINDOW_ROWS, new Random(1), spill)) {
+            walk("spilled", maze);
+        } finally {
+            spill.delete();
+        }
+    }
+
+    /**
+     * Focuses the maze on ever deeper rows and prints one line per depth.
+     *
+     * @param theLabel the name of the run.
+     * @param theMaze the maze to walk.
+     */
+    private static void walk(final String theLabel, final EndlessMaze theMaze) {
+        System.out.printf("%s rows: %12s %14s %14s%n", theLabel, "depth", "ns/row", "heap KB");
+        long row = 0;
+        for (long depth : DEPTHS) {
+            final long start = System.nanoTime();
+            final long from = row;
+            while (row < depth) {
+                theMaze.focus(++row);
+            }
+            final long time = System.nanoTime() - start;
+            System.out.printf("%s rows: %12d %14.1f %14d%n", theLabel, depth,
+                    (double) time / (depth - from), usedHeap() / 1024);
+        }
+    }
+
+    /**
+     * Returns the heap in use after requesting a garbage collection.
+     *
+     * @return the number of bytes in use.
+     */
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
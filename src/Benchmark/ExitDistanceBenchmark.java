@@ -0,0 +1,89 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.ExitDistances;
+import Model.Maze;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compares repairing the distance-to-exit field incrementally after each locked
+ * door with measuring it again from scratch, on mazes of 10k to 1M cells.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class ExitDistanceBenchmark {
+    /**
+     * The side lengths of the square mazes measured.
+     */
+    private static final int[] SIDES = {100, 316, 1000};
+    /**
+     * The number of random doors locked per maze.
+     */
+    private static final int LOCKS = 2_000;
+    /**
+     * The number of locks followed by a full recompute, which is far slower.
+     */
+    private static final int RECOMPUTES = 20;
+    /**
+     * The seed of the mazes and of the locked doors.
+     */
+    private static final long SEED = 17L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ExitDistanceBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     */
+    public static void main(final String[] theArgs) {
+        System.out.printf("%12s %22s %22s%n", "cells", "recompute ns/lock", "incremental ns/lock");
+        for (int side : SIDES) {
+            final Maze full = new Maze(side, side, new BacktrackerGenerator(), SEED);
+            final ExitDistances fullDistances = new ExitDistances(full);
+            final SplittableRandom fullRandom = new SplittableRandom(SEED);
+            final long fullStart = System.nanoTime();
+            for (int i = 0; i < RECOMPUTES; i++) {
+                lockRandomDoor(full, fullRandom, side);
+                fullDistances.recompute();
+            }
+            final long fullTime = System.nanoTime() - fullStart;
+
+            final Maze incremental = new Maze(side, side, new BacktrackerGenerator(), SEED);
+            incremental.getExitDistance(0, 0);
+            final SplittableRandom random = new SplittableRandom(SEED);
+            final long start = System.nanoTime();
+            for (int i = 0; i < LOCKS; i++) {
+                lockRandomDoor(incremental, random, side);
+            }
+            final long time = System.nanoTime() - start;
+
+            System.out.printf("%12d %22.0f %22.0f%n", (long) side * side,
+                    (double) fullTime / RECOMPUTES, (double) time / LOCKS);
+        }
+    }
+
+    /**
+     * Permanently locks a random interior door.
+     *
+     * @param theMaze the maze.
+     * @param theRandom the source of randomness.
+     * @param theSide the number of rows and columns.
+     */
+    private static void lockRandomDoor(final Maze theMaze, final SplittableRandom theRandom, final int theSide) {
+        final int row = theRandom.nextInt(theSide);
+        final int col = theRandom.nextInt(theSide - 1);
+        if (theRandom.nextBoolean()) {
+            theMaze.lockDoor(row, col, Direction.EAST);
+        } else {
+            theMaze.lockDoor(col, row, Direction.SOUTH);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package Benchmark;
+
+import Controller.GameHttpServer;
+import Controller.GameServer;
+import Model.Direction;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-generation harness for {@link GameHttpServer} on localhost. Each simulated
+ * client owns a game and plays it one request at a time, alternating between reading
+ * its room and trying to move in a random direction. Reports requests per second and
+ * the median and 99th percentile round trip at 100 and 1000 concurrent clients.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameHttpBenchmark {
+    /**
+     * The seed of the first client's maze; each client adds its index.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The client counts measured.
+     */
+    private static final int[] CLIENTS = {100, 1_000};
+    /**
+     * The number of requests timed per client count.
+     */
+    private static final int REQUESTS = 100_000;
+    /**
+     * The questions every game asks.
+     */
+    private static final List<Question> QUESTIONS =
+            List.of(new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"));
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameHttpBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws Exception if the server cannot start or a request fails.
+     */
+    public static void main(final String[] theArgs) throws Exception {
+        GameHttpServer.tuneForLowLatency();
+        System.out.printf("%10s %14s %12s %12s%n", "clients", "requests/sec", "p50 us", "p99 us");
+        for (int clients : CLIENTS) {
+            try (GameServer games = new GameServer(Runtime.getRuntime().availableProcessors());
+                 GameHttpServer server = new GameHttpServer(games,
+                         new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), () -> QUESTIONS)) {
+                final HttpClient client = HttpClient.newHttpClient();
+                final String base = "http://127.0.0.1:" + server.getPort() + "/games";
+                final String[] urls = new String[clients];
+                for (int i = 0; i < clients; i++) {
+                    final String body = client.send(post(base + "?seed=" + (SEED + i)),
+                            HttpResponse.BodyHandlers.ofString()).body();
+                    final int from = body.indexOf("\"id\":") + 5;
+                    urls[i] = base + "/" + body.substring(from, body.indexOf(',', from));
+                }
+                run(client, urls, REQUESTS / 4, new long[REQUESTS / 4]);
+
+                final long[] latencies = new long[REQUESTS];
+                final long start = System.nanoTime();
+                run(client, urls, REQUESTS, latencies);
+                final double seconds = (System.nanoTime() - start) / 1e9;
+
+                Arrays.sort(latencies);
+                System.out.printf("%10d %14.0f %12.1f %12.1f%n", clients, REQUESTS / seconds,
+                        latencies[REQUESTS / 2] / 1e3, latencies[(int) (REQUESTS * 0.99)] / 1e3);
+            }
+        }
+    }
+
+    /**
+     * Sends the given number of requests, spread over the clients, each client
+     * sending its next request once the previous one has been answered.
+     *
+     * @param theClient the HTTP client.
+     * @param theGames the URL of each client's game.
+     * @param theRequests the number of requests to send.
+     * @param theLatencies receives the round trip of each request in nanoseconds.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private static void run(final HttpClient theClient, final String[] theGames, final int theRequests,
+                            final long[] theLatencies) throws InterruptedException {
+        final AtomicInteger sent = new AtomicInteger();
+        final AtomicInteger recorded = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(theGames.length);
+        for (String game : theGames) {
+            next(theClient, game, sent, recorded, theRequests, theLatencies, done);
+        }
+        done.await();
+    }
+
+    /**
+     * Sends one client's next request, chaining the one after it on the response.
+     *
+     * @param theClient the HTTP client.
+     * @param theGame the URL of the client's game.
+     * @param theSent the number of requests sent so far.
+     * @param theRecorded the number of round trips recorded so far.
+     * @param theRequests the number of requests to send.
+     * @param theLatencies receives the round trip of each request in nanoseconds.
+     * @param theDone counted down when the client stops.
+     */
+    private static void next(final HttpClient theClient, final String theGame, final AtomicInteger theSent,
+                             final AtomicInteger theRecorded, final int theRequests, final long[] theLatencies,
+                             final CountDownLatch theDone) {
+        final int request = theSent.getAndIncrement();
+        if (request >= theRequests) {
+            theDone.countDown();
+            return;
+        }
+        final HttpRequest http;
+        if (request % 2 == 0) {
+            http = HttpRequest.newBuilder(URI.create(theGame)).GET().build();
+        } else {
+            final Direction[] directions = Direction.values();
+            http = post(theGame + "/move?direction="
+                    + directions[ThreadLocalRandom.current().nextInt(directions.length)]);
+        }
+        final long submitted = System.nanoTime();
+        theClient.sendAsync(http, HttpResponse.BodyHandlers.discarding()).whenComplete((theResponse, theError) -> {
+            theLatencies[theRecorded.getAndIncrement()] = System.nanoTime() - submitted;
+            if (theError != null) {
+                theError.printStackTrace();
+            }
+            next(theClient, theGame, theSent, theRecorded, theRequests, theLatencies, theDone);
+        });
+    }
+
+    /**
+     * Builds an empty POST request.
+     *
+     * @param theUrl the URL.
+     * @return the request.
+     */
+    private static HttpRequest post(final String theUrl) {
+        return HttpRequest.newBuilder(URI.create(theUrl)).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+}
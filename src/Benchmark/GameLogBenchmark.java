@@ -0,0 +1,153 @@
+package Benchmark;
+
+import Controller.Bot;
+import Controller.BotStrategy;
+import Model.GameEngine;
+import Model.GameEventLog;
+import Model.GameModel;
+import Model.GameReplayer;
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the game event log: bytes per action, the cost of logging while a bot plays,
+ * and how fast a logged game is replayed, against saving the whole game with Java
+ * serialization after every action as a save-on-every-move scheme would.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameLogBenchmark {
+    /**
+     * The seed of the bots and mazes.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The side of each maze.
+     */
+    private static final int SIDE = 16;
+    /**
+     * The number of games played per measurement.
+     */
+    private static final int GAMES = 2_000;
+    /**
+     * The number of games saved in full after every action.
+     */
+    private static final int SAVED_GAMES = 20;
+    /**
+     * The questions every game asks.
+     */
+    private static final List<Question> QUESTIONS =
+            List.of(new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"));
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameLogBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws IOException if a log cannot be written or read.
+     */
+    public static void main(final String[] theArgs) throws IOException {
+        for (int round = 0; round < 3; round++) {
+            final byte[][] logs = new byte[GAMES][];
+            long events = 0;
+            long bytes = 0;
+            final long playStart = System.nanoTime();
+            play(GAMES, null);
+            final double playSeconds = (System.nanoTime() - playStart) / 1e9;
+
+            final long logStart = System.nanoTime();
+            final SplittableRandom random = new SplittableRandom(SEED);
+            for (int i = 0; i < GAMES; i++) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (GameEventLog log = new GameEventLog(out)) {
+                    final GameEngine engine = newGame(random.nextLong());
+                    log.attach(engine);
+                    new Bot(BotStrategy.GREEDY, 0.8, random.split()).play(engine, Integer.MAX_VALUE);
+                    events += log.getEventCount();
+                }
+                logs[i] = out.toByteArray();
+                bytes += logs[i].length;
+            }
+            final double logSeconds = (System.nanoTime() - logStart) / 1e9;
+
+            final long replayStart = System.nanoTime();
+            for (byte[] log : logs) {
+                GameReplayer.replay(new ByteArrayInputStream(log), QUESTIONS);
+            }
+            final double replaySeconds = (System.nanoTime() - replayStart) / 1e9;
+
+            final long saveStart = System.nanoTime();
+            final long savedBytes = play(SAVED_GAMES, new ByteArrayOutputStream());
+            final double saveSeconds = (System.nanoTime() - saveStart) / 1e9 * GAMES / SAVED_GAMES;
+
+            System.out.printf("%d games, %d actions, %.2f bytes per action (%.0f per game)%n",
+                    GAMES, events, (double) bytes / events, (double) bytes / GAMES);
+            System.out.printf("  play only      %8.1f ms%n", playSeconds * 1e3);
+            System.out.printf("  play + log     %8.1f ms%n", logSeconds * 1e3);
+            System.out.printf("  replay         %8.1f ms  (%.1fM actions/s)%n",
+                    replaySeconds * 1e3, events / replaySeconds / 1e6);
+            System.out.printf("  play + save    %8.1f ms  (%d bytes per action, estimated from %d games)%n",
+                    saveSeconds * 1e3, savedBytes / Math.max(1, events * SAVED_GAMES / GAMES), SAVED_GAMES);
+        }
+    }
+
+    /**
+     * Plays games with the same bots and mazes as the logged run, optionally saving the
+     * whole game model with Java serialization after every action.
+     *
+     * @param theGames the number of games to play.
+     * @param theSaves the stream saves are written to, or null to not save.
+     * @return the number of bytes saved.
+     * @throws IOException if a save fails.
+     */
+    private static long play(final int theGames, final ByteArrayOutputStream theSaves) throws IOException {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        long saved = 0;
+        for (int i = 0; i < theGames; i++) {
+            final GameEngine engine = newGame(random.nextLong());
+            if (theSaves != null) {
+                final long[] bytes = new long[1];
+                engine.setListener((theEvent, theDirection, theValue) -> {
+                    theSaves.reset();
+                    try (ObjectOutputStream out = new ObjectOutputStream(theSaves)) {
+                        out.writeObject(engine.getGameModel());
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    bytes[0] += theSaves.size();
+                });
+                new Bot(BotStrategy.GREEDY, 0.8, random.split()).play(engine, Integer.MAX_VALUE);
+                saved += bytes[0];
+            } else {
+                new Bot(BotStrategy.GREEDY, 0.8, random.split()).play(engine, Integer.MAX_VALUE);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Starts a game.
+     *
+     * @param theSeed the seed of the maze.
+     * @return the engine of the game.
+     */
+    private static GameEngine newGame(final long theSeed) {
+        return new GameEngine(new GameModel(new Maze(SIDE, SIDE, MazeAlgorithm.BACKTRACKER.create(), theSeed)),
+                QUESTIONS);
+    }
+}
@@ -0,0 +1,177 @@
+package Benchmark;
+
+import Controller.GameServer;
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameStatus;
+import Model.Maze;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-generation harness for {@link GameServer}. Client threads keep a fixed number
+ * of moves in flight against randomly chosen sessions, each move being one step of a
+ * bot that walks through open doors and answers questions for closed ones, and games
+ * that end are restarted on a fresh maze. Reports moves per second and the median and
+ * 99th percentile latency from submission to completion at 1k, 10k and 100k sessions.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameServerBenchmark {
+    /**
+     * The seed of the first session's maze; each session adds its index.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The session counts measured.
+     */
+    private static final int[] SESSIONS = {1_000, 10_000, 100_000};
+    /**
+     * The number of moves timed per session count.
+     */
+    private static final int MOVES = 400_000;
+    /**
+     * The number of client threads generating load.
+     */
+    private static final int CLIENTS = 4;
+    /**
+     * The number of moves each client keeps in flight.
+     */
+    private static final int IN_FLIGHT = 256;
+    /**
+     * The chance that a bot answers a question right.
+     */
+    private static final double RIGHT_ANSWERS = 0.8;
+    /**
+     * The questions every game asks.
+     */
+    private static final List<Question> QUESTIONS = List.of(
+            new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"),
+            new ShortAnswerQuestion("Largest planet?", "Jupiter", "Short Answer"),
+            new ShortAnswerQuestion("Chemical symbol for gold?", "Au", "Short Answer"));
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameServerBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws InterruptedException if interrupted while waiting for the clients.
+     */
+    public static void main(final String[] theArgs) throws InterruptedException {
+        final int workers = Runtime.getRuntime().availableProcessors();
+        System.out.printf("workers %d, clients %d, %d moves in flight%n", workers, CLIENTS, CLIENTS * IN_FLIGHT);
+        System.out.printf("%10s %14s %12s %12s%n", "sessions", "moves/sec", "p50 us", "p99 us");
+        for (int sessions : SESSIONS) {
+            try (GameServer server = new GameServer(workers)) {
+                final long[] ids = new long[sessions];
+                for (int i = 0; i < sessions; i++) {
+                    ids[i] = server.createSession(newMaze(i), QUESTIONS);
+                }
+                run(server, ids, MOVES / 4, new long[MOVES / 4]);
+
+                final long[] latencies = new long[MOVES];
+                final long start = System.nanoTime();
+                run(server, ids, MOVES, latencies);
+                final double seconds = (System.nanoTime() - start) / 1e9;
+
+                Arrays.sort(latencies);
+                System.out.printf("%10d %14.0f %12.1f %12.1f%n", sessions, MOVES / seconds,
+                        latencies[MOVES / 2] / 1e3, latencies[(int) (MOVES * 0.99)] / 1e3);
+            }
+        }
+    }
+
+    /**
+     * Plays the given number of moves against random sessions from the client threads.
+     *
+     * @param theServer the server.
+     * @param theIds the ids of the sessions.
+     * @param theMoves the number of moves to play.
+     * @param theLatencies receives the latency of each move in nanoseconds.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private static void run(final GameServer theServer, final long[] theIds, final int theMoves,
+                            final long[] theLatencies) throws InterruptedException {
+        final AtomicInteger recorded = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(theMoves);
+        final Thread[] clients = new Thread[CLIENTS];
+        for (int c = 0; c < CLIENTS; c++) {
+            final int moves = theMoves / CLIENTS + (c < theMoves % CLIENTS ? 1 : 0);
+            clients[c] = new Thread(() -> {
+                final Semaphore window = new Semaphore(IN_FLIGHT);
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < moves; i++) {
+                    window.acquireUninterruptibly();
+                    final int session = random.nextInt(theIds.length);
+                    final long id = theIds[session];
+                    final long submitted = System.nanoTime();
+                    theServer.submit(id, GameServerBenchmark::botStep).whenComplete((theStatus, theError) -> {
+                        theLatencies[recorded.getAndIncrement()] = System.nanoTime() - submitted;
+                        if (theStatus != null && theStatus != GameStatus.IN_PROGRESS) {
+                            theServer.restart(id, newMaze(session), QUESTIONS);
+                        }
+                        window.release();
+                        done.countDown();
+                    });
+                }
+            }, "load-client-" + c);
+            clients[c].start();
+        }
+        done.await();
+    }
+
+    /**
+     * Plays one step of a bot: walks through an open door if there is one, and
+     * otherwise answers the current question for a closed door.
+     *
+     * @param theEngine the engine of the game.
+     * @return the status of the game after the step.
+     */
+    private static GameStatus botStep(final GameEngine theEngine) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Direction[] directions = Direction.values();
+        final int first = random.nextInt(directions.length);
+        for (int i = 0; i < directions.length; i++) {
+            if (theEngine.move(directions[(first + i) % directions.length])) {
+                return theEngine.getStatus();
+            }
+        }
+        for (int i = 0; i < directions.length; i++) {
+            final Direction direction = directions[(first + i) % directions.length];
+            if (theEngine.canAttempt(direction)) {
+                final String answer = random.nextDouble() < RIGHT_ANSWERS
+                        ? theEngine.getCurrentQuestion().getAnswerText() : "?";
+                theEngine.answer(direction, answer);
+                if (!theEngine.nextQuestion()) {
+                    theEngine.setQuestions(QUESTIONS);
+                }
+                break;
+            }
+        }
+        return theEngine.getStatus();
+    }
+
+    /**
+     * Generates the maze for a session.
+     *
+     * @param theSession the index of the session.
+     * @return a new maze of the default size.
+     */
+    private static Maze newMaze(final int theSession) {
+        return new Maze(Maze.MAZE_SIZE, Maze.MAZE_SIZE, new BacktrackerGenerator(), SEED + theSession);
+    }
+}
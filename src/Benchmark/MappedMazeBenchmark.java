@@ -0,0 +1,157 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.MappedMaze;
+import Model.Maze;
+import Model.MazeGrid;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the cost of reading doors from a memory-mapped maze with reading them
+ * from an in-heap maze, visiting rooms in order and in random order, and reports
+ * how fast a mapped maze is carved at sizes the heap could not hold as rooms.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MappedMazeBenchmark {
+    /**
+     * The side lengths of the square mazes compared.
+     */
+    private static final int[] SIDES = {316, 1000};
+    /**
+     * The side length of the mapped-only maze, 10^8 rooms.
+     */
+    private static final int LARGE_SIDE = 10_000;
+    /**
+     * The number of rooms read per timed pass.
+     */
+    private static final int READS = 4_000_000;
+    /**
+     * The number of timed passes per case; the fastest is reported.
+     */
+    private static final int RUNS = 5;
+    /**
+     * The seed every measured maze is generated from.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The number of traversable doors read, printed at the end so the reads cannot be optimized away.
+     */
+    private static long checksum;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MappedMazeBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs optionally the directory to put the maze files in.
+     * @throws IOException if a maze file cannot be created.
+     */
+    public static void main(final String[] theArgs) throws IOException {
+        final Path directory = Path.of(theArgs.length > 0 ? theArgs[0] : System.getProperty("java.io.tmpdir"));
+        System.out.printf("%10s %8s %16s %16s%n", "cells", "store", "sequential ns", "random ns");
+        for (int side : SIDES) {
+            final Path file = Files.createTempFile(directory, "bench", ".maze");
+            try (MappedMaze mapped = MappedMaze.create(file, side, side, SEED)) {
+                report(side, "heap", new Maze(side, side, new BacktrackerGenerator(), SEED));
+                report(side, "mapped", mapped);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        final Path file = Files.createTempFile(directory, "bench", ".maze");
+        try {
+            final long start = System.nanoTime();
+            try (MappedMaze mapped = MappedMaze.create(file, LARGE_SIDE, LARGE_SIDE, SEED)) {
+                final long carve = System.nanoTime() - start;
+                System.out.printf("%ncarved %d mapped rooms in %.1f s (%.1f ns/room)%n",
+                        (long) LARGE_SIDE * LARGE_SIDE, carve / 1e9, (double) carve / LARGE_SIDE / LARGE_SIDE);
+                report(LARGE_SIDE, "mapped", mapped);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.printf("(%d traversable doors read)%n", checksum);
+    }
+
+    /**
+     * Times sequential and random reads of one maze and prints one line.
+     *
+     * @param theSide the number of rows and columns.
+     * @param theLabel the name of the store.
+     * @param theMaze the maze to read.
+     */
+    private static void report(final int theSide, final String theLabel, final MazeGrid theMaze) {
+        long sequential = Long.MAX_VALUE;
+        long random = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            sequential = Math.min(sequential, readSequential(theMaze, theSide));
+            random = Math.min(random, readRandom(theMaze, theSide));
+        }
+        System.out.printf("%10d %8s %16.2f %16.2f%n", (long) theSide * theSide, theLabel,
+                (double) sequential / READS, (double) random / READS);
+    }
+
+    /**
+     * Reads the east and south doors of rooms in row order.
+     *
+     * @param theMaze the maze to read.
+     * @param theSide the number of rows and columns.
+     * @return the time taken in nanoseconds.
+     */
+    private static long readSequential(final MazeGrid theMaze, final int theSide) {
+        int open = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            final long cell = i % ((long) theSide * theSide);
+            final int row = (int) (cell / theSide);
+            final int col = (int) (cell % theSide);
+            if (theMaze.isTraversable(row, col, Direction.EAST)) {
+                open++;
+            }
+            if (theMaze.isTraversable(row, col, Direction.SOUTH)) {
+                open++;
+            }
+        }
+        final long time = System.nanoTime() - start;
+        checksum += open;
+        return time;
+    }
+
+    /**
+     * Reads the east and south doors of rooms in random order.
+     *
+     * @param theMaze the maze to read.
+     * @param theSide the number of rows and columns.
+     * @return the time taken in nanoseconds.
+     */
+    private static long readRandom(final MazeGrid theMaze, final int theSide) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int open = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            final int row = random.nextInt(theSide);
+            final int col = random.nextInt(theSide);
+            if (theMaze.isTraversable(row, col, Direction.EAST)) {
+                open++;
+            }
+            if (theMaze.isTraversable(row, col, Direction.SOUTH)) {
+                open++;
+            }
+        }
+        final long time = System.nanoTime() - start;
+        checksum += open;
+        return time;
+    }
+}
@@ -0,0 +1,83 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.Maze;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * Measures the size and speed of the compact maze encoding, and compares its size
+ * and encoding time with default Java serialization of the maze's room graph.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MazeCodecBenchmark {
+    /**
+     * The side lengths of the square mazes measured.
+     */
+    private static final int[] SIDES = {100, 316, 1000};
+    /**
+     * The largest side for which the room graph is also serialized.
+     */
+    private static final int GRAPH_MAX_SIDE = 316;
+    /**
+     * The number of timed runs per case; the fastest is reported.
+     */
+    private static final int RUNS = 5;
+    /**
+     * The seed every measured maze is generated from.
+     */
+    private static final long SEED = 17L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MazeCodecBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws IOException if the room graph cannot be serialized.
+     */
+    public static void main(final String[] theArgs) throws IOException {
+        System.out.printf("%10s %12s %12s %12s %14s %14s%n",
+                "cells", "bytes", "bits/cell", "encode ms", "decode ms", "graph bytes");
+        for (int side : SIDES) {
+            final Maze maze = new Maze(side, side, new BacktrackerGenerator(), SEED);
+            for (int i = 0; i < side; i++) {
+                maze.openDoor(i, i / 2, Direction.SOUTH);
+            }
+
+            byte[] data = null;
+            long encode = Long.MAX_VALUE;
+            long decode = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                data = maze.encode();
+                encode = Math.min(encode, System.nanoTime() - start);
+                start = System.nanoTime();
+                Maze.decode(data);
+                decode = Math.min(decode, System.nanoTime() - start);
+            }
+
+            String graph = "skipped";
+            if (side <= GRAPH_MAX_SIDE) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(maze.myMaze);
+                }
+                graph = Integer.toString(bytes.size());
+            }
+
+            final long cells = (long) side * side;
+            System.out.printf("%10d %12d %12.2f %12.3f %14.3f %14s%n", cells, data.length,
+                    8.0 * data.length / cells, encode / 1e6, decode / 1e6, graph);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package Benchmark;
+
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.MazeGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Measures how many cells per second each maze generation algorithm carves,
+ * on square mazes and on a tall narrow maze.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MazeGeneratorBenchmark {
+    /**
+     * The maze sizes measured, as rows and columns.
+     */
+    private static final int[][] SIZES = {{100, 100}, {1000, 1000}, {200_000, 10}};
+    /**
+     * The number of timed generations per case; the fastest is reported.
+     */
+    private static final int RUNS = 5;
+    /**
+     * The tallest maze Wilson's algorithm is timed on; its random walks take time
+     * roughly quadratic in the length of a narrow maze.
+     */
+    private static final int WILSON_MAX_ROWS = 10_000;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MazeGeneratorBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs optionally the names of the algorithms to measure.
+     */
+    public static void main(final String[] theArgs) {
+        final MazeAlgorithm[] algorithms;
+        if (theArgs.length == 0) {
+            algorithms = MazeAlgorithm.values();
+        } else {
+            algorithms = new MazeAlgorithm[theArgs.length];
+            for (int i = 0; i < theArgs.length; i++) {
+                algorithms[i] = MazeAlgorithm.fromName(theArgs[i]);
+            }
+        }
+
+        System.out.printf("%12s %14s %16s%n", "algorithm", "rows x cols", "Mcells/sec");
+        for (MazeAlgorithm algorithm : algorithms) {
+            for (int[] size : SIZES) {
+                if (algorithm == MazeAlgorithm.WILSON && size[0] > WILSON_MAX_ROWS) {
+                    System.out.printf("%12s %14s %16s%n", algorithm, size[0] + "x" + size[1],
+                            "skipped, walks grow with the square of the height");
+                    continue;
+                }
+                final MazeGenerator generator = algorithm.create();
+                final Maze maze = new Maze(size[0], size[1], generator);
+                final SplittableRandom random = new SplittableRandom(17);
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    final long start = System.nanoTime();
+                    generator.generate(maze, random);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                final double cellsPerSecond = (double) size[0] * size[1] / (best / 1e9);
+                System.out.printf("%12s %14s %16.2f%n", algorithm, size[0] + "x" + size[1], cellsPerSecond / 1e6);
+            }
+        }
+    }
+}
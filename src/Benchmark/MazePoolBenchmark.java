@@ -0,0 +1,67 @@
+package Benchmark;
+
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.MazePool;
+
+/**
+ * Compares the time to start a new game by generating a maze on the spot with
+ * the time to take a ready one from a warmed-up {@link MazePool}, giving the pool
+ * time to refill between games as a game being played would.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MazePoolBenchmark {
+    /**
+     * The side lengths of the square mazes measured.
+     */
+    private static final int[] SIDES = {10, 100, 1000};
+    /**
+     * The number of new games timed per case.
+     */
+    private static final int GAMES = 5;
+    /**
+     * The number of mazes the pool keeps ready.
+     */
+    private static final int DEPTH = 2;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MazePoolBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws InterruptedException if interrupted while the pool fills between games.
+     */
+    public static void main(final String[] theArgs) throws InterruptedException {
+        System.out.printf("%12s %18s %18s%n", "rows x cols", "generate ms/game", "pooled ms/game");
+        try (MazePool pool = new MazePool(DEPTH, 1)) {
+            for (int side : SIDES) {
+                long generate = 0;
+                for (int game = 0; game < GAMES; game++) {
+                    final long start = System.nanoTime();
+                    new Maze(side, side, MazeAlgorithm.BACKTRACKER.create());
+                    generate += System.nanoTime() - start;
+                }
+
+                pool.warm(side, side, MazeAlgorithm.BACKTRACKER);
+                long pooled = 0;
+                for (int game = 0; game < GAMES; game++) {
+                    while (pool.ready(side, side, MazeAlgorithm.BACKTRACKER) < DEPTH) {
+                        Thread.sleep(10);
+                    }
+                    final long start = System.nanoTime();
+                    pool.take(side, side, MazeAlgorithm.BACKTRACKER);
+                    pooled += System.nanoTime() - start;
+                }
+                System.out.printf("%12s %18.3f %18.3f%n", side + "x" + side,
+                        generate / 1e6 / GAMES, pooled / 1e6 / GAMES);
+            }
+        }
+    }
+}
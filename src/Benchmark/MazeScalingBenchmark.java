@@ -0,0 +1,135 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.Maze;
+
+/**
+ * Builds and plays mazes of increasing size and reports the time and heap
+ * cost per cell, so that scaling cliffs show up before they reach a level.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MazeScalingBenchmark {
+    /**
+     * The seed every measured maze is generated from, so runs compare like with like.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The cell counts measured, from 10^2 to 10^7.
+     */
+    private static final int[] CELL_COUNTS = {100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    /**
+     * The number of timed runs per size; the fastest run is reported.
+     */
+    private static final int RUNS = 3;
+    /**
+     * The number of small mazes built before timing starts.
+     */
+    private static final int WARM_UP_MAZES = 2_000;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MazeScalingBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs optionally the largest cell count to measure and the
+     *                width to height ratio of the mazes (defaults to square).
+     */
+    public static void main(final String[] theArgs) {
+        final long maxCells = theArgs.length > 0 ? Long.parseLong(theArgs[0]) : Long.MAX_VALUE;
+        final double aspect = theArgs.length > 1 ? Double.parseDouble(theArgs[1]) : 1.0;
+
+        for (int i = 0; i < WARM_UP_MAZES; i++) {
+            playToExit(new Maze(10, 10));
+        }
+
+        System.out.printf("%12s %10s %14s %14s %14s%n",
+                "cells", "rows x cols", "build ns/cell", "heap B/cell", "play ns/move");
+        for (int cells : CELL_COUNTS) {
+            if (cells > maxCells) {
+                break;
+            }
+            final int rows = Math.max(1, (int) Math.round(Math.sqrt(cells / aspect)));
+            final int cols = Math.max(1, cells / rows);
+            try {
+                measure(rows, cols);
+            } catch (OutOfMemoryError e) {
+                System.out.printf("%12d %10s  out of memory, raise -Xmx to go further%n",
+                        (long) rows * cols, rows + "x" + cols);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Measures building and playing a maze of the given size and prints one row.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     */
+    private static void measure(final int theRows, final int theCols) {
+        final long cells = (long) theRows * theCols;
+        long bestBuild = Long.MAX_VALUE;
+        long bestPlay = Long.MAX_VALUE;
+        long heap = 0;
+        int moves = 0;
+
+        for (int run = 0; run < RUNS; run++) {
+            final long before = usedHeap();
+            final long buildStart = System.nanoTime();
+            final Maze maze = new Maze(theRows, theCols, new BacktrackerGenerator(), SEED);
+            final long buildTime = System.nanoTime() - buildStart;
+            heap = Math.max(0, usedHeap() - before);
+
+            final long playStart = System.nanoTime();
+            moves = playToExit(maze);
+            final long playTime = System.nanoTime() - playStart;
+
+            bestBuild = Math.min(bestBuild, buildTime);
+            bestPlay = Math.min(bestPlay, playTime);
+        }
+
+        System.out.printf("%12d %10s %14.1f %14.1f %14.1f%n", cells, theRows + "x" + theCols,
+                (double) bestBuild / cells, (double) heap / cells,
+                moves == 0 ? 0.0 : (double) bestPlay / moves);
+    }
+
+    /**
+     * Walks the player from the start room to the exit, opening each door on the way
+     * east along the first row and then south along the last column.
+     *
+     * @param theMaze the maze to play.
+     * @return the number of moves made.
+     */
+    private static int playToExit(final Maze theMaze) {
+        int moves = 0;
+        while (!theMaze.endOfMazeCheck()) {
+            final Direction direction = theMaze.getCurrentRoom().getCol() < theMaze.getCols() - 1
+                    ? Direction.EAST : Direction.SOUTH;
+            theMaze.getCurrentRoom().getDoor(direction).doorOpen();
+            if (!theMaze.canMovePlayer(direction)) {
+                throw new IllegalStateException("Opened door did not allow a move " + direction);
+            }
+            theMaze.movePlayer(direction);
+            moves++;
+        }
+        return moves;
+    }
+
+    /**
+     * Returns the heap in use after requesting a garbage collection.
+     *
+     * @return the number of bytes in use.
+     */
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
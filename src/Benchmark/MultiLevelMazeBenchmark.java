@@ -0,0 +1,99 @@
+package Benchmark;
+
+import Model.Direction;
+import Model.MazeGrid;
+import Model.MultiLevelMaze;
+
+/**
+ * Measures carving, whole-building reachability and a full scan of the floor on
+ * screen as the number of floors of a 316x316 maze grows, to show that building
+ * and searching stay linear in the rooms and that reading one floor does not
+ * depend on how many floors there are.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MultiLevelMazeBenchmark {
+    /**
+     * The seed every measured maze is carved from.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The side length of each floor.
+     */
+    private static final int SIDE = 316;
+    /**
+     * The floor counts measured.
+     */
+    private static final int[] FLOORS = {1, 4, 16, 64};
+    /**
+     * The number of timed scans of the floor on screen.
+     */
+    private static final int SCANS = 20;
+    /**
+     * A sink for scan results so the scans cannot be optimised away.
+     */
+    private static int checksum;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MultiLevelMazeBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     */
+    public static void main(final String[] theArgs) {
+        System.out.printf("%8s %12s %16s %16s %16s%n", "floors", "rooms", "carve ns/room", "reach ns/room",
+                "floor scan ms");
+        for (int floors : FLOORS) {
+            final long rooms = (long) floors * SIDE * SIDE;
+            final long carveStart = System.nanoTime();
+            final MultiLevelMaze maze = new MultiLevelMaze(floors, SIDE, SIDE, SEED);
+            final long carve = System.nanoTime() - carveStart;
+
+            maze.lockDoor(floors - 1, SIDE - 1, SIDE - 1, Direction.NORTH);
+            maze.lockDoor(floors - 1, SIDE - 1, SIDE - 1, Direction.WEST);
+            maze.canReachExit(0, 0, 0);
+            final long reachStart = System.nanoTime();
+            checksum += maze.canReachExit(0, 0, 0) ? 1 : 0;
+            final long reach = System.nanoTime() - reachStart;
+
+            final MazeGrid floor = maze.getFloor(floors / 2);
+            scan(floor);
+            final long scanStart = System.nanoTime();
+            for (int i = 0; i < SCANS; i++) {
+                scan(floor);
+            }
+            final double scan = (System.nanoTime() - scanStart) / 1e6 / SCANS;
+
+            System.out.printf("%8d %12d %16.1f %16.1f %16.2f%n", floors, rooms,
+                    (double) carve / rooms, (double) reach / rooms, scan);
+        }
+        System.out.println("checksum " + checksum);
+    }
+
+    /**
+     * Reads every door of a floor the way the renderer does.
+     *
+     * @param theFloor the floor to read.
+     */
+    private static void scan(final MazeGrid theFloor) {
+        int closed = 0;
+        for (int row = 0; row < theFloor.getRows(); row++) {
+            for (int col = 0; col < theFloor.getCols(); col++) {
+                for (Direction direction : Direction.values()) {
+                    if (theFloor.isDoorLocked(row, col, direction)) {
+                        closed += 2;
+                    } else if (theFloor.isDoorClosed(row, col, direction)) {
+                        closed++;
+                    }
+                }
+            }
+        }
+        checksum += closed;
+    }
+}
@@ -0,0 +1,81 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Maze;
+import Model.MazeGenerator;
+import Model.ParallelGenerator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures the speedup of the tiled parallel generator over the single-threaded
+ * backtracker as the number of worker threads grows, on large square mazes.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class ParallelGeneratorBenchmark {
+    /**
+     * The number of rows and columns of the mazes measured.
+     */
+    private static final int[] SIDES = {1000, 3000};
+    /**
+     * The number of timed generations per case; the fastest is reported.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelGeneratorBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs optionally the largest number of threads to measure
+     *                (defaults to the number of available processors).
+     */
+    public static void main(final String[] theArgs) {
+        final int maxThreads = theArgs.length > 0
+                ? Integer.parseInt(theArgs[0]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%12s %10s %14s %10s%n", "rows x cols", "threads", "Mcells/sec", "speedup");
+        for (int side : SIDES) {
+            final double baseline = time(side, new BacktrackerGenerator());
+            System.out.printf("%12s %10s %14.2f %10s%n", side + "x" + side, "serial",
+                    (double) side * side / baseline * 1e3, "1.00");
+            for (int threads = 1; threads <= maxThreads;
+                 threads = threads < maxThreads ? Math.min(2 * threads, maxThreads) : threads + 1) {
+                final ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    final double nanos = time(side, new ParallelGenerator(ParallelGenerator.DEFAULT_TILE_SIZE, pool));
+                    System.out.printf("%12s %10d %14.2f %10.2f%n", side + "x" + side, threads,
+                            (double) side * side / nanos * 1e3, baseline / nanos);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the fastest time to generate a square maze with the given generator.
+     *
+     * @param theSide the number of rows and columns.
+     * @param theGenerator the generator to time.
+     * @return the fastest time in nanoseconds.
+     */
+    private static double time(final int theSide, final MazeGenerator theGenerator) {
+        final Maze maze = new Maze(theSide, theSide, theGenerator);
+        final SplittableRandom random = new SplittableRandom(17);
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            theGenerator.generate(maze, random);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,104 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.MappedMaze;
+import Model.Maze;
+import Model.MazeGrid;
+import Model.PathAlgorithm;
+import Model.PathFinder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Times each shortest path search across a 1M-cell maze, corner to corner and
+ * between random rooms, with no doors locked and with a share of doors locked.
+ * Each case is run on an in-heap maze and on a memory-mapped maze, whose one byte
+ * per room shows the cost of the searches apart from the cost of reaching the doors.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class PathFinderBenchmark {
+    /**
+     * The number of rows and columns of the maze.
+     */
+    private static final int SIDE = 1000;
+    /**
+     * The shares of doors locked before searching, in percent.
+     */
+    private static final int[] LOCKED_PERCENTS = {0, 30};
+    /**
+     * The number of random queries timed per case.
+     */
+    private static final int QUERIES = 20;
+    /**
+     * The seed of the maze and of the random queries.
+     */
+    private static final long SEED = 17L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PathFinderBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws IOException if the mapped maze file cannot be created.
+     */
+    public static void main(final String[] theArgs) throws IOException {
+        System.out.printf("%8s %8s %14s %16s %16s%n", "store", "locked", "algorithm", "corner ms", "random ms");
+        for (int percent : LOCKED_PERCENTS) {
+            final Maze maze = new Maze(SIDE, SIDE, new BacktrackerGenerator(), SEED);
+            final Path file = Files.createTempFile("paths", ".maze");
+            try (MappedMaze mapped = MappedMaze.create(file, SIDE, SIDE, SEED)) {
+                final SplittableRandom random = new SplittableRandom(SEED);
+                final long locks = 2L * SIDE * SIDE * percent / 100;
+                for (long i = 0; i < locks; i++) {
+                    final int row = random.nextInt(SIDE);
+                    final int col = random.nextInt(SIDE);
+                    final Direction direction = random.nextBoolean() ? Direction.EAST : Direction.SOUTH;
+                    maze.lockDoor(row, col, direction);
+                    mapped.lockDoor(row, col, direction);
+                }
+                measure("heap", percent, maze);
+                measure("mapped", percent, mapped);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Times every algorithm on one maze and prints one line for each.
+     *
+     * @param theStore the name of the store.
+     * @param thePercent the share of doors locked, in percent.
+     * @param theMaze the maze to search.
+     */
+    private static void measure(final String theStore, final int thePercent, final MazeGrid theMaze) {
+        final PathFinder finder = new PathFinder(theMaze);
+        for (PathAlgorithm algorithm : PathAlgorithm.values()) {
+            finder.distance(algorithm, 0, 0, SIDE - 1, SIDE - 1);
+            final long cornerStart = System.nanoTime();
+            finder.findPath(algorithm, 0, 0, SIDE - 1, SIDE - 1);
+            final long corner = System.nanoTime() - cornerStart;
+
+            final SplittableRandom queries = new SplittableRandom(SEED);
+            final long randomStart = System.nanoTime();
+            for (int query = 0; query < QUERIES; query++) {
+                finder.findPath(algorithm, queries.nextInt(SIDE), queries.nextInt(SIDE),
+                        queries.nextInt(SIDE), queries.nextInt(SIDE));
+            }
+            final long randomTime = System.nanoTime() - randomStart;
+            System.out.printf("%8s %7d%% %14s %16.2f %16.2f%n", theStore, thePercent, algorithm,
+                    corner / 1e6, randomTime / 1e6 / QUERIES);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package Benchmark;
+
+import Model.ConnectionPool;
+import org.sqlite.SQLiteDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Measures bulk loading of questions into a scratch SQLite database: one literal INSERT per
+ * question on a new connection in auto-commit mode, as the question database used to load
+ * its samples, against one pooled prepared statement sending batches in one transaction.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class QuestionInsertBenchmark {
+    /**
+     * The number of questions loaded by the batched path.
+     */
+    private static final int QUESTIONS = 100_000;
+    /**
+     * The number of questions loaded by the per-statement path, which is far slower.
+     */
+    private static final int SLOW_QUESTIONS = 500;
+    /**
+     * The number of rows per batch.
+     */
+    private static final int BATCH_SIZE = 1_000;
+    /**
+     * The statement that creates the table.
+     */
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS questions (QUESTION_TYPE TEXT, "
+            + "QUESTION TEXT NOT NULL, ANSWER TEXT NOT NULL, OPTIONS TEXT NOT NULL)";
+    /**
+     * The statement that inserts one question.
+     */
+    private static final String INSERT_QUESTION =
+            "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES (?, ?, ?, ?)";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private QuestionInsertBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     * @throws IOException if the scratch database cannot be created.
+     * @throws SQLException if the database fails.
+     */
+    public static void main(final String[] theArgs) throws IOException, SQLException {
+        final Path file = Files.createTempFile("questions-bench", ".db");
+        try {
+            final SQLiteDataSource ds = new SQLiteDataSource();
+            ds.setUrl("jdbc:sqlite:" + file);
+            try (Connection conn = ds.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(CREATE_TABLE);
+            }
+
+            final long slowStart = System.nanoTime();
+            for (int i = 0; i < SLOW_QUESTIONS; i++) {
+                try (Connection conn = ds.getConnection(); Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate("INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) "
+                            + "VALUES ('Short Answer', 'Question " + i + "?', 'Answer " + i + "', '')");
+                }
+            }
+            final double slowMicros = (System.nanoTime() - slowStart) / 1e3 / SLOW_QUESTIONS;
+
+            try (ConnectionPool pool = new ConnectionPool(ds::getConnection, 1)) {
+                for (int round = 0; round < 3; round++) {
+                    final long start = System.nanoTime();
+                    try (ConnectionPool.Lease lease = pool.lease()) {
+                        final Connection conn = lease.getConnection();
+                        final PreparedStatement stmt = lease.prepare(INSERT_QUESTION);
+                        conn.setAutoCommit(false);
+                        for (int i = 0; i < QUESTIONS; i++) {
+                            stmt.setString(1, "Short Answer");
+                            stmt.setString(2, "Question " + i + "?");
+                            stmt.setString(3, "Answer " + i);
+                            stmt.setString(4, "");
+                            stmt.addBatch();
+                            if ((i + 1) % BATCH_SIZE == 0) {
+                                stmt.executeBatch();
+                            }
+                        }
+                        stmt.executeBatch();
+                        conn.commit();
+                        conn.setAutoCommit(true);
+                    }
+                    final double micros = (System.nanoTime() - start) / 1e3 / QUESTIONS;
+                    System.out.printf("per statement %8.2f us/question, batched %6.2f us/question (%.0fx)%n",
+                            slowMicros, micros, slowMicros / micros);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package Benchmark;
+
+import Model.Question;
+import Model.QuestionBank;
+import Model.QuestionFactory;
+import Model.ShortAnswerQuestion;
+import Model.TrueFalseQuestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Measures drawing the questions for a game from a large question bank: copying and
+ * shuffling every question of the wanted types, as games used to, against drawing only
+ * as many random questions as a game can ask.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class QuestionSampleBenchmark {
+    /**
+     * The number of questions of each type in the bank.
+     */
+    private static final int PER_TYPE = 150_000;
+    /**
+     * The number of questions a game draws, one per door of a 4 by 4 maze and one to start.
+     */
+    private static final int PER_GAME = 25;
+    /**
+     * The number of games drawn for per measurement.
+     */
+    private static final int GAMES = 200;
+    /**
+     * The types of question drawn.
+     */
+    private static final List<String> TYPES = List.of("True/False", "Short Answer");
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private QuestionSampleBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     */
+    public static void main(final String[] theArgs) {
+        final List<Question> questions = new ArrayList<>(2 * PER_TYPE);
+        for (int i = 0; i < PER_TYPE; i++) {
+            questions.add(new TrueFalseQuestion("Statement " + i + ".", "True", "True/False"));
+            questions.add(new ShortAnswerQuestion("Question " + i + "?", "Answer", "Short Answer"));
+        }
+        final QuestionBank bank = new QuestionBank(() -> questions, null);
+        final SplittableRandom random = new SplittableRandom(11);
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            final long shuffleStart = System.nanoTime();
+            for (int game = 0; game < GAMES; game++) {
+                final List<Question> all = new ArrayList<>();
+                for (String type : TYPES) {
+                    final List<Question> ofType = new ArrayList<>(bank.getQuestions(type));
+                    QuestionFactory.shuffle(ofType, random);
+                    all.addAll(ofType);
+                }
+                QuestionFactory.shuffle(all, random);
+                sink += all.get(0).getQuestionText().length();
+            }
+            final double shuffleMicros = (System.nanoTime() - shuffleStart) / 1e3 / GAMES;
+
+            final long sampleStart = System.nanoTime();
+            for (int game = 0; game < GAMES; game++) {
+                final List<Question> drawn = QuestionFactory.getRandomQuestions(bank, TYPES, PER_GAME, Set.of(), random);
+                sink += drawn.get(0).getQuestionText().length();
+            }
+            final double sampleMicros = (System.nanoTime() - sampleStart) / 1e3 / GAMES;
+
+            System.out.printf("%d questions: shuffle all %10.1f us/game, draw %d %6.1f us/game (%.0fx)%n",
+                    questions.size(), shuffleMicros, PER_GAME, sampleMicros, shuffleMicros / sampleMicros);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+}
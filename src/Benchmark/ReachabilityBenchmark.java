@@ -0,0 +1,130 @@
+package Benchmark;
+
+import Model.BacktrackerGenerator;
+import Model.Direction;
+import Model.Maze;
+import Model.MazeSearch;
+import Model.Room;
+
+import java.util.Random;
+
+/**
+ * Measures the exit reachability check on mazes of 10k to 1M cells, both when the
+ * exit is reachable and when it has been sealed off and the whole maze is flooded,
+ * and compares a full search after every lock with the incremental tracking in Maze.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class ReachabilityBenchmark {
+    /**
+     * The seed every measured maze is generated from, so runs compare like with like.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The side lengths of the square mazes measured.
+     */
+    private static final int[] SIDES = {100, 316, 1000};
+    /**
+     * The number of timed queries per case.
+     */
+    private static final int QUERIES = 50;
+    /**
+     * The number of random doors locked when comparing full and incremental checks.
+     */
+    private static final int LOCKS = 2_000;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReachabilityBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs command line arguments (not used).
+     */
+    public static void main(final String[] theArgs) {
+        System.out.printf("%12s %10s %16s %14s%n", "cells", "exit", "ns/query", "ns/cell");
+        for (int side : SIDES) {
+            final Maze maze = new Maze(side, side, new BacktrackerGenerator(), SEED);
+            final MazeSearch search = new MazeSearch(maze);
+            measure(maze, search, "open");
+
+            sealExit(maze);
+            measure(maze, search, "sealed");
+        }
+
+        System.out.printf("%n%12s %20s %20s%n", "cells", "full ns/lock", "incremental ns/lock");
+        for (int side : SIDES) {
+            final int locks = side > 316 ? LOCKS / 20 : LOCKS;
+            final double full = measureLocks(new Maze(side, side, new BacktrackerGenerator(), SEED), locks, false);
+            final double incremental = measureLocks(new Maze(side, side, new BacktrackerGenerator(), SEED), locks, true);
+            System.out.printf("%12d %20.0f %20.0f%n", (long) side * side, full, incremental);
+        }
+    }
+
+    /**
+     * Locks random doors, checking after each one whether the exit can still be reached.
+     *
+     * @param theMaze the maze to lock doors in.
+     * @param theLocks the number of doors to lock.
+     * @param theIncremental whether to use the maze's incremental tracking or a full search.
+     * @return the average time per lock and check in nanoseconds.
+     */
+    private static double measureLocks(final Maze theMaze, final int theLocks, final boolean theIncremental) {
+        final Random random = new Random(42);
+        final MazeSearch search = new MazeSearch(theMaze);
+        theMaze.isExitReachable(0, 0);
+        final long start = System.nanoTime();
+        for (int i = 0; i < theLocks; i++) {
+            final int row = random.nextInt(theMaze.getRows());
+            final int col = random.nextInt(theMaze.getCols());
+            theMaze.lockDoor(row, col, Direction.values()[random.nextInt(4)]);
+            if (theIncremental) {
+                theMaze.isExitReachable(row, col);
+            } else {
+                search.canReachExit(row, col);
+            }
+        }
+        return (double) (System.nanoTime() - start) / theLocks;
+    }
+
+    /**
+     * Times repeated queries from the start room and prints one row.
+     *
+     * @param theMaze the maze being searched.
+     * @param theSearch the search to time.
+     * @param theLabel the label of the case.
+     */
+    private static void measure(final Maze theMaze, final MazeSearch theSearch, final String theLabel) {
+        final long cells = (long) theMaze.getRows() * theMaze.getCols();
+        boolean reachable = false;
+        for (int i = 0; i < QUERIES; i++) {
+            reachable ^= theSearch.canReachExit(0, 0);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            reachable ^= theSearch.canReachExit(0, 0);
+        }
+        final double perQuery = (double) (System.nanoTime() - start) / QUERIES;
+        System.out.printf("%12d %10s %16.0f %14.2f%s%n", cells, theLabel, perQuery, perQuery / cells,
+                reachable ? " !" : "");
+    }
+
+    /**
+     * Permanently locks both doors leading into the exit room.
+     *
+     * @param theMaze the maze whose exit is sealed.
+     */
+    private static void sealExit(final Maze theMaze) {
+        final int row = theMaze.getRows() - 1;
+        final int col = theMaze.getCols() - 1;
+        final Room exit = theMaze.myMaze[row][col];
+        exit.getDoor(Direction.NORTH).setPermanentlyLocked(true);
+        exit.getDoor(Direction.WEST).setPermanentlyLocked(true);
+        theMaze.myMaze[row - 1][col].getDoor(Direction.SOUTH).setPermanentlyLocked(true);
+        theMaze.myMaze[row][col - 1].getDoor(Direction.EAST).setPermanentlyLocked(true);
+    }
+}
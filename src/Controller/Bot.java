@@ -0,0 +1,219 @@
+package Controller;
+
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameStatus;
+import Model.Maze;
+import Model.Question;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A computer player that drives a headless {@link GameEngine}. Each step it picks a
+ * door with its {@link BotStrategy}, walks through it if it is open, and otherwise
+ * answers the current question to try it, getting the answer right with a fixed
+ * probability. A bot plays one game at a time and keeps the counts of the last game.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class Bot {
+    /**
+     * The answer a bot gives when it gets a question wrong.
+     */
+    private static final String WRONG_ANSWER = "";
+    /**
+     * The directions a bot chooses between.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The way the bot picks doors.
+     */
+    private final BotStrategy myStrategy;
+    /**
+     * The probability that the bot answers a question right.
+     */
+    private final double myAccuracy;
+    /**
+     * The source of the bot's choices and answers.
+     */
+    private final SplittableRandom myRandom;
+    /**
+     * The doors the bot could use from the current room, filled each step.
+     */
+    private final Direction[] myChoices = new Direction[DIRECTIONS.length];
+    /**
+     * The number of visits to each room in the current game, for the greedy strategy.
+     */
+    private int[] myVisits = new int[0];
+    /**
+     * The number of rooms the bot has walked into in the last game.
+     */
+    private int myMoves;
+    /**
+     * The number of questions the bot has answered in the last game.
+     */
+    private int myQuestions;
+
+    /**
+     * Constructs a bot.
+     *
+     * @param theStrategy the way the bot picks doors.
+     * @param theAccuracy the probability that the bot answers a question right, from 0 to 1.
+     * @param theRandom the source of the bot's choices and answers.
+     * @throws IllegalArgumentException if the strategy or random source is null, or the
+     * accuracy is not from 0 to 1.
+     */
+    public Bot(final BotStrategy theStrategy, final double theAccuracy, final SplittableRandom theRandom) {
+        if (theStrategy == null || theRandom == null) {
+            throw new IllegalArgumentException("Strategy and random source cannot be null.");
+        }
+        if (!(theAccuracy >= 0 && theAccuracy <= 1)) {
+            throw new IllegalArgumentException("Accuracy must be from 0 to 1: " + theAccuracy);
+        }
+        myStrategy = theStrategy;
+        myAccuracy = theAccuracy;
+        myRandom = theRandom;
+    }
+
+    /**
+     * Plays a game until it is won or lost or the step limit is reached. Questions are
+     * asked in order, and the last one is asked again once they run out.
+     *
+     * @param theEngine the engine of a game with at least one question.
+     * @param theMaxSteps the most steps to take, each a move or an answer.
+     * @return the status of the game when the bot stopped.
+     * @throws IllegalArgumentException if the engine is null.
+     * @throws IllegalStateException if the game has no questions.
+     */
+    public GameStatus play(final GameEngine theEngine, final int theMaxSteps) {
+        if (theEngine == null) {
+            throw new IllegalArgumentException("Engine cannot be null.");
+        }
+        myMoves = 0;
+        myQuestions = 0;
+        startVisits(theEngine.getMaze());
+        for (int step = 0; step < theMaxSteps && !theEngine.isOver(); step++) {
+            step(theEngine);
+        }
+        return theEngine.getStatus();
+    }
+
+    /**
+     * Returns the number of rooms the bot walked into in the last game, through open
+     * doors or doors it had just answered for.
+     *
+     * @return the number of moves.
+     */
+    public int getMoves() {
+        return myMoves;
+    }
+
+    /**
+     * Returns the number of questions the bot answered in the last game.
+     *
+     * @return the number of questions.
+     */
+    public int getQuestions() {
+        return myQuestions;
+    }
+
+    /**
+     * Takes one step: walks through the chosen door if it is open, otherwise answers for it.
+     *
+     * @param theEngine the engine of the game.
+     */
+    private void step(final GameEngine theEngine) {
+        final Direction direction = choose(theEngine);
+        if (direction == null) {
+            return;
+        }
+        if (theEngine.move(direction)) {
+            entered(theEngine);
+            return;
+        }
+        final Question question = theEngine.getCurrentQuestion();
+        if (question == null) {
+            throw new IllegalStateException("The game has no questions.");
+        }
+        final boolean right = myRandom.nextDouble() < myAccuracy;
+        myQuestions++;
+        if (theEngine.answer(direction, right ? question.getAnswerText() : WRONG_ANSWER)) {
+            entered(theEngine);
+        }
+        theEngine.nextQuestion();
+    }
+
+    /**
+     * Picks the door to use next among those the bot could use.
+     *
+     * @param theEngine the engine of the game.
+     * @return the door's side, or null if every door is permanently locked.
+     */
+    private Direction choose(final GameEngine theEngine) {
+        int count = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (theEngine.canMove(direction) || theEngine.canAttempt(direction)) {
+                myChoices[count++] = direction;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        if (myStrategy == BotStrategy.RANDOM) {
+            return myChoices[myRandom.nextInt(count)];
+        }
+        final Maze maze = theEngine.getMaze();
+        Direction best = null;
+        int bestScore = Integer.MAX_VALUE;
+        int ties = 0;
+        for (int i = 0; i < count; i++) {
+            final Direction direction = myChoices[i];
+            final int row = theEngine.getRow() + direction.getRow();
+            final int col = theEngine.getCol() + direction.getCol();
+            final int score = switch (myStrategy) {
+                case GREEDY -> maze.getRows() - 1 - row + maze.getCols() - 1 - col
+                        + myVisits[row * maze.getCols() + col];
+                case OPTIMAL -> maze.getExitDistance(row, col);
+                case RANDOM -> 0;
+            };
+            if (score < 0) {
+                continue;
+            }
+            if (score < bestScore) {
+                best = direction;
+                bestScore = score;
+                ties = 1;
+            } else if (score == bestScore && myRandom.nextInt(++ties) == 0) {
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts a move into the player's new room.
+     *
+     * @param theEngine the engine of the game.
+     */
+    private void entered(final GameEngine theEngine) {
+        myMoves++;
+        myVisits[theEngine.getRow() * theEngine.getMaze().getCols() + theEngine.getCol()]++;
+    }
+
+    /**
+     * Clears the visit counts for a new game, reusing the array when it is big enough.
+     *
+     * @param theMaze the maze of the new game.
+     */
+    private void startVisits(final Maze theMaze) {
+        final int rooms = theMaze.getRows() * theMaze.getCols();
+        if (myVisits.length < rooms) {
+            myVisits = new int[rooms];
+        } else {
+            Arrays.fill(myVisits, 0, rooms, 0);
+        }
+        myVisits[theMaze.getPlayerRow() * theMaze.getCols() + theMaze.getPlayerCol()] = 1;
+    }
+}
@@ -0,0 +1,39 @@
+package Controller;
+
+/**
+ * BotStrategy names the ways a {@link Bot} picks the door to go through next.
+ * <ul>
+ * <li>{@code RANDOM} picks any door it could use, uniformly.</li>
+ * <li>{@code GREEDY} heads for the room closest to the exit as the crow flies,
+ * steering away from rooms it has already visited.</li>
+ * <li>{@code OPTIMAL} follows a shortest route to the exit through the doors
+ * that are not permanently locked.</li>
+ * </ul>
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public enum BotStrategy {
+    RANDOM,
+    GREEDY,
+    OPTIMAL;
+
+    /**
+     * Looks up a strategy by name, ignoring case.
+     *
+     * @param theName the name of the strategy.
+     * @return the matching strategy.
+     * @throws IllegalArgumentException if no strategy has the given name.
+     */
+    public static BotStrategy fromName(final String theName) {
+        if (theName == null) {
+            throw new IllegalArgumentException("Strategy name cannot be null");
+        }
+        for (BotStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(theName.trim())) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown bot strategy: " + theName);
+    }
+}
@@ -0,0 +1,577 @@
+package Controller;
+
+import Model.Direction;
+import Model.GameEngine;
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.MultipleChoiceQuestion;
+import Model.Question;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A small HTTP API over a {@link GameServer}, so the game can be played from a browser
+ * or kiosk client. Built on the JDK's embedded {@code com.sun.net.httpserver}.
+ * <p>
+ * Handlers never wait for a game: they parse the request, queue the work on the
+ * game's session and return, and the response is written from the session's worker
+ * once the work is done. The response is rendered inside the session's own action,
+ * so it is a consistent snapshot of the game, and written as one JSON byte array.
+ * <p>
+ * Routes, all answering with JSON:
+ * <ul>
+ * <li>{@code POST /games[?rows=&cols=&seed=]} starts a game and returns its state, status 201.</li>
+ * <li>{@code GET /games/{id}} returns the player's position, the game status and the
+ * state of each door of the current room, as shown by the desktop room information.</li>
+ * <li>{@code POST /games/{id}/move?direction=EAST} walks through an open door.</li>
+ * <li>{@code GET /games/{id}/question} returns the current question.</li>
+ * <li>{@code POST /games/{id}/answer?direction=EAST} answers the current question with
+ * the request body as the answer, to try the door on that side.</li>
+ * <li>{@code DELETE /games/{id}} ends the game.</li>
+ * </ul>
+ * Bad parameters are answered with 400, unknown games and routes with 404, the wrong
+ * method with 405, and an answer for a door that cannot be tried with 409.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameHttpServer implements Closeable {
+    /**
+     * The logger for the server.
+     */
+    private static final Logger LOGGER = Logger.getLogger(GameHttpServer.class.getName());
+    /**
+     * The path every route starts with.
+     */
+    private static final String ROOT = "/games";
+    /**
+     * The largest maze side a client may ask for.
+     */
+    private static final int MAX_SIDE = 100;
+    /**
+     * The number of connections the operating system may queue before they are accepted.
+     */
+    private static final int BACKLOG = 4_096;
+    /**
+     * The number of threads accepting and parsing requests.
+     */
+    private static final int ACCEPTORS = 2;
+
+    /**
+     * The games being served.
+     */
+    private final GameServer myGames;
+    /**
+     * Supplies the questions of each new game, in the order they are asked.
+     */
+    private final Supplier<List<Question>> myQuestions;
+    /**
+     * The embedded HTTP server.
+     */
+    private final HttpServer myServer;
+    /**
+     * The threads accepting and parsing requests.
+     */
+    private final ExecutorService myAcceptors;
+
+    /**
+     * Tunes the JDK's embedded HTTP server for many small requests: turns off Nagle's
+     * algorithm, which otherwise holds every response body back until the client's delayed
+     * ACK of the headers (about 40 ms on localhost), and keeps as many idle keep-alive
+     * connections as the backlog rather than closing those beyond 200. These are system
+     * properties of the whole process, read once when the first server is created, so a
+     * launcher that wants them calls this before starting any server. Properties already
+     * set, such as on the command line, are left alone.
+     */
+    public static void tuneForLowLatency() {
+        System.getProperties().putIfAbsent("sun.net.httpserver.nodelay", "true");
+        System.getProperties().putIfAbsent("sun.net.httpserver.maxIdleConnections", String.valueOf(BACKLOG));
+    }
+
+    /**
+     * Starts serving the given games on the given address.
+     *
+     * @param theGames the games to serve.
+     * @param theAddress the address to listen on; port 0 picks a free port.
+     * @param theQuestions supplies the questions of each new game.
+     * @throws IllegalArgumentException if any argument is null.
+     * @throws UncheckedIOException if the server cannot listen on the address.
+     */
+    public GameHttpServer(final GameServer theGames, final InetSocketAddress theAddress,
+                          final Supplier<List<Question>> theQuestions) {
+        if (theGames == null || theAddress == null || theQuestions == null) {
+            throw new IllegalArgumentException("Games, address and questions cannot be null.");
+        }
+        myGames = theGames;
+        myQuestions = theQuestions;
+        try {
+            myServer = HttpServer.create(theAddress, BACKLOG);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot listen on " + theAddress, e);
+        }
+        myAcceptors = Executors.newFixedThreadPool(ACCEPTORS, theTask -> {
+            final Thread thread = new Thread(theTask, "game-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        myServer.setExecutor(myAcceptors);
+        myServer.createContext(ROOT, this::handle);
+        myServer.start();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the port.
+     */
+    public int getPort() {
+        return myServer.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server. The games themselves are left to their {@link GameServer}.
+     */
+    @Override
+    public void close() {
+        myServer.stop(0);
+        myAcceptors.shutdownNow();
+    }
+
+    /**
+     * Routes one request.
+     *
+     * @param theExchange the request and its response.
+     */
+    private void handle(final HttpExchange theExchange) {
+        try {
+            final String method = theExchange.getRequestMethod();
+            final String rest = theExchange.getRequestURI().getPath().substring(ROOT.length());
+            if (rest.isEmpty() || "/".equals(rest)) {
+                requireMethod(method, "POST");
+                final long id = myGames.createSession(newMaze(theExchange), myQuestions.get());
+                reply(theExchange, 201, submit(id, theEngine -> state(id, theEngine, null)));
+                return;
+            }
+            final String[] path = rest.split("/");
+            if (rest.charAt(0) != '/' || path.length < 2) {
+                throw new RouteNotFoundException();
+            }
+            final long id = parseId(path[1]);
+            final String action = path.length > 2 ? path[2] : "";
+            if (path.length > 3) {
+                throw new RouteNotFoundException();
+            }
+            switch (action) {
+                case "" -> {
+                    if ("DELETE".equals(method)) {
+                        if (!myGames.closeSession(id)) {
+                            throw new UnknownGameException("No such game: " + id);
+                        }
+                        send(theExchange, 204, null);
+                    } else {
+                        requireMethod(method, "GET");
+                        reply(theExchange, 200, submit(id, theEngine -> state(id, theEngine, null)));
+                    }
+                }
+                case "move" -> {
+                    requireMethod(method, "POST");
+                    final Direction direction = parseDirection(theExchange);
+                    reply(theExchange, 200, submit(id, theEngine ->
+                            state(id, theEngine, "\"moved\":" + theEngine.move(direction))));
+                }
+                case "question" -> {
+                    requireMethod(method, "GET");
+                    reply(theExchange, 200, submit(id, GameHttpServer::question));
+                }
+                case "answer" -> {
+                    requireMethod(method, "POST");
+                    final Direction direction = parseDirection(theExchange);
+                    final String answer = readBody(theExchange);
+                    reply(theExchange, 200, submit(id, theEngine -> {
+                        final boolean correct = theEngine.answer(direction, answer);
+                        theEngine.nextQuestion();
+                        return state(id, theEngine, "\"correct\":" + correct);
+                    }));
+                }
+                default -> throw new RouteNotFoundException();
+            }
+        } catch (RuntimeException e) {
+            sendError(theExchange, e);
+        }
+    }
+
+    /**
+     * Queues work on a game, reporting a game that does not exist as not found.
+     *
+     * @param theId the id of the game.
+     * @param theAction the work, rendering the response body.
+     * @return the future response body.
+     * @throws UnknownGameException if there is no such game.
+     */
+    private CompletableFuture<byte[]> submit(final long theId, final Function<GameEngine, byte[]> theAction) {
+        try {
+            return myGames.submit(theId, theAction);
+        } catch (IllegalArgumentException e) {
+            throw new UnknownGameException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the response once the game has produced it.
+     *
+     * @param theExchange the request and its response.
+     * @param theStatus the status code on success.
+     * @param theBody the future response body.
+     */
+    private void reply(final HttpExchange theExchange, final int theStatus, final CompletableFuture<byte[]> theBody) {
+        theBody.whenComplete((theBytes, theError) -> {
+            if (theError == null) {
+                send(theExchange, theStatus, theBytes);
+            } else {
+                sendError(theExchange, theError instanceof CompletionException ? theError.getCause() : theError);
+            }
+        });
+    }
+
+    /**
+     * Answers a failed request with the status code matching the error.
+     *
+     * @param theExchange the request and its response.
+     * @param theError the error.
+     */
+    private void sendError(final HttpExchange theExchange, final Throwable theError) {
+        final int status;
+        if (theError instanceof RouteNotFoundException || theError instanceof UnknownGameException) {
+            status = 404;
+        } else if (theError instanceof MethodNotAllowedException) {
+            status = 405;
+        } else if (theError instanceof IllegalStateException) {
+            status = 409;
+        } else if (theError instanceof IllegalArgumentException) {
+            status = 400;
+        } else {
+            LOGGER.log(Level.SEVERE, "Error handling " + theExchange.getRequestURI(), theError);
+            status = 500;
+        }
+        final String message = theError.getMessage() == null ? "" : theError.getMessage();
+        send(theExchange, status, ("{\"error\":" + quote(message) + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a response and closes the exchange.
+     *
+     * @param theExchange the request and its response.
+     * @param theStatus the status code.
+     * @param theBody the JSON body, or null for none.
+     */
+    private static void send(final HttpExchange theExchange, final int theStatus, final byte[] theBody) {
+        try {
+            if (theBody == null) {
+                theExchange.sendResponseHeaders(theStatus, -1);
+            } else {
+                theExchange.getResponseHeaders().set("Content-Type", "application/json");
+                theExchange.sendResponseHeaders(theStatus, theBody.length);
+                try (OutputStream out = theExchange.getResponseBody()) {
+                    out.write(theBody);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Client went away before the response was written", e);
+        } finally {
+            theExchange.close();
+        }
+    }
+
+    /**
+     * Renders the state of a game: position, status and the doors of the current room.
+     *
+     * @param theId the id of the game.
+     * @param theEngine the engine of the game.
+     * @param theExtra an extra JSON member to put first, or null.
+     * @return the JSON body.
+     */
+    private static byte[] state(final long theId, final GameEngine theEngine, final String theExtra) {
+        final Maze maze = theEngine.getMaze();
+        final int row = theEngine.getRow();
+        final int col = theEngine.getCol();
+        final StringBuilder json = new StringBuilder(192).append('{');
+        if (theExtra != null) {
+            json.append(theExtra).append(',');
+        }
+        json.append("\"id\":").append(theId)
+                .append(",\"status\":\"").append(theEngine.getStatus())
+                .append("\",\"row\":").append(row)
+                .append(",\"col\":").append(col)
+                .append(",\"start\":").append(maze.isStart(row, col))
+                .append(",\"exit\":").append(maze.isExit(row, col))
+                .append(",\"doors\":{");
+        for (Direction direction : Direction.values()) {
+            final String door;
+            if (maze.isDoorLocked(row, col, direction)) {
+                door = "LOCKED";
+            } else if (maze.isDoorClosed(row, col, direction)) {
+                door = "CLOSED";
+            } else {
+                door = "OPEN";
+            }
+            json.append('"').append(direction).append("\":\"").append(door).append('"');
+            json.append(direction.ordinal() < Direction.values().length - 1 ? "," : "}}");
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders the current question of a game.
+     *
+     * @param theEngine the engine of the game.
+     * @return the JSON body.
+     * @throws UnknownGameException if the game has no questions.
+     */
+    private static byte[] question(final GameEngine theEngine) {
+        final Question question = theEngine.getCurrentQuestion();
+        if (question == null) {
+            throw new UnknownGameException("The game has no questions.");
+        }
+        final StringBuilder json = new StringBuilder(128)
+                .append("{\"text\":").append(quote(question.getQuestionText()))
+                .append(",\"type\":").append(quote(question.getQuestionType()));
+        if (question instanceof MultipleChoiceQuestion choice && choice.getChoices() != null) {
+            json.append(",\"choices\":[");
+            final String[] choices = choice.getChoices();
+            for (int i = 0; i < choices.length; i++) {
+                json.append(i == 0 ? "" : ",").append(quote(choices[i]));
+            }
+            json.append(']');
+        }
+        return json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds the maze of a new game from the optional rows, cols and seed parameters.
+     *
+     * @param theExchange the request.
+     * @return the maze.
+     * @throws IllegalArgumentException if a parameter is malformed or out of range.
+     */
+    private static Maze newMaze(final HttpExchange theExchange) {
+        final String rows = parameter(theExchange, "rows");
+        final String cols = parameter(theExchange, "cols");
+        final String seed = parameter(theExchange, "seed");
+        final int rowCount = rows == null ? Maze.MAZE_SIZE : parseSide(rows);
+        final int colCount = cols == null ? Maze.MAZE_SIZE : parseSide(cols);
+        if (seed == null) {
+            return new Maze(rowCount, colCount);
+        }
+        try {
+            return new Maze(rowCount, colCount, MazeAlgorithm.BACKTRACKER.create(), Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad seed: " + seed);
+        }
+    }
+
+    /**
+     * Parses a maze side length.
+     *
+     * @param theValue the parameter value.
+     * @return the side length.
+     * @throws IllegalArgumentException if the value is not a number from 1 to {@link #MAX_SIDE}.
+     */
+    private static int parseSide(final String theValue) {
+        try {
+            final int side = Integer.parseInt(theValue);
+            if (side >= 1 && side <= MAX_SIDE) {
+                return side;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Maze sides must be from 1 to " + MAX_SIDE + ": " + theValue);
+    }
+
+    /**
+     * Parses a game id.
+     *
+     * @param theValue the path segment.
+     * @return the id.
+     * @throws RouteNotFoundException if the segment is not a number.
+     */
+    private static long parseId(final String theValue) {
+        try {
+            return Long.parseLong(theValue);
+        } catch (NumberFormatException e) {
+            throw new RouteNotFoundException();
+        }
+    }
+
+    /**
+     * Parses the direction parameter.
+     *
+     * @param theExchange the request.
+     * @return the direction.
+     * @throws IllegalArgumentException if the parameter is missing or not a direction.
+     */
+    private static Direction parseDirection(final HttpExchange theExchange) {
+        final String value = parameter(theExchange, "direction");
+        if (value == null) {
+            throw new IllegalArgumentException("Missing direction.");
+        }
+        return Direction.valueOf(value.toUpperCase());
+    }
+
+    /**
+     * Finds a query parameter.
+     *
+     * @param theExchange the request.
+     * @param theName the name of the parameter.
+     * @return the decoded value, or null if the parameter is absent.
+     */
+    private static String parameter(final HttpExchange theExchange, final String theName) {
+        final String query = theExchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            final int equals = pair.indexOf('=');
+            if (equals == theName.length() && pair.startsWith(theName)) {
+                return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the request body as text.
+     *
+     * @param theExchange the request.
+     * @return the body.
+     * @throws UncheckedIOException if the body cannot be read.
+     */
+    private static String readBody(final HttpExchange theExchange) {
+        try (InputStream in = theExchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read request body", e);
+        }
+    }
+
+    /**
+     * Checks the request method.
+     *
+     * @param theMethod the method of the request.
+     * @param theExpected the method the route accepts.
+     * @throws MethodNotAllowedException if they differ.
+     */
+    private static void requireMethod(final String theMethod, final String theExpected) {
+        if (!theExpected.equals(theMethod)) {
+            throw new MethodNotAllowedException(theMethod + " is not allowed here.");
+        }
+    }
+
+    /**
+     * Quotes a string as a JSON string literal.
+     *
+     * @param theText the text.
+     * @return the literal, or null for a null text.
+     */
+    private static String quote(final String theText) {
+        if (theText == null) {
+            return "null";
+        }
+        final StringBuilder json = new StringBuilder(theText.length() + 2).append('"');
+        for (int i = 0; i < theText.length(); i++) {
+            final char c = theText.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    /**
+     * Thrown for a path that matches no route.
+     */
+    private static final class RouteNotFoundException extends RuntimeException {
+        /**
+         * Serial version UID.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs the exception.
+         */
+        private RouteNotFoundException() {
+            super("No such route.");
+        }
+    }
+
+    /**
+     * Thrown for a request using a method its route does not accept.
+     */
+    private static final class MethodNotAllowedException extends RuntimeException {
+        /**
+         * Serial version UID.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs the exception.
+         *
+         * @param theMessage the detail message.
+         */
+        private MethodNotAllowedException(final String theMessage) {
+            super(theMessage);
+        }
+    }
+
+    /**
+     * Thrown when a game, or the thing asked of it, does not exist.
+     */
+    private static final class UnknownGameException extends RuntimeException {
+        /**
+         * Serial version UID.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs the exception.
+         *
+         * @param theMessage the detail message.
+         */
+        private UnknownGameException(final String theMessage) {
+            super(theMessage);
+        }
+    }
+}
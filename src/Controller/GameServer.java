@@ -0,0 +1,198 @@
+package Controller;
+
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameModel;
+import Model.GameStatus;
+import Model.Maze;
+import Model.Question;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many independent games in one JVM. Each game is a session with its own
+ * maze, {@link GameEngine} and question cursor, addressed by a numeric id.
+ * <p>
+ * Moves are processed on a small fixed pool of worker threads. Each session
+ * serializes its own actions (see {@link GameSession}), so actions on one game run
+ * in the order they were submitted and actions on different games run in parallel
+ * with no global lock. Every action returns a {@link CompletableFuture} instead of
+ * blocking the caller.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameServer implements Closeable {
+    /**
+     * The workers that run the actions of every session.
+     */
+    private final ExecutorService myWorkers;
+    /**
+     * The open sessions by id.
+     */
+    private final Map<Long, GameSession> mySessions = new ConcurrentHashMap<>();
+    /**
+     * The id of the next session.
+     */
+    private final AtomicLong myNextId = new AtomicLong(1);
+
+    /**
+     * Constructs a server with one worker per available processor.
+     */
+    public GameServer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a server with the given number of worker threads.
+     *
+     * @param theWorkers the number of worker threads.
+     * @throws IllegalArgumentException if the number of workers is less than one.
+     */
+    public GameServer(final int theWorkers) {
+        if (theWorkers < 1) {
+            throw new IllegalArgumentException("Server needs at least one worker.");
+        }
+        myWorkers = Executors.newFixedThreadPool(theWorkers, theTask -> {
+            final Thread thread = new Thread(theTask, "game-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a session playing the given maze with the given questions.
+     *
+     * @param theMaze the maze of the game, which the session takes over.
+     * @param theQuestions the questions in the order they are asked.
+     * @return the id of the new session.
+     * @throws IllegalArgumentException if the maze or the questions are null.
+     */
+    public long createSession(final Maze theMaze, final List<Question> theQuestions) {
+        final GameEngine engine = new GameEngine(new GameModel(theMaze), theQuestions);
+        final long id = myNextId.getAndIncrement();
+        mySessions.put(id, new GameSession(id, engine, myWorkers));
+        return id;
+    }
+
+    /**
+     * Replaces the game of a session with a new one on the given maze, after every
+     * action already queued on the session.
+     *
+     * @param theId the id of the session.
+     * @param theMaze the maze of the new game.
+     * @param theQuestions the questions of the new game.
+     * @return a future completed once the new game is in place.
+     * @throws IllegalArgumentException if there is no such session.
+     */
+    public CompletableFuture<Void> restart(final long theId, final Maze theMaze, final List<Question> theQuestions) {
+        return session(theId).replace(new GameEngine(new GameModel(theMaze), theQuestions));
+    }
+
+    /**
+     * Closes a session. Actions already queued still run.
+     *
+     * @param theId the id of the session.
+     * @return true if the session was open.
+     */
+    public boolean closeSession(final long theId) {
+        return mySessions.remove(theId) != null;
+    }
+
+    /**
+     * Returns the number of open sessions.
+     *
+     * @return the number of sessions.
+     */
+    public int getSessionCount() {
+        return mySessions.size();
+    }
+
+    /**
+     * Queues an action on the game of a session. The action runs on a worker thread,
+     * after every action submitted to the same session before it, and must not keep
+     * the engine it is given.
+     *
+     * @param theId the id of the session.
+     * @param theAction the action, given the engine of the game.
+     * @param <T> the type of the action's result.
+     * @return a future completed with the result, or exceptionally if the action throws.
+     * @throws IllegalArgumentException if there is no such session.
+     */
+    public <T> CompletableFuture<T> submit(final long theId, final Function<GameEngine, T> theAction) {
+        return session(theId).submit(theAction);
+    }
+
+    /**
+     * Walks the player of a session through an open door.
+     *
+     * @param theId the id of the session.
+     * @param theDirection the side of the player's room.
+     * @return a future completed with whether the player moved.
+     * @throws IllegalArgumentException if there is no such session.
+     */
+    public CompletableFuture<Boolean> move(final long theId, final Direction theDirection) {
+        return submit(theId, theEngine -> theEngine.move(theDirection));
+    }
+
+    /**
+     * Answers the current question of a session to try a door, then moves on to the next question.
+     *
+     * @param theId the id of the session.
+     * @param theDirection the side of the player's room.
+     * @param theAnswer the player's answer.
+     * @return a future completed with whether the answer was right, or exceptionally
+     * if the door cannot be tried or there is no question.
+     * @throws IllegalArgumentException if there is no such session.
+     */
+    public CompletableFuture<Boolean> answer(final long theId, final Direction theDirection, final String theAnswer) {
+        return submit(theId, theEngine -> {
+            final boolean correct = theEngine.answer(theDirection, theAnswer);
+            theEngine.nextQuestion();
+            return correct;
+        });
+    }
+
+    /**
+     * Reads the outcome of the game of a session so far.
+     *
+     * @param theId the id of the session.
+     * @return a future completed with the status of the game.
+     * @throws IllegalArgumentException if there is no such session.
+     */
+    public CompletableFuture<GameStatus> status(final long theId) {
+        return submit(theId, GameEngine::getStatus);
+    }
+
+    /**
+     * Stops the workers and closes every session. Queued actions that have not run are dropped.
+     */
+    @Override
+    public void close() {
+        myWorkers.shutdownNow();
+        mySessions.clear();
+    }
+
+    /**
+     * Looks up an open session.
+     *
+     * @param theId the id of the session.
+     * @return the session.
+     * @throws IllegalArgumentException if there is no such session.
+     */
+    private GameSession session(final long theId) {
+        final GameSession session = mySessions.get(theId);
+        if (session == null) {
+            throw new IllegalArgumentException("No such session: " + theId);
+        }
+        return session;
+    }
+}
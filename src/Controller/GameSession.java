@@ -0,0 +1,129 @@
+package Controller;
+
+import Model.GameEngine;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * One game hosted by a {@link GameServer}. Actions on the game are queued on the
+ * session and run one at a time in arrival order by whichever worker picks the
+ * session up, so a game is never touched by two threads at once while no lock is
+ * shared between sessions.
+ * <p>
+ * A session is handed to the executor only when it goes from idle to having work,
+ * and a worker runs at most {@link #BATCH} actions before handing the session back,
+ * so one busy player cannot hold a worker while other sessions wait.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+final class GameSession implements Runnable {
+    /**
+     * The most actions a worker runs for one session before moving on.
+     */
+    private static final int BATCH = 64;
+    /**
+     * The id of the session.
+     */
+    private final long myId;
+    /**
+     * The executor whose workers run the actions.
+     */
+    private final Executor myExecutor;
+    /**
+     * The actions waiting to run.
+     */
+    private final Queue<Runnable> myPending = new ConcurrentLinkedQueue<>();
+    /**
+     * Whether the session is queued on or running in the executor.
+     */
+    private final AtomicBoolean myScheduled = new AtomicBoolean();
+    /**
+     * The engine of the game, only read and written by the action being run.
+     */
+    private GameEngine myEngine;
+
+    /**
+     * Constructs a session for the given game.
+     *
+     * @param theId the id of the session.
+     * @param theEngine the engine of the game.
+     * @param theExecutor the executor whose workers run the actions.
+     */
+    GameSession(final long theId, final GameEngine theEngine, final Executor theExecutor) {
+        myId = theId;
+        myEngine = theEngine;
+        myExecutor = theExecutor;
+    }
+
+    /**
+     * Queues an action on the game.
+     *
+     * @param theAction the action, given the engine of the game.
+     * @param <T> the type of the action's result.
+     * @return a future completed with the result, or exceptionally if the action throws,
+     * even an error.
+     */
+    <T> CompletableFuture<T> submit(final Function<GameEngine, T> theAction) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        myPending.add(() -> {
+            try {
+                result.complete(theAction.apply(myEngine));
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * Queues the replacement of the game with a new one, after every action already queued.
+     *
+     * @param theEngine the engine of the new game.
+     * @return a future completed once the new game is in place.
+     */
+    CompletableFuture<Void> replace(final GameEngine theEngine) {
+        return submit(theOld -> {
+            myEngine = theEngine;
+            return null;
+        });
+    }
+
+    /**
+     * Runs up to one batch of queued actions, then hands the session back to the
+     * executor if more work arrived. The session is handed back even if an action
+     * throws, so the game never stops taking actions.
+     */
+    @Override
+    public void run() {
+        try {
+            for (int i = 0; i < BATCH; i++) {
+                final Runnable action = myPending.poll();
+                if (action == null) {
+                    break;
+                }
+                action.run();
+            }
+        } finally {
+            myScheduled.set(false);
+            if (!myPending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Hands the session to the executor unless it is already there.
+     */
+    private void schedule() {
+        if (myScheduled.compareAndSet(false, true)) {
+            myExecutor.execute(this);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package Controller;
+
+import Model.GameEngine;
+import Model.GameModel;
+import Model.GameStatus;
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Plays many games with {@link Bot}s to see how hard a maze size is. Games are
+ * split into batches that run in parallel on the common fork-join pool, each batch
+ * with its own bot and a random source derived from the seed and the batch number,
+ * so a run gives the same totals on any number of cores.
+ * <p>
+ * Run from the command line to print the win rate, average moves and average
+ * questions answered of every strategy on a few maze sizes:
+ * {@code java Controller.Simulation [games] [accuracy]}.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class Simulation {
+    /**
+     * The number of games each batch plays.
+     */
+    private static final int BATCH = 1_024;
+    /**
+     * The number of steps a bot may take per room before its game counts as unfinished.
+     */
+    private static final int STEPS_PER_ROOM = 32;
+    /**
+     * The maze sides measured from the command line.
+     */
+    private static final int[] SIDES = {4, 8, 16};
+    /**
+     * The games played per row from the command line, unless given.
+     */
+    private static final int DEFAULT_GAMES = 100_000;
+    /**
+     * The answer accuracy used from the command line, unless given.
+     */
+    private static final double DEFAULT_ACCURACY = 0.7;
+    /**
+     * The seed used from the command line.
+     */
+    private static final long SEED = 17L;
+    /**
+     * The question every simulated game asks; bots only need to know whether they got it right.
+     */
+    private static final List<Question> QUESTIONS =
+            List.of(new ShortAnswerQuestion("Simulated question", "answer", "Short Answer"));
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Simulation() {
+    }
+
+    /**
+     * Prints a table of results for every strategy on each measured maze size.
+     *
+     * @param theArgs optionally the number of games per row and the answer accuracy.
+     */
+    public static void main(final String[] theArgs) {
+        final int games = theArgs.length > 0 ? Integer.parseInt(theArgs[0]) : DEFAULT_GAMES;
+        final double accuracy = theArgs.length > 1 ? Double.parseDouble(theArgs[1]) : DEFAULT_ACCURACY;
+        System.out.printf("%d games per row, accuracy %.2f, %d cores%n",
+                games, accuracy, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%6s %9s %9s %9s %11s %11s %10s%n",
+                "size", "strategy", "win %", "lost %", "avg moves", "avg quest.", "games/sec");
+        for (int side : SIDES) {
+            for (BotStrategy strategy : BotStrategy.values()) {
+                final long start = System.nanoTime();
+                final Result result = run(side, side, strategy, accuracy, games, SEED);
+                final double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("%6s %9s %9.2f %9.2f %11.2f %11.2f %10.0f%n", side + "x" + side, strategy,
+                        100 * result.getWinRate(), 100.0 * result.getLosses() / result.getGames(),
+                        result.getAverageMoves(), result.getAverageQuestions(), games / seconds);
+            }
+        }
+    }
+
+    /**
+     * Plays games on freshly generated mazes of one size, in parallel.
+     *
+     * @param theRows the number of rows of each maze.
+     * @param theCols the number of columns of each maze.
+     * @param theStrategy the way the bots pick doors.
+     * @param theAccuracy the probability that a bot answers a question right, from 0 to 1.
+     * @param theGames the number of games to play.
+     * @param theSeed the seed the mazes and the bots' choices are derived from.
+     * @return the totals of all the games.
+     * @throws IllegalArgumentException if a dimension is not positive, the strategy is null,
+     * the accuracy is not from 0 to 1, or the number of games is negative.
+     */
+    public static Result run(final int theRows, final int theCols, final BotStrategy theStrategy,
+                             final double theAccuracy, final int theGames, final long theSeed) {
+        if (theRows < 1 || theCols < 1) {
+            throw new IllegalArgumentException("Maze dimensions must be positive: " + theRows + "x" + theCols);
+        }
+        if (theStrategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null.");
+        }
+        if (!(theAccuracy >= 0 && theAccuracy <= 1)) {
+            throw new IllegalArgumentException("Accuracy must be from 0 to 1: " + theAccuracy);
+        }
+        if (theGames < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative: " + theGames);
+        }
+        final int batches = (theGames + BATCH - 1) / BATCH;
+        return IntStream.range(0, batches).parallel()
+                .mapToObj(theBatch -> runBatch(theRows, theCols, theStrategy, theAccuracy,
+                        Math.min(BATCH, theGames - theBatch * BATCH), theSeed + theBatch * 0x9E3779B97F4A7C15L))
+                .collect(Result::new, Result::add, Result::add);
+    }
+
+    /**
+     * Plays one batch of games on the calling thread.
+     *
+     * @param theRows the number of rows of each maze.
+     * @param theCols the number of columns of each maze.
+     * @param theStrategy the way the bot picks doors.
+     * @param theAccuracy the probability that the bot answers a question right.
+     * @param theGames the number of games to play.
+     * @param theSeed the seed of the batch.
+     * @return the totals of the batch.
+     */
+    private static Result runBatch(final int theRows, final int theCols, final BotStrategy theStrategy,
+                                   final double theAccuracy, final int theGames, final long theSeed) {
+        final SplittableRandom random = new SplittableRandom(theSeed);
+        final Bot bot = new Bot(theStrategy, theAccuracy, random.split());
+        final int maxSteps = STEPS_PER_ROOM * theRows * theCols;
+        final Result result = new Result();
+        for (int i = 0; i < theGames; i++) {
+            final Maze maze = new Maze(theRows, theCols, MazeAlgorithm.BACKTRACKER.create(), random.nextLong());
+            final GameStatus status = bot.play(new GameEngine(new GameModel(maze), QUESTIONS), maxSteps);
+            result.record(status, bot.getMoves(), bot.getQuestions());
+        }
+        return result;
+    }
+
+    /**
+     * The totals of a number of simulated games.
+     */
+    public static final class Result {
+        /**
+         * The number of games played.
+         */
+        private long myGames;
+        /**
+         * The number of games won.
+         */
+        private long myWins;
+        /**
+         * The number of games lost.
+         */
+        private long myLosses;
+        /**
+         * The number of moves over all games.
+         */
+        private long myMoves;
+        /**
+         * The number of questions answered over all games.
+         */
+        private long myQuestions;
+
+        /**
+         * Constructs empty totals.
+         */
+        Result() {
+        }
+
+        /**
+         * Adds one game to the totals.
+         *
+         * @param theStatus the status the game ended with.
+         * @param theMoves the moves made in the game.
+         * @param theQuestions the questions answered in the game.
+         */
+        void record(final GameStatus theStatus, final int theMoves, final int theQuestions) {
+            myGames++;
+            if (theStatus == GameStatus.WON) {
+                myWins++;
+            } else if (theStatus == GameStatus.LOST) {
+                myLosses++;
+            }
+            myMoves += theMoves;
+            myQuestions += theQuestions;
+        }
+
+        /**
+         * Adds other totals to these.
+         *
+         * @param theOther the other totals.
+         * @return these totals.
+         */
+        Result add(final Result theOther) {
+            myGames += theOther.myGames;
+            myWins += theOther.myWins;
+            myLosses += theOther.myLosses;
+            myMoves += theOther.myMoves;
+            myQuestions += theOther.myQuestions;
+            return this;
+        }
+
+        /**
+         * Returns the number of games played.
+         *
+         * @return the number of games.
+         */
+        public long getGames() {
+            return myGames;
+        }
+
+        /**
+         * Returns the number of games won.
+         *
+         * @return the number of wins.
+         */
+        public long getWins() {
+            return myWins;
+        }
+
+        /**
+         * Returns the number of games lost. Games neither won nor lost ran out of steps.
+         *
+         * @return the number of losses.
+         */
+        public long getLosses() {
+            return myLosses;
+        }
+
+        /**
+         * Returns the share of games won.
+         *
+         * @return the win rate from 0 to 1, or 0 if no games were played.
+         */
+        public double getWinRate() {
+            return myGames == 0 ? 0 : (double) myWins / myGames;
+        }
+
+        /**
+         * Returns the average number of moves per game.
+         *
+         * @return the average moves, or 0 if no games were played.
+         */
+        public double getAverageMoves() {
+            return myGames == 0 ? 0 : (double) myMoves / myGames;
+        }
+
+        /**
+         * Returns the average number of questions answered per game.
+         *
+         * @return the average questions, or 0 if no games were played.
+         */
+        public double getAverageQuestions() {
+            return myGames == 0 ? 0 : (double) myQuestions / myGames;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package Model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a maze with the recursive backtracker, run iteratively over an int stack.
+ * Produces long winding corridors with few dead ends.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class BacktrackerGenerator implements MazeGenerator {
+    /**
+     * The stack of cells on the current path.
+     */
+    private int[] myStack;
+    /**
+     * The cells already carved into the maze.
+     */
+    private long[] myVisited;
+    /**
+     * The directions of the unvisited neighbours of the cell being expanded.
+     */
+    private final Direction[] myChoices = new Direction[4];
+
+    /**
+     * Carves the maze by walking to random unvisited neighbours and backing up at dead ends.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    @Override
+    public void generate(final Maze theMaze, final RandomGenerator theRandom) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        final int cells = rows * cols;
+        myStack = GridCells.ensure(myStack, cells);
+        myVisited = GridCells.clearedBits(myVisited, cells);
+
+        GridCells.backtrack(theMaze, 0, 0, rows, cols, myStack, myVisited, myChoices, theRandom);
+    }
+}
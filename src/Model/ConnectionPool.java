@@ -0,0 +1,369 @@
+package Model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a few database connections open so that a query does not pay for opening a
+ * connection, and caches the prepared statements of each connection so that a query
+ * is parsed and planned once per connection rather than on every call.
+ * <p>
+ * A connection is borrowed with {@link #lease()} and given back by closing the
+ * {@link Lease}, which suits try-with-resources. The pool opens connections on demand
+ * up to its size, hands out the most recently returned connection first, and makes a
+ * caller wait when every connection is in use. A connection given back in the middle of
+ * a transaction has the transaction rolled back, and a connection found closed is dropped.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class ConnectionPool implements AutoCloseable {
+    /**
+     * The logger for the pool.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+    /**
+     * The longest time a caller waits for a connection by default, in seconds.
+     */
+    private static final long DEFAULT_TIMEOUT_SECONDS = 30;
+    /**
+     * Opens new connections.
+     */
+    private final ConnectionFactory myFactory;
+    /**
+     * The most connections open at once.
+     */
+    private final int mySize;
+    /**
+     * The longest time a caller waits for a connection, in nanoseconds.
+     */
+    private final long myTimeoutNanos;
+    /**
+     * The connections not in use, most recently returned first.
+     */
+    private final Deque<Lease> myIdle = new ArrayDeque<>();
+    /**
+     * The number of connections open or being opened.
+     */
+    private int myOpen;
+    /**
+     * Whether the pool has been closed.
+     */
+    private boolean myClosed;
+
+    /**
+     * Opens a connection to the database.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        /**
+         * Opens a connection.
+         *
+         * @return the new connection.
+         * @throws SQLException if the connection cannot be opened.
+         */
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * Constructs a pool that waits up to thirty seconds for a connection.
+     *
+     * @param theFactory opens new connections, such as a data source's getConnection.
+     * @param theSize the most connections open at once.
+     * @throws IllegalArgumentException if the factory is null or the size is less than one.
+     */
+    public ConnectionPool(final ConnectionFactory theFactory, final int theSize) {
+        this(theFactory, theSize, TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Constructs a pool.
+     *
+     * @param theFactory opens new connections, such as a data source's getConnection.
+     * @param theSize the most connections open at once.
+     * @param theTimeoutNanos the longest time a caller waits for a connection, in nanoseconds.
+     * @throws IllegalArgumentException if the factory is null, the size is less than one
+     * or the timeout is negative.
+     */
+    public ConnectionPool(final ConnectionFactory theFactory, final int theSize, final long theTimeoutNanos) {
+        if (theFactory == null) {
+            throw new IllegalArgumentException("Connection factory cannot be null.");
+        }
+        if (theSize < 1 || theTimeoutNanos < 0) {
+            throw new IllegalArgumentException("Pool size must be positive and timeout not negative.");
+        }
+        myFactory = theFactory;
+        mySize = theSize;
+        myTimeoutNanos = theTimeoutNanos;
+    }
+
+    /**
+     * Borrows a connection, opening one if none is idle and the pool is not full, or
+     * otherwise waiting for one to be given back.
+     *
+     * @return the lease of the connection, to be closed when done.
+     * @throws SQLTimeoutException if no connection is given back in time.
+     * @throws SQLException if the pool is closed, a connection cannot be opened or
+     * the wait is interrupted.
+     */
+    public Lease lease() throws SQLException {
+        Lease lease = null;
+        synchronized (this) {
+            final long deadline = System.nanoTime() + myTimeoutNanos;
+            while (lease == null) {
+                if (myClosed) {
+                    throw new SQLException("Connection pool is closed.");
+                }
+                lease = myIdle.pollFirst();
+                if (lease != null && lease.isBroken()) {
+                    myOpen--;
+                    lease.discard();
+                    lease = null;
+                } else if (lease == null && myOpen < mySize) {
+                    myOpen++;
+                    break;
+                } else if (lease == null) {
+                    awaitUntil(deadline);
+                }
+            }
+        }
+        if (lease == null) {
+            try {
+                lease = new Lease(myFactory.open());
+            } catch (SQLException | RuntimeException e) {
+                synchronized (this) {
+                    myOpen--;
+                    notifyAll();
+                }
+                throw e;
+            }
+        }
+        lease.myReturned = false;
+        return lease;
+    }
+
+    /**
+     * Returns the number of connections open, in use or idle.
+     *
+     * @return the number of open connections.
+     */
+    public synchronized int getOpenCount() {
+        return myOpen;
+    }
+
+    /**
+     * Returns the number of connections waiting to be borrowed.
+     *
+     * @return the number of idle connections.
+     */
+    public synchronized int getIdleCount() {
+        return myIdle.size();
+    }
+
+    /**
+     * Closes the idle connections and every connection given back from now on.
+     * Further calls to {@link #lease()} fail.
+     */
+    @Override
+    public void close() {
+        final Lease[] idle;
+        synchronized (this) {
+            myClosed = true;
+            idle = myIdle.toArray(new Lease[0]);
+            myOpen -= idle.length;
+            myIdle.clear();
+            notifyAll();
+        }
+        for (Lease lease : idle) {
+            lease.discard();
+        }
+    }
+
+    /**
+     * Waits for a connection to be given back, until the deadline.
+     *
+     * @param theDeadline the deadline, from {@link System#nanoTime()}.
+     * @throws SQLTimeoutException if the deadline has passed.
+     * @throws SQLException if the wait is interrupted.
+     */
+    private void awaitUntil(final long theDeadline) throws SQLException {
+        final long remaining = theDeadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new SQLTimeoutException("Timed out waiting for a database connection.");
+        }
+        try {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for a database connection.", e);
+        }
+    }
+
+    /**
+     * Takes back a connection, keeping it for the next caller unless it is broken or the
+     * pool is closed.
+     *
+     * @param theLease the lease of the connection.
+     */
+    private void giveBack(final Lease theLease) {
+        final boolean reusable = theLease.reset();
+        final boolean keep;
+        synchronized (this) {
+            keep = reusable && !myClosed;
+            if (keep) {
+                myIdle.addFirst(theLease);
+            } else {
+                myOpen--;
+            }
+            notifyAll();
+        }
+        if (!keep) {
+            theLease.discard();
+        }
+    }
+
+    /**
+     * A connection borrowed from the pool, with the prepared statements cached for it.
+     * Closing the lease gives the connection back; the statements stay open with it.
+     */
+    public final class Lease implements AutoCloseable {
+        /**
+         * The connection.
+         */
+        private final Connection myConnection;
+        /**
+         * The prepared statements of the connection, by SQL.
+         */
+        private final Map<String, PreparedStatement> myStatements = new HashMap<>();
+        /**
+         * Whether the connection has been given back.
+         */
+        private boolean myReturned;
+
+        /**
+         * Constructs the lease of a newly opened connection.
+         *
+         * @param theConnection the connection.
+         */
+        private Lease(final Connection theConnection) {
+            myConnection = theConnection;
+        }
+
+        /**
+         * Returns the connection, to manage transactions on it. It must not be closed directly.
+         *
+         * @return the connection.
+         * @throws IllegalStateException if the connection has been given back.
+         */
+        public Connection getConnection() {
+            checkLeased();
+            return myConnection;
+        }
+
+        /**
+         * Returns the prepared statement for the given SQL, preparing it the first time it
+         * is asked for on this connection. A cached statement comes back with an empty batch
+         * and must not be closed.
+         *
+         * @param theSql the SQL of the statement.
+         * @return the prepared statement.
+         * @throws SQLException if the statement cannot be prepared.
+         * @throws IllegalStateException if the connection has been given back.
+         */
+        public PreparedStatement prepare(final String theSql) throws SQLException {
+            checkLeased();
+            PreparedStatement statement = myStatements.get(theSql);
+            if (statement == null || statement.isClosed()) {
+                statement = myConnection.prepareStatement(theSql);
+                myStatements.put(theSql, statement);
+            } else {
+                statement.clearBatch();
+            }
+            return statement;
+        }
+
+        /**
+         * Gives the connection back to the pool. Closing a lease twice does nothing.
+         */
+        @Override
+        public void close() {
+            if (!myReturned) {
+                myReturned = true;
+                giveBack(this);
+            }
+        }
+
+        /**
+         * Rejects use of a connection after it has been given back.
+         *
+         * @throws IllegalStateException if the connection has been given back.
+         */
+        private void checkLeased() {
+            if (myReturned) {
+                throw new IllegalStateException("The connection has been given back to the pool.");
+            }
+        }
+
+        /**
+         * Ends any transaction left open, so the next caller starts in auto-commit mode.
+         *
+         * @return true if the connection can be used again.
+         */
+        private boolean reset() {
+            try {
+                if (myConnection.isClosed()) {
+                    return false;
+                }
+                if (!myConnection.getAutoCommit()) {
+                    myConnection.rollback();
+                    myConnection.setAutoCommit(true);
+                }
+                return true;
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Dropping a connection that could not be reset", e);
+                return false;
+            }
+        }
+
+        /**
+         * Checks whether an idle connection has been closed, as by the database going away.
+         *
+         * @return true if the connection cannot be used.
+         */
+        private boolean isBroken() {
+            try {
+                return myConnection.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+
+        /**
+         * Closes the statements and the connection, ignoring failures.
+         */
+        private void discard() {
+            for (PreparedStatement statement : myStatements.values()) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.FINE, "Cannot close statement", e);
+                }
+            }
+            myStatements.clear();
+            try {
+                myConnection.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Cannot close connection", e);
+            }
+        }
+    }
+}
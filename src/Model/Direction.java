@@ -54,6 +54,18 @@ public enum Direction implements Serializable {
     public final int getCol() {
         return myCol;
     }
-}
-
 
+    /**
+     * Gets the direction pointing the opposite way.
+     *
+     * @return the opposite direction.
+     */
+    public final Direction getOpposite() {
+        return switch (this) {
+            case NORTH -> SOUTH;
+            case SOUTH -> NORTH;
+            case EAST -> WEST;
+            case WEST -> EAST;
+        };
+    }
+}
@@ -3,10 +3,14 @@ package Model;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a door in a maze that can be locked, closed, and associated with questions.
+ * Once a door belongs to a {@link Room} it keeps no state of its own and reads and
+ * writes the room's packed door bits; a door built on its own holds its bits until
+ * it is given to a room.
  *
  * @author Binal Dhaliwal, Anagha Krishna
  * @version 1.0
@@ -16,23 +20,23 @@ public class Door implements Serializable {
      * Serial version UID.
      */
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
     /**
-     * The lock of the door.
+     * The room whose bits hold the state of the door, or null while the door stands alone.
      */
-    private boolean myLock;
+    private Room myRoom;
     /**
-     * The closed state of the door.
+     * The index of the door's side within its room.
      */
-    private boolean myClosed;
+    private int mySide;
     /**
-     * The permanently locked state of the door.
+     * The state bits of a door that does not belong to a room yet.
      */
-    private boolean myPermanentlyLocked;
+    private int myState;
     /**
-     * The questions associated with the door.
+     * The questions associated with the door, created when the first one is added.
      */
-    private final List<Question> myQuestions;
+    private List<Question> myQuestions;
     /**
      * The direction of the door.
      */
@@ -46,19 +50,68 @@ public class Door implements Serializable {
      * @param theDirection the direction in which the door leads
      */
     public Door (final Boolean theLock, final Boolean theClosed, final Direction theDirection) {
-        myLock = theLock;
-        myClosed = theClosed;
-        myPermanentlyLocked = false;
-        myQuestions = new ArrayList<>();
+        myState = (theLock ? Room.LOCK : 0) | (theClosed ? Room.CLOSED : 0);
         myDirection = theDirection;
     }
 
+    /**
+     * Constructs a view of one side of a room.
+     *
+     * @param theRoom the room holding the door's state.
+     * @param theSide the index of the side within the room.
+     * @param theDirection the direction in which the door leads.
+     */
+    Door(final Room theRoom, final int theSide, final Direction theDirection) {
+        myRoom = theRoom;
+        mySide = theSide;
+        myDirection = theDirection;
+    }
+
+    /**
+     * Binds the door to a side of a room, whose bits hold its state from now on.
+     *
+     * @param theRoom the room.
+     * @param theSide the index of the side within the room.
+     */
+    final void bind(final Room theRoom, final int theSide) {
+        myRoom = theRoom;
+        mySide = theSide;
+    }
+
+    /**
+     * Gets the state bits of the door.
+     *
+     * @return the lock, closed and permanent bits of the door.
+     */
+    final int getState() {
+        return myRoom == null ? myState : myRoom.getDoorState(mySide);
+    }
+
+    /**
+     * Sets or clears state bits of the door.
+     *
+     * @param theBits the bits to change.
+     * @param theSet true to set the bits, false to clear them.
+     */
+    private void setBits(final int theBits, final boolean theSet) {
+        final int state = getState();
+        final int updated = theSet ? state | theBits : state & ~theBits;
+        if (myRoom == null) {
+            myState = updated;
+        } else {
+            myRoom.setDoorState(mySide, updated);
+        }
+    }
+
     /**
      * Adds a question related to the door.
      *
      * @param theQuestion the question to add
      */
     public final void addQuestion(final Question theQuestion) {
+        if (myQuestions == null) {
+            myQuestions = new ArrayList<>();
+        }
         myQuestions.add(theQuestion);
     }
 
@@ -68,7 +121,7 @@ public class Door implements Serializable {
      * @return the list of questions
      */
     public final List<Question> getQuestions() {
-        return myQuestions;
+        return myQuestions == null ? Collections.emptyList() : myQuestions;
     }
 
     /**
@@ -77,7 +130,7 @@ public class Door implements Serializable {
      * @return true if the door is locked, false otherwise
      */
     public final boolean isLock() {
-        return myLock;
+        return (getState() & Room.LOCK) != 0;
     }
 
     /**
@@ -86,7 +139,7 @@ public class Door implements Serializable {
      * @param theLock true to lock the door, false to unlock
      */
     public final void setLock(final boolean theLock) {
-        myLock = theLock;
+        setBits(Room.LOCK, theLock);
     }
 
     /**
@@ -95,7 +148,7 @@ public class Door implements Serializable {
      * @return true if the door is closed, false otherwise
      */
     public final boolean isClosed() {
-        return myClosed;
+        return (getState() & Room.CLOSED) != 0;
     }
 
     /**
@@ -104,22 +157,21 @@ public class Door implements Serializable {
      * @param theClosed true to close the door, false to open
      */
     public final void setClosed(final boolean theClosed){
-        myClosed = theClosed;
+        setBits(Room.CLOSED, theClosed);
     }
 
     /**
      * Locks the door.
      */
     public final void doorLock(){
-        myLock = true;
+        setBits(Room.LOCK, true);
     }
 
     /**
      * Opens the door.
      */
     public final void doorOpen(){
-        myLock = false;
-        myClosed = false;
+        setBits(Room.LOCK | Room.CLOSED, false);
     }
 
     /**
@@ -137,7 +189,7 @@ public class Door implements Serializable {
      * @return true if the door is permanently locked, false otherwise.
      */
     public final boolean permanentlyLocked() {
-        return myPermanentlyLocked;
+        return (getState() & Room.PERMANENT) != 0;
     }
 
     /**
@@ -146,15 +198,14 @@ public class Door implements Serializable {
      * @param thePermanentlyLocked true to permanently lock the door, false to unlock.
      */
     public final void setPermanentlyLocked(final boolean thePermanentlyLocked) {
-        myPermanentlyLocked = thePermanentlyLocked;
+        setBits(Room.PERMANENT, thePermanentlyLocked);
     }
 
     /**
      * Resets the door to its default state (unlocked and closed).
      */
     public final void reset() {
-        myLock = false;
-        myClosed = true;
+        setBits(Room.LOCK, false);
+        setBits(Room.CLOSED, true);
     }
 }
-
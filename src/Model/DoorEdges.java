@@ -0,0 +1,146 @@
+package Model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The doors of a maze, stored once per edge so that the two rooms on either side
+ * of a door always agree about it.
+ * <p>
+ * Like the passages in {@link Maze}, each room owns the edge on its east side and the
+ * edge on its south side, at indexes {@code 2 * cell} and {@code 2 * cell + 1}. The
+ * west and north sides of a room are the east and south edges of its neighbours. The
+ * west edges of the first column and the north edges of the first row have no owner
+ * and follow in one extra slot per row and per column. Each edge holds the
+ * {@link Room#LOCK}, {@link Room#CLOSED} and {@link Room#PERMANENT} bits.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+final class DoorEdges implements Serializable {
+    /**
+     * Serial version UID.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+    /**
+     * The state of an interior door of a fresh maze.
+     */
+    private static final byte CLOSED = (byte) Room.CLOSED;
+    /**
+     * The state of a door on the outer edge of a fresh maze.
+     */
+    private static final byte BORDER = (byte) (Room.CLOSED | Room.PERMANENT);
+    /**
+     * The number of rows in the maze.
+     */
+    private final int myRows;
+    /**
+     * The number of columns in the maze.
+     */
+    private final int myCols;
+    /**
+     * The state of every edge.
+     */
+    private final byte[] myEdges;
+
+    /**
+     * Constructs the doors of a maze of the given size, all closed and unlocked,
+     * with the doors on the outer edge permanently locked.
+     *
+     * @param theRows the number of rows in the maze.
+     * @param theCols the number of columns in the maze.
+     */
+    DoorEdges(final int theRows, final int theCols) {
+        myRows = theRows;
+        myCols = theCols;
+        myEdges = new byte[2 * theRows * theCols + theRows + theCols];
+        reset();
+    }
+
+    /**
+     * Returns every door to its state in a fresh maze.
+     */
+    void reset() {
+        Arrays.fill(myEdges, CLOSED);
+        final int cells = myRows * myCols;
+        for (int row = 0; row < myRows; row++) {
+            myEdges[2 * (row * myCols + myCols - 1)] = BORDER;
+        }
+        for (int col = 0; col < myCols; col++) {
+            myEdges[2 * ((myRows - 1) * myCols + col) + 1] = BORDER;
+        }
+        Arrays.fill(myEdges, 2 * cells, myEdges.length, BORDER);
+    }
+
+    /**
+     * Returns the index of the edge on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the index of the edge.
+     */
+    int edge(final int theRow, final int theCol, final Direction theDirection) {
+        final int cell = theRow * myCols + theCol;
+        return switch (theDirection) {
+            case EAST -> 2 * cell;
+            case SOUTH -> 2 * cell + 1;
+            case WEST -> theCol > 0 ? 2 * (cell - 1) : 2 * myRows * myCols + theRow;
+            case NORTH -> theRow > 0 ? 2 * (cell - myCols) + 1 : 2 * myRows * myCols + myRows + theCol;
+        };
+    }
+
+    /**
+     * Returns the state of the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the state bits of the door.
+     */
+    int get(final int theRow, final int theCol, final Direction theDirection) {
+        return myEdges[edge(theRow, theCol, theDirection)];
+    }
+
+    /**
+     * Checks whether any of the given bits are set on the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @param theBits the state bits to test.
+     * @return true if any of the bits is set.
+     */
+    boolean has(final int theRow, final int theCol, final Direction theDirection, final int theBits) {
+        return (myEdges[edge(theRow, theCol, theDirection)] & theBits) != 0;
+    }
+
+    /**
+     * Replaces the state of the door on the given side of a room, for both rooms at once.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @param theState the new state bits of the door.
+     */
+    void set(final int theRow, final int theCol, final Direction theDirection, final int theState) {
+        myEdges[edge(theRow, theCol, theDirection)] = (byte) theState;
+    }
+
+    /**
+     * Sets or clears state bits of the door on the given side of a room, for both rooms at once.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @param theBits the state bits to change.
+     * @param theSet true to set the bits, false to clear them.
+     */
+    void setBits(final int theRow, final int theCol, final Direction theDirection,
+                 final int theBits, final boolean theSet) {
+        final int edge = edge(theRow, theCol, theDirection);
+        myEdges[edge] = (byte) (theSet ? myEdges[edge] | theBits : myEdges[edge] & ~theBits);
+    }
+}
@@ -0,0 +1,53 @@
+package Model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a maze with Eller's algorithm, one row at a time. Apart from the maze itself
+ * it keeps only a few arrays as wide as one row, so very tall mazes cost no extra memory.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class EllerGenerator implements MazeGenerator {
+    /**
+     * The passages of the row being produced.
+     */
+    private byte[] myRowPassages;
+    /**
+     * The set bookkeeping of the rows, kept between calls.
+     */
+    private EllerRows myEller;
+
+    /**
+     * Carves the maze row by row from the top.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    @Override
+    public void generate(final Maze theMaze, final RandomGenerator theRandom) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        if (myRowPassages == null || myRowPassages.length != cols) {
+            myRowPassages = new byte[cols];
+            myEller = new EllerRows(cols);
+        } else {
+            myEller.reset();
+        }
+        final EllerRows eller = myEller;
+        for (int row = 0; row < rows; row++) {
+            eller.nextRow(myRowPassages, row == rows - 1, theRandom);
+            final int base = row * cols;
+            for (int col = 0; col < cols; col++) {
+                final int passages = myRowPassages[col];
+                if ((passages & Maze.EAST_PASSAGE) != 0) {
+                    theMaze.carvePassage(base + col, Direction.EAST);
+                }
+                if ((passages & Maze.SOUTH_PASSAGE) != 0) {
+                    theMaze.carvePassage(base + col, Direction.SOUTH);
+                }
+            }
+        }
+    }
+}
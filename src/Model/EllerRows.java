@@ -0,0 +1,154 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The row-by-row core of Eller's algorithm. Each call produces the passages of one
+ * row, carrying forward only the set membership of the row below, so the memory used
+ * depends on the width of the maze and never on its height.
+ * <p>
+ * Sets are labelled with integers in [0, cols) and merged with a union-find that is
+ * rebuilt at the start of every row.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+final class EllerRows {
+    /**
+     * The number of columns in each row.
+     */
+    private final int myCols;
+    /**
+     * The set label of each cell in the current row, or -1 if it has none yet.
+     */
+    private int[] myRow;
+    /**
+     * The set labels carried down into the next row.
+     */
+    private int[] myNextRow;
+    /**
+     * The union-find parent of each label.
+     */
+    private final int[] myParent;
+    /**
+     * The number of cells of each set in the current row not yet given a downward decision.
+     */
+    private final int[] myRemaining;
+    /**
+     * The row stamp at which each label was last used, for finding free labels.
+     */
+    private final int[] myUsed;
+    /**
+     * The row stamp at which each set last carved a passage down.
+     */
+    private final int[] myWentDown;
+    /**
+     * The stamp of the current row.
+     */
+    private int myStamp;
+
+    /**
+     * Constructs the row generator for rows of the given width.
+     *
+     * @param theCols the number of columns.
+     */
+    EllerRows(final int theCols) {
+        myCols = theCols;
+        myRow = new int[theCols];
+        myNextRow = new int[theCols];
+        myParent = new int[theCols];
+        myRemaining = new int[theCols];
+        myUsed = new int[theCols];
+        myWentDown = new int[theCols];
+        Arrays.fill(myRow, -1);
+    }
+
+    /**
+     * Forgets the rows produced so far, so the next row starts a new maze.
+     * The stamps need no clearing, as they only ever grow.
+     */
+    void reset() {
+        Arrays.fill(myRow, -1);
+    }
+
+    /**
+     * Produces the passages of the next row. Each entry of the output is a combination
+     * of {@link Maze#EAST_PASSAGE} and {@link Maze#SOUTH_PASSAGE}.
+     *
+     * @param thePassages the passages of the row, overwritten.
+     * @param theLastRow whether this is the final row, which joins every remaining set.
+     * @param theRandom the source of randomness.
+     */
+    void nextRow(final byte[] thePassages, final boolean theLastRow, final RandomGenerator theRandom) {
+        final int stamp = ++myStamp;
+        for (int col = 0; col < myCols; col++) {
+            thePassages[col] = 0;
+            if (myRow[col] >= 0) {
+                myUsed[myRow[col]] = stamp;
+            }
+        }
+        int free = 0;
+        for (int col = 0; col < myCols; col++) {
+            if (myRow[col] < 0) {
+                while (myUsed[free] == stamp) {
+                    free++;
+                }
+                myRow[col] = free;
+                myUsed[free] = stamp;
+            }
+            myParent[myRow[col]] = myRow[col];
+        }
+
+        for (int col = 0; col < myCols - 1; col++) {
+            final int left = find(myRow[col]);
+            final int right = find(myRow[col + 1]);
+            if (left != right && (theLastRow || theRandom.nextBoolean())) {
+                thePassages[col] |= Maze.EAST_PASSAGE;
+                myParent[right] = left;
+            }
+        }
+        for (int col = 0; col < myCols; col++) {
+            myRow[col] = find(myRow[col]);
+        }
+        if (theLastRow) {
+            return;
+        }
+
+        for (int col = 0; col < myCols; col++) {
+            myRemaining[myRow[col]] = 0;
+        }
+        for (int col = 0; col < myCols; col++) {
+            myRemaining[myRow[col]]++;
+        }
+        for (int col = 0; col < myCols; col++) {
+            final int set = myRow[col];
+            final boolean last = --myRemaining[set] == 0;
+            if (theRandom.nextBoolean() || last && myWentDown[set] != stamp) {
+                thePassages[col] |= Maze.SOUTH_PASSAGE;
+                myWentDown[set] = stamp;
+                myNextRow[col] = set;
+            } else {
+                myNextRow[col] = -1;
+            }
+        }
+        final int[] swap = myRow;
+        myRow = myNextRow;
+        myNextRow = swap;
+    }
+
+    /**
+     * Finds the root label of a set, halving the path as it goes.
+     *
+     * @param theLabel the label.
+     * @return the root label.
+     */
+    private int find(final int theLabel) {
+        int label = theLabel;
+        while (myParent[label] != label) {
+            myParent[label] = myParent[myParent[label]];
+            label = myParent[label];
+        }
+        return label;
+    }
+}
@@ -0,0 +1,362 @@
+package Model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * A maze of fixed width and unbounded height for endless mode. Rows are generated
+ * with Eller's algorithm only as the player approaches them, and only a window of
+ * rows is kept in memory, so memory stays flat however far the player travels.
+ * <p>
+ * Each room is one byte holding its east and south passages and the state of its
+ * east and south doors. Rows that slide out of the window are dropped, or written
+ * to a spill file if one is given so that the player can walk back to them later.
+ * <p>
+ * As a {@link MazeGrid} the maze shows its window, with row 0 the top row of the
+ * window. The exit of the window is its bottom row: a player who can still reach
+ * it can keep going.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class EndlessMaze implements MazeGrid, Closeable {
+    /**
+     * The number of columns.
+     */
+    private final int myCols;
+    /**
+     * The number of rows kept in memory.
+     */
+    private final int myWindowRows;
+    /**
+     * The rooms of the window, one byte each, stored as a ring of rows indexed by absolute row.
+     */
+    private final byte[] myCells;
+    /**
+     * The passages of the row being generated.
+     */
+    private final byte[] myRowBuffer;
+    /**
+     * The row generator.
+     */
+    private final EllerRows myEller;
+    /**
+     * The source of randomness for generation.
+     */
+    private final RandomGenerator myRandom;
+    /**
+     * The file rows are spilled to when they leave the window, or null to drop them.
+     */
+    private final RandomAccessFile mySpill;
+    /**
+     * The absolute row shown as row 0 of the window.
+     */
+    private long myFirstRow;
+    /**
+     * The number of rows generated so far.
+     */
+    private long myGeneratedRows;
+
+    /**
+     * Constructs an endless maze that drops rows once they leave the window.
+     *
+     * @param theCols the number of columns.
+     * @param theWindowRows the number of rows kept in memory.
+     * @param theRandom the source of randomness.
+     */
+    public EndlessMaze(final int theCols, final int theWindowRows, final RandomGenerator theRandom) {
+        this(theCols, theWindowRows, theRandom, null);
+    }
+
+    /**
+     * Constructs an endless maze that spills rows leaving the window to the given file.
+     *
+     * @param theCols the number of columns.
+     * @param theWindowRows the number of rows kept in memory.
+     * @param theRandom the source of randomness.
+     * @param theSpillFile the file to spill rows to, or null to drop them.
+     * @throws IllegalArgumentException if a dimension is too small or the random generator is null.
+     * @throws UncheckedIOException if the spill file cannot be opened.
+     */
+    public EndlessMaze(final int theCols, final int theWindowRows, final RandomGenerator theRandom,
+                       final File theSpillFile) {
+        if (theCols < 1 || theWindowRows < 2) {
+            throw new IllegalArgumentException("An endless maze needs at least one column and two rows.");
+        }
+        if ((long) theCols * theWindowRows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window has too many rooms.");
+        }
+        if (theRandom == null) {
+            throw new IllegalArgumentException("Random generator cannot be null.");
+        }
+        myCols = theCols;
+        myWindowRows = theWindowRows;
+        myCells = new byte[theCols * theWindowRows];
+        myRowBuffer = new byte[theCols];
+        myEller = new EllerRows(theCols);
+        myRandom = theRandom;
+        try {
+            mySpill = theSpillFile == null ? null : new RandomAccessFile(theSpillFile, "rw");
+            if (mySpill != null) {
+                mySpill.setLength(0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open spill file", e);
+        }
+        for (int row = 0; row < theWindowRows; row++) {
+            load(row);
+        }
+    }
+
+    /**
+     * Gets the absolute row shown as row 0 of the window.
+     *
+     * @return the first row of the window.
+     */
+    public final long getFirstRow() {
+        return myFirstRow;
+    }
+
+    /**
+     * Gets the number of rows generated so far.
+     *
+     * @return the number of generated rows.
+     */
+    public final long getGeneratedRows() {
+        return myGeneratedRows;
+    }
+
+    /**
+     * Slides the window so the given absolute row sits a quarter of the way down it,
+     * generating rows ahead of it as needed. Without a spill file the window never
+     * slides back up, since the rows above it are gone.
+     *
+     * @param theRow the absolute row the player is on.
+     */
+    public final void focus(final long theRow) {
+        long first = Math.max(0, theRow - myWindowRows / 4);
+        if (mySpill == null) {
+            first = Math.max(first, myFirstRow);
+        }
+        while (myFirstRow < first) {
+            evict(myFirstRow);
+            load(myFirstRow + myWindowRows);
+            myFirstRow++;
+        }
+        while (myFirstRow > first) {
+            evict(myFirstRow + myWindowRows - 1);
+            myFirstRow--;
+            load(myFirstRow);
+        }
+    }
+
+    /**
+     * Gets the number of rows in the window.
+     *
+     * @return the number of rows in the window.
+     */
+    @Override
+    public final int getRows() {
+        return myWindowRows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the number of columns.
+     */
+    @Override
+    public final int getCols() {
+        return myCols;
+    }
+
+    /**
+     * Checks whether the door on the given side of a room leads to another room
+     * in the window and is not permanently locked.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the player could pass through the door once it is opened.
+     */
+    @Override
+    public final boolean isTraversable(final int theRow, final int theCol, final Direction theDirection) {
+        return !isDoorLocked(theRow, theCol, theDirection);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is permanently locked.
+     * Sides on the edge of the window count as locked.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is permanently locked.
+     */
+    @Override
+    public final boolean isDoorLocked(final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theRow, theCol, theDirection);
+        return edge < 0 || (myCells[edge] & PackedRooms.lockedBit(theDirection)) != 0;
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is closed.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is closed.
+     */
+    @Override
+    public final boolean isDoorClosed(final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theRow, theCol, theDirection);
+        return edge < 0 || (myCells[edge] & PackedRooms.openBit(theDirection)) == 0;
+    }
+
+    /**
+     * Checks whether the generator carved a passage on the given side of a room.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if there is a passage on that side.
+     */
+    public final boolean hasPassage(final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theRow, theCol, theDirection);
+        final int bit = PackedRooms.passageBit(theDirection);
+        return edge >= 0 && (myCells[edge] & bit) != 0;
+    }
+
+    /**
+     * Checks whether the room at the given position is the start of the maze.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @return true if the room is the top left room of the whole maze.
+     */
+    @Override
+    public final boolean isStart(final int theRow, final int theCol) {
+        return myFirstRow + theRow == 0 && theCol == 0;
+    }
+
+    /**
+     * Checks whether the room at the given position is on the bottom row of the window.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @return true if the room is on the last row of the window.
+     */
+    @Override
+    public final boolean isExit(final int theRow, final int theCol) {
+        return theRow == myWindowRows - 1;
+    }
+
+    /**
+     * Opens the door on the given side of a room.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     */
+    public final void openDoor(final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theRow, theCol, theDirection);
+        if (edge >= 0) {
+            myCells[edge] |= PackedRooms.openBit(theDirection);
+        }
+    }
+
+    /**
+     * Permanently locks the door on the given side of a room.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     */
+    public final void lockDoor(final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theRow, theCol, theDirection);
+        if (edge >= 0) {
+            myCells[edge] |= PackedRooms.lockedBit(theDirection);
+        }
+    }
+
+    /**
+     * Closes the spill file, if any.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public final void close() throws IOException {
+        if (mySpill != null) {
+            mySpill.close();
+        }
+    }
+
+    /**
+     * Finds the room that stores the door on the given side of a room, since each room
+     * stores only its east and south doors.
+     *
+     * @param theRow the row of the room in the window.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the index into the ring of the storing room, or -1 if the door leaves the window.
+     */
+    private int edgeCell(final int theRow, final int theCol, final Direction theDirection) {
+        if (!PackedRooms.isInnerDoor(theRow, theCol, theDirection, myWindowRows, myCols)) {
+            return -1;
+        }
+        return slot(myFirstRow + PackedRooms.edgeRow(theRow, theDirection)) + PackedRooms.edgeCol(theCol, theDirection);
+    }
+
+    /**
+     * Gets the offset in the ring where an absolute row is stored.
+     *
+     * @param theRow the absolute row.
+     * @return the offset of the row's first room.
+     */
+    private int slot(final long theRow) {
+        return (int) (theRow % myWindowRows) * myCols;
+    }
+
+    /**
+     * Brings an absolute row into its slot, reading it back from the spill file
+     * if it was generated before, or generating it otherwise.
+     *
+     * @param theRow the absolute row.
+     */
+    private void load(final long theRow) {
+        final int slot = slot(theRow);
+        if (theRow < myGeneratedRows) {
+            try {
+                mySpill.seek(theRow * myCols);
+                mySpill.readFully(myCells, slot, myCols);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read spilled row " + theRow, e);
+            }
+            return;
+        }
+        myEller.nextRow(myRowBuffer, false, myRandom);
+        System.arraycopy(myRowBuffer, 0, myCells, slot, myCols);
+        myGeneratedRows++;
+    }
+
+    /**
+     * Writes an absolute row to the spill file, if there is one, before its slot is reused.
+     *
+     * @param theRow the absolute row.
+     */
+    private void evict(final long theRow) {
+        if (mySpill == null) {
+            return;
+        }
+        try {
+            mySpill.seek(theRow * myCols);
+            mySpill.write(myCells, slot(theRow), myCols);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot spill row " + theRow, e);
+        }
+    }
+}
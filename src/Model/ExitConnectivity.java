@@ -0,0 +1,244 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which rooms of a maze can still reach the exit while doors are
+ * permanently locked one at a time.
+ * <p>
+ * Every room carries the label of its connected component, so asking whether the
+ * exit is reachable is a single comparison. When a door is locked the two rooms on
+ * either side are searched from in lockstep: if the searches meet the rooms are still
+ * connected and nothing changes, otherwise the side that runs out first is the piece
+ * that broke off and only that side is relabelled. The work per lock is therefore
+ * bounded by the smaller side rather than by the size of the maze.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class ExitConnectivity {
+    /**
+     * The directions a search expands in.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The maze being tracked.
+     */
+    private final Maze myMaze;
+    /**
+     * The number of columns in the maze.
+     */
+    private final int myCols;
+    /**
+     * The cell index of the exit room.
+     */
+    private final int myExitCell;
+    /**
+     * The component label of each cell.
+     */
+    private final int[] myComponent;
+    /**
+     * The search stamp last written to each cell.
+     */
+    private final int[] myMark;
+    /**
+     * The queue of the search started on the first side of a locked door.
+     */
+    private final int[] myQueueA;
+    /**
+     * The queue of the search started on the second side of a locked door.
+     */
+    private final int[] myQueueB;
+    /**
+     * The next unused component label.
+     */
+    private int myNextLabel;
+    /**
+     * The last search stamp handed out.
+     */
+    private int myStamp;
+
+    /**
+     * Constructs the tracker and labels the components of the maze as it stands.
+     *
+     * @param theMaze the maze to track.
+     * @throws IllegalArgumentException if the maze is null.
+     */
+    public ExitConnectivity(final Maze theMaze) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null");
+        }
+        myMaze = theMaze;
+        myCols = theMaze.getCols();
+        final int cells = theMaze.getRows() * myCols;
+        myExitCell = cells - 1;
+        myComponent = new int[cells];
+        myMark = new int[cells];
+        myQueueA = new int[cells];
+        myQueueB = new int[cells];
+        labelAll();
+    }
+
+    /**
+     * Checks whether the exit can still be reached from the given room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the exit can be reached, false otherwise.
+     */
+    public final boolean canReachExit(final int theRow, final int theCol) {
+        return myComponent[theRow * myCols + theCol] == myComponent[myExitCell];
+    }
+
+    /**
+     * Checks whether two rooms are still connected.
+     *
+     * @param theFirstCell the cell index of the first room.
+     * @param theSecondCell the cell index of the second room.
+     * @return true if the rooms are connected, false otherwise.
+     */
+    public final boolean isConnected(final int theFirstCell, final int theSecondCell) {
+        return myComponent[theFirstCell] == myComponent[theSecondCell];
+    }
+
+    /**
+     * Updates the components after the door on the given side of a room has been
+     * permanently locked. The maze must already report the door as not traversable.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room the locked door is on.
+     */
+    public final void doorLocked(final int theRow, final int theCol, final Direction theDirection) {
+        final int first = theRow * myCols + theCol;
+        final int second = first + theDirection.getRow() * myCols + theDirection.getCol();
+        if (myComponent[first] != myComponent[second]) {
+            return;
+        }
+
+        final int stampA = nextStamp();
+        final int stampB = nextStamp();
+        int headA = 0;
+        int tailA = 0;
+        int headB = 0;
+        int tailB = 0;
+        myMark[first] = stampA;
+        myQueueA[tailA++] = first;
+        myMark[second] = stampB;
+        myQueueB[tailB++] = second;
+
+        while (true) {
+            if (headA == tailA) {
+                relabel(myQueueA, tailA);
+                return;
+            }
+            final int expandA = expand(myQueueA, headA++, tailA, stampA, stampB);
+            if (expandA < 0) {
+                return;
+            }
+            tailA = expandA;
+
+            if (headB == tailB) {
+                relabel(myQueueB, tailB);
+                return;
+            }
+            final int expandB = expand(myQueueB, headB++, tailB, stampB, stampA);
+            if (expandB < 0) {
+                return;
+            }
+            tailB = expandB;
+        }
+    }
+
+    /**
+     * Expands one cell of a search.
+     *
+     * @param theQueue the queue of the search.
+     * @param theHead the position of the cell to expand.
+     * @param theTail the current end of the queue.
+     * @param theOwnStamp the stamp of this search.
+     * @param theOtherStamp the stamp of the search from the other side.
+     * @return the new end of the queue, or -1 if the other search was reached.
+     */
+    private int expand(final int[] theQueue, final int theHead, final int theTail,
+                       final int theOwnStamp, final int theOtherStamp) {
+        int tail = theTail;
+        final int cell = theQueue[theHead];
+        final int row = cell / myCols;
+        final int col = cell - row * myCols;
+        for (Direction direction : DIRECTIONS) {
+            if (myMaze.isTraversable(row, col, direction)) {
+                final int next = cell + direction.getRow() * myCols + direction.getCol();
+                final int mark = myMark[next];
+                if (mark == theOtherStamp) {
+                    return -1;
+                }
+                if (mark != theOwnStamp) {
+                    myMark[next] = theOwnStamp;
+                    theQueue[tail++] = next;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Gives the cells of a piece that broke off a fresh component label.
+     *
+     * @param theQueue the queue holding the cells of the piece.
+     * @param theSize the number of cells in the piece.
+     */
+    private void relabel(final int[] theQueue, final int theSize) {
+        final int label = myNextLabel++;
+        for (int i = 0; i < theSize; i++) {
+            myComponent[theQueue[i]] = label;
+        }
+    }
+
+    /**
+     * Labels every component of the maze from scratch.
+     */
+    private void labelAll() {
+        Arrays.fill(myComponent, -1);
+        myNextLabel = 0;
+        final int stamp = nextStamp();
+        for (int start = 0; start < myComponent.length; start++) {
+            if (myComponent[start] >= 0) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            myMark[start] = stamp;
+            myQueueA[tail++] = start;
+            while (head < tail) {
+                final int cell = myQueueA[head++];
+                final int row = cell / myCols;
+                final int col = cell - row * myCols;
+                for (Direction direction : DIRECTIONS) {
+                    if (myMaze.isTraversable(row, col, direction)) {
+                        final int next = cell + direction.getRow() * myCols + direction.getCol();
+                        if (myMark[next] != stamp) {
+                            myMark[next] = stamp;
+                            myQueueA[tail++] = next;
+                        }
+                    }
+                }
+            }
+            relabel(myQueueA, tail);
+        }
+    }
+
+    /**
+     * Hands out a fresh search stamp, clearing the marks only when the stamps are
+     * about to wrap so that the two stamps of one lock never straddle a clear.
+     *
+     * @return the new stamp.
+     */
+    private int nextStamp() {
+        if (myStamp >= Integer.MAX_VALUE - 1) {
+            Arrays.fill(myMark, 0);
+            myStamp = 0;
+        }
+        return ++myStamp;
+    }
+}
@@ -0,0 +1,300 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the number of steps from every room to the nearest exit while doors are
+ * permanently locked one at a time, so asking how far a room is from the exit is an
+ * array lookup.
+ * <p>
+ * The distances are found once with a breadth-first search outward from the exits.
+ * When a door is locked, only the rooms whose every shortest route ran through it
+ * are affected: a door between rooms at equal distance changes nothing, and a room
+ * that still has another neighbour one step closer keeps its distance. The affected
+ * rooms are found by following shortest routes away from the door, then given new
+ * distances from their unaffected neighbours in increasing order, merging a sorted
+ * list of those starting distances with a first-in first-out queue as in a
+ * breadth-first search. The work per lock is bounded by the rooms affected rather
+ * than by the size of the maze.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class ExitDistances {
+    /**
+     * The distance of a room that cannot reach an exit.
+     */
+    public static final int UNREACHABLE = -1;
+    /**
+     * The distance of a room waiting in the repair queue.
+     */
+    private static final int QUEUED = -2;
+    /**
+     * The directions a search expands in.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The maze being tracked.
+     */
+    private final MazeGrid myMaze;
+    /**
+     * The number of columns in the maze.
+     */
+    private final int myCols;
+    /**
+     * The number of steps from each cell to the nearest exit, or {@link #UNREACHABLE}.
+     */
+    private final int[] myDistance;
+    /**
+     * The repair stamp last written to each affected cell.
+     */
+    private final int[] myMark;
+    /**
+     * The cells found affected by a lock, and the breadth-first queue.
+     */
+    private final int[] myQueue;
+    /**
+     * The distance of each cell in the repair queue.
+     */
+    private final int[] myQueueDistance;
+    /**
+     * The affected cells with an unaffected neighbour, each as its starting distance
+     * in the high half and its cell index in the low half, so they sort by distance.
+     */
+    private long[] mySeeds;
+    /**
+     * The last repair stamp handed out.
+     */
+    private int myStamp;
+
+    /**
+     * Constructs the tracker and measures the distances of the maze as it stands.
+     *
+     * @param theMaze the maze to track.
+     * @throws IllegalArgumentException if the maze is null.
+     */
+    public ExitDistances(final MazeGrid theMaze) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null");
+        }
+        myMaze = theMaze;
+        myCols = theMaze.getCols();
+        final int cells = theMaze.getRows() * myCols;
+        myDistance = new int[cells];
+        myMark = new int[cells];
+        myQueue = new int[cells];
+        myQueueDistance = new int[cells];
+        recompute();
+    }
+
+    /**
+     * Gets the number of steps from a room to the nearest exit.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the number of steps, or {@link #UNREACHABLE} if no exit can be reached.
+     */
+    public final int distanceToExit(final int theRow, final int theCol) {
+        return myDistance[theRow * myCols + theCol];
+    }
+
+    /**
+     * Measures every distance from scratch with a breadth-first search from the exits.
+     */
+    public final void recompute() {
+        Arrays.fill(myDistance, UNREACHABLE);
+        int tail = 0;
+        for (int cell = 0; cell < myDistance.length; cell++) {
+            if (myMaze.isExit(cell / myCols, cell % myCols)) {
+                myDistance[cell] = 0;
+                myQueue[tail++] = cell;
+            }
+        }
+        int head = 0;
+        while (head < tail) {
+            final int cell = myQueue[head++];
+            final int row = cell / myCols;
+            final int col = cell - row * myCols;
+            for (Direction direction : DIRECTIONS) {
+                if (myMaze.isTraversable(row, col, direction)) {
+                    final int next = cell + direction.getRow() * myCols + direction.getCol();
+                    if (myDistance[next] == UNREACHABLE) {
+                        myDistance[next] = myDistance[cell] + 1;
+                        myQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Repairs the distances after the door on the given side of a room has been
+     * permanently locked. The maze must already report the door as not traversable.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room the locked door is on.
+     */
+    public final void doorLocked(final int theRow, final int theCol, final Direction theDirection) {
+        final int first = theRow * myCols + theCol;
+        final int second = first + theDirection.getRow() * myCols + theDirection.getCol();
+        final int firstDistance = myDistance[first];
+        final int secondDistance = myDistance[second];
+        if (firstDistance == UNREACHABLE || Math.abs(firstDistance - secondDistance) != 1) {
+            return;
+        }
+        final int farther = firstDistance > secondDistance ? first : second;
+        final int stamp = nextStamp();
+        if (hasCloserNeighbor(farther, stamp)) {
+            return;
+        }
+
+        final int affected = collectAffected(farther, stamp);
+        int seeds = 0;
+        for (int i = 0; i < affected; i++) {
+            final int cell = myQueue[i];
+            final int start = closestUnaffectedNeighbor(cell, stamp);
+            if (start != UNREACHABLE) {
+                mySeeds[seeds++] = (long) (start + 1) << 32 | cell;
+            }
+        }
+        for (int i = 0; i < affected; i++) {
+            myDistance[myQueue[i]] = UNREACHABLE;
+        }
+        Arrays.sort(mySeeds, 0, seeds);
+        settle(seeds, stamp);
+    }
+
+    /**
+     * Finds every room whose shortest routes all ran through the locked door, following
+     * rooms one step farther from the exit outward from the first one found.
+     *
+     * @param theFirst the room beside the door that lost its only closer neighbour.
+     * @param theStamp the stamp of this repair.
+     * @return the number of affected rooms, which are left at the start of the queue.
+     */
+    private int collectAffected(final int theFirst, final int theStamp) {
+        int head = 0;
+        int tail = 0;
+        myMark[theFirst] = theStamp;
+        myQueue[tail++] = theFirst;
+        while (head < tail) {
+            final int cell = myQueue[head++];
+            final int row = cell / myCols;
+            final int col = cell - row * myCols;
+            for (Direction direction : DIRECTIONS) {
+                if (myMaze.isTraversable(row, col, direction)) {
+                    final int next = cell + direction.getRow() * myCols + direction.getCol();
+                    if (myMark[next] != theStamp && myDistance[next] == myDistance[cell] + 1
+                            && !hasCloserNeighbor(next, theStamp)) {
+                        myMark[next] = theStamp;
+                        myQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+        if (mySeeds == null || mySeeds.length < tail) {
+            mySeeds = new long[Math.max(tail, Math.min(myDistance.length, 2 * tail))];
+        }
+        return tail;
+    }
+
+    /**
+     * Gives the affected rooms their new distances in increasing order, taking each
+     * room from either the sorted starting distances or the breadth-first queue,
+     * whichever is nearer.
+     *
+     * @param theSeeds the number of sorted starting distances.
+     * @param theStamp the stamp of this repair.
+     */
+    private void settle(final int theSeeds, final int theStamp) {
+        int seed = 0;
+        int head = 0;
+        int tail = 0;
+        while (seed < theSeeds || head < tail) {
+            final int cell;
+            final int distance;
+            if (head == tail || seed < theSeeds && (int) (mySeeds[seed] >>> 32) <= myQueueDistance[head]) {
+                cell = (int) mySeeds[seed];
+                distance = (int) (mySeeds[seed++] >>> 32);
+            } else {
+                cell = myQueue[head];
+                distance = myQueueDistance[head++];
+            }
+            if (myDistance[cell] >= 0) {
+                continue;
+            }
+            myDistance[cell] = distance;
+            final int row = cell / myCols;
+            final int col = cell - row * myCols;
+            for (Direction direction : DIRECTIONS) {
+                if (myMaze.isTraversable(row, col, direction)) {
+                    final int next = cell + direction.getRow() * myCols + direction.getCol();
+                    if (myMark[next] == theStamp && myDistance[next] == UNREACHABLE) {
+                        myDistance[next] = QUEUED;
+                        myQueue[tail] = next;
+                        myQueueDistance[tail++] = distance + 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a room has a neighbour one step closer to the exit that is not affected.
+     *
+     * @param theCell the cell index of the room.
+     * @param theStamp the stamp of this repair.
+     * @return true if the room keeps its distance through that neighbour.
+     */
+    private boolean hasCloserNeighbor(final int theCell, final int theStamp) {
+        final int row = theCell / myCols;
+        final int col = theCell - row * myCols;
+        final int closer = myDistance[theCell] - 1;
+        for (Direction direction : DIRECTIONS) {
+            if (myMaze.isTraversable(row, col, direction)) {
+                final int next = theCell + direction.getRow() * myCols + direction.getCol();
+                if (myDistance[next] == closer && myMark[next] != theStamp) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the smallest distance among a room's unaffected neighbours.
+     *
+     * @param theCell the cell index of the room.
+     * @param theStamp the stamp of this repair.
+     * @return the smallest distance, or {@link #UNREACHABLE} if no unaffected neighbour reaches an exit.
+     */
+    private int closestUnaffectedNeighbor(final int theCell, final int theStamp) {
+        final int row = theCell / myCols;
+        final int col = theCell - row * myCols;
+        int best = UNREACHABLE;
+        for (Direction direction : DIRECTIONS) {
+            if (myMaze.isTraversable(row, col, direction)) {
+                final int next = theCell + direction.getRow() * myCols + direction.getCol();
+                final int distance = myDistance[next];
+                if (myMark[next] != theStamp && distance >= 0 && (best == UNREACHABLE || distance < best)) {
+                    best = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Hands out a fresh repair stamp, clearing the marks only when the stamps run out.
+     *
+     * @return the new stamp.
+     */
+    private int nextStamp() {
+        if (myStamp == Integer.MAX_VALUE) {
+            Arrays.fill(myMark, 0);
+            myStamp = 0;
+        }
+        return ++myStamp;
+    }
+}
@@ -0,0 +1,427 @@
+package Model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rules of the trivia maze, with no dependency on Swing, so a game can be played
+ * by the desktop view, a server or a test alike.
+ * <p>
+ * The engine owns the player's position in the maze of its {@link GameModel}, checks
+ * which doors can be tried and passed, checks answers, opens the door on a right
+ * answer and permanently locks it on a wrong one, and decides when the game is won
+ * or lost. It also keeps the order of the questions to be asked. A client renders
+ * the state it reads back and never changes the maze itself.
+ * <p>
+ * Questions come either from a fixed list or from a {@link QuestionSource}. With a
+ * source the engine keeps only the question currently asked, so an endless game holds
+ * no more questions however long it runs, and the question index counts the questions
+ * asked so far.
+ * <p>
+ * Every action the engine applies is reported to its {@link GameListener}, if it has
+ * one, so a game can be logged and replayed; see {@link GameEventLog}.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class GameEngine {
+    /**
+     * The game being played.
+     */
+    private final GameModel myGame;
+    /**
+     * The maze of the game.
+     */
+    private final Maze myMaze;
+    /**
+     * The questions kept, in the order they are asked, starting with the one at
+     * {@link #myFirstIndex}: the whole list, or with a question source only the current one.
+     */
+    private List<Question> myQuestions;
+    /**
+     * The index of the first question kept.
+     */
+    private int myFirstIndex;
+    /**
+     * The index of the question currently asked.
+     */
+    private int myQuestionIndex;
+    /**
+     * The source further questions are taken from once the list runs out, or null.
+     */
+    private QuestionSource myQuestionSource;
+    /**
+     * The outcome of the game so far.
+     */
+    private GameStatus myStatus;
+    /**
+     * Receives the actions of the game, or null.
+     */
+    private GameListener myListener;
+
+    /**
+     * Constructs an engine for the given game, with no questions yet.
+     *
+     * @param theGame the game to play.
+     * @throws IllegalArgumentException if the game is null.
+     */
+    public GameEngine(final GameModel theGame) {
+        this(theGame, List.of());
+    }
+
+    /**
+     * Constructs an engine for the given game that asks the given questions in order.
+     *
+     * @param theGame the game to play.
+     * @param theQuestions the questions to ask.
+     * @throws IllegalArgumentException if the game or the questions are null.
+     */
+    public GameEngine(final GameModel theGame, final List<Question> theQuestions) {
+        if (theGame == null) {
+            throw new IllegalArgumentException("Game model cannot be null");
+        }
+        myGame = theGame;
+        myMaze = theGame.getMaze();
+        setQuestions(theQuestions);
+        myGame.setPlayerLocation(myMaze.getCurrentRoom());
+        updateStatus();
+    }
+
+    /**
+     * Gets the game being played.
+     *
+     * @return the game model.
+     */
+    public final GameModel getGameModel() {
+        return myGame;
+    }
+
+    /**
+     * Gets the maze of the game.
+     *
+     * @return the maze.
+     */
+    public final Maze getMaze() {
+        return myMaze;
+    }
+
+    /**
+     * Gets the row of the player.
+     *
+     * @return the player's row.
+     */
+    public final int getRow() {
+        return myMaze.getPlayerRow();
+    }
+
+    /**
+     * Gets the column of the player.
+     *
+     * @return the player's column.
+     */
+    public final int getCol() {
+        return myMaze.getPlayerCol();
+    }
+
+    /**
+     * Gets the outcome of the game so far.
+     *
+     * @return the status of the game.
+     */
+    public final GameStatus getStatus() {
+        return myStatus;
+    }
+
+    /**
+     * Checks whether the game has been won or lost.
+     *
+     * @return true if the game is over.
+     */
+    public final boolean isOver() {
+        return myStatus != GameStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Sets the listener that receives every action the engine applies from now on.
+     *
+     * @param theListener the listener, or null for none.
+     */
+    public final void setListener(final GameListener theListener) {
+        myListener = theListener;
+    }
+
+    /**
+     * Replaces the questions to ask and starts again from the first.
+     *
+     * @param theQuestions the questions in the order they are asked.
+     * @throws IllegalArgumentException if the questions are null.
+     */
+    public final void setQuestions(final List<Question> theQuestions) {
+        if (theQuestions == null) {
+            throw new IllegalArgumentException("Questions cannot be null");
+        }
+        myQuestions = new ArrayList<>(theQuestions);
+        myFirstIndex = 0;
+        myQuestionIndex = 0;
+        myQuestionSource = null;
+        if (!myQuestions.isEmpty()) {
+            emit(GameEvent.QUESTION_SHOWN, null, 0);
+        }
+    }
+
+    /**
+     * Replaces the questions to ask with ones taken from a source as they are needed,
+     * and asks the first. Only the current question is kept, so the questions of the
+     * game are not in its log: to replay such a game, give {@link GameReplayer} the
+     * questions in the order they were asked, or an empty list. Asking the first waits
+     * for the source's first fetch, so a caller that must not block waits for
+     * {@link QuestionSource#awaitReady()} elsewhere first.
+     *
+     * @param theSource the source of the questions.
+     * @throws IllegalArgumentException if the source is null.
+     */
+    public final void setQuestionSource(final QuestionSource theSource) {
+        if (theSource == null) {
+            throw new IllegalArgumentException("Question source cannot be null");
+        }
+        setQuestions(List.of());
+        myQuestionSource = theSource;
+        final Question first = theSource.next();
+        if (first != null) {
+            myQuestions.add(first);
+            emit(GameEvent.QUESTION_SHOWN, null, 0);
+        }
+    }
+
+    /**
+     * Gets the index of the question currently asked.
+     *
+     * @return the index among the questions.
+     */
+    public final int getQuestionIndex() {
+        return myQuestionIndex;
+    }
+
+    /**
+     * Makes the question at the given index the current one, as when replaying a game.
+     *
+     * @param theIndex the index among the questions.
+     * @throws IllegalArgumentException if there is no question kept at the index.
+     */
+    final void setQuestionIndex(final int theIndex) {
+        if (theIndex < myFirstIndex || theIndex >= myFirstIndex + Math.max(1, myQuestions.size())) {
+            throw new IllegalArgumentException("No question at index " + theIndex);
+        }
+        myQuestionIndex = theIndex;
+    }
+
+    /**
+     * Gets the question currently asked.
+     *
+     * @return the current question, or null if there are no questions.
+     */
+    public final Question getCurrentQuestion() {
+        return myQuestions.isEmpty() ? null : myQuestions.get(myQuestionIndex - myFirstIndex);
+    }
+
+    /**
+     * Moves on to the next question, taking it from the question source, if there is one,
+     * in place of the current question. The last question stays current once it is reached.
+     *
+     * @return true if there was a next question, false if every question has been asked.
+     */
+    public final boolean nextQuestion() {
+        if (myQuestionSource != null) {
+            final Question next = myQuestionSource.next();
+            if (next == null) {
+                return false;
+            }
+            if (!myQuestions.isEmpty()) {
+                myQuestionIndex++;
+            }
+            myQuestions.clear();
+            myQuestions.add(next);
+            myFirstIndex = myQuestionIndex;
+            emit(GameEvent.QUESTION_SHOWN, null, myQuestionIndex);
+            return true;
+        }
+        if (myQuestionIndex < myQuestions.size() - 1) {
+            myQuestionIndex++;
+            emit(GameEvent.QUESTION_SHOWN, null, myQuestionIndex);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Chooses the closed door on the given side to answer the current question for.
+     * Nothing changes in the game; the choice is only reported to the listener.
+     *
+     * @param theDirection the side of the player's room.
+     * @return the question to answer, or null if there are no questions.
+     * @throws IllegalStateException if the door cannot be tried.
+     */
+    public final Question attempt(final Direction theDirection) {
+        if (!canAttempt(theDirection)) {
+            throw new IllegalStateException("The door to the " + theDirection + " cannot be tried.");
+        }
+        emit(GameEvent.DOOR_ATTEMPTED, theDirection, 0);
+        return getCurrentQuestion();
+    }
+
+    /**
+     * Checks whether the player may try to open the door on the given side by
+     * answering a question: the door leads to another room, is closed, and is not
+     * permanently locked.
+     *
+     * @param theDirection the side of the player's room.
+     * @return true if the door can be tried.
+     */
+    public final boolean canAttempt(final Direction theDirection) {
+        final int row = getRow();
+        final int col = getCol();
+        return !isOver() && myMaze.isTraversable(row, col, theDirection)
+                && myMaze.isDoorClosed(row, col, theDirection);
+    }
+
+    /**
+     * Checks whether the player can walk through the door on the given side without
+     * a question, because it is already open.
+     *
+     * @param theDirection the side of the player's room.
+     * @return true if the player can move that way.
+     */
+    public final boolean canMove(final Direction theDirection) {
+        return !isOver() && myMaze.isTraversable(getRow(), getCol(), theDirection)
+                && myMaze.canMovePlayer(theDirection);
+    }
+
+    /**
+     * Walks the player through an open door.
+     *
+     * @param theDirection the side of the player's room.
+     * @return true if the player moved, false if the door is not open or the game is over.
+     */
+    public final boolean move(final Direction theDirection) {
+        if (!canMove(theDirection)) {
+            return false;
+        }
+        myMaze.movePlayer(theDirection);
+        myGame.setPlayerLocation(myMaze.getCurrentRoom());
+        updateStatus();
+        emit(GameEvent.PLAYER_MOVED, theDirection, 0);
+        return true;
+    }
+
+    /**
+     * Answers the current question to try the door on the given side. A right answer
+     * opens the door and moves the player through it, a wrong answer locks it for good.
+     * The question is recorded as answered either way; moving on to the next question
+     * is left to {@link #nextQuestion()}.
+     *
+     * @param theDirection the side of the player's room.
+     * @param theAnswer the player's answer.
+     * @return true if the answer was right.
+     * @throws IllegalStateException if there is no question or the door cannot be tried.
+     */
+    public final boolean answer(final Direction theDirection, final String theAnswer) {
+        final Question question = getCurrentQuestion();
+        if (question == null) {
+            throw new IllegalStateException("There is no question to answer.");
+        }
+        if (!canAttempt(theDirection)) {
+            throw new IllegalStateException("The door to the " + theDirection + " cannot be tried.");
+        }
+        final boolean correct = isCorrect(question, theAnswer);
+        myGame.addAnsweredQuestions(question);
+        emit(GameEvent.ANSWER_GIVEN, theDirection, correct ? 1 : 0);
+        if (correct) {
+            passDoor(theDirection);
+        } else {
+            lockDoor(theDirection);
+        }
+        return correct;
+    }
+
+    /**
+     * Opens the door on the given side and moves the player through it, as after a right answer.
+     *
+     * @param theDirection the side of the player's room.
+     * @return true if the player moved, false if the door is permanently locked,
+     * leads out of the maze, or the game is over.
+     */
+    public final boolean passDoor(final Direction theDirection) {
+        if (isOver() || !myMaze.isTraversable(getRow(), getCol(), theDirection)) {
+            return false;
+        }
+        myMaze.openDoor(getRow(), getCol(), theDirection);
+        emit(GameEvent.DOOR_OPENED, theDirection, 0);
+        return move(theDirection);
+    }
+
+    /**
+     * Permanently locks the door on the given side, as after a wrong answer, and checks
+     * whether the player has been cut off from the exit.
+     *
+     * @param theDirection the side of the player's room.
+     * @return true if a door was locked, false if the side leads out of the maze or the game is over.
+     */
+    public final boolean lockDoor(final Direction theDirection) {
+        if (isOver() || isBoundary(theDirection)) {
+            return false;
+        }
+        myMaze.lockDoor(getRow(), getCol(), theDirection);
+        updateStatus();
+        emit(GameEvent.DOOR_LOCKED, theDirection, 0);
+        return true;
+    }
+
+    /**
+     * Checks an answer against a question, ignoring case and surrounding spaces.
+     *
+     * @param theQuestion the question.
+     * @param theAnswer the answer given.
+     * @return true if the answer is right.
+     */
+    public static boolean isCorrect(final Question theQuestion, final String theAnswer) {
+        return theAnswer != null && theAnswer.trim().equalsIgnoreCase(theQuestion.getAnswerText().trim());
+    }
+
+    /**
+     * Reports an action to the listener, if there is one.
+     *
+     * @param theEvent the action.
+     * @param theDirection the side of the player's room, or null.
+     * @param theValue the value of the action.
+     */
+    private void emit(final GameEvent theEvent, final Direction theDirection, final int theValue) {
+        if (myListener != null) {
+            myListener.onEvent(theEvent, theDirection, theValue);
+        }
+    }
+
+    /**
+     * Checks whether the given side of the player's room is the outer edge of the maze.
+     *
+     * @param theDirection the side of the player's room.
+     * @return true if there is no room that way.
+     */
+    private boolean isBoundary(final Direction theDirection) {
+        final int row = getRow() + theDirection.getRow();
+        final int col = getCol() + theDirection.getCol();
+        return row < 0 || row >= myMaze.getRows() || col < 0 || col >= myMaze.getCols();
+    }
+
+    /**
+     * Decides the outcome from the player's position.
+     */
+    private void updateStatus() {
+        if (myMaze.endOfMazeCheck()) {
+            myStatus = GameStatus.WON;
+        } else if (!myMaze.isExitReachable(getRow(), getCol())) {
+            myStatus = GameStatus.LOST;
+        } else {
+            myStatus = GameStatus.IN_PROGRESS;
+        }
+    }
+}
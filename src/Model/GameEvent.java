@@ -0,0 +1,37 @@
+package Model;
+
+/**
+ * GameEvent names the actions a {@link GameEngine} reports to its {@link GameListener}
+ * as a game is played. Together with a snapshot of the maze at the start, the events
+ * are enough to rebuild the game at any point.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public enum GameEvent {
+    /**
+     * The player chose a closed door to answer a question for.
+     */
+    DOOR_ATTEMPTED,
+    /**
+     * A new question became the current one; the value is its index.
+     */
+    QUESTION_SHOWN,
+    /**
+     * The player answered the current question for a door; the value is 1 if the
+     * answer was right and 0 if it was wrong.
+     */
+    ANSWER_GIVEN,
+    /**
+     * A door was opened.
+     */
+    DOOR_OPENED,
+    /**
+     * A door was permanently locked.
+     */
+    DOOR_LOCKED,
+    /**
+     * The player walked through an open door.
+     */
+    PLAYER_MOVED
+}
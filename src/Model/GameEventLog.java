@@ -0,0 +1,222 @@
+package Model;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes the actions of games to an append-only log in a compact binary format,
+ * so a game can be recovered after a crash or studied later without saving the
+ * whole game on every move. {@link GameReplayer} reads the log back.
+ * <p>
+ * The log starts with a magic number and the format version. Each game attached to
+ * the log starts with a snapshot record: the index of the current question and the
+ * maze in the encoding of {@link Maze#encode()}, which holds the player's position and
+ * every opened and locked door. The actions that follow take one byte each, with the
+ * event in the high five bits, the value of an answer in the next bit and the side of
+ * the room in the low two bits; a question shown is followed by its index as a varint.
+ * <p>
+ * Records are gathered in a buffer and written to the stream in batches when the buffer
+ * fills, on {@link #flush()} and on {@link #close()}. A crash loses at most the batch
+ * not yet written, and the replayer stops cleanly at a record cut short. A log is not
+ * thread safe; it is meant to follow one game at a time, on the thread playing it.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameEventLog implements GameListener, Flushable, Closeable {
+    /**
+     * The magic number at the start of every log, "TLOG" in ASCII.
+     */
+    static final int MAGIC = 0x544C4F47;
+    /**
+     * The current version of the format.
+     */
+    static final byte VERSION = 1;
+    /**
+     * The record code of a snapshot; the code of an event is one more than its ordinal.
+     */
+    static final int SNAPSHOT = 0;
+    /**
+     * The number of bits below the record code in a record byte.
+     */
+    static final int CODE_SHIFT = 3;
+    /**
+     * The bit holding the value of an answer in a record byte.
+     */
+    static final int VALUE_BIT = 4;
+    /**
+     * The bits holding the side of the room in a record byte.
+     */
+    static final int DIRECTION_BITS = 3;
+    /**
+     * The size of the write buffer in bytes.
+     */
+    private static final int BUFFER_BYTES = 8_192;
+    /**
+     * The stream the log is written to.
+     */
+    private final OutputStream myOut;
+    /**
+     * The records not yet written to the stream.
+     */
+    private final byte[] myBuffer = new byte[BUFFER_BYTES];
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int mySize;
+    /**
+     * The number of actions logged.
+     */
+    private long myEvents;
+    /**
+     * The engine of the game being followed, or null.
+     */
+    private GameEngine myEngine;
+
+    /**
+     * Starts a log on the given stream.
+     *
+     * @param theOut the stream to write to.
+     * @throws IllegalArgumentException if the stream is null.
+     */
+    public GameEventLog(final OutputStream theOut) {
+        if (theOut == null) {
+            throw new IllegalArgumentException("Output stream cannot be null.");
+        }
+        myOut = theOut;
+        put((byte) (MAGIC >>> 24));
+        put((byte) (MAGIC >>> 16));
+        put((byte) (MAGIC >>> 8));
+        put((byte) MAGIC);
+        put(VERSION);
+    }
+
+    /**
+     * Starts following a game: writes a snapshot of it and becomes its engine's listener.
+     * The game followed before, if any, stops being logged.
+     *
+     * @param theEngine the engine of the game.
+     * @throws IllegalArgumentException if the engine is null.
+     */
+    public void attach(final GameEngine theEngine) {
+        if (theEngine == null) {
+            throw new IllegalArgumentException("Engine cannot be null.");
+        }
+        final byte[] maze = theEngine.getMaze().encode();
+        put((byte) (SNAPSHOT << CODE_SHIFT));
+        putVarint(theEngine.getQuestionIndex());
+        putVarint(maze.length);
+        for (byte b : maze) {
+            put(b);
+        }
+        if (myEngine != null) {
+            myEngine.setListener(null);
+        }
+        myEngine = theEngine;
+        theEngine.setListener(this);
+    }
+
+    /**
+     * Appends an action to the log.
+     *
+     * @param theEvent the action.
+     * @param theDirection the side of the player's room the action was on, or null if none.
+     * @param theValue the value of the action.
+     * @throws UncheckedIOException if a full batch cannot be written.
+     */
+    @Override
+    public void onEvent(final GameEvent theEvent, final Direction theDirection, final int theValue) {
+        int record = (theEvent.ordinal() + 1) << CODE_SHIFT;
+        if (theDirection != null) {
+            record |= theDirection.ordinal();
+        }
+        if (theEvent == GameEvent.ANSWER_GIVEN && theValue != 0) {
+            record |= VALUE_BIT;
+        }
+        put((byte) record);
+        if (theEvent == GameEvent.QUESTION_SHOWN) {
+            putVarint(theValue);
+        }
+        myEvents++;
+    }
+
+    /**
+     * Returns the number of actions logged so far.
+     *
+     * @return the number of actions.
+     */
+    public long getEventCount() {
+        return myEvents;
+    }
+
+    /**
+     * Writes the buffered records and flushes the stream.
+     *
+     * @throws IOException if the stream cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        myOut.flush();
+    }
+
+    /**
+     * Writes the buffered records and closes the stream.
+     *
+     * @throws IOException if the stream cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBuffer();
+        } finally {
+            myOut.close();
+        }
+    }
+
+    /**
+     * Appends a byte to the buffer, writing the buffer out first if it is full.
+     *
+     * @param theByte the byte.
+     * @throws UncheckedIOException if the full buffer cannot be written.
+     */
+    private void put(final byte theByte) {
+        if (mySize == myBuffer.length) {
+            try {
+                writeBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write game log", e);
+            }
+        }
+        myBuffer[mySize++] = theByte;
+    }
+
+    /**
+     * Appends an unsigned varint, seven bits to a byte with the high bit marking that more follow.
+     *
+     * @param theValue the value, treated as unsigned.
+     */
+    private void putVarint(final int theValue) {
+        int value = theValue;
+        while ((value & ~0x7F) != 0) {
+            put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        put((byte) value);
+    }
+
+    /**
+     * Writes the buffered records to the stream and empties the buffer.
+     *
+     * @throws IOException if the stream cannot be written.
+     */
+    private void writeBuffer() throws IOException {
+        if (mySize > 0) {
+            myOut.write(myBuffer, 0, mySize);
+            mySize = 0;
+        }
+    }
+}
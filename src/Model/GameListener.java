@@ -0,0 +1,18 @@
+package Model;
+
+/**
+ * Receives the actions of a game as a {@link GameEngine} applies them.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public interface GameListener {
+    /**
+     * Called after the engine has applied an action.
+     *
+     * @param theEvent the action.
+     * @param theDirection the side of the player's room the action was on, or null if none.
+     * @param theValue the value of the action, as described by the event, or 0 if it has none.
+     */
+    void onEvent(GameEvent theEvent, Direction theDirection, int theValue);
+}
@@ -33,7 +33,27 @@ public class GameModel implements Serializable {
      * answered questions list, and question database.
      */
     public GameModel() {
-        myMaze = new Maze();
+        this(new Maze());
+    }
+    /**
+     * Constructs a new GameModel whose maze is generated from the given seed.
+     *
+     * @param theSeed the seed that determines the maze.
+     */
+    public GameModel(final long theSeed) {
+        this(new Maze(theSeed));
+    }
+    /**
+     * Constructs a new GameModel around the given maze, such as one taken from a {@link MazePool}.
+     *
+     * @param theMaze the maze for the game.
+     * @throws IllegalArgumentException if the maze is null.
+     */
+    public GameModel(final Maze theMaze) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null");
+        }
+        myMaze = theMaze;
         myPlayerLocation = myMaze.getCurrentRoom();
         myAnsweredQuestions = new ArrayList<>();
     }
@@ -0,0 +1,224 @@
+package Model;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Rebuilds a game from a log written by {@link GameEventLog}, to recover it after a
+ * crash or to look at it as it stood after any number of actions.
+ * <p>
+ * The replayer starts from the last snapshot it reads and applies the recorded actions
+ * to a fresh {@link GameEngine}, so it costs a few array updates per action rather than
+ * the time the player took. It stops cleanly at a record cut short, as a crash can
+ * leave at the end of a log.
+ * <p>
+ * The log holds the index of each question shown, not the question. A game that drew
+ * its questions from a {@link QuestionSource} is replayed with the questions it asked,
+ * in order, or with an empty list to rebuild the maze and the player alone.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class GameReplayer {
+    /**
+     * The events, indexed by record code minus one.
+     */
+    private static final GameEvent[] EVENTS = GameEvent.values();
+    /**
+     * The directions, indexed by ordinal.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The longest snapshot accepted, in bytes.
+     */
+    private static final int MAX_SNAPSHOT_BYTES = 1 << 30;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameReplayer() {
+    }
+
+    /**
+     * Rebuilds the last game in a log as it stood after its last action.
+     *
+     * @param theIn the log.
+     * @param theQuestions the questions the game asked, or an empty list if they are not needed.
+     * @return the engine of the rebuilt game.
+     * @throws IOException if the log cannot be read.
+     * @throws IllegalArgumentException if the log is not a game log of a known version,
+     * is corrupt, or holds no game.
+     */
+    public static GameEngine replay(final InputStream theIn, final List<Question> theQuestions)
+            throws IOException {
+        return replay(theIn, theQuestions, Long.MAX_VALUE);
+    }
+
+    /**
+     * Rebuilds a game as it stood after the given number of actions in a log. Actions
+     * are counted from the start of the log, and the game is the one those actions
+     * belong to.
+     *
+     * @param theIn the log.
+     * @param theQuestions the questions the game asked, or an empty list if they are not needed.
+     * @param theEvents the number of actions to apply.
+     * @return the engine of the rebuilt game.
+     * @throws IOException if the log cannot be read.
+     * @throws IllegalArgumentException if the log is not a game log of a known version,
+     * is corrupt, or holds no game, or the number of actions is negative.
+     */
+    public static GameEngine replay(final InputStream theIn, final List<Question> theQuestions,
+                                    final long theEvents) throws IOException {
+        if (theIn == null || theQuestions == null) {
+            throw new IllegalArgumentException("Log and questions cannot be null.");
+        }
+        if (theEvents < 0) {
+            throw new IllegalArgumentException("Number of actions cannot be negative: " + theEvents);
+        }
+        final InputStream in = theIn instanceof BufferedInputStream ? theIn : new BufferedInputStream(theIn);
+        readHeader(in);
+        GameEngine engine = null;
+        long events = 0;
+        try {
+            while (events < theEvents || engine == null) {
+                final int record = in.read();
+                if (record < 0) {
+                    break;
+                }
+                final int code = record >>> GameEventLog.CODE_SHIFT;
+                if (code == GameEventLog.SNAPSHOT) {
+                    engine = readSnapshot(in, theQuestions);
+                    continue;
+                }
+                if (code > EVENTS.length || engine == null) {
+                    throw new IllegalArgumentException("Corrupt game log: unexpected record " + record);
+                }
+                apply(engine, EVENTS[code - 1], DIRECTIONS[record & GameEventLog.DIRECTION_BITS], in, theQuestions);
+                events++;
+            }
+        } catch (EOFException e) {
+            // the log was cut short in the middle of a record; keep what was replayed
+        }
+        if (engine == null) {
+            throw new IllegalArgumentException("The game log holds no game.");
+        }
+        return engine;
+    }
+
+    /**
+     * Applies one recorded action to a game. Whether an answer was right needs no replaying
+     * of its own, as the door opened or locked after it is recorded too.
+     *
+     * @param theEngine the engine of the game.
+     * @param theEvent the action.
+     * @param theDirection the side of the player's room.
+     * @param theIn the log, for the index of a question shown.
+     * @param theQuestions the questions of the game.
+     * @throws IOException if the log cannot be read.
+     */
+    private static void apply(final GameEngine theEngine, final GameEvent theEvent, final Direction theDirection,
+                              final InputStream theIn, final List<Question> theQuestions)
+            throws IOException {
+        switch (theEvent) {
+            case DOOR_ATTEMPTED -> {
+            }
+            case QUESTION_SHOWN -> showQuestion(theEngine, readVarint(theIn), theQuestions);
+            case ANSWER_GIVEN -> {
+                if (theEngine.getCurrentQuestion() != null) {
+                    theEngine.getGameModel().addAnsweredQuestions(theEngine.getCurrentQuestion());
+                }
+            }
+            case DOOR_OPENED -> theEngine.getMaze().openDoor(theEngine.getRow(), theEngine.getCol(), theDirection);
+            case DOOR_LOCKED -> theEngine.lockDoor(theDirection);
+            case PLAYER_MOVED -> {
+                if (!theEngine.move(theDirection)) {
+                    throw new IllegalArgumentException("Corrupt game log: cannot move " + theDirection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot and starts a game from it.
+     *
+     * @param theIn the log, positioned after the record byte.
+     * @param theQuestions the questions of the game.
+     * @return the engine of the game.
+     * @throws IOException if the log cannot be read.
+     */
+    private static GameEngine readSnapshot(final InputStream theIn, final List<Question> theQuestions)
+            throws IOException {
+        final int index = readVarint(theIn);
+        final int length = readVarint(theIn);
+        if (length < 0 || length > MAX_SNAPSHOT_BYTES) {
+            throw new IllegalArgumentException("Corrupt game log: snapshot of " + length + " bytes");
+        }
+        final byte[] maze = theIn.readNBytes(length);
+        if (maze.length < length) {
+            throw new EOFException();
+        }
+        final GameEngine engine = new GameEngine(new GameModel(Maze.decode(maze)), theQuestions);
+        showQuestion(engine, index, theQuestions);
+        return engine;
+    }
+
+    /**
+     * Makes a question current, unless the questions were not given.
+     *
+     * @param theEngine the engine of the game.
+     * @param theIndex the index of the question.
+     * @param theQuestions the questions of the game.
+     */
+    private static void showQuestion(final GameEngine theEngine, final int theIndex,
+                                     final List<Question> theQuestions) {
+        if (!theQuestions.isEmpty()) {
+            theEngine.setQuestionIndex(theIndex);
+        }
+    }
+
+    /**
+     * Reads and checks the header of a log.
+     *
+     * @param theIn the log.
+     * @throws IOException if the log cannot be read.
+     * @throws IllegalArgumentException if the log is not a game log of a known version.
+     */
+    private static void readHeader(final InputStream theIn) throws IOException {
+        final byte[] header = theIn.readNBytes(5);
+        final int magic = header.length < 5 ? 0 : (header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16
+                | (header[2] & 0xFF) << 8 | header[3] & 0xFF;
+        if (magic != GameEventLog.MAGIC) {
+            throw new IllegalArgumentException("Not a game log.");
+        }
+        if (header[4] != GameEventLog.VERSION) {
+            throw new IllegalArgumentException("Unknown game log version: " + header[4]);
+        }
+    }
+
+    /**
+     * Reads an unsigned varint written by the log.
+     *
+     * @param theIn the log.
+     * @return the value.
+     * @throws IOException if the log cannot be read.
+     * @throws EOFException if the log ends inside the varint.
+     * @throws IllegalArgumentException if the varint is too long.
+     */
+    private static int readVarint(final InputStream theIn) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final int next = theIn.read();
+            if (next < 0) {
+                throw new EOFException();
+            }
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupt game log: bad varint.");
+    }
+}
@@ -0,0 +1,22 @@
+package Model;
+
+/**
+ * GameStatus is the outcome of a game so far, as decided by a {@link GameEngine}.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public enum GameStatus {
+    /**
+     * The player has not reached the exit and can still reach it.
+     */
+    IN_PROGRESS,
+    /**
+     * The player has reached the exit.
+     */
+    WON,
+    /**
+     * Locked doors have cut the player off from the exit.
+     */
+    LOST
+}
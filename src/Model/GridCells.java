@@ -0,0 +1,180 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Helpers shared by the maze generators for working with cell indices,
+ * where the cell index of a room is its row times the number of columns plus its column.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+final class GridCells {
+    /**
+     * The directions in a fixed order, indexed by the generators.
+     */
+    static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GridCells() {
+    }
+
+    /**
+     * Returns the neighbouring cell in the given direction.
+     *
+     * @param theCell the cell index.
+     * @param theDirection the direction to step in.
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @return the neighbouring cell index, or -1 if the step leaves the grid.
+     */
+    static int neighbor(final int theCell, final Direction theDirection, final int theRows, final int theCols) {
+        final int row = theCell / theCols;
+        final int col = theCell - row * theCols;
+        final int nextRow = row + theDirection.getRow();
+        final int nextCol = col + theDirection.getCol();
+        if (nextRow < 0 || nextRow >= theRows || nextCol < 0 || nextCol >= theCols) {
+            return -1;
+        }
+        return nextRow * theCols + nextCol;
+    }
+
+    /**
+     * Returns an int array of at least the given length, reusing the old one when it is big enough.
+     *
+     * @param theOld the array to reuse, may be null.
+     * @param theLength the length needed.
+     * @return an array of at least the given length.
+     */
+    static int[] ensure(final int[] theOld, final int theLength) {
+        return theOld != null && theOld.length >= theLength ? theOld : new int[theLength];
+    }
+
+    /**
+     * Returns a cleared bit set able to hold the given number of bits, reusing the old one when it is big enough.
+     *
+     * @param theOld the bit set to reuse, may be null.
+     * @param theBits the number of bits needed.
+     * @return a cleared bit set.
+     */
+    static long[] clearedBits(final long[] theOld, final int theBits) {
+        final int words = (theBits + 63) >>> 6;
+        if (theOld != null && theOld.length >= words) {
+            Arrays.fill(theOld, 0, words, 0L);
+            return theOld;
+        }
+        return new long[words];
+    }
+
+    /**
+     * Checks whether a bit is set.
+     *
+     * @param theBits the bit set.
+     * @param theIndex the bit index.
+     * @return true if the bit is set.
+     */
+    static boolean get(final long[] theBits, final int theIndex) {
+        return (theBits[theIndex >>> 6] & (1L << theIndex)) != 0;
+    }
+
+    /**
+     * Sets a bit.
+     *
+     * @param theBits the bit set.
+     * @param theIndex the bit index.
+     */
+    static void set(final long[] theBits, final int theIndex) {
+        theBits[theIndex >>> 6] |= 1L << theIndex;
+    }
+
+    /**
+     * Finds the root of an element's set in a union-find, halving the path as it goes.
+     *
+     * @param theParent the union-find parent of each element; a root holds minus the size of its set.
+     * @param theElement the element.
+     * @return the root of the element's set.
+     */
+    static int find(final int[] theParent, final int theElement) {
+        int element = theElement;
+        while (theParent[element] >= 0) {
+            final int parent = theParent[element];
+            if (theParent[parent] >= 0) {
+                theParent[element] = theParent[parent];
+            }
+            element = parent;
+        }
+        return element;
+    }
+
+    /**
+     * Joins the sets of two elements in a union-find, attaching the smaller set to the larger.
+     *
+     * @param theParent the union-find parent of each element; a root holds minus the size of its set.
+     * @param theFirst the first element.
+     * @param theSecond the second element.
+     * @return true if the elements were in different sets.
+     */
+    static boolean union(final int[] theParent, final int theFirst, final int theSecond) {
+        int first = find(theParent, theFirst);
+        int second = find(theParent, theSecond);
+        if (first == second) {
+            return false;
+        }
+        if (theParent[first] > theParent[second]) {
+            final int swap = first;
+            first = second;
+            second = swap;
+        }
+        theParent[first] += theParent[second];
+        theParent[second] = first;
+        return true;
+    }
+
+    /**
+     * Carves a rectangle of the maze into a perfect maze with the recursive backtracker,
+     * run iteratively over an int stack of cell indices local to the rectangle.
+     *
+     * @param theMaze the maze being carved.
+     * @param theTop the row of the rectangle's top left room.
+     * @param theLeft the column of the rectangle's top left room.
+     * @param theRows the number of rows of the rectangle.
+     * @param theCols the number of columns of the rectangle.
+     * @param theStack a stack with room for every cell of the rectangle.
+     * @param theVisited a cleared bit set with room for every cell of the rectangle.
+     * @param theChoices room for the four directions of a cell's unvisited neighbours.
+     * @param theRandom the source of randomness.
+     */
+    static void backtrack(final Maze theMaze, final int theTop, final int theLeft, final int theRows,
+                          final int theCols, final int[] theStack, final long[] theVisited,
+                          final Direction[] theChoices, final RandomGenerator theRandom) {
+        final int mazeCols = theMaze.getCols();
+        final int start = theRandom.nextInt(theRows * theCols);
+        set(theVisited, start);
+        int size = 0;
+        theStack[size++] = start;
+
+        while (size > 0) {
+            final int cell = theStack[size - 1];
+            int count = 0;
+            for (Direction direction : DIRECTIONS) {
+                final int next = neighbor(cell, direction, theRows, theCols);
+                if (next >= 0 && !get(theVisited, next)) {
+                    theChoices[count++] = direction;
+                }
+            }
+            if (count == 0) {
+                size--;
+                continue;
+            }
+            final Direction direction = theChoices[theRandom.nextInt(count)];
+            final int next = neighbor(cell, direction, theRows, theCols);
+            final int row = cell / theCols;
+            theMaze.carvePassage((theTop + row) * mazeCols + theLeft + cell - row * theCols, direction);
+            set(theVisited, next);
+            theStack[size++] = next;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package Model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a maze with randomized Kruskal's algorithm: every wall is visited in
+ * random order and removed when the rooms on either side are not yet connected,
+ * which is tracked with a union-find over the cells.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class KruskalGenerator implements MazeGenerator {
+    /**
+     * The walls, each encoded as cell index times two plus 0 for east or 1 for south.
+     */
+    private int[] myWalls;
+    /**
+     * The union-find parent of each cell; a root holds minus the size of its set.
+     */
+    private int[] myParent;
+
+    /**
+     * Carves the maze by removing walls in random order between unconnected rooms.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    @Override
+    public void generate(final Maze theMaze, final RandomGenerator theRandom) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        final int cells = rows * cols;
+        myWalls = GridCells.ensure(myWalls, 2 * cells);
+        myParent = GridCells.ensure(myParent, cells);
+
+        int walls = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            myParent[cell] = -1;
+            if (cell % cols < cols - 1) {
+                myWalls[walls++] = cell << 1;
+            }
+            if (cell < cells - cols) {
+                myWalls[walls++] = (cell << 1) | 1;
+            }
+        }
+
+        int joined = 0;
+        for (int i = walls - 1; i >= 0 && joined < cells - 1; i--) {
+            final int pick = theRandom.nextInt(i + 1);
+            final int wall = myWalls[pick];
+            myWalls[pick] = myWalls[i];
+            myWalls[i] = wall;
+
+            final int cell = wall >>> 1;
+            final boolean south = (wall & 1) != 0;
+            final int other = south ? cell + cols : cell + 1;
+            if (GridCells.union(myParent, cell, other)) {
+                theMaze.carvePassage(cell, south ? Direction.SOUTH : Direction.EAST);
+                joined++;
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package Model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+/**
+ * A maze stored in a memory-mapped file rather than on the heap, for mazes too large
+ * to hold as rooms. Each room is one byte holding its east and south passages and
+ * the state of its east and south doors, so the file is one byte per room after a
+ * short header, and the operating system pages it in as rooms are visited.
+ * <p>
+ * A new maze is carved row by row with Eller's algorithm, which only needs memory
+ * for one row, so the heap used stays small whatever the size of the maze. The file
+ * can be opened again later with {@link #open(Path)}. The start is the top left room
+ * and the exit the bottom right room, as in {@link Maze}.
+ * <p>
+ * Files are mapped in chunks of up to 1 GiB, since one mapping cannot exceed 2 GiB.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MappedMaze implements MazeGrid, Closeable {
+    /**
+     * The magic number at the start of every mapped maze file, "TMAP" in ASCII.
+     */
+    private static final int MAGIC = 0x544D4150;
+    /**
+     * The current version of the file layout.
+     */
+    private static final int VERSION = 1;
+    /**
+     * The size of the header in bytes: magic, version, rows, columns and seed.
+     */
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8;
+    /**
+     * The log base two of the size of each mapped chunk.
+     */
+    private static final int CHUNK_BITS = 30;
+    /**
+     * The mask for the offset within a chunk.
+     */
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+    /**
+     * The number of rows.
+     */
+    private final int myRows;
+    /**
+     * The number of columns.
+     */
+    private final int myCols;
+    /**
+     * The seed the maze was carved from.
+     */
+    private final long mySeed;
+    /**
+     * The channel of the mapped file.
+     */
+    private final FileChannel myChannel;
+    /**
+     * The mapped chunks of the file.
+     */
+    private final MappedByteBuffer[] myChunks;
+
+    /**
+     * Maps a maze file.
+     *
+     * @param theChannel the channel of the file, open for reading and writing.
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theSeed the seed the maze was carved from.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private MappedMaze(final FileChannel theChannel, final int theRows, final int theCols,
+                       final long theSeed) throws IOException {
+        myChannel = theChannel;
+        myRows = theRows;
+        myCols = theCols;
+        mySeed = theSeed;
+        final long size = HEADER_BYTES + (long) theRows * theCols;
+        myChunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_BITS)];
+        for (int i = 0; i < myChunks.length; i++) {
+            final long start = (long) i << CHUNK_BITS;
+            myChunks[i] = theChannel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(1L << CHUNK_BITS, size - start));
+        }
+    }
+
+    /**
+     * Creates a maze file and carves a new maze into it.
+     *
+     * @param theFile the file to create, replacing any existing file.
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theSeed the seed that determines the layout.
+     * @return the mapped maze.
+     * @throws IllegalArgumentException if either dimension is not positive.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public static MappedMaze create(final Path theFile, final int theRows, final int theCols, final long theSeed) {
+        if (theRows < 1 || theCols < 1) {
+            throw new IllegalArgumentException("Maze dimensions must be positive.");
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(theFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final MappedMaze maze = new MappedMaze(channel, theRows, theCols, theSeed);
+            maze.myChunks[0].putInt(0, MAGIC).putInt(4, VERSION).putInt(8, theRows)
+                    .putInt(12, theCols).putLong(16, theSeed);
+            maze.carve();
+            return maze;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot create mapped maze " + theFile, e);
+        }
+    }
+
+    /**
+     * Opens a maze file written by {@link #create}.
+     *
+     * @param theFile the file to open.
+     * @return the mapped maze.
+     * @throws IllegalArgumentException if the file is not a mapped maze of a known version.
+     * @throws UncheckedIOException if the file cannot be opened or mapped.
+     */
+    public static MappedMaze open(final Path theFile) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(theFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < HEADER_BYTES) {
+                throw new IllegalArgumentException("File is not a mapped maze.");
+            }
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IllegalArgumentException("File is not a mapped maze of a known version.");
+            }
+            final int rows = header.getInt(8);
+            final int cols = header.getInt(12);
+            if (rows < 1 || cols < 1 || channel.size() != HEADER_BYTES + (long) rows * cols) {
+                throw new IllegalArgumentException("Mapped maze has bad dimensions.");
+            }
+            return new MappedMaze(channel, rows, cols, header.getLong(16));
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot open mapped maze " + theFile, e);
+        } catch (IllegalArgumentException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows.
+     */
+    @Override
+    public int getRows() {
+        return myRows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the number of columns.
+     */
+    @Override
+    public int getCols() {
+        return myCols;
+    }
+
+    /**
+     * Gets the seed the maze was carved from.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Checks whether the door on the given side of a room leads to another room
+     * and is not permanently locked.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the player could pass through the door once it is opened.
+     */
+    @Override
+    public boolean isTraversable(final int theRow, final int theCol, final Direction theDirection) {
+        return !isDoorLocked(theRow, theCol, theDirection);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is permanently locked.
+     * Sides on the edge of the maze count as locked.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is permanently locked.
+     */
+    @Override
+    public boolean isDoorLocked(final int theRow, final int theCol, final Direction theDirection) {
+        final long edge = edgeCell(theRow, theCol, theDirection);
+        return edge < 0 || (get(edge) & PackedRooms.lockedBit(theDirection)) != 0;
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is closed.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is closed.
+     */
+    @Override
+    public boolean isDoorClosed(final int theRow, final int theCol, final Direction theDirection) {
+        final long edge = edgeCell(theRow, theCol, theDirection);
+        return edge < 0 || (get(edge) & PackedRooms.openBit(theDirection)) == 0;
+    }
+
+    /**
+     * Checks whether the room at the given position is the start.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the top left room.
+     */
+    @Override
+    public boolean isStart(final int theRow, final int theCol) {
+        return theRow == 0 && theCol == 0;
+    }
+
+    /**
+     * Checks whether the room at the given position is the exit.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the bottom right room.
+     */
+    @Override
+    public boolean isExit(final int theRow, final int theCol) {
+        return theRow == myRows - 1 && theCol == myCols - 1;
+    }
+
+    /**
+     * Checks whether the generator carved a passage on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if there is a passage on that side.
+     */
+    public boolean hasPassage(final int theRow, final int theCol, final Direction theDirection) {
+        final long edge = edgeCell(theRow, theCol, theDirection);
+        final int bit = PackedRooms.passageBit(theDirection);
+        return edge >= 0 && (get(edge) & bit) != 0;
+    }
+
+    /**
+     * Opens the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     */
+    public void openDoor(final int theRow, final int theCol, final Direction theDirection) {
+        final long edge = edgeCell(theRow, theCol, theDirection);
+        if (edge >= 0) {
+            set(edge, get(edge) | PackedRooms.openBit(theDirection));
+        }
+    }
+
+    /**
+     * Permanently locks the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     */
+    public void lockDoor(final int theRow, final int theCol, final Direction theDirection) {
+        final long edge = edgeCell(theRow, theCol, theDirection);
+        if (edge >= 0) {
+            set(edge, get(edge) | PackedRooms.lockedBit(theDirection));
+        }
+    }
+
+    /**
+     * Writes any changes still in memory out to the file.
+     */
+    public void force() {
+        for (MappedByteBuffer chunk : myChunks) {
+            chunk.force();
+        }
+    }
+
+    /**
+     * Writes any changes out to the file and closes it. The mapping itself is
+     * released when the maze is garbage collected.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        myChannel.close();
+    }
+
+    /**
+     * Carves the maze into the file one row at a time with Eller's algorithm.
+     */
+    private void carve() {
+        final EllerRows eller = new EllerRows(myCols);
+        final SplittableRandom random = new SplittableRandom(mySeed);
+        final byte[] row = new byte[myCols];
+        for (int r = 0; r < myRows; r++) {
+            eller.nextRow(row, r == myRows - 1, random);
+            final long start = (long) r * myCols;
+            for (int c = 0; c < myCols; c++) {
+                set(start + c, row[c]);
+            }
+        }
+    }
+
+    /**
+     * Finds the room that stores the door on the given side of a room, since each room
+     * stores only its east and south doors.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the cell index of the storing room, or -1 if the door leads out of the maze.
+     */
+    private long edgeCell(final int theRow, final int theCol, final Direction theDirection) {
+        if (!PackedRooms.isInnerDoor(theRow, theCol, theDirection, myRows, myCols)) {
+            return -1;
+        }
+        return (long) PackedRooms.edgeRow(theRow, theDirection) * myCols + PackedRooms.edgeCol(theCol, theDirection);
+    }
+
+    /**
+     * Reads the byte of a room.
+     *
+     * @param theCell the cell index of the room.
+     * @return the room's byte.
+     */
+    private int get(final long theCell) {
+        final long position = HEADER_BYTES + theCell;
+        return myChunks[(int) (position >>> CHUNK_BITS)].get((int) (position & CHUNK_MASK));
+    }
+
+    /**
+     * Writes the byte of a room.
+     *
+     * @param theCell the cell index of the room.
+     * @param theValue the room's new byte.
+     */
+    private void set(final long theCell, final int theValue) {
+        final long position = HEADER_BYTES + theCell;
+        myChunks[(int) (position >>> CHUNK_BITS)].put((int) (position & CHUNK_MASK), (byte) theValue);
+    }
+
+    /**
+     * Closes a channel after a failure, ignoring any further error.
+     *
+     * @param theChannel the channel, may be null.
+     */
+    private static void closeQuietly(final FileChannel theChannel) {
+        if (theChannel == null) {
+            return;
+        }
+        try {
+            theChannel.close();
+        } catch (IOException e) {
+            // The original failure is the one worth reporting.
+        }
+    }
+}
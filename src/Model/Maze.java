@@ -1,8 +1,11 @@
 package Model;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.*;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
  * This class represents a maze. It contains a 2D array of rooms.
@@ -10,16 +13,16 @@ import java.util.*;
  * @author Bhavneet Bhargava, Binal Dhlaiwal, and Anagha Krishna
  * @version 1.0
  */
-public class Maze implements Serializable {
+public class Maze implements MazeGrid, Serializable {
     /**
      * Serial version UID.
      */
     @Serial
-    private static final long serialVersionUID = 4L;
+    private static final long serialVersionUID = 6L;
     /**
-     * The size of the maze.
+     * The default size of the maze.
      */
-    private static final int MAZE_SIZE = 3;
+    public static final int MAZE_SIZE = 3;
     /**
      *  A constant representing the number one.
      */
@@ -28,14 +31,26 @@ public class Maze implements Serializable {
      * A constant representing the number zero.
      */
     private static final int ZERO = 0;
+    /**
+     * A generator that carves nothing, for mazes whose passages are filled in afterwards.
+     */
+    private static final MazeGenerator NO_PASSAGES = (theMaze, theRandom) -> { };
+    /**
+     * The passage bit for an opening to the east of a room.
+     */
+    static final int EAST_PASSAGE = 1;
+    /**
+     * The passage bit for an opening to the south of a room.
+     */
+    static final int SOUTH_PASSAGE = 2;
     /**
      * The number of rows in the maze.
      */
-    private int myRows;
+    private final int myRows;
     /**
      * The number of columns in the maze.
      */
-    private int myCols;
+    private final int myCols;
     /**
      * The row of the player.
      */
@@ -49,29 +64,148 @@ public class Maze implements Serializable {
      */
     public final Room[][] myMaze;
     /**
-     * The random number generator.
+     * The seed the current layout was generated from.
+     */
+    private long mySeed;
+    /**
+     * The passages carved by the generator, one byte of passage bits per room,
+     * recording only the east and south sides so each passage is stored once.
+     */
+    private final byte[] myPassages;
+    /**
+     * The doors of the maze, stored once per edge and shared by the rooms on both sides.
+     */
+    private final DoorEdges myDoors;
+    /**
+     * The algorithm used to generate the maze.
+     */
+    private transient MazeGenerator myGenerator;
+    /**
+     * Tracks which rooms can still reach the exit, built on first use.
+     */
+    private transient ExitConnectivity myConnectivity;
+    /**
+     * Tracks how many steps each room is from the exit, built on first use.
      */
-    private final Random myRandom;
+    private transient ExitDistances myDistances;
 
     /**
-     * Constructs a maze with the given number of rows and columns.
+     * Constructs a maze of the default size.
      */
     public Maze() {
-        myRows = MAZE_SIZE;
-        myCols = MAZE_SIZE;
-        myMaze = new Room[MAZE_SIZE][MAZE_SIZE];
-        myRandom = new Random();
+        this(MAZE_SIZE, MAZE_SIZE);
+    }
+
+    /**
+     * Constructs a maze of the default size generated from the given seed.
+     *
+     * @param theSeed the seed that determines the layout.
+     */
+    public Maze(final long theSeed) {
+        this(MAZE_SIZE, MAZE_SIZE, new BacktrackerGenerator(), theSeed);
+    }
+
+    /**
+     * Constructs a maze with the given number of rows and columns,
+     * generated by the recursive backtracker.
+     *
+     * @param theRows the number of rows in the maze.
+     * @param theCols the number of columns in the maze.
+     * @throws IllegalArgumentException if either dimension is not positive
+     * or the maze would have more rooms than an array can hold.
+     */
+    public Maze(final int theRows, final int theCols) {
+        this(theRows, theCols, new BacktrackerGenerator());
+    }
+
+    /**
+     * Constructs a maze with the given number of rows and columns,
+     * generated by the given algorithm.
+     *
+     * @param theRows the number of rows in the maze.
+     * @param theCols the number of columns in the maze.
+     * @param theGenerator the algorithm used to generate the maze.
+     * @throws IllegalArgumentException if either dimension is not positive,
+     * the maze would have more rooms than an array can hold, or the generator is null.
+     */
+    public Maze(final int theRows, final int theCols, final MazeGenerator theGenerator) {
+        this(theRows, theCols, theGenerator, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a maze with the given number of rows and columns, generated by
+     * the given algorithm from the given seed. The same size, algorithm and seed
+     * always give the same layout.
+     *
+     * @param theRows the number of rows in the maze.
+     * @param theCols the number of columns in the maze.
+     * @param theGenerator the algorithm used to generate the maze.
+     * @param theSeed the seed that determines the layout.
+     * @throws IllegalArgumentException if either dimension is not positive,
+     * the maze would have more rooms than an array can hold, or the generator is null.
+     */
+    public Maze(final int theRows, final int theCols, final MazeGenerator theGenerator, final long theSeed) {
+        if (theGenerator == null) {
+            throw new IllegalArgumentException("Maze generator cannot be null.");
+        }
+        if (theRows < ONE || theCols < ONE) {
+            throw new IllegalArgumentException("Maze dimensions must be positive.");
+        }
+        if ((long) theRows * theCols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze has too many rooms.");
+        }
+        myRows = theRows;
+        myCols = theCols;
+        myMaze = new Room[theRows][theCols];
+        myPassages = new byte[theRows * theCols];
+        myDoors = new DoorEdges(theRows, theCols);
+        myGenerator = theGenerator;
+        mySeed = theSeed;
         myPlayerCol = ZERO;
         myPlayerRow = ZERO;
-        initializeMaze();
         generateMaze();
     }
 
+    /**
+     * Constructs a maze with no passages for a decoder to fill in. Regenerating it
+     * later uses the recursive backtracker.
+     *
+     * @param theRows the number of rows in the maze.
+     * @param theCols the number of columns in the maze.
+     * @param theSeed the seed the layout was generated from.
+     */
+    Maze(final int theRows, final int theCols, final long theSeed) {
+        this(theRows, theCols, NO_PASSAGES, theSeed);
+        myGenerator = null;
+    }
+
+    /**
+     * Encodes the maze in the compact binary format described in {@link MazeCodec}:
+     * its size, seed, player position, passages and the doors that have been opened or locked.
+     *
+     * @return the encoded maze.
+     */
+    public final byte[] encode() {
+        return MazeCodec.encode(this);
+    }
+
+    /**
+     * Decodes a maze encoded by {@link #encode()}.
+     *
+     * @param theData the encoded maze.
+     * @return the decoded maze.
+     * @throws IllegalArgumentException if the data is not an encoded maze of a known version.
+     */
+    public static Maze decode(final byte[] theData) {
+        return MazeCodec.decode(theData);
+    }
+
     /**
      * Returns the number of rows in the maze.
      *
      * @return the number of rows.
      */
+    @Override
     public final int getRows() {
         return myRows;
     }
@@ -81,81 +215,135 @@ public class Maze implements Serializable {
      *
      * @return the number of columns.
      */
+    @Override
     public final int getCols() {
         return myCols;
     }
 
     /**
-     * Generates a maze using the recursive backtracking algorithm.
+     * Returns the seed the current layout was generated from.
+     *
+     * @return the seed.
      */
-    public final void generateMaze() {
-        initializeMaze();
-
-        final int startRow = myRandom.nextInt(MAZE_SIZE);
-        final int startCol = myRandom.nextInt(MAZE_SIZE);
+    public final long getSeed() {
+        return mySeed;
+    }
 
-        final Stack<Room> stack = new Stack<>();
-        Room currentRoom = myMaze[startRow][startCol];
-        currentRoom.setVisited(true);
-        stack.push(currentRoom);
+    /**
+     * Returns the row of the player.
+     *
+     * @return the player's row.
+     */
+    public final int getPlayerRow() {
+        return myPlayerRow;
+    }
 
-        while (!stack.isEmpty()) {
-            currentRoom = stack.peek();
-            final int rows = currentRoom.getRow();
-            final int cols = currentRoom.getCol();
+    /**
+     * Returns the column of the player.
+     *
+     * @return the player's column.
+     */
+    public final int getPlayerCol() {
+        return myPlayerCol;
+    }
 
-            final List<Room> neighbors = getUnvisitedNeighbors(rows, cols);
+    /**
+     * Places the player in the given room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @throws IllegalArgumentException if the room is outside the maze.
+     */
+    final void setPlayerPosition(final int theRow, final int theCol) {
+        if (!isValidRoom(theRow, theCol)) {
+            throw new IllegalArgumentException("Player position is outside the maze.");
+        }
+        myPlayerRow = theRow;
+        myPlayerCol = theCol;
+    }
 
-            if (!neighbors.isEmpty()) {
-                final Room randomNeighbor = neighbors.get(myRandom.nextInt(neighbors.size()));
+    /**
+     * Returns the passage bits of the rooms, one byte per room by cell index.
+     * The array is the maze's own, so that the codec can fill it in place.
+     *
+     * @return the passage bits.
+     */
+    final byte[] getPassages() {
+        return myPassages;
+    }
 
-                removeWall(currentRoom, randomNeighbor);
-                randomNeighbor.setVisited(true);
-                stack.push(randomNeighbor);
-            } else {
-                stack.pop();
-            }
+    /**
+     * Generates the maze from its seed with the maze's generation algorithm.
+     */
+    public final void generateMaze() {
+        initializeMaze();
+        myConnectivity = null;
+        myDistances = null;
+        Arrays.fill(myPassages, (byte) ZERO);
+        if (myGenerator == null) {
+            myGenerator = new BacktrackerGenerator();
         }
+        myGenerator.generate(this, new SplittableRandom(mySeed));
     }
 
     /**
-     * Initializes the maze grid by creating a new Room object for each cell in the grid,
-     * with Door objects for each direction (north, south, east, west).
-     * Each Room object is initialized with the same set of Door objects.
-     * The Door objects are initially set to have no lock and be closed.
-     * <p>
-     * This method creates Door objects for each direction (north, south, east, west)
-     * with the initial state of unlocked and closed. Then, it iterates over each cell
-     * in the maze grid and assigns a new Room object to it, passing the same set of
-     * Door objects for each direction to the Room constructor.
+     * Carves a passage from a room to its neighbour in the given direction.
+     * Called by the maze generators.
+     *
+     * @param theCell the cell index of the room, its row times the number of columns plus its column.
+     * @param theDirection the side of the room to open.
+     * @throws IllegalArgumentException if the passage would lead out of the maze.
      */
-    private void initializeMaze() {
-        for (int rows = ZERO; rows < MAZE_SIZE; rows++) {
-            for (int cols = ZERO; cols < MAZE_SIZE; cols++) {
-
-                final Door northDoor = new Door(false, true, Direction.NORTH);
-                final Door southDoor = new Door(false, true, Direction.SOUTH);
-                final Door eastDoor = new Door(false, true, Direction.EAST);
-                final Door westDoor = new Door(false, true, Direction.WEST);
+    public final void carvePassage(final int theCell, final Direction theDirection) {
+        final int row = theCell / myCols;
+        final int col = theCell - row * myCols;
+        if (!isValidRoom(row, col) || !isValidRoom(row + theDirection.getRow(), col + theDirection.getCol())) {
+            throw new IllegalArgumentException("Passage leads out of the maze.");
+        }
+        switch (theDirection) {
+            case EAST -> myPassages[theCell] |= EAST_PASSAGE;
+            case SOUTH -> myPassages[theCell] |= SOUTH_PASSAGE;
+            case WEST -> myPassages[theCell - ONE] |= EAST_PASSAGE;
+            case NORTH -> myPassages[theCell - myCols] |= SOUTH_PASSAGE;
+        }
+    }
 
-                final Room room = new Room(northDoor, southDoor, eastDoor, westDoor);
+    /**
+     * Checks whether the generator carved a passage on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if there is a passage on that side, false otherwise.
+     */
+    public final boolean hasPassage(final int theRow, final int theCol, final Direction theDirection) {
+        if (!isValidRoom(theRow, theCol) || !isValidRoom(theRow + theDirection.getRow(), theCol + theDirection.getCol())) {
+            return false;
+        }
+        final int cell = theRow * myCols + theCol;
+        return switch (theDirection) {
+            case EAST -> (myPassages[cell] & EAST_PASSAGE) != ZERO;
+            case SOUTH -> (myPassages[cell] & SOUTH_PASSAGE) != ZERO;
+            case WEST -> (myPassages[cell - ONE] & EAST_PASSAGE) != ZERO;
+            case NORTH -> (myPassages[cell - myCols] & SOUTH_PASSAGE) != ZERO;
+        };
+    }
 
-                if (rows == ZERO) {
-                    northDoor.setPermanentlyLocked(true);
-                }
-                if (rows == MAZE_SIZE - ONE) {
-                    southDoor.setPermanentlyLocked(true);
-                }
-                if (cols == ZERO) {
-                    westDoor.setPermanentlyLocked(true);
-                }
-                if (cols == MAZE_SIZE - ONE) {
-                    eastDoor.setPermanentlyLocked(true);
-                }
+    /**
+     * Initializes the maze grid by creating a new Room object for each cell in the grid.
+     * Every door starts closed and unlocked, stored once per edge in {@link #myDoors}
+     * and shared by the rooms on both sides, and the doors on the outer edge of the
+     * maze are permanently locked.
+     */
+    private void initializeMaze() {
+        myDoors.reset();
+        for (int rows = ZERO; rows < myRows; rows++) {
+            for (int cols = ZERO; cols < myCols; cols++) {
+                final Room room = new Room(myDoors, rows, cols);
 
                 if (rows == ZERO && cols == ZERO) {
                     room.setStart(true);
-                } else if (rows == MAZE_SIZE - ONE && cols == MAZE_SIZE - ONE) {
+                } else if (rows == myRows - ONE && cols == myCols - ONE) {
                     room.setExit(true);
                 }
 
@@ -165,31 +353,6 @@ public class Maze implements Serializable {
     }
 
 
-    /**
-     * Gets unvisited neighboring rooms of a given room.
-     *
-     * @param theRow The x-coordinate of the room.
-     * @param theCol The y-coordinate of the room.
-     * @return A list of unvisited neighboring rooms.
-     */
-    private List<Room> getUnvisitedNeighbors(final int theRow, final int theCol) {
-        final List<Room> neighbors = new ArrayList<>();
-        if (isValidRoom(theRow - ONE, theCol) && !myMaze[theRow - ONE][theCol].getVisited()) {
-            neighbors.add(myMaze[theRow - ONE][theCol]);
-        }
-        if (isValidRoom(theRow + ONE, theCol) && !myMaze[theRow + ONE][theCol].getVisited()) {
-            neighbors.add(myMaze[theRow + ONE][theCol]);
-        }
-        if (isValidRoom(theRow, theCol - ONE) && !myMaze[theRow][theCol - ONE].getVisited()) {
-            neighbors.add(myMaze[theRow][theCol - ONE]);
-        }
-        if (isValidRoom(theRow, theCol + ONE) && !myMaze[theRow][theCol + ONE].getVisited()) {
-            neighbors.add(myMaze[theRow][theCol + ONE]);
-        }
-        Collections.shuffle(neighbors);
-        return neighbors;
-    }
-
     /**
      * Checks if the given coordinates represent a valid room in the maze.
      *
@@ -198,32 +361,7 @@ public class Maze implements Serializable {
      * @return True if the coordinates represent a valid room, false otherwise.
      */
     private boolean isValidRoom(final int theRow, final int theCol) {
-        return theRow >= ZERO && theRow <= MAZE_SIZE && theCol >= ZERO && theCol <= MAZE_SIZE;
-    }
-
-    /**
-     * Removes the wall between two adjacent rooms.
-     *
-     * @param theCurrentRoom The current room.
-     * @param theNeighbor The neighboring room.
-     */
-    private void removeWall(final Room theCurrentRoom, final Room theNeighbor) {
-        final int dRow = theNeighbor.getRow() - theCurrentRoom.getRow();
-        final int dCol = theNeighbor.getCol() - theCurrentRoom.getCol();
-
-        if (dRow == ONE) {
-            theCurrentRoom.setEastDoor(false);
-            theNeighbor.setWestDoor(false);
-        } else if (dRow == -ONE) {
-            theCurrentRoom.setWestDoor(false);
-            theNeighbor.setEastDoor(false);
-        } else if (dCol == ONE) {
-            theCurrentRoom.setSouthDoor(false);
-            theNeighbor.setNorthDoor(false);
-        } else if (dCol == -ONE) {
-            theCurrentRoom.setNorthDoor(false);
-            theNeighbor.setSouthDoor(false);
-        }
+        return theRow >= ZERO && theRow < myRows && theCol >= ZERO && theCol < myCols;
     }
 
     /**
@@ -240,12 +378,12 @@ public class Maze implements Serializable {
                     }
                     break;
                 case SOUTH:
-                    if (myPlayerRow < MAZE_SIZE - ONE) {
+                    if (myPlayerRow < myRows - ONE) {
                         myPlayerRow++;
                     }
                     break;
                 case EAST:
-                    if (myPlayerCol < MAZE_SIZE - ONE) {
+                    if (myPlayerCol < myCols - ONE) {
                         myPlayerCol++;
                     }
                     break;
@@ -272,12 +410,12 @@ public class Maze implements Serializable {
                 }
                 break;
             case SOUTH:
-                if (myPlayerRow == MAZE_SIZE - ONE) {
+                if (myPlayerRow == myRows - ONE) {
                     return false;
                 }
                 break;
             case EAST:
-                if (myPlayerCol == MAZE_SIZE - ONE) {
+                if (myPlayerCol == myCols - ONE) {
                     return false;
                 }
                 break;
@@ -288,9 +426,173 @@ public class Maze implements Serializable {
                 break;
         }
 
-        final Room currentRoom = getCurrentRoom();
-        final Door door = currentRoom.getDoor(theDirection);
-        return !door.isLock() && !door.isClosed();
+        return !myDoors.has(myPlayerRow, myPlayerCol, theDirection, Room.LOCK | Room.CLOSED);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room leads to another room
+     * and is not permanently locked.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the player could pass through the door once it is opened.
+     */
+    @Override
+    public final boolean isTraversable(final int theRow, final int theCol, final Direction theDirection) {
+        return isValidRoom(theRow + theDirection.getRow(), theCol + theDirection.getCol())
+                && !myDoors.has(theRow, theCol, theDirection, Room.PERMANENT);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is permanently locked.
+     * The doors on the outer edge of the maze are always permanently locked.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is permanently locked, false otherwise.
+     */
+    @Override
+    public final boolean isDoorLocked(final int theRow, final int theCol, final Direction theDirection) {
+        return myDoors.has(theRow, theCol, theDirection, Room.PERMANENT);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is closed.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is closed, false otherwise.
+     */
+    @Override
+    public final boolean isDoorClosed(final int theRow, final int theCol, final Direction theDirection) {
+        return myDoors.has(theRow, theCol, theDirection, Room.CLOSED);
+    }
+
+    /**
+     * Checks whether the room at the given position is the start.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the start, false otherwise.
+     */
+    @Override
+    public final boolean isStart(final int theRow, final int theCol) {
+        return myMaze[theRow][theCol].getStart();
+    }
+
+    /**
+     * Checks whether the room at the given position is the exit.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the exit, false otherwise.
+     */
+    @Override
+    public final boolean isExit(final int theRow, final int theCol) {
+        return myMaze[theRow][theCol].getExit();
+    }
+
+    /**
+     * Opens the door on the given side of a room. The door is stored once for
+     * both rooms it joins, so this is a single write.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room the door is on.
+     */
+    public final void openDoor(final int theRow, final int theCol, final Direction theDirection) {
+        myDoors.setBits(theRow, theCol, theDirection, Room.LOCK | Room.CLOSED, false);
+    }
+
+    /**
+     * Returns the {@link Room#LOCK}, {@link Room#CLOSED} and {@link Room#PERMANENT} bits
+     * of the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the state bits of the door.
+     */
+    final int getDoorBits(final int theRow, final int theCol, final Direction theDirection) {
+        return myDoors.get(theRow, theCol, theDirection);
+    }
+
+    /**
+     * Replaces the state bits of the door on the given side of a room. This does not
+     * update exit reachability, so a door gaining {@link Room#PERMANENT} must first be
+     * locked through {@link #lockDoor}.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @param theBits the new state bits of the door.
+     */
+    final void setDoorBits(final int theRow, final int theCol, final Direction theDirection, final int theBits) {
+        myDoors.set(theRow, theCol, theDirection, theBits);
+    }
+
+    /**
+     * Permanently locks the door on the given side of a room, which is shared with
+     * the neighbouring room, and updates exit reachability.
+     * Doors should be permanently locked through this method so that
+     * {@link #isExitReachable(int, int)} and {@link #getExitDistance(int, int)} stay accurate.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room the door is on.
+     */
+    public final void lockDoor(final int theRow, final int theCol, final Direction theDirection) {
+        final boolean wasTraversable = isTraversable(theRow, theCol, theDirection);
+
+        myDoors.setBits(theRow, theCol, theDirection, Room.PERMANENT | Room.LOCK, true);
+
+        if (wasTraversable && myConnectivity != null) {
+            myConnectivity.doorLocked(theRow, theCol, theDirection);
+        }
+        if (wasTraversable && myDistances != null) {
+            myDistances.doorLocked(theRow, theCol, theDirection);
+        }
+    }
+
+    /**
+     * Checks whether the exit can still be reached from the given room through
+     * doors that are not permanently locked. After the first call this is a
+     * constant time lookup that is kept up to date by {@link #lockDoor}.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the exit can be reached, false otherwise.
+     */
+    public final boolean isExitReachable(final int theRow, final int theCol) {
+        if (!isValidRoom(theRow, theCol)) {
+            return false;
+        }
+        if (myConnectivity == null) {
+            myConnectivity = new ExitConnectivity(this);
+        }
+        return myConnectivity.canReachExit(theRow, theCol);
+    }
+
+    /**
+     * Gets the number of steps from the given room to the exit through doors that
+     * are not permanently locked. After the first call this is an array lookup that
+     * is repaired incrementally by {@link #lockDoor}.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the number of steps, or {@link ExitDistances#UNREACHABLE} if the exit cannot be reached.
+     */
+    public final int getExitDistance(final int theRow, final int theCol) {
+        if (!isValidRoom(theRow, theCol)) {
+            return ExitDistances.UNREACHABLE;
+        }
+        if (myDistances == null) {
+            myDistances = new ExitDistances(this);
+        }
+        return myDistances.distanceToExit(theRow, theCol);
     }
 
     /**
@@ -325,17 +627,48 @@ public class Maze implements Serializable {
      * @return true if the player is at the end of the maze, false otherwise
      */
     public final boolean endOfMazeCheck() {
-        return myRows == MAZE_SIZE - ONE && myCols == MAZE_SIZE - ONE;
+        return myPlayerRow == myRows - ONE && myPlayerCol == myCols - ONE;
     }
 
     /**
-     * Resets the maze to its initial state and regenerates it.
+     * Resets the player to the start room and generates the next maze, whose seed
+     * is drawn from the current one so a sequence of levels is reproducible too.
      */
     public final void reset() {
-        myRows = ZERO;
-        myCols = ZERO;
+        reset(new SplittableRandom(mySeed).nextLong());
+    }
+
+    /**
+     * Resets the player to the start room and generates the maze for the given seed.
+     *
+     * @param theSeed the seed that determines the new layout.
+     */
+    public final void reset(final long theSeed) {
+        myPlayerRow = ZERO;
+        myPlayerCol = ZERO;
+        mySeed = theSeed;
 
-        initializeMaze();
         generateMaze();
     }
+
+    /**
+     * Writes the maze to a serialization stream in its compact encoding.
+     *
+     * @return the serial form of the maze.
+     */
+    @Serial
+    private Object writeReplace() {
+        return new MazeCodec.SerialForm(this);
+    }
+
+    /**
+     * Rejects a maze serialized without its compact encoding.
+     *
+     * @param theIn the stream.
+     * @throws InvalidObjectException always.
+     */
+    @Serial
+    private void readObject(final ObjectInputStream theIn) throws InvalidObjectException {
+        throw new InvalidObjectException("Maze must be read through its serial form.");
+    }
 }
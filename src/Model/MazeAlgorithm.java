@@ -0,0 +1,51 @@
+package Model;
+
+/**
+ * MazeAlgorithm names the built-in maze generators so one can be chosen at runtime.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public enum MazeAlgorithm {
+    BACKTRACKER,
+    KRUSKAL,
+    PRIM,
+    WILSON,
+    ELLER,
+    PARALLEL;
+
+    /**
+     * Creates a new generator for this algorithm.
+     *
+     * @return a new generator.
+     */
+    public final MazeGenerator create() {
+        return switch (this) {
+            case BACKTRACKER -> new BacktrackerGenerator();
+            case KRUSKAL -> new KruskalGenerator();
+            case PRIM -> new PrimGenerator();
+            case WILSON -> new WilsonGenerator();
+            case ELLER -> new EllerGenerator();
+            case PARALLEL -> new ParallelGenerator();
+        };
+    }
+
+    /**
+     * Looks up an algorithm by name, ignoring case.
+     *
+     * @param theName the name of the algorithm.
+     * @return the matching algorithm.
+     * @throws IllegalArgumentException if no algorithm has the given name.
+     */
+    public static MazeAlgorithm fromName(final String theName) {
+        if (theName == null) {
+            throw new IllegalArgumentException("Algorithm name cannot be null");
+        }
+        for (MazeAlgorithm algorithm : values()) {
+            if (algorithm.name().equalsIgnoreCase(theName.trim())) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown maze algorithm: " + theName);
+    }
+}
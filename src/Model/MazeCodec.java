@@ -0,0 +1,469 @@
+package Model;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a maze in a compact, versioned binary format and decodes it again.
+ * <p>
+ * The format is a header followed by two sections. The header holds a magic number,
+ * the format version, a flags byte, the rows, columns and seed of the maze and the
+ * position of the player. The first section packs the passages at two bits per room,
+ * four rooms to a byte. The second section holds the doors that have been opened or
+ * locked: when few have, as in most saves, it lists them as varints of the gap since
+ * the previous changed door with the door's state in the low two bits, and otherwise
+ * packs the state of every east and south door at four bits per room. Doors on the
+ * edge of the maze are always locked, so they are not stored.
+ * <p>
+ * The two-bit state says only whether a door was opened and whether it was permanently
+ * locked. A door whose bits that state would not restore, such as one locked through
+ * {@link Door#doorLock()} without being locked for good, is listed again in a third
+ * section, written only when the header flags it, as varints of the gap since the
+ * previous such door with the door's {@link Room#LOCK}, {@link Room#CLOSED} and
+ * {@link Room#PERMANENT} bits in the low three bits. Version 1 never has this section.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+final class MazeCodec {
+    /**
+     * The magic number at the start of every encoded maze, "TMAZ" in ASCII.
+     */
+    static final int MAGIC = 0x544D415A;
+    /**
+     * The current version of the format.
+     */
+    static final byte VERSION = 2;
+    /**
+     * The flag set when the doors are listed rather than packed.
+     */
+    private static final int SPARSE_DOORS = 1;
+    /**
+     * The flag set when the doors whose exact bits are kept follow the doors.
+     */
+    private static final int EXACT_DOORS = 2;
+    /**
+     * The size of the header in bytes.
+     */
+    private static final int HEADER_BYTES = 4 + 1 + 1 + 4 + 4 + 8 + 4 + 4;
+    /**
+     * The state of a door that has been opened.
+     */
+    private static final int OPEN = 1;
+    /**
+     * The state of a door that has been permanently locked.
+     */
+    private static final int LOCKED = 2;
+    /**
+     * The state bits of a door kept exactly.
+     */
+    private static final int DOOR_BITS = Room.LOCK | Room.CLOSED | Room.PERMANENT;
+    /**
+     * The most bytes a varint can take.
+     */
+    private static final int MAX_VARINT_BYTES = 10;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MazeCodec() {
+    }
+
+    /**
+     * Encodes a maze.
+     *
+     * @param theMaze the maze to encode.
+     * @return the encoded maze.
+     */
+    static byte[] encode(final Maze theMaze) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        final int cells = rows * cols;
+        final byte[] passages = theMaze.getPassages();
+
+        final byte[] doors = new byte[cells];
+        int changed = 0;
+        long sparseBytes = 4;
+        long previous = -1;
+        int exact = 0;
+        long exactBytes = 4;
+        long previousExact = -1;
+        for (int cell = 0; cell < cells; cell++) {
+            final int states = doorStates(theMaze, cell / cols, cell % cols);
+            doors[cell] = (byte) doorPair(states);
+            for (int axis = 0; axis < 2; axis++) {
+                final int state = states >>> (4 * axis) & 3;
+                final long edge = (long) cell << 1 | axis;
+                if (state != 0) {
+                    sparseBytes += varintBytes((edge - previous) << 2);
+                    previous = edge;
+                    changed++;
+                }
+                if (exactBits(theMaze, cell, axis, state) >= 0) {
+                    exactBytes += varintBytes((edge - previousExact) << 3);
+                    previousExact = edge;
+                    exact++;
+                }
+            }
+        }
+        final int denseBytes = (cells + 1) / 2;
+        final boolean sparse = sparseBytes < denseBytes;
+
+        final ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + (cells + 3) / 4
+                + (sparse ? (int) sparseBytes : denseBytes) + (exact > 0 ? (int) exactBytes : 0));
+        out.putInt(MAGIC).put(VERSION).put((byte) ((sparse ? SPARSE_DOORS : 0) | (exact > 0 ? EXACT_DOORS : 0)));
+        out.putInt(rows).putInt(cols).putLong(theMaze.getSeed());
+        out.putInt(theMaze.getPlayerRow()).putInt(theMaze.getPlayerCol());
+
+        for (int cell = 0; cell < cells; cell += 4) {
+            int packed = 0;
+            for (int i = 0; i < 4 && cell + i < cells; i++) {
+                packed |= (passages[cell + i] & 3) << (2 * i);
+            }
+            out.put((byte) packed);
+        }
+
+        if (sparse) {
+            out.putInt(changed);
+            previous = -1;
+            for (int cell = 0; cell < cells; cell++) {
+                for (int axis = 0; axis < 2; axis++) {
+                    final int state = doors[cell] >>> (2 * axis) & 3;
+                    if (state != 0) {
+                        final long edge = (long) cell << 1 | axis;
+                        putVarint(out, (edge - previous) << 2 | state);
+                        previous = edge;
+                    }
+                }
+            }
+        } else {
+            for (int cell = 0; cell < cells; cell += 2) {
+                int packed = doors[cell];
+                if (cell + 1 < cells) {
+                    packed |= doors[cell + 1] << 4;
+                }
+                out.put((byte) packed);
+            }
+        }
+
+        if (exact > 0) {
+            out.putInt(exact);
+            previous = -1;
+            for (int cell = 0; cell < cells; cell++) {
+                for (int axis = 0; axis < 2; axis++) {
+                    final int bits = exactBits(theMaze, cell, axis, doors[cell] >>> (2 * axis) & 3);
+                    if (bits >= 0) {
+                        final long edge = (long) cell << 1 | axis;
+                        putVarint(out, (edge - previous) << 3 | bits);
+                        previous = edge;
+                    }
+                }
+            }
+        }
+
+        final byte[] result = new byte[out.position()];
+        out.flip().get(result);
+        return result;
+    }
+
+    /**
+     * Decodes a maze.
+     *
+     * @param theData the encoded maze.
+     * @return the decoded maze.
+     * @throws IllegalArgumentException if the data is not an encoded maze of a known version.
+     */
+    static Maze decode(final byte[] theData) {
+        if (theData == null) {
+            throw new IllegalArgumentException("Encoded maze cannot be null.");
+        }
+        try {
+            final ByteBuffer in = ByteBuffer.wrap(theData);
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Data is not an encoded maze.");
+            }
+            final byte version = in.get();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported maze format version " + version);
+            }
+            final int flags = in.get();
+            final boolean sparse = (flags & SPARSE_DOORS) != 0;
+            final int rows = in.getInt();
+            final int cols = in.getInt();
+            final long seed = in.getLong();
+            final int playerRow = in.getInt();
+            final int playerCol = in.getInt();
+            if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE
+                    || in.remaining() < ((long) rows * cols + 3) / 4) {
+                throw new IllegalArgumentException("Encoded maze has bad dimensions.");
+            }
+
+            final Maze maze = new Maze(rows, cols, seed);
+            final int cells = rows * cols;
+            final byte[] passages = maze.getPassages();
+            for (int cell = 0; cell < cells; cell += 4) {
+                final int packed = in.get();
+                for (int i = 0; i < 4 && cell + i < cells; i++) {
+                    passages[cell + i] = (byte) (packed >>> (2 * i) & 3);
+                }
+            }
+
+            if (sparse) {
+                final int changed = in.getInt();
+                long edge = -1;
+                for (int i = 0; i < changed; i++) {
+                    final long value = getVarint(in);
+                    edge += value >>> 2;
+                    if (value >>> 2 == 0 || edge >= 2L * cells) {
+                        throw new IllegalArgumentException("Encoded maze has a bad door.");
+                    }
+                    applyDoor(maze, (int) (edge >>> 1), (edge & 1) == 0 ? Direction.EAST : Direction.SOUTH,
+                            (int) value & 3);
+                }
+            } else {
+                for (int cell = 0; cell < cells; cell += 2) {
+                    final int packed = in.get();
+                    applyDoorPair(maze, cell, packed & 0xF);
+                    if (cell + 1 < cells) {
+                        applyDoorPair(maze, cell + 1, packed >>> 4 & 0xF);
+                    }
+                }
+            }
+            if ((flags & EXACT_DOORS) != 0) {
+                final int exact = in.getInt();
+                long edge = -1;
+                for (int i = 0; i < exact; i++) {
+                    final long value = getVarint(in);
+                    edge += value >>> 3;
+                    if (value >>> 3 == 0 || edge >= 2L * cells) {
+                        throw new IllegalArgumentException("Encoded maze has a bad door.");
+                    }
+                    restoreDoor(maze, (int) (edge >>> 1), (edge & 1) == 0 ? Direction.EAST : Direction.SOUTH,
+                            (int) value & DOOR_BITS);
+                }
+            }
+            maze.setPlayerPosition(playerRow, playerCol);
+            return maze;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Encoded maze is truncated.", e);
+        }
+    }
+
+    /**
+     * Reads the state of the east door into the low nibble and the south door into the
+     * high nibble, leaving out doors on the edge of the maze.
+     *
+     * @param theMaze the maze.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the states of the room's east and south doors.
+     */
+    private static int doorStates(final Maze theMaze, final int theRow, final int theCol) {
+        int states = 0;
+        if (theCol < theMaze.getCols() - 1) {
+            states |= doorState(theMaze, theRow, theCol, Direction.EAST);
+        }
+        if (theRow < theMaze.getRows() - 1) {
+            states |= doorState(theMaze, theRow, theCol, Direction.SOUTH) << 4;
+        }
+        return states;
+    }
+
+    /**
+     * Reads the state of one door.
+     *
+     * @param theMaze the maze.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the state of the door: zero if untouched, or the open and locked bits.
+     */
+    private static int doorState(final Maze theMaze, final int theRow, final int theCol,
+                                 final Direction theDirection) {
+        return (theMaze.isDoorClosed(theRow, theCol, theDirection) ? 0 : OPEN)
+                | (theMaze.isDoorLocked(theRow, theCol, theDirection) ? LOCKED : 0);
+    }
+
+    /**
+     * Reads the exact state bits of a room's east or south door when its two-bit state
+     * would not restore them.
+     *
+     * @param theMaze the maze.
+     * @param theCell the cell index of the room.
+     * @param theAxis 0 for the east door or 1 for the south door.
+     * @param theState the two-bit state of the door.
+     * @return the state bits of the door, or -1 if its two-bit state restores them or it is on the edge of the maze.
+     */
+    private static int exactBits(final Maze theMaze, final int theCell, final int theAxis, final int theState) {
+        final int row = theCell / theMaze.getCols();
+        final int col = theCell % theMaze.getCols();
+        if (theAxis == 0 ? col == theMaze.getCols() - 1 : row == theMaze.getRows() - 1) {
+            return -1;
+        }
+        final int bits = theMaze.getDoorBits(row, col, theAxis == 0 ? Direction.EAST : Direction.SOUTH) & DOOR_BITS;
+        final int restored = ((theState & OPEN) != 0 ? 0 : Room.CLOSED)
+                | ((theState & LOCKED) != 0 ? Room.PERMANENT | Room.LOCK : 0);
+        return bits == restored ? -1 : bits;
+    }
+
+    /**
+     * Packs the states of a room's east and south doors into four bits.
+     *
+     * @param theStates the states as read by {@link #doorStates}.
+     * @return the packed states.
+     */
+    private static int doorPair(final int theStates) {
+        return theStates & 3 | (theStates >>> 4 & 3) << 2;
+    }
+
+    /**
+     * Applies the packed states of a room's east and south doors.
+     *
+     * @param theMaze the maze.
+     * @param theCell the cell index of the room.
+     * @param thePair the packed states.
+     */
+    private static void applyDoorPair(final Maze theMaze, final int theCell, final int thePair) {
+        if ((thePair & 3) != 0) {
+            applyDoor(theMaze, theCell, Direction.EAST, thePair & 3);
+        }
+        if ((thePair >>> 2) != 0) {
+            applyDoor(theMaze, theCell, Direction.SOUTH, thePair >>> 2);
+        }
+    }
+
+    /**
+     * Opens and/or locks a door on both of its sides.
+     *
+     * @param theMaze the maze.
+     * @param theCell the cell index of the room.
+     * @param theDirection the side of the room, east or south.
+     * @param theState the open and locked bits.
+     * @throws IllegalArgumentException if the door is on the edge of the maze.
+     */
+    private static void applyDoor(final Maze theMaze, final int theCell, final Direction theDirection,
+                                  final int theState) {
+        final int row = theCell / theMaze.getCols();
+        final int col = theCell % theMaze.getCols();
+        if (theDirection == Direction.EAST ? col == theMaze.getCols() - 1 : row == theMaze.getRows() - 1) {
+            throw new IllegalArgumentException("Encoded maze has a door on its edge.");
+        }
+        if ((theState & OPEN) != 0) {
+            theMaze.openDoor(row, col, theDirection);
+        }
+        if ((theState & LOCKED) != 0) {
+            theMaze.lockDoor(row, col, theDirection);
+        }
+    }
+
+    /**
+     * Gives a door its exact state bits, locking it for good first if they say so.
+     *
+     * @param theMaze the maze.
+     * @param theCell the cell index of the room.
+     * @param theDirection the side of the room, east or south.
+     * @param theBits the state bits of the door.
+     * @throws IllegalArgumentException if the door is on the edge of the maze.
+     */
+    private static void restoreDoor(final Maze theMaze, final int theCell, final Direction theDirection,
+                                    final int theBits) {
+        final int row = theCell / theMaze.getCols();
+        final int col = theCell % theMaze.getCols();
+        if (theDirection == Direction.EAST ? col == theMaze.getCols() - 1 : row == theMaze.getRows() - 1) {
+            throw new IllegalArgumentException("Encoded maze has a door on its edge.");
+        }
+        if ((theBits & Room.PERMANENT) != 0 && !theMaze.isDoorLocked(row, col, theDirection)) {
+            theMaze.lockDoor(row, col, theDirection);
+        }
+        theMaze.setDoorBits(row, col, theDirection, theBits);
+    }
+
+    /**
+     * Returns the number of bytes {@link #putVarint} writes for a value.
+     *
+     * @param theValue the value, treated as unsigned.
+     * @return the number of bytes.
+     */
+    private static int varintBytes(final long theValue) {
+        return Math.max(1, (70 - Long.numberOfLeadingZeros(theValue)) / 7);
+    }
+
+    /**
+     * Writes an unsigned varint, seven bits to a byte with the high bit marking that more follow.
+     *
+     * @param theOut the buffer to write to.
+     * @param theValue the value, treated as unsigned.
+     */
+    private static void putVarint(final ByteBuffer theOut, final long theValue) {
+        long value = theValue;
+        while ((value & ~0x7FL) != 0) {
+            theOut.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        theOut.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint written by {@link #putVarint}.
+     *
+     * @param theIn the buffer to read from.
+     * @return the value.
+     * @throws IllegalArgumentException if the varint is too long.
+     */
+    private static long getVarint(final ByteBuffer theIn) {
+        long value = 0;
+        for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+            final int next = theIn.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Encoded maze has a bad varint.");
+    }
+
+    /**
+     * The form a maze takes in a Java serialization stream: its compact encoding.
+     */
+    static final class SerialForm implements Serializable {
+        /**
+         * Serial version UID.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+        /**
+         * The encoded maze.
+         */
+        private final byte[] myData;
+
+        /**
+         * Constructs the serial form of a maze.
+         *
+         * @param theMaze the maze.
+         */
+        SerialForm(final Maze theMaze) {
+            myData = encode(theMaze);
+        }
+
+        /**
+         * Replaces this form with the maze it encodes when deserialized.
+         *
+         * @return the decoded maze.
+         * @throws ObjectStreamException if the encoding is damaged.
+         */
+        @Serial
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                return decode(myData);
+            } catch (IllegalArgumentException e) {
+                final InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+                invalid.initCause(e);
+                throw invalid;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package Model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A maze generation algorithm. An implementation carves passages into a maze
+ * through {@link Maze#carvePassage(int, Direction)} so that every room is joined
+ * to every other room by exactly one path.
+ * <p>
+ * Implementations keep their working arrays between calls and do not allocate
+ * while carving, so one instance should not be shared between threads.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public interface MazeGenerator {
+    /**
+     * Carves a perfect maze into the given maze, whose passages are all closed.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    void generate(Maze theMaze, RandomGenerator theRandom);
+}
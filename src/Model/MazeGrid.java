@@ -0,0 +1,75 @@
+package Model;
+
+/**
+ * MazeGrid is a read-only view of a grid of rooms and the doors between them,
+ * enough to draw a maze and to search it without depending on how it is stored.
+ * Rows and columns are counted from zero at the top left of the view.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public interface MazeGrid {
+    /**
+     * Gets the number of rows in the view.
+     *
+     * @return the number of rows.
+     */
+    int getRows();
+
+    /**
+     * Gets the number of columns in the view.
+     *
+     * @return the number of columns.
+     */
+    int getCols();
+
+    /**
+     * Checks whether the door on the given side of a room leads to another room
+     * in the view and is not permanently locked.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the player could pass through the door once it is opened.
+     */
+    boolean isTraversable(int theRow, int theCol, Direction theDirection);
+
+    /**
+     * Checks whether the door on the given side of a room is permanently locked.
+     * Sides on the edge of the view count as locked.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is permanently locked.
+     */
+    boolean isDoorLocked(int theRow, int theCol, Direction theDirection);
+
+    /**
+     * Checks whether the door on the given side of a room is closed.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is closed.
+     */
+    boolean isDoorClosed(int theRow, int theCol, Direction theDirection);
+
+    /**
+     * Checks whether the room at the given position is the start.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the start.
+     */
+    boolean isStart(int theRow, int theCol);
+
+    /**
+     * Checks whether the room at the given position is the exit.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the exit.
+     */
+    boolean isExit(int theRow, int theCol);
+}
@@ -0,0 +1,197 @@
+package Model;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps ready-made mazes so a new game can start without waiting for generation.
+ * Mazes are grouped into buckets by size and algorithm. Each bucket that has been
+ * warmed up is kept topped up to the pool depth by a background executor, and
+ * {@link #take} hands out a waiting maze in constant time, only generating one
+ * on the calling thread when the bucket has run dry.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MazePool implements Closeable {
+    /**
+     * The logger for the pool.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MazePool.class.getName());
+    /**
+     * The number of mazes kept ready in each bucket.
+     */
+    private final int myDepth;
+    /**
+     * The executor that generates mazes in the background.
+     */
+    private final ExecutorService myExecutor;
+    /**
+     * The ready mazes of each bucket.
+     */
+    private final Map<Bucket, BlockingQueue<Maze>> myReady = new ConcurrentHashMap<>();
+    /**
+     * The number of mazes being generated for each bucket.
+     */
+    private final Map<Bucket, AtomicInteger> myPending = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a pool that keeps the given number of mazes ready per bucket,
+     * generated on the given number of background threads.
+     *
+     * @param theDepth the number of mazes kept ready in each bucket.
+     * @param theThreads the number of background threads.
+     * @throws IllegalArgumentException if the depth or the number of threads is less than one.
+     */
+    public MazePool(final int theDepth, final int theThreads) {
+        if (theDepth < 1 || theThreads < 1) {
+            throw new IllegalArgumentException("Pool depth and threads must be positive.");
+        }
+        myDepth = theDepth;
+        myExecutor = Executors.newFixedThreadPool(theThreads, theTask -> {
+            final Thread thread = new Thread(theTask, "maze-pool");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts filling the bucket for mazes of the given size and algorithm in the background.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theAlgorithm the generation algorithm.
+     */
+    public void warm(final int theRows, final int theCols, final MazeAlgorithm theAlgorithm) {
+        refill(bucket(theRows, theCols, theAlgorithm));
+    }
+
+    /**
+     * Takes a ready maze of the given size and algorithm, generating one on the
+     * calling thread only if none is waiting, and starts replacing it in the background.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theAlgorithm the generation algorithm.
+     * @return a freshly generated maze that no one else holds.
+     */
+    public Maze take(final int theRows, final int theCols, final MazeAlgorithm theAlgorithm) {
+        final Bucket bucket = bucket(theRows, theCols, theAlgorithm);
+        Maze maze = myReady.get(bucket).poll();
+        if (maze == null) {
+            maze = bucket.build();
+        }
+        refill(bucket);
+        return maze;
+    }
+
+    /**
+     * Returns the number of mazes ready in the bucket for the given size and algorithm.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theAlgorithm the generation algorithm.
+     * @return the number of ready mazes.
+     */
+    public int ready(final int theRows, final int theCols, final MazeAlgorithm theAlgorithm) {
+        final BlockingQueue<Maze> queue = myReady.get(new Bucket(theRows, theCols, theAlgorithm));
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Stops the background generation and drops the ready mazes.
+     */
+    @Override
+    public void close() {
+        myExecutor.shutdownNow();
+        myReady.clear();
+    }
+
+    /**
+     * Returns the bucket for the given size and algorithm, creating it on first use.
+     *
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theAlgorithm the generation algorithm.
+     * @return the bucket.
+     * @throws IllegalArgumentException if a dimension is not positive or the algorithm is null.
+     */
+    private Bucket bucket(final int theRows, final int theCols, final MazeAlgorithm theAlgorithm) {
+        if (theRows < 1 || theCols < 1 || theAlgorithm == null) {
+            throw new IllegalArgumentException("Pooled mazes need a positive size and an algorithm.");
+        }
+        final Bucket bucket = new Bucket(theRows, theCols, theAlgorithm);
+        myReady.computeIfAbsent(bucket, theKey -> new ArrayBlockingQueue<>(myDepth));
+        myPending.computeIfAbsent(bucket, theKey -> new AtomicInteger());
+        return bucket;
+    }
+
+    /**
+     * Submits background generations until the ready and pending mazes of a bucket reach the depth.
+     * Each generation first reserves its slot by raising the pending count with a compare-and-set,
+     * so callers refilling the same bucket at once never submit more than the depth between them.
+     * A finished generation refills again once it is no longer pending, since a caller that
+     * checked while its maze was both ready and pending counted it twice and stopped short.
+     *
+     * @param theBucket the bucket to top up.
+     */
+    private void refill(final Bucket theBucket) {
+        final BlockingQueue<Maze> queue = myReady.get(theBucket);
+        final AtomicInteger pending = myPending.get(theBucket);
+        if (queue == null) {
+            return;
+        }
+        while (true) {
+            final int reserved = pending.get();
+            if (queue.size() + reserved >= myDepth) {
+                return;
+            }
+            if (!pending.compareAndSet(reserved, reserved + 1)) {
+                continue;
+            }
+            try {
+                myExecutor.execute(() -> {
+                    try {
+                        queue.offer(theBucket.build());
+                    } catch (RuntimeException | OutOfMemoryError e) {
+                        LOGGER.log(Level.SEVERE, "Error generating pooled maze", e);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                    refill(theBucket);
+                });
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A size and algorithm that pooled mazes are grouped by.
+     *
+     * @param rows the number of rows.
+     * @param cols the number of columns.
+     * @param algorithm the generation algorithm.
+     */
+    private record Bucket(int rows, int cols, MazeAlgorithm algorithm) {
+        /**
+         * Generates a maze for this bucket.
+         *
+         * @return a new maze.
+         */
+        Maze build() {
+            return new Maze(rows, cols, algorithm.create());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * An iterative breadth-first search over the rooms of a maze. The visited marks
+ * and the queue are allocated once per maze and reused by every search, so a
+ * query allocates nothing and never recurses, whatever the size of the maze.
+ * Any {@link MazeGrid} can be searched, including the window of an {@link EndlessMaze}.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MazeSearch {
+    /**
+     * The directions a search expands in.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The maze being searched.
+     */
+    private final MazeGrid myMaze;
+    /**
+     * The generation stamp of the search that last visited each cell.
+     */
+    private final int[] myVisited;
+    /**
+     * The queue of cells waiting to be expanded.
+     */
+    private final int[] myQueue;
+    /**
+     * The stamp of the current search; a cell is visited when it holds this value.
+     */
+    private int myGeneration;
+
+    /**
+     * Constructs a search over the given maze.
+     *
+     * @param theMaze the maze to search.
+     * @throws IllegalArgumentException if the maze is null.
+     */
+    public MazeSearch(final MazeGrid theMaze) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null");
+        }
+        myMaze = theMaze;
+        myVisited = new int[theMaze.getRows() * theMaze.getCols()];
+        myQueue = new int[myVisited.length];
+        myGeneration = 0;
+    }
+
+    /**
+     * Checks whether the exit can still be reached from the given room
+     * through doors that are not permanently locked.
+     *
+     * @param theRow the row to start from.
+     * @param theCol the column to start from.
+     * @return true if the exit can be reached, false otherwise.
+     */
+    public final boolean canReachExit(final int theRow, final int theCol) {
+        return search(theRow, theCol, true) < 0;
+    }
+
+    /**
+     * Counts the rooms that can be reached from the given room
+     * through doors that are not permanently locked.
+     *
+     * @param theRow the row to start from.
+     * @param theCol the column to start from.
+     * @return the number of reachable rooms, including the starting one.
+     */
+    public final int countReachable(final int theRow, final int theCol) {
+        return search(theRow, theCol, false);
+    }
+
+    /**
+     * Runs one breadth-first search from the given room.
+     *
+     * @param theRow the row to start from.
+     * @param theCol the column to start from.
+     * @param theStopAtExit whether to stop as soon as the exit is found.
+     * @return -1 if the search stopped at the exit, otherwise the number of rooms visited.
+     */
+    private int search(final int theRow, final int theCol, final boolean theStopAtExit) {
+        final int cols = myMaze.getCols();
+        if (theRow < 0 || theRow >= myMaze.getRows() || theCol < 0 || theCol >= cols) {
+            return 0;
+        }
+        final int stamp = nextGeneration();
+        int head = 0;
+        int tail = 0;
+        final int startCell = theRow * cols + theCol;
+        myVisited[startCell] = stamp;
+        myQueue[tail++] = startCell;
+
+        while (head < tail) {
+            final int cell = myQueue[head++];
+            final int row = cell / cols;
+            final int col = cell - row * cols;
+            if (theStopAtExit && myMaze.isExit(row, col)) {
+                return -1;
+            }
+            for (Direction direction : DIRECTIONS) {
+                if (myMaze.isTraversable(row, col, direction)) {
+                    final int next = cell + direction.getRow() * cols + direction.getCol();
+                    if (myVisited[next] != stamp) {
+                        myVisited[next] = stamp;
+                        myQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Advances to a fresh visited stamp, clearing the marks only when the stamp wraps.
+     *
+     * @return the stamp for the new search.
+     */
+    private int nextGeneration() {
+        if (myGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(myVisited, 0);
+            myGeneration = 0;
+        }
+        return ++myGeneration;
+    }
+}
@@ -0,0 +1,534 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A maze of several floors stacked on top of each other and joined by stairs.
+ * <p>
+ * Every room of every floor is one byte in a single array indexed by
+ * {@code (floor * rows + row) * cols + col}, holding its east and south passages, the
+ * state of its east and south doors as in {@link MappedMaze}, and whether stairs
+ * lead up from it to the same room on the floor above. Stairs have no door and can
+ * always be climbed in either direction.
+ * <p>
+ * Each floor is carved row by row with Eller's algorithm, so every floor is a
+ * perfect maze on its own. Stairs are then placed at random rooms between each
+ * pair of neighbouring floors, at least one per pair, so every room of the
+ * building can reach the exit. The start is the top left room of the bottom
+ * floor and the exit the bottom right room of the top floor.
+ * <p>
+ * A floor is shown through {@link #getFloor(int)}, a view of that floor as a
+ * {@link MazeGrid} that reads the shared array directly, so only the floor on
+ * screen is ever handed to the renderer and nothing is copied.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class MultiLevelMaze {
+    /**
+     * The bit for stairs leading up from a room to the floor above.
+     */
+    private static final int STAIRS_UP = 64;
+    /**
+     * The number of rooms per floor for each extra staircase between two floors.
+     */
+    private static final int ROOMS_PER_STAIRCASE = 256;
+    /**
+     * The directions a search expands in on a floor.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The number of floors.
+     */
+    private final int myFloors;
+    /**
+     * The number of rows on each floor.
+     */
+    private final int myRows;
+    /**
+     * The number of columns on each floor.
+     */
+    private final int myCols;
+    /**
+     * The number of rooms on each floor.
+     */
+    private final int myFloorSize;
+    /**
+     * The seed the maze was carved from.
+     */
+    private final long mySeed;
+    /**
+     * The rooms of every floor, one byte each.
+     */
+    private final byte[] myCells;
+    /**
+     * The generation stamp of the search that last visited each room, allocated on the first search.
+     */
+    private int[] myVisited;
+    /**
+     * The queue of rooms waiting to be expanded, allocated on the first search.
+     */
+    private int[] myQueue;
+    /**
+     * The stamp of the current search.
+     */
+    private int myGeneration;
+
+    /**
+     * Constructs and carves a maze of the given size from the given seed.
+     * The same size and seed always give the same maze.
+     *
+     * @param theFloors the number of floors.
+     * @param theRows the number of rows on each floor.
+     * @param theCols the number of columns on each floor.
+     * @param theSeed the seed that determines the layout.
+     * @throws IllegalArgumentException if any dimension is not positive
+     * or the maze would have more rooms than an array can hold.
+     */
+    public MultiLevelMaze(final int theFloors, final int theRows, final int theCols, final long theSeed) {
+        if (theFloors < 1 || theRows < 1 || theCols < 1) {
+            throw new IllegalArgumentException("Maze dimensions must be positive.");
+        }
+        if ((long) theFloors * theRows * theCols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze has too many rooms.");
+        }
+        myFloors = theFloors;
+        myRows = theRows;
+        myCols = theCols;
+        myFloorSize = theRows * theCols;
+        mySeed = theSeed;
+        myCells = new byte[theFloors * myFloorSize];
+        carve();
+    }
+
+    /**
+     * Gets the number of floors.
+     *
+     * @return the number of floors.
+     */
+    public int getFloors() {
+        return myFloors;
+    }
+
+    /**
+     * Gets the number of rows on each floor.
+     *
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return myRows;
+    }
+
+    /**
+     * Gets the number of columns on each floor.
+     *
+     * @return the number of columns.
+     */
+    public int getCols() {
+        return myCols;
+    }
+
+    /**
+     * Gets the seed the maze was carved from.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Returns a view of one floor as a two dimensional maze, for rendering and for
+     * searches that stay on that floor. The view reads and writes this maze directly.
+     *
+     * @param theFloor the floor.
+     * @return the floor.
+     * @throws IllegalArgumentException if there is no such floor.
+     */
+    public MazeGrid getFloor(final int theFloor) {
+        if (theFloor < 0 || theFloor >= myFloors) {
+            throw new IllegalArgumentException("No such floor: " + theFloor);
+        }
+        return new Floor(theFloor);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room leads to another room
+     * on the same floor and is not permanently locked.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the player could pass through the door once it is opened.
+     */
+    public boolean isTraversable(final int theFloor, final int theRow, final int theCol,
+                                 final Direction theDirection) {
+        return !isDoorLocked(theFloor, theRow, theCol, theDirection);
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is permanently locked.
+     * Sides on the edge of a floor count as locked.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is permanently locked.
+     */
+    public boolean isDoorLocked(final int theFloor, final int theRow, final int theCol,
+                                final Direction theDirection) {
+        final int edge = edgeCell(theFloor, theRow, theCol, theDirection);
+        return edge < 0 || (myCells[edge] & PackedRooms.lockedBit(theDirection)) != 0;
+    }
+
+    /**
+     * Checks whether the door on the given side of a room is closed.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door is closed.
+     */
+    public boolean isDoorClosed(final int theFloor, final int theRow, final int theCol,
+                                final Direction theDirection) {
+        final int edge = edgeCell(theFloor, theRow, theCol, theDirection);
+        return edge < 0 || (myCells[edge] & PackedRooms.openBit(theDirection)) == 0;
+    }
+
+    /**
+     * Checks whether the generator carved a passage on the given side of a room.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if there is a passage on that side.
+     */
+    public boolean hasPassage(final int theFloor, final int theRow, final int theCol,
+                              final Direction theDirection) {
+        final int edge = edgeCell(theFloor, theRow, theCol, theDirection);
+        final int bit = PackedRooms.passageBit(theDirection);
+        return edge >= 0 && (myCells[edge] & bit) != 0;
+    }
+
+    /**
+     * Checks whether stairs lead up from a room to the same room on the floor above.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if there are stairs up.
+     */
+    public boolean hasStairsUp(final int theFloor, final int theRow, final int theCol) {
+        return isValidRoom(theFloor, theRow, theCol) && theFloor < myFloors - 1
+                && (myCells[index(theFloor, theRow, theCol)] & STAIRS_UP) != 0;
+    }
+
+    /**
+     * Checks whether stairs lead down from a room to the same room on the floor below.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if there are stairs down.
+     */
+    public boolean hasStairsDown(final int theFloor, final int theRow, final int theCol) {
+        return theFloor > 0 && hasStairsUp(theFloor - 1, theRow, theCol);
+    }
+
+    /**
+     * Opens the door on the given side of a room.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     */
+    public void openDoor(final int theFloor, final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theFloor, theRow, theCol, theDirection);
+        if (edge >= 0) {
+            myCells[edge] |= (byte) PackedRooms.openBit(theDirection);
+        }
+    }
+
+    /**
+     * Permanently locks the door on the given side of a room.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     */
+    public void lockDoor(final int theFloor, final int theRow, final int theCol, final Direction theDirection) {
+        final int edge = edgeCell(theFloor, theRow, theCol, theDirection);
+        if (edge >= 0) {
+            myCells[edge] |= (byte) PackedRooms.lockedBit(theDirection);
+        }
+    }
+
+    /**
+     * Checks whether the room at the given position is the start.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the top left room of the bottom floor.
+     */
+    public boolean isStart(final int theFloor, final int theRow, final int theCol) {
+        return theFloor == 0 && theRow == 0 && theCol == 0;
+    }
+
+    /**
+     * Checks whether the room at the given position is the exit.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return true if the room is the bottom right room of the top floor.
+     */
+    public boolean isExit(final int theFloor, final int theRow, final int theCol) {
+        return theFloor == myFloors - 1 && theRow == myRows - 1 && theCol == myCols - 1;
+    }
+
+    /**
+     * Checks whether the exit can still be reached from the given room through doors
+     * that are not permanently locked and any stairs, with one breadth-first search
+     * over the whole building that allocates nothing after the first call.
+     *
+     * @param theFloor the floor to start from.
+     * @param theRow the row to start from.
+     * @param theCol the column to start from.
+     * @return true if the exit can be reached, false otherwise.
+     */
+    public boolean canReachExit(final int theFloor, final int theRow, final int theCol) {
+        if (!isValidRoom(theFloor, theRow, theCol)) {
+            return false;
+        }
+        if (myVisited == null) {
+            myVisited = new int[myCells.length];
+            myQueue = new int[myCells.length];
+        }
+        if (myGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(myVisited, 0);
+            myGeneration = 0;
+        }
+        final int stamp = ++myGeneration;
+        final int exit = myCells.length - 1;
+        int head = 0;
+        int tail = 0;
+        final int startCell = index(theFloor, theRow, theCol);
+        myVisited[startCell] = stamp;
+        myQueue[tail++] = startCell;
+
+        while (head < tail) {
+            final int cell = myQueue[head++];
+            if (cell == exit) {
+                return true;
+            }
+            final int floor = cell / myFloorSize;
+            final int inFloor = cell - floor * myFloorSize;
+            final int row = inFloor / myCols;
+            final int col = inFloor - row * myCols;
+            for (Direction direction : DIRECTIONS) {
+                if (isTraversable(floor, row, col, direction)) {
+                    tail = enqueue(cell + direction.getRow() * myCols + direction.getCol(), stamp, tail);
+                }
+            }
+            if ((myCells[cell] & STAIRS_UP) != 0) {
+                tail = enqueue(cell + myFloorSize, stamp, tail);
+            }
+            if (floor > 0 && (myCells[cell - myFloorSize] & STAIRS_UP) != 0) {
+                tail = enqueue(cell - myFloorSize, stamp, tail);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a room to the search queue unless the current search has already seen it.
+     *
+     * @param theCell the index of the room.
+     * @param theStamp the stamp of the current search.
+     * @param theTail the end of the queue.
+     * @return the new end of the queue.
+     */
+    private int enqueue(final int theCell, final int theStamp, final int theTail) {
+        if (myVisited[theCell] == theStamp) {
+            return theTail;
+        }
+        myVisited[theCell] = theStamp;
+        myQueue[theTail] = theCell;
+        return theTail + 1;
+    }
+
+    /**
+     * Carves every floor with Eller's algorithm and then places the stairs.
+     */
+    private void carve() {
+        final SplittableRandom random = new SplittableRandom(mySeed);
+        final byte[] row = new byte[myCols];
+        for (int floor = 0; floor < myFloors; floor++) {
+            final EllerRows eller = new EllerRows(myCols);
+            for (int r = 0; r < myRows; r++) {
+                eller.nextRow(row, r == myRows - 1, random);
+                System.arraycopy(row, 0, myCells, index(floor, r, 0), myCols);
+            }
+        }
+        final int staircases = 1 + myFloorSize / ROOMS_PER_STAIRCASE;
+        for (int floor = 0; floor < myFloors - 1; floor++) {
+            final int base = floor * myFloorSize;
+            for (int i = 0; i < staircases; i++) {
+                myCells[base + random.nextInt(myFloorSize)] |= STAIRS_UP;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given coordinates are inside the maze.
+     *
+     * @param theFloor the floor.
+     * @param theRow the row.
+     * @param theCol the column.
+     * @return true if there is a room there.
+     */
+    private boolean isValidRoom(final int theFloor, final int theRow, final int theCol) {
+        return theFloor >= 0 && theFloor < myFloors && theRow >= 0 && theRow < myRows
+                && theCol >= 0 && theCol < myCols;
+    }
+
+    /**
+     * Returns the index of a room in the array.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the index of the room.
+     */
+    private int index(final int theFloor, final int theRow, final int theCol) {
+        return (theFloor * myRows + theRow) * myCols + theCol;
+    }
+
+    /**
+     * Finds the room that stores the door on the given side of a room, since each room
+     * stores only its east and south doors.
+     *
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the index of the storing room, or -1 if the door leads off the floor.
+     */
+    private int edgeCell(final int theFloor, final int theRow, final int theCol, final Direction theDirection) {
+        if (!isValidRoom(theFloor, theRow, theCol)
+                || !PackedRooms.isInnerDoor(theRow, theCol, theDirection, myRows, myCols)) {
+            return -1;
+        }
+        return index(theFloor, PackedRooms.edgeRow(theRow, theDirection), PackedRooms.edgeCol(theCol, theDirection));
+    }
+
+    /**
+     * One floor of the maze seen as a two dimensional maze.
+     */
+    private final class Floor implements MazeGrid {
+        /**
+         * The floor shown.
+         */
+        private final int myFloor;
+
+        /**
+         * Constructs a view of the given floor.
+         *
+         * @param theFloor the floor.
+         */
+        private Floor(final int theFloor) {
+            myFloor = theFloor;
+        }
+
+        /**
+         * Gets the number of rows.
+         *
+         * @return the number of rows.
+         */
+        @Override
+        public int getRows() {
+            return myRows;
+        }
+
+        /**
+         * Gets the number of columns.
+         *
+         * @return the number of columns.
+         */
+        @Override
+        public int getCols() {
+            return myCols;
+        }
+
+        /**
+         * Checks whether the door on the given side of a room can be passed once opened.
+         *
+         * @param theRow the row of the room.
+         * @param theCol the column of the room.
+         * @param theDirection the side of the room.
+         * @return true if the door is traversable.
+         */
+        @Override
+        public boolean isTraversable(final int theRow, final int theCol, final Direction theDirection) {
+            return MultiLevelMaze.this.isTraversable(myFloor, theRow, theCol, theDirection);
+        }
+
+        /**
+         * Checks whether the door on the given side of a room is permanently locked.
+         *
+         * @param theRow the row of the room.
+         * @param theCol the column of the room.
+         * @param theDirection the side of the room.
+         * @return true if the door is permanently locked.
+         */
+        @Override
+        public boolean isDoorLocked(final int theRow, final int theCol, final Direction theDirection) {
+            return MultiLevelMaze.this.isDoorLocked(myFloor, theRow, theCol, theDirection);
+        }
+
+        /**
+         * Checks whether the door on the given side of a room is closed.
+         *
+         * @param theRow the row of the room.
+         * @param theCol the column of the room.
+         * @param theDirection the side of the room.
+         * @return true if the door is closed.
+         */
+        @Override
+        public boolean isDoorClosed(final int theRow, final int theCol, final Direction theDirection) {
+            return MultiLevelMaze.this.isDoorClosed(myFloor, theRow, theCol, theDirection);
+        }
+
+        /**
+         * Checks whether the room is the start of the whole maze.
+         *
+         * @param theRow the row of the room.
+         * @param theCol the column of the room.
+         * @return true if the room is the start.
+         */
+        @Override
+        public boolean isStart(final int theRow, final int theCol) {
+            return MultiLevelMaze.this.isStart(myFloor, theRow, theCol);
+        }
+
+        /**
+         * Checks whether the room is the exit of the whole maze.
+         *
+         * @param theRow the row of the room.
+         * @param theCol the column of the room.
+         * @return true if the room is the exit.
+         */
+        @Override
+        public boolean isExit(final int theRow, final int theCol) {
+            return MultiLevelMaze.this.isExit(myFloor, theRow, theCol);
+        }
+    }
+}
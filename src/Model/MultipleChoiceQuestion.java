@@ -37,12 +37,12 @@ public class MultipleChoiceQuestion extends Question implements Serializable {
     }
 
     /**
-     * getChoices gets choices for multiple choice question.
+     * getChoices gets a copy of the choices for multiple choice question.
      *
-     * @return the choices.
+     * @return the choices, or null if none have been set.
      */
     public final String[] getChoices() {
-        return myChoices;
+        return myChoices == null ? null : myChoices.clone();
     }
 
     /**
@@ -59,20 +59,24 @@ public class MultipleChoiceQuestion extends Question implements Serializable {
      *
      * @param theChoices represents the choices.
      * @throws IllegalArgumentException if theChoices is null
+     * @throws IllegalStateException if the question has been frozen
      */
     public final void setChoices (final String[] theChoices){
+        checkNotFrozen();
         if (theChoices == null) {
             throw new IllegalArgumentException("Choices array cannot be null");
         }
-        myChoices = theChoices;
+        myChoices = theChoices.clone();
     }
 
     /**
      * setCorrectOption sets the correct option among the choices.
      *
      * @param theCorrectOption represents the correct option.
+     * @throws IllegalStateException if the question has been frozen
      */
     public final void setCorrectOption(final String theCorrectOption){
+        checkNotFrozen();
         if (theCorrectOption == null || theCorrectOption.trim().isEmpty()) {
             throw new IllegalArgumentException("Correct option cannot be null or empty");
         }
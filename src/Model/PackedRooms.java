@@ -0,0 +1,115 @@
+package Model;
+
+/**
+ * Helpers shared by the mazes that keep each room in one byte: its east and south
+ * passages in the low two bits, as in {@link Maze}, followed by whether its east and
+ * south doors are open and whether they are permanently locked. A room stores only
+ * its east and south doors, so its west and north doors are those of its neighbours.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+final class PackedRooms {
+    /**
+     * The bit for an open door on the east side of a room.
+     */
+    static final int EAST_OPEN = 4;
+    /**
+     * The bit for an open door on the south side of a room.
+     */
+    static final int SOUTH_OPEN = 8;
+    /**
+     * The bit for a permanently locked door on the east side of a room.
+     */
+    static final int EAST_LOCKED = 16;
+    /**
+     * The bit for a permanently locked door on the south side of a room.
+     */
+    static final int SOUTH_LOCKED = 32;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PackedRooms() {
+    }
+
+    /**
+     * Checks whether the door on the given side of a room leads to another room of a grid.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @param theRows the number of rows of the grid.
+     * @param theCols the number of columns of the grid.
+     * @return true if the room and its neighbour on that side are both in the grid.
+     */
+    static boolean isInnerDoor(final int theRow, final int theCol, final Direction theDirection,
+                               final int theRows, final int theCols) {
+        final int nextRow = theRow + theDirection.getRow();
+        final int nextCol = theCol + theDirection.getCol();
+        return theRow >= 0 && theRow < theRows && theCol >= 0 && theCol < theCols
+                && nextRow >= 0 && nextRow < theRows && nextCol >= 0 && nextCol < theCols;
+    }
+
+    /**
+     * Returns the row of the room that stores the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theDirection the side of the room.
+     * @return the row of the storing room.
+     */
+    static int edgeRow(final int theRow, final Direction theDirection) {
+        return theDirection == Direction.NORTH ? theRow - 1 : theRow;
+    }
+
+    /**
+     * Returns the column of the room that stores the door on the given side of a room.
+     *
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return the column of the storing room.
+     */
+    static int edgeCol(final int theCol, final Direction theDirection) {
+        return theDirection == Direction.WEST ? theCol - 1 : theCol;
+    }
+
+    /**
+     * Checks whether a door on the given side is stored as a south door.
+     *
+     * @param theDirection the side of the room.
+     * @return true for north and south, false for east and west.
+     */
+    static boolean isSouthEdge(final Direction theDirection) {
+        return theDirection == Direction.NORTH || theDirection == Direction.SOUTH;
+    }
+
+    /**
+     * Gets the passage bit for a door on the given side.
+     *
+     * @param theDirection the side of the room.
+     * @return the passage bit.
+     */
+    static int passageBit(final Direction theDirection) {
+        return isSouthEdge(theDirection) ? Maze.SOUTH_PASSAGE : Maze.EAST_PASSAGE;
+    }
+
+    /**
+     * Gets the open bit for a door on the given side.
+     *
+     * @param theDirection the side of the room.
+     * @return the open bit.
+     */
+    static int openBit(final Direction theDirection) {
+        return isSouthEdge(theDirection) ? SOUTH_OPEN : EAST_OPEN;
+    }
+
+    /**
+     * Gets the locked bit for a door on the given side.
+     *
+     * @param theDirection the side of the room.
+     * @return the locked bit.
+     */
+    static int lockedBit(final Direction theDirection) {
+        return isSouthEdge(theDirection) ? SOUTH_LOCKED : EAST_LOCKED;
+    }
+}
@@ -0,0 +1,230 @@
+package Model;
+
+import java.io.Serial;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a large maze on several cores. The maze is cut into square tiles, each
+ * tile is carved into its own perfect maze with the recursive backtracker on a
+ * {@link ForkJoinPool}, and a final pass joins the tiles with randomized Kruskal's
+ * algorithm over the tile grid, opening one passage through each wall it removes.
+ * A spanning tree of the tiles over spanning trees inside the tiles is a spanning
+ * tree of every room, so the result is a perfect maze like the other generators make.
+ * <p>
+ * Tiles only ever carve passages between their own rooms, and each passage is stored
+ * in a room of the tile, so tiles never write to the same byte of the maze.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class ParallelGenerator implements MazeGenerator {
+    /**
+     * The default number of rooms along each side of a tile.
+     */
+    public static final int DEFAULT_TILE_SIZE = 256;
+    /**
+     * The number of tiles a task carves itself rather than splitting further.
+     */
+    private static final int TILES_PER_TASK = 4;
+    /**
+     * The number of rooms along each side of a tile.
+     */
+    private final int myTileSize;
+    /**
+     * The pool the tiles are carved on.
+     */
+    private final ForkJoinPool myPool;
+    /**
+     * The seed of each tile's random generator, drawn in tile order so a seeded
+     * generation carves the same maze however the tiles are scheduled.
+     */
+    private long[] mySeeds;
+    /**
+     * The walls between tiles, each encoded as tile index times two plus 0 for east or 1 for south.
+     */
+    private int[] myWalls;
+    /**
+     * The union-find parent of each tile; a root holds minus the size of its set.
+     */
+    private int[] myParent;
+
+    /**
+     * Constructs a generator with the default tile size on the common pool.
+     */
+    public ParallelGenerator() {
+        this(DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a generator with the given tile size on the common pool.
+     *
+     * @param theTileSize the number of rooms along each side of a tile.
+     */
+    public ParallelGenerator(final int theTileSize) {
+        this(theTileSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a generator with the given tile size on the given pool.
+     *
+     * @param theTileSize the number of rooms along each side of a tile.
+     * @param thePool the pool to carve the tiles on.
+     * @throws IllegalArgumentException if the tile size is less than one or the pool is null.
+     */
+    public ParallelGenerator(final int theTileSize, final ForkJoinPool thePool) {
+        if (theTileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive.");
+        }
+        if (thePool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        myTileSize = theTileSize;
+        myPool = thePool;
+    }
+
+    /**
+     * Carves every tile in parallel and then joins the tiles into one maze.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    @Override
+    public void generate(final Maze theMaze, final RandomGenerator theRandom) {
+        final int tileRows = (theMaze.getRows() + myTileSize - 1) / myTileSize;
+        final int tileCols = (theMaze.getCols() + myTileSize - 1) / myTileSize;
+        final int tiles = tileRows * tileCols;
+        if (mySeeds == null || mySeeds.length < tiles) {
+            mySeeds = new long[tiles];
+        }
+        for (int tile = 0; tile < tiles; tile++) {
+            mySeeds[tile] = theRandom.nextLong();
+        }
+        myPool.invoke(new TileTask(theMaze, tileCols, 0, tiles));
+        stitch(theMaze, tileRows, tileCols, theRandom);
+    }
+
+    /**
+     * Joins the tiles with randomized Kruskal's algorithm over the tile grid,
+     * opening a passage at a random point of each wall between tiles it removes.
+     *
+     * @param theMaze the maze to carve.
+     * @param theTileRows the number of rows of tiles.
+     * @param theTileCols the number of columns of tiles.
+     * @param theRandom the source of randomness.
+     */
+    private void stitch(final Maze theMaze, final int theTileRows, final int theTileCols,
+                        final RandomGenerator theRandom) {
+        final int tiles = theTileRows * theTileCols;
+        myWalls = GridCells.ensure(myWalls, 2 * tiles);
+        myParent = GridCells.ensure(myParent, tiles);
+
+        int walls = 0;
+        for (int tile = 0; tile < tiles; tile++) {
+            myParent[tile] = -1;
+            if (tile % theTileCols < theTileCols - 1) {
+                myWalls[walls++] = tile << 1;
+            }
+            if (tile < tiles - theTileCols) {
+                myWalls[walls++] = (tile << 1) | 1;
+            }
+        }
+
+        final int cols = theMaze.getCols();
+        int joined = 0;
+        for (int i = walls - 1; i >= 0 && joined < tiles - 1; i--) {
+            final int pick = theRandom.nextInt(i + 1);
+            final int wall = myWalls[pick];
+            myWalls[pick] = myWalls[i];
+            myWalls[i] = wall;
+
+            final int tile = wall >>> 1;
+            final boolean south = (wall & 1) != 0;
+            if (!GridCells.union(myParent, tile, south ? tile + theTileCols : tile + 1)) {
+                continue;
+            }
+            final int top = tile / theTileCols * myTileSize;
+            final int left = tile % theTileCols * myTileSize;
+            if (south) {
+                final int width = Math.min(myTileSize, cols - left);
+                final int row = top + myTileSize - 1;
+                theMaze.carvePassage(row * cols + left + theRandom.nextInt(width), Direction.SOUTH);
+            } else {
+                final int height = Math.min(myTileSize, theMaze.getRows() - top);
+                final int col = left + myTileSize - 1;
+                theMaze.carvePassage((top + theRandom.nextInt(height)) * cols + col, Direction.EAST);
+            }
+            joined++;
+        }
+    }
+
+    /**
+     * Carves a range of tiles, splitting the range in half until it is small enough.
+     */
+    private final class TileTask extends RecursiveAction {
+        /**
+         * Serial version UID.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+        /**
+         * The maze being carved.
+         */
+        private final Maze myMaze;
+        /**
+         * The number of columns of tiles.
+         */
+        private final int myTileCols;
+        /**
+         * The first tile of the range.
+         */
+        private final int myFrom;
+        /**
+         * One past the last tile of the range.
+         */
+        private final int myTo;
+
+        /**
+         * Constructs a task for a range of tiles.
+         *
+         * @param theMaze the maze being carved.
+         * @param theTileCols the number of columns of tiles.
+         * @param theFrom the first tile of the range.
+         * @param theTo one past the last tile of the range.
+         */
+        TileTask(final Maze theMaze, final int theTileCols, final int theFrom, final int theTo) {
+            myMaze = theMaze;
+            myTileCols = theTileCols;
+            myFrom = theFrom;
+            myTo = theTo;
+        }
+
+        /**
+         * Carves the tiles of the range, or splits it between two subtasks.
+         */
+        @Override
+        protected void compute() {
+            if (myTo - myFrom <= TILES_PER_TASK) {
+                final Direction[] choices = new Direction[4];
+                int[] stack = null;
+                long[] visited = null;
+                for (int tile = myFrom; tile < myTo; tile++) {
+                    final int top = tile / myTileCols * myTileSize;
+                    final int left = tile % myTileCols * myTileSize;
+                    final int rows = Math.min(myTileSize, myMaze.getRows() - top);
+                    final int cols = Math.min(myTileSize, myMaze.getCols() - left);
+                    stack = GridCells.ensure(stack, rows * cols);
+                    visited = GridCells.clearedBits(visited, rows * cols);
+                    GridCells.backtrack(myMaze, top, left, rows, cols, stack, visited, choices,
+                            new SplittableRandom(mySeeds[tile]));
+                }
+                return;
+            }
+            final int middle = (myFrom + myTo) >>> 1;
+            invokeAll(new TileTask(myMaze, myTileCols, myFrom, middle),
+                    new TileTask(myMaze, myTileCols, middle, myTo));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package Model;
+
+/**
+ * PathAlgorithm names the shortest path searches a {@link PathFinder} can run.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public enum PathAlgorithm {
+    /**
+     * Breadth-first search outward from the start.
+     */
+    BFS,
+    /**
+     * A* search guided by the Manhattan distance to the goal.
+     */
+    A_STAR,
+    /**
+     * Breadth-first search from both ends at once, meeting in the middle.
+     */
+    BIDIRECTIONAL
+}
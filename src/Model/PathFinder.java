@@ -0,0 +1,488 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * Finds shortest paths between rooms of a maze, for hints and for scoring mazes.
+ * Paths are returned as arrays of cell indices, where the cell index of a room is
+ * its row times the number of columns plus its column, from the start room to the
+ * goal room inclusive.
+ * <p>
+ * All working arrays are allocated once per maze and reused with generation stamps,
+ * so a search allocates nothing per room; only the returned path is new.
+ * A path may pass through any door that is not permanently locked, or, if the
+ * finder was built for open doors only, through doors the player has already opened.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class PathFinder {
+    /**
+     * The path returned when the goal cannot be reached.
+     */
+    public static final int[] NO_PATH = new int[0];
+    /**
+     * The directions a search expands in.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * The maze being searched.
+     */
+    private final MazeGrid myMaze;
+    /**
+     * Whether only doors that have been opened may be passed.
+     */
+    private final boolean myOpenDoorsOnly;
+    /**
+     * The stamp of the search that last reached each cell from the start.
+     */
+    private final int[] myReached;
+    /**
+     * The stamp of the search that last reached each cell from the goal,
+     * or that last expanded it in an A* search.
+     */
+    private final int[] myReachedBack;
+    /**
+     * The cell each cell was reached from, searching from the start.
+     */
+    private final int[] myParent;
+    /**
+     * The cell each cell was reached from, searching from the goal.
+     */
+    private final int[] myParentBack;
+    /**
+     * The number of steps from the start to each reached cell.
+     */
+    private final int[] myCost;
+    /**
+     * The number of steps from the goal to each reached cell.
+     */
+    private final int[] myCostBack;
+    /**
+     * The queue of the search from the start, or the bucket of the current estimate in A*.
+     */
+    private int[] myQueue;
+    /**
+     * The queue of the search from the goal, or the bucket of the next estimate in A*.
+     */
+    private int[] myQueueBack;
+    /**
+     * The stamp of the current search.
+     */
+    private int myGeneration;
+
+    /**
+     * Constructs a path finder that may pass any door that is not permanently locked.
+     *
+     * @param theMaze the maze to search.
+     * @throws IllegalArgumentException if the maze is null.
+     */
+    public PathFinder(final MazeGrid theMaze) {
+        this(theMaze, false);
+    }
+
+    /**
+     * Constructs a path finder.
+     *
+     * @param theMaze the maze to search.
+     * @param theOpenDoorsOnly whether only doors that have been opened may be passed.
+     * @throws IllegalArgumentException if the maze is null.
+     */
+    public PathFinder(final MazeGrid theMaze, final boolean theOpenDoorsOnly) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null");
+        }
+        myMaze = theMaze;
+        myOpenDoorsOnly = theOpenDoorsOnly;
+        final int cells = theMaze.getRows() * theMaze.getCols();
+        myReached = new int[cells];
+        myReachedBack = new int[cells];
+        myParent = new int[cells];
+        myParentBack = new int[cells];
+        myCost = new int[cells];
+        myCostBack = new int[cells];
+        myQueue = new int[cells];
+        myQueueBack = new int[cells];
+    }
+
+    /**
+     * Finds a shortest path between two rooms.
+     *
+     * @param theAlgorithm the search to run.
+     * @param theFromRow the row of the start room.
+     * @param theFromCol the column of the start room.
+     * @param theToRow the row of the goal room.
+     * @param theToCol the column of the goal room.
+     * @return the cells of the path from start to goal, or {@link #NO_PATH} if the goal cannot be reached.
+     * @throws IllegalArgumentException if the algorithm is null or a room is outside the maze.
+     */
+    public final int[] findPath(final PathAlgorithm theAlgorithm, final int theFromRow, final int theFromCol,
+                                final int theToRow, final int theToCol) {
+        final int meeting = search(theAlgorithm, cell(theFromRow, theFromCol), cell(theToRow, theToCol));
+        if (meeting < 0) {
+            return NO_PATH;
+        }
+        if (theAlgorithm == PathAlgorithm.BIDIRECTIONAL) {
+            final int[] path = new int[myCost[meeting] + myCostBack[meeting] + 1];
+            fillPath(path, myParent, meeting, myCost[meeting]);
+            int cell = meeting;
+            for (int i = myCost[meeting] + 1; i < path.length; i++) {
+                cell = myParentBack[cell];
+                path[i] = cell;
+            }
+            return path;
+        }
+        final int[] path = new int[myCost[meeting] + 1];
+        fillPath(path, myParent, meeting, myCost[meeting]);
+        return path;
+    }
+
+    /**
+     * Finds the number of steps on a shortest path between two rooms without building the path.
+     *
+     * @param theAlgorithm the search to run.
+     * @param theFromRow the row of the start room.
+     * @param theFromCol the column of the start room.
+     * @param theToRow the row of the goal room.
+     * @param theToCol the column of the goal room.
+     * @return the number of steps, or -1 if the goal cannot be reached.
+     * @throws IllegalArgumentException if the algorithm is null or a room is outside the maze.
+     */
+    public final int distance(final PathAlgorithm theAlgorithm, final int theFromRow, final int theFromCol,
+                              final int theToRow, final int theToCol) {
+        final int meeting = search(theAlgorithm, cell(theFromRow, theFromCol), cell(theToRow, theToCol));
+        if (meeting < 0) {
+            return -1;
+        }
+        return theAlgorithm == PathAlgorithm.BIDIRECTIONAL
+                ? myCost[meeting] + myCostBack[meeting] : myCost[meeting];
+    }
+
+    /**
+     * Finds a shortest path from a room to the nearest exit room.
+     *
+     * @param theRow the row of the start room.
+     * @param theCol the column of the start room.
+     * @return the cells of the path, or {@link #NO_PATH} if no exit can be reached.
+     * @throws IllegalArgumentException if the room is outside the maze.
+     */
+    public final int[] pathToExit(final int theRow, final int theCol) {
+        final int exit = breadthFirst(cell(theRow, theCol), -1);
+        if (exit < 0) {
+            return NO_PATH;
+        }
+        final int[] path = new int[myCost[exit] + 1];
+        fillPath(path, myParent, exit, myCost[exit]);
+        return path;
+    }
+
+    /**
+     * Suggests which way to go from a room to get to the nearest exit soonest.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the direction of the first step, or null if the room is an exit or no exit can be reached.
+     * @throws IllegalArgumentException if the room is outside the maze.
+     */
+    public final Direction hint(final int theRow, final int theCol) {
+        final int[] path = pathToExit(theRow, theCol);
+        if (path.length < 2) {
+            return null;
+        }
+        final int cols = myMaze.getCols();
+        final int rowStep = path[1] / cols - theRow;
+        final int colStep = path[1] % cols - theCol;
+        for (Direction direction : DIRECTIONS) {
+            if (direction.getRow() == rowStep && direction.getCol() == colStep) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs a search and returns the cell where the path is found.
+     *
+     * @param theAlgorithm the search to run.
+     * @param theStart the start cell.
+     * @param theGoal the goal cell.
+     * @return the goal for one-sided searches or the meeting cell of a bidirectional
+     * search, or -1 if the goal cannot be reached.
+     */
+    private int search(final PathAlgorithm theAlgorithm, final int theStart, final int theGoal) {
+        if (theAlgorithm == null) {
+            throw new IllegalArgumentException("Path algorithm cannot be null");
+        }
+        return switch (theAlgorithm) {
+            case BFS -> breadthFirst(theStart, theGoal);
+            case A_STAR -> aStar(theStart, theGoal);
+            case BIDIRECTIONAL -> bidirectional(theStart, theGoal);
+        };
+    }
+
+    /**
+     * Searches breadth first from the start.
+     *
+     * @param theStart the start cell.
+     * @param theGoal the goal cell, or -1 to stop at the first exit room.
+     * @return the goal or exit cell reached, or -1 if there is none.
+     */
+    private int breadthFirst(final int theStart, final int theGoal) {
+        final int cols = myMaze.getCols();
+        final int stamp = nextGeneration();
+        int head = 0;
+        int tail = 0;
+        reach(myReached, myParent, myCost, theStart, -1, 0, stamp);
+        myQueue[tail++] = theStart;
+
+        while (head < tail) {
+            final int cell = myQueue[head++];
+            final int row = cell / cols;
+            final int col = cell - row * cols;
+            if (theGoal < 0 ? myMaze.isExit(row, col) : cell == theGoal) {
+                return cell;
+            }
+            for (Direction direction : DIRECTIONS) {
+                if (canPass(row, col, direction)) {
+                    final int next = cell + direction.getRow() * cols + direction.getCol();
+                    if (myReached[next] != stamp) {
+                        reach(myReached, myParent, myCost, next, cell, myCost[cell] + 1, stamp);
+                        myQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches with A* guided by the Manhattan distance to the goal. Every step changes
+     * the estimate by zero or two, so rooms are kept in two stacks, one for the current
+     * estimate and one for the next, instead of a priority queue. A room whose cost
+     * improves after it was pushed is pushed again and the stale entry skipped.
+     *
+     * @param theStart the start cell.
+     * @param theGoal the goal cell.
+     * @return the goal cell, or -1 if it cannot be reached.
+     */
+    private int aStar(final int theStart, final int theGoal) {
+        final int cols = myMaze.getCols();
+        final int goalRow = theGoal / cols;
+        final int goalCol = theGoal - goalRow * cols;
+        final int stamp = nextGeneration();
+        reach(myReached, myParent, myCost, theStart, -1, 0, stamp);
+        int estimate = manhattan(theStart, goalRow, goalCol, cols);
+        int current = 0;
+        int next = 0;
+        myQueue[current++] = theStart;
+
+        while (current > 0 || next > 0) {
+            if (current == 0) {
+                final int[] swap = myQueue;
+                myQueue = myQueueBack;
+                myQueueBack = swap;
+                current = next;
+                next = 0;
+                estimate += 2;
+            }
+            final int cell = myQueue[--current];
+            if (myReachedBack[cell] == stamp || myCost[cell] + manhattan(cell, goalRow, goalCol, cols) != estimate) {
+                continue;
+            }
+            if (cell == theGoal) {
+                return cell;
+            }
+            myReachedBack[cell] = stamp;
+            final int row = cell / cols;
+            final int col = cell - row * cols;
+            for (Direction direction : DIRECTIONS) {
+                if (canPass(row, col, direction)) {
+                    final int neighbor = cell + direction.getRow() * cols + direction.getCol();
+                    final int cost = myCost[cell] + 1;
+                    if (myReachedBack[neighbor] != stamp && (myReached[neighbor] != stamp || cost < myCost[neighbor])) {
+                        reach(myReached, myParent, myCost, neighbor, cell, cost, stamp);
+                        if (cost + manhattan(neighbor, goalRow, goalCol, cols) == estimate) {
+                            myQueue = push(myQueue, current++, neighbor);
+                        } else {
+                            myQueueBack = push(myQueueBack, next++, neighbor);
+                        }
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches breadth first from both ends, a whole layer at a time from whichever
+     * side has the smaller frontier, until the two searches meet. The layer where
+     * they first meet is finished so the meeting cell with the shortest total is kept.
+     *
+     * @param theStart the start cell.
+     * @param theGoal the goal cell.
+     * @return the meeting cell, or -1 if the goal cannot be reached.
+     */
+    private int bidirectional(final int theStart, final int theGoal) {
+        final int cols = myMaze.getCols();
+        final int stamp = nextGeneration();
+        reach(myReached, myParent, myCost, theStart, -1, 0, stamp);
+        reach(myReachedBack, myParentBack, myCostBack, theGoal, -1, 0, stamp);
+        if (theStart == theGoal) {
+            return theStart;
+        }
+        int head = 0;
+        int tail = 0;
+        int headBack = 0;
+        int tailBack = 0;
+        myQueue[tail++] = theStart;
+        myQueueBack[tailBack++] = theGoal;
+        int best = -1;
+        int bestCost = Integer.MAX_VALUE;
+
+        while (head < tail && headBack < tailBack && best < 0) {
+            final boolean forward = tail - head <= tailBack - headBack;
+            final int[] queue = forward ? myQueue : myQueueBack;
+            final int[] reached = forward ? myReached : myReachedBack;
+            final int[] parent = forward ? myParent : myParentBack;
+            final int[] cost = forward ? myCost : myCostBack;
+            final int[] otherReached = forward ? myReachedBack : myReached;
+            final int[] otherCost = forward ? myCostBack : myCost;
+            int from = forward ? head : headBack;
+            int to = forward ? tail : tailBack;
+            final int layerEnd = to;
+
+            while (from < layerEnd) {
+                final int cell = queue[from++];
+                final int row = cell / cols;
+                final int col = cell - row * cols;
+                for (Direction direction : DIRECTIONS) {
+                    if (canPass(row, col, direction)) {
+                        final int next = cell + direction.getRow() * cols + direction.getCol();
+                        if (reached[next] != stamp) {
+                            reach(reached, parent, cost, next, cell, cost[cell] + 1, stamp);
+                            queue[to++] = next;
+                            if (otherReached[next] == stamp && cost[next] + otherCost[next] < bestCost) {
+                                best = next;
+                                bestCost = cost[next] + otherCost[next];
+                            }
+                        }
+                    }
+                }
+            }
+            if (forward) {
+                head = from;
+                tail = to;
+            } else {
+                headBack = from;
+                tailBack = to;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks whether a search may pass through the door on the given side of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @param theDirection the side of the room.
+     * @return true if the door may be passed.
+     */
+    private boolean canPass(final int theRow, final int theCol, final Direction theDirection) {
+        if (!myMaze.isTraversable(theRow, theCol, theDirection)) {
+            return false;
+        }
+        return !myOpenDoorsOnly || !myMaze.isDoorClosed(theRow, theCol, theDirection);
+    }
+
+    /**
+     * Records that a cell has been reached.
+     *
+     * @param theReached the reached stamps of the search.
+     * @param theParent the parents of the search.
+     * @param theCost the costs of the search.
+     * @param theCell the cell reached.
+     * @param theFrom the cell it was reached from, or -1 for the first cell.
+     * @param theSteps the number of steps taken to reach it.
+     * @param theStamp the stamp of the search.
+     */
+    private static void reach(final int[] theReached, final int[] theParent, final int[] theCost,
+                              final int theCell, final int theFrom, final int theSteps, final int theStamp) {
+        theReached[theCell] = theStamp;
+        theParent[theCell] = theFrom;
+        theCost[theCell] = theSteps;
+    }
+
+    /**
+     * Writes a path into the start of an array by following parents back from its end.
+     *
+     * @param thePath the array to fill.
+     * @param theParent the parents of the search.
+     * @param theEnd the last cell of the path.
+     * @param theSteps the number of steps from the first cell to the last.
+     */
+    private static void fillPath(final int[] thePath, final int[] theParent, final int theEnd, final int theSteps) {
+        int cell = theEnd;
+        for (int i = theSteps; i >= 0; i--) {
+            thePath[i] = cell;
+            cell = theParent[cell];
+        }
+    }
+
+    /**
+     * Returns the Manhattan distance from a cell to the goal.
+     *
+     * @param theCell the cell.
+     * @param theGoalRow the row of the goal.
+     * @param theGoalCol the column of the goal.
+     * @param theCols the number of columns.
+     * @return the distance.
+     */
+    private static int manhattan(final int theCell, final int theGoalRow, final int theGoalCol, final int theCols) {
+        final int row = theCell / theCols;
+        return Math.abs(row - theGoalRow) + Math.abs(theCell - row * theCols - theGoalCol);
+    }
+
+    /**
+     * Pushes a cell onto a stack, growing the stack if a cell was pushed more than once.
+     *
+     * @param theStack the stack.
+     * @param theSize the number of cells on the stack.
+     * @param theCell the cell to push.
+     * @return the stack, which is a new array if it had to grow.
+     */
+    private static int[] push(final int[] theStack, final int theSize, final int theCell) {
+        final int[] stack = theSize < theStack.length ? theStack : Arrays.copyOf(theStack, 2 * theStack.length);
+        stack[theSize] = theCell;
+        return stack;
+    }
+
+    /**
+     * Returns the cell index of a room.
+     *
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     * @return the cell index.
+     * @throws IllegalArgumentException if the room is outside the maze.
+     */
+    private int cell(final int theRow, final int theCol) {
+        if (theRow < 0 || theRow >= myMaze.getRows() || theCol < 0 || theCol >= myMaze.getCols()) {
+            throw new IllegalArgumentException("Room is outside the maze.");
+        }
+        return theRow * myMaze.getCols() + theCol;
+    }
+
+    /**
+     * Advances to a fresh stamp, clearing the stamps only when they wrap.
+     *
+     * @return the stamp for the new search.
+     */
+    private int nextGeneration() {
+        if (myGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(myReached, 0);
+            Arrays.fill(myReachedBack, 0);
+            myGeneration = 0;
+        }
+        return ++myGeneration;
+    }
+}
@@ -0,0 +1,85 @@
+package Model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a maze with randomized Prim's algorithm: the maze grows from one cell by
+ * repeatedly joining a random frontier cell to a random neighbour already in the maze.
+ * Produces many short dead ends radiating from the start.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class PrimGenerator implements MazeGenerator {
+    /**
+     * The cells that border the maze but are not yet part of it.
+     */
+    private int[] myFrontier;
+    /**
+     * The cells already carved into the maze.
+     */
+    private long[] myInMaze;
+    /**
+     * The cells currently in the frontier.
+     */
+    private long[] myInFrontier;
+    /**
+     * The directions from the frontier cell being joined to its neighbours in the maze.
+     */
+    private final Direction[] myChoices = new Direction[4];
+
+    /**
+     * Carves the maze by growing it one random frontier cell at a time.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    @Override
+    public void generate(final Maze theMaze, final RandomGenerator theRandom) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        final int cells = rows * cols;
+        myFrontier = GridCells.ensure(myFrontier, cells);
+        myInMaze = GridCells.clearedBits(myInMaze, cells);
+        myInFrontier = GridCells.clearedBits(myInFrontier, cells);
+
+        int frontier = add(theRandom.nextInt(cells), rows, cols, 0);
+        while (frontier > 0) {
+            final int pick = theRandom.nextInt(frontier);
+            final int cell = myFrontier[pick];
+            myFrontier[pick] = myFrontier[--frontier];
+
+            int choices = 0;
+            for (Direction direction : GridCells.DIRECTIONS) {
+                final int next = GridCells.neighbor(cell, direction, rows, cols);
+                if (next >= 0 && GridCells.get(myInMaze, next)) {
+                    myChoices[choices++] = direction;
+                }
+            }
+            theMaze.carvePassage(cell, myChoices[theRandom.nextInt(choices)]);
+            frontier = add(cell, rows, cols, frontier);
+        }
+    }
+
+    /**
+     * Adds a cell to the maze and its outside neighbours to the frontier.
+     *
+     * @param theCell the cell joining the maze.
+     * @param theRows the number of rows.
+     * @param theCols the number of columns.
+     * @param theFrontier the current size of the frontier.
+     * @return the new size of the frontier.
+     */
+    private int add(final int theCell, final int theRows, final int theCols, final int theFrontier) {
+        int frontier = theFrontier;
+        GridCells.set(myInMaze, theCell);
+        for (Direction direction : GridCells.DIRECTIONS) {
+            final int next = GridCells.neighbor(theCell, direction, theRows, theCols);
+            if (next >= 0 && !GridCells.get(myInMaze, next) && !GridCells.get(myInFrontier, next)) {
+                GridCells.set(myInFrontier, next);
+                myFrontier[frontier++] = next;
+            }
+        }
+        return frontier;
+    }
+}
@@ -19,6 +19,10 @@ public class Question {
      * Represents the type of question.
      */
     private String myQuestionType;
+    /**
+     * Whether the question is shared, as by a {@link QuestionBank}, and can no longer be changed.
+     */
+    private boolean myFrozen;
 
     /**
      * The Question constructor initializes all fields.
@@ -65,8 +69,10 @@ public class Question {
      *
      * @param theQuestionText represents text of the question.
      * @throws IllegalArgumentException if theQuestionText is null or empty
+     * @throws IllegalStateException if the question has been frozen
      */
     public final void setQuestionText(final String theQuestionText) {
+        checkNotFrozen();
         if (theQuestionText == null || theQuestionText.trim().isEmpty()) {
             throw new IllegalArgumentException("Question text cannot be null or empty");
         }
@@ -78,8 +84,10 @@ public class Question {
      *
      * @param theAnswerText represents the  correct answer.
      * @throws IllegalArgumentException if theAnswerText is null or empty
+     * @throws IllegalStateException if the question has been frozen
      */
     public final void setAnswerText(final String theAnswerText){
+        checkNotFrozen();
         if (theAnswerText == null || theAnswerText.trim().isEmpty()) {
             throw new IllegalArgumentException("Answer text cannot be null or empty");
         }
@@ -91,13 +99,41 @@ public class Question {
      *
      * @param theQuestionType represents the type of questions.
      * @throws IllegalArgumentException if theQuestionType is null or empty
+     * @throws IllegalStateException if the question has been frozen
      */
     public final void setQuestionType(final String theQuestionType){
+        checkNotFrozen();
         if (theQuestionType == null || theQuestionType.trim().isEmpty()) {
             throw new IllegalArgumentException("Question type cannot be null or empty");
         }
         myQuestionType = theQuestionType;
     }
 
+    /**
+     * Checks whether the question has been frozen and can no longer be changed.
+     *
+     * @return true if the question is frozen.
+     */
+    public final boolean isFrozen() {
+        return myFrozen;
+    }
+
+    /**
+     * Freezes the question so it can be shared between games; every setter throws afterwards.
+     */
+    final void freeze() {
+        myFrozen = true;
+    }
+
+    /**
+     * Rejects a change to a frozen question.
+     *
+     * @throws IllegalStateException if the question has been frozen
+     */
+    final void checkNotFrozen() {
+        if (myFrozen) {
+            throw new IllegalStateException("A shared question cannot be changed");
+        }
+    }
 }
 
@@ -0,0 +1,257 @@
+package Model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Keeps the questions of the question database in memory, so that starting a game
+ * does not open the database or parse its rows again.
+ * <p>
+ * The bank loads every question once, freezes them so they can be shared by every
+ * game, and groups them by type. Repeats are left to the loader: the database keeps
+ * each question text only once.
+ * Lookups read an immutable snapshot and never wait for a load. When the bank is
+ * given the database file, it checks the file's modification time at most once per
+ * {@link #CHECK_INTERVAL_NANOS} and reloads the snapshot if the file has changed.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class QuestionBank implements QuestionSampler {
+    /**
+     * The shortest time between two checks of the database file, in nanoseconds.
+     */
+    public static final long CHECK_INTERVAL_NANOS = 1_000_000_000L;
+    /**
+     * The number of random positions tried per question wanted before a sample shuffles
+     * the remaining questions instead.
+     */
+    private static final int SAMPLE_TRIES_PER_QUESTION = 4;
+    /**
+     * The logger for the bank.
+     */
+    private static final Logger LOGGER = Logger.getLogger(QuestionBank.class.getName());
+    /**
+     * Loads the questions.
+     */
+    private final Supplier<List<Question>> myLoader;
+    /**
+     * The database file watched for changes, or null to never reload by itself.
+     */
+    private final Path mySource;
+    /**
+     * The questions as of the last load.
+     */
+    private volatile Snapshot mySnapshot;
+    /**
+     * When the database file was last checked, from {@link System#nanoTime()}.
+     */
+    private volatile long myLastCheck;
+
+    /**
+     * Constructs a bank and loads its questions.
+     *
+     * @param theLoader loads every question, such as from the database.
+     * @param theSource the file the questions are loaded from, watched for changes,
+     * or null to reload only on {@link #refresh()}.
+     * @throws IllegalArgumentException if the loader is null.
+     */
+    public QuestionBank(final Supplier<List<Question>> theLoader, final Path theSource) {
+        if (theLoader == null) {
+            throw new IllegalArgumentException("Loader cannot be null");
+        }
+        myLoader = theLoader;
+        mySource = theSource;
+        myLastCheck = System.nanoTime();
+        mySnapshot = load(modifiedTime());
+    }
+
+    /**
+     * Gets the bank of the game's question database, loading it on first use.
+     *
+     * @return the shared bank.
+     */
+    public static QuestionBank getDefault() {
+        return DefaultHolder.BANK;
+    }
+
+    /**
+     * Gets the questions of the given type, in the order they were loaded.
+     * The first lookup after the database file has changed reloads the questions.
+     *
+     * @param theType the type of question, such as "True/False".
+     * @return an unmodifiable list of frozen questions, empty if there are none of the type.
+     */
+    public List<Question> getQuestions(final String theType) {
+        refreshIfChanged();
+        return mySnapshot.byType().getOrDefault(theType, List.of());
+    }
+
+    /**
+     * Gets every question, in the order they were loaded.
+     *
+     * @return an unmodifiable list of frozen questions.
+     */
+    public List<Question> getAllQuestions() {
+        refreshIfChanged();
+        return mySnapshot.all();
+    }
+
+    /**
+     * Draws random questions of the given type from memory. The cost grows with the number
+     * of questions wanted rather than the number in the bank: random positions are tried
+     * until enough questions are drawn, and only when tries keep missing, as when most of
+     * the type is wanted or excluded, are the remaining questions shuffled instead.
+     *
+     * @param theType the type of question, such as "True/False".
+     * @param theCount the number of questions wanted.
+     * @param theExclude the texts of questions not to draw, such as those already asked.
+     * @param theRandom the source of randomness.
+     * @return the frozen questions drawn, fewer than wanted if the type has fewer left.
+     * @throws IllegalArgumentException if an argument is null or the count is negative.
+     */
+    @Override
+    public List<Question> sample(final String theType, final int theCount, final Set<String> theExclude,
+                                 final RandomGenerator theRandom) {
+        if (theType == null || theExclude == null || theRandom == null || theCount < 0) {
+            throw new IllegalArgumentException("Arguments cannot be null, nor the count negative");
+        }
+        final List<Question> questions = getQuestions(theType);
+        final List<Question> drawn = new ArrayList<>(Math.min(theCount, questions.size()));
+        final Set<Integer> tried = new HashSet<>();
+        for (int tries = SAMPLE_TRIES_PER_QUESTION * theCount;
+             drawn.size() < theCount && tries > 0 && tried.size() < questions.size(); tries--) {
+            final int index = theRandom.nextInt(questions.size());
+            if (tried.add(index) && !theExclude.contains(questions.get(index).getQuestionText())) {
+                drawn.add(questions.get(index));
+            }
+        }
+        if (drawn.size() < theCount && tried.size() < questions.size()) {
+            final List<Question> rest = new ArrayList<>(questions.size() - tried.size());
+            for (int i = 0; i < questions.size(); i++) {
+                if (!tried.contains(i) && !theExclude.contains(questions.get(i).getQuestionText())) {
+                    rest.add(questions.get(i));
+                }
+            }
+            QuestionFactory.shuffle(rest, theRandom);
+            drawn.addAll(rest.subList(0, Math.min(rest.size(), theCount - drawn.size())));
+        }
+        return drawn;
+    }
+
+    /**
+     * Reloads the questions now.
+     */
+    public void refresh() {
+        mySnapshot = load(modifiedTime());
+    }
+
+    /**
+     * Reloads the questions if the database file has changed since they were loaded,
+     * checking the file no more than once per {@link #CHECK_INTERVAL_NANOS}.
+     *
+     * @return true if the questions were reloaded.
+     */
+    public boolean refreshIfChanged() {
+        if (mySource == null) {
+            return false;
+        }
+        final long now = System.nanoTime();
+        if (now - myLastCheck < CHECK_INTERVAL_NANOS) {
+            return false;
+        }
+        synchronized (this) {
+            if (now - myLastCheck < CHECK_INTERVAL_NANOS) {
+                return false;
+            }
+            myLastCheck = now;
+            final long modified = modifiedTime();
+            if (modified == mySnapshot.modified()) {
+                return false;
+            }
+            LOGGER.info("Question database changed; reloading questions");
+            mySnapshot = load(modified);
+            return true;
+        }
+    }
+
+    /**
+     * Loads, freezes and groups the questions.
+     *
+     * @param theModified the modification time of the database file when loading began.
+     * @return the new snapshot.
+     */
+    private Snapshot load(final long theModified) {
+        final List<Question> loaded = myLoader.get();
+        final Map<String, List<Question>> byType = new HashMap<>();
+        final List<Question> all = new ArrayList<>();
+        for (Question question : loaded == null ? List.<Question>of() : loaded) {
+            if (question == null) {
+                continue;
+            }
+            question.freeze();
+            all.add(question);
+            byType.computeIfAbsent(question.getQuestionType(), theType -> new ArrayList<>()).add(question);
+        }
+        byType.replaceAll((theType, theQuestions) -> List.copyOf(theQuestions));
+        return new Snapshot(List.copyOf(all), Map.copyOf(byType), theModified);
+    }
+
+    /**
+     * Reads the modification time of the database file.
+     *
+     * @return the time in milliseconds, or -1 if there is no file to watch or it cannot be read.
+     */
+    private long modifiedTime() {
+        if (mySource == null) {
+            return -1;
+        }
+        try {
+            return Files.getLastModifiedTime(mySource).toMillis();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Cannot read modification time of " + mySource, e);
+            return -1;
+        }
+    }
+
+    /**
+     * The questions as of one load.
+     *
+     * @param all every question.
+     * @param byType the questions of each type.
+     * @param modified the modification time of the database file at the load.
+     */
+    private record Snapshot(List<Question> all, Map<String, List<Question>> byType, long modified) {
+    }
+
+    /**
+     * Holds the default bank, so it is loaded on first use and only once.
+     */
+    private static final class DefaultHolder {
+        /**
+         * The bank of the game's question database, loaded one type at a time through
+         * the type index, so rows of types the game never asks are not read.
+         */
+        private static final QuestionBank BANK = new QuestionBank(() -> {
+            if (SQLQuestionDataBase.getDataSource() == null) {
+                SQLQuestionDataBase.initializeDatabase();
+            }
+            final List<Question> questions = new ArrayList<>();
+            for (String type : QuestionFactory.QUESTION_TYPES) {
+                questions.addAll(SQLQuestionDataBase.readQuestionsOfType(type));
+            }
+            return questions;
+        }, Path.of(SQLQuestionDataBase.DATABASE_FILE));
+    }
+}
@@ -1,14 +1,19 @@
 package Model;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
- * Factory class for creating and filtering questions from a database.
+ * Factory class for creating, filtering and drawing random questions from a database.
  *
  * @author Binal Dhaliwal
  * @version 1.0
  */
 public class QuestionFactory {
+    /**
+     * The types of questions, in the order games ask them.
+     */
+    static final List<String> QUESTION_TYPES = List.of("Multiple-Choice", "True/False", "Short Answer");
 
     /**
      * Retrieves and filters questions from the database based on specified question types.
@@ -17,42 +22,107 @@ public class QuestionFactory {
      * @return a list of filtered questions.
      */
     public static List<Question> getQuestionsFromDatabase(final List<String> theQuestionTypes) {
-        final List<Question> allQuestions = SQLQuestionDataBase.readQuestionsFromDatabase();
-        final List<Question> filteredQuestionsMultipleChoice = new ArrayList<>();
-        final List<Question> filteredQuestionsTrueFalse = new ArrayList<>();
-        final List<Question> filteredQuestionsShortAnswer = new ArrayList<>();
+        return getQuestionsFromDatabase(theQuestionTypes, new SplittableRandom());
+    }
 
-        final Set<String> seenQuestionTextsMultipleChoice = new HashSet<>();
-        final Set<String> seenQuestionTextsTrueFalse = new HashSet<>();
-        final Set<String> seenQuestionTextsShortAnswer = new HashSet<>();
+    /**
+     * Retrieves and filters questions from the database based on specified question types,
+     * reading them from the shared {@link QuestionBank} rather than the database itself and
+     * shuffling them with the given generator so that a seeded generator gives the same order every run.
+     *
+     * @param theQuestionTypes the types of questions to retrieve.
+     * @param theRandom the source of randomness for the shuffle.
+     * @return a list of filtered questions.
+     */
+    public static List<Question> getQuestionsFromDatabase(final List<String> theQuestionTypes,
+                                                          final RandomGenerator theRandom) {
+        final QuestionBank bank = QuestionBank.getDefault();
+        final List<Question> allFilteredQuestions = new ArrayList<>();
+        for (String questionType : QUESTION_TYPES) {
+            if (theQuestionTypes.contains(questionType)) {
+                final List<Question> filteredQuestions = new ArrayList<>(bank.getQuestions(questionType));
+                shuffle(filteredQuestions, theRandom);
+                allFilteredQuestions.addAll(filteredQuestions);
+            }
+        }
 
-        for (Question question : allQuestions) {
-            final String questionType = question.getQuestionType();
-            final String questionText = question.getQuestionText();
+        return allFilteredQuestions;
+    }
 
-            if (theQuestionTypes.contains(questionType)) {
-                if ("Multiple-Choice".equals(questionType) && !seenQuestionTextsMultipleChoice.contains(questionText)) {
-                    filteredQuestionsMultipleChoice.add(question);
-                    seenQuestionTextsMultipleChoice.add(questionText);
-                } else if ("True/False".equals(questionType) && !seenQuestionTextsTrueFalse.contains(questionText)) {
-                    filteredQuestionsTrueFalse.add(question);
-                    seenQuestionTextsTrueFalse.add(questionText);
-                } else if ("Short Answer".equals(questionType) && !seenQuestionTextsShortAnswer.contains(questionText)) {
-                    filteredQuestionsShortAnswer.add(question);
-                    seenQuestionTextsShortAnswer.add(questionText);
+    /**
+     * Draws the given number of random questions from the shared {@link QuestionBank},
+     * spread as evenly as possible over the given types.
+     *
+     * @param theQuestionTypes the types of questions to draw.
+     * @param theCount the number of questions wanted.
+     * @param theExclude the texts of questions not to draw, such as those already asked.
+     * @return the questions in random order, fewer than wanted if the types have fewer left.
+     */
+    public static List<Question> getRandomQuestions(final List<String> theQuestionTypes, final int theCount,
+                                                    final Set<String> theExclude) {
+        return getRandomQuestions(QuestionBank.getDefault(), theQuestionTypes, theCount, theExclude,
+                new SplittableRandom());
+    }
+
+    /**
+     * Draws the given number of random questions from a store, spread as evenly as possible
+     * over the given types. The store is asked only for as many questions as are wanted, so
+     * the cost grows with the count rather than the size of the store. Types with too few
+     * questions left are made up for by the others.
+     *
+     * @param theSampler the store to draw from.
+     * @param theQuestionTypes the types of questions to draw.
+     * @param theCount the number of questions wanted.
+     * @param theExclude the texts of questions not to draw, such as those already asked.
+     * @param theRandom the source of randomness for the draw and the order.
+     * @return the questions in random order, fewer than wanted if the types have fewer left.
+     * @throws IllegalArgumentException if an argument is null or the count is negative.
+     */
+    public static List<Question> getRandomQuestions(final QuestionSampler theSampler,
+                                                    final List<String> theQuestionTypes, final int theCount,
+                                                    final Set<String> theExclude, final RandomGenerator theRandom) {
+        if (theSampler == null || theQuestionTypes == null || theExclude == null || theRandom == null
+                || theCount < 0) {
+            throw new IllegalArgumentException("Arguments cannot be null, nor the count negative");
+        }
+        final Set<String> exclude = new HashSet<>(theExclude);
+        final List<String> openTypes = new ArrayList<>(new LinkedHashSet<>(theQuestionTypes));
+        final List<Question> questions = new ArrayList<>(theCount);
+        while (questions.size() < theCount && !openTypes.isEmpty()) {
+            shuffle(openTypes, theRandom);
+            final int remaining = theCount - questions.size();
+            final int share = remaining / openTypes.size();
+            int extra = remaining % openTypes.size();
+            for (Iterator<String> types = openTypes.iterator(); types.hasNext();) {
+                final String questionType = types.next();
+                final int wanted = share + (extra-- > 0 ? 1 : 0);
+                if (wanted == 0) {
+                    continue;
+                }
+                final List<Question> drawn = theSampler.sample(questionType, wanted, exclude, theRandom);
+                for (Question question : drawn) {
+                    questions.add(question);
+                    exclude.add(question.getQuestionText());
+                }
+                if (drawn.size() < wanted) {
+                    types.remove();
                 }
             }
         }
-        Collections.shuffle(filteredQuestionsMultipleChoice);
-        Collections.shuffle(filteredQuestionsTrueFalse);
-        Collections.shuffle(filteredQuestionsShortAnswer);
-
-        final List<Question> allFilteredQuestions = new ArrayList<>();
-        allFilteredQuestions.addAll(filteredQuestionsMultipleChoice);
-        allFilteredQuestions.addAll(filteredQuestionsTrueFalse);
-        allFilteredQuestions.addAll(filteredQuestionsShortAnswer);
+        shuffle(questions, theRandom);
+        return questions;
+    }
 
-        return allFilteredQuestions;
+    /**
+     * Shuffles a list in place with the Fisher-Yates shuffle, drawing from the given generator.
+     *
+     * @param theList the list to shuffle.
+     * @param theRandom the source of randomness.
+     * @param <T> the type of the elements.
+     */
+    public static <T> void shuffle(final List<T> theList, final RandomGenerator theRandom) {
+        for (int i = theList.size() - 1; i > 0; i--) {
+            Collections.swap(theList, i, theRandom.nextInt(i + 1));
+        }
     }
 }
-
@@ -0,0 +1,27 @@
+package Model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws random questions of one type from a store of questions, such as the
+ * {@link QuestionBank} in memory or the question database itself.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface QuestionSampler {
+    /**
+     * Draws questions of the given type, every question of the type not excluded being
+     * equally likely and none repeated.
+     *
+     * @param theType the type of question, such as "True/False".
+     * @param theCount the number of questions wanted.
+     * @param theExclude the texts of questions not to draw, such as those already asked.
+     * @param theRandom the source of randomness.
+     * @return the questions drawn, fewer than wanted if the type has fewer left.
+     */
+    List<Question> sample(String theType, int theCount, Set<String> theExclude, RandomGenerator theRandom);
+}
@@ -0,0 +1,277 @@
+package Model;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Hands out the questions of a session one at a time, drawing them from a store a few
+ * at a time in the background so that asking the next question does not wait for the
+ * store. Memory stays bounded whatever the size of the store: the source holds only the
+ * questions fetched ahead and the texts of the questions recently asked.
+ * <p>
+ * A question is not asked twice while its text is among the recently asked, which for
+ * a store smaller than the history means never within the session. Once the store has no
+ * question left that has not been asked, the history is forgotten and the questions are
+ * drawn afresh, so an endless session never runs out.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class QuestionSource implements Closeable {
+    /**
+     * The number of questions fetched ahead by default.
+     */
+    public static final int DEFAULT_PREFETCH = 8;
+    /**
+     * The number of asked questions remembered by default.
+     */
+    public static final int DEFAULT_HISTORY = 4_096;
+    /**
+     * The logger for the sources.
+     */
+    private static final Logger LOGGER = Logger.getLogger(QuestionSource.class.getName());
+    /**
+     * The threads fetching questions for every source, ended when idle.
+     */
+    private static final ExecutorService FETCHERS = Executors.newCachedThreadPool(theTask -> {
+        final Thread thread = new Thread(theTask, "question-source");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The store questions are drawn from.
+     */
+    private final QuestionSampler myStore;
+    /**
+     * The types of question drawn.
+     */
+    private final List<String> myTypes;
+    /**
+     * The number of questions fetched ahead.
+     */
+    private final int myPrefetch;
+    /**
+     * The number of asked questions remembered.
+     */
+    private final int myHistory;
+    /**
+     * The source of randomness, used by one fetch at a time.
+     */
+    private final RandomGenerator myRandom;
+    /**
+     * The questions fetched and not yet asked.
+     */
+    private final Deque<Question> myBuffer = new ArrayDeque<>();
+    /**
+     * The texts of the questions recently asked, oldest first.
+     */
+    private final Set<String> myAsked = new LinkedHashSet<>();
+    /**
+     * Whether a fetch is under way.
+     */
+    private boolean myFetching;
+    /**
+     * Whether the last fetch found no question left.
+     */
+    private boolean myExhausted;
+    /**
+     * Whether the source has been closed.
+     */
+    private boolean myClosed;
+
+    /**
+     * Constructs a source that fetches the default number of questions ahead and remembers
+     * the default number of asked questions, and starts fetching.
+     *
+     * @param theStore the store questions are drawn from.
+     * @param theTypes the types of question drawn.
+     * @throws IllegalArgumentException if the store or the types are null.
+     */
+    public QuestionSource(final QuestionSampler theStore, final List<String> theTypes) {
+        this(theStore, theTypes, DEFAULT_PREFETCH, DEFAULT_HISTORY, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a source and starts fetching.
+     *
+     * @param theStore the store questions are drawn from.
+     * @param theTypes the types of question drawn.
+     * @param thePrefetch the number of questions fetched ahead.
+     * @param theHistory the number of asked questions remembered.
+     * @param theRandom the source of randomness for the draws.
+     * @throws IllegalArgumentException if an argument is null, or the prefetch or history is less than one.
+     */
+    public QuestionSource(final QuestionSampler theStore, final List<String> theTypes, final int thePrefetch,
+                          final int theHistory, final RandomGenerator theRandom) {
+        if (theStore == null || theTypes == null || theRandom == null) {
+            throw new IllegalArgumentException("Store, types and generator cannot be null.");
+        }
+        if (thePrefetch < 1 || theHistory < 1) {
+            throw new IllegalArgumentException("Prefetch and history must be positive.");
+        }
+        myStore = theStore;
+        myTypes = List.copyOf(theTypes);
+        myPrefetch = thePrefetch;
+        myHistory = theHistory;
+        myRandom = theRandom;
+        synchronized (this) {
+            startFetch();
+        }
+    }
+
+    /**
+     * Takes the next question, waiting only if none has been fetched yet. Fetches more in
+     * the background once half the questions fetched ahead have been taken.
+     *
+     * @return the next question, or null if the store has no questions of the types.
+     * @throws IllegalStateException if the source is closed or the wait is interrupted.
+     */
+    public synchronized Question next() {
+        boolean restarted = false;
+        while (myBuffer.isEmpty()) {
+            checkOpen();
+            if (!myFetching) {
+                if (myExhausted) {
+                    if (restarted || myAsked.isEmpty()) {
+                        return null;
+                    }
+                    myAsked.clear();
+                    restarted = true;
+                }
+                startFetch();
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for a question.", e);
+            }
+        }
+        final Question question = myBuffer.poll();
+        remember(question.getQuestionText());
+        if (!myFetching && !myExhausted && myBuffer.size() <= myPrefetch / 2) {
+            startFetch();
+        }
+        return question;
+    }
+
+    /**
+     * Waits until a question has been fetched, or the store is found to have none, without
+     * taking it. Called off the thread that asks the questions, so that thread's first
+     * {@link #next()} does not wait for the store.
+     *
+     * @return true if a question is ready, false if the store has no questions of the types.
+     * @throws IllegalStateException if the source is closed or the wait is interrupted.
+     */
+    public synchronized boolean awaitReady() {
+        while (myBuffer.isEmpty() && myFetching) {
+            checkOpen();
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for a question.", e);
+            }
+        }
+        checkOpen();
+        return !myBuffer.isEmpty();
+    }
+
+    /**
+     * Returns the number of questions fetched and not yet asked.
+     *
+     * @return the number of questions ready.
+     */
+    public synchronized int getReadyCount() {
+        return myBuffer.size();
+    }
+
+    /**
+     * Stops the source and drops the questions fetched ahead. A fetch under way finishes
+     * and its questions are dropped.
+     */
+    @Override
+    public synchronized void close() {
+        myClosed = true;
+        myBuffer.clear();
+        notifyAll();
+    }
+
+    /**
+     * Starts fetching enough questions to fill the questions fetched ahead, leaving out the
+     * questions recently asked and those already fetched. The caller holds the lock.
+     */
+    private void startFetch() {
+        final Set<String> exclude = new HashSet<>(myAsked);
+        for (Question question : myBuffer) {
+            exclude.add(question.getQuestionText());
+        }
+        final int wanted = Math.max(1, myPrefetch - myBuffer.size());
+        myFetching = true;
+        FETCHERS.execute(() -> fetch(wanted, exclude));
+    }
+
+    /**
+     * Fetches questions from the store, on a fetching thread, and hands them to the waiting
+     * callers. A store that fails is treated as having no questions left.
+     *
+     * @param theWanted the number of questions wanted.
+     * @param theExclude the texts of questions not to fetch.
+     */
+    private void fetch(final int theWanted, final Set<String> theExclude) {
+        List<Question> fetched;
+        try {
+            fetched = QuestionFactory.getRandomQuestions(myStore, myTypes, theWanted, theExclude, myRandom);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Cannot fetch questions", e);
+            fetched = new ArrayList<>();
+        }
+        synchronized (this) {
+            myFetching = false;
+            myExhausted = fetched.isEmpty();
+            if (!myClosed) {
+                myBuffer.addAll(fetched);
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Remembers the text of an asked question, forgetting the oldest once the history is full.
+     *
+     * @param theText the text of the question.
+     */
+    private void remember(final String theText) {
+        myAsked.remove(theText);
+        myAsked.add(theText);
+        if (myAsked.size() > myHistory) {
+            final Iterator<String> oldest = myAsked.iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    /**
+     * Rejects use of a closed source.
+     *
+     * @throws IllegalStateException if the source is closed.
+     */
+    private void checkOpen() {
+        if (myClosed) {
+            throw new IllegalStateException("The question source is closed.");
+        }
+    }
+}
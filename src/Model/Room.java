@@ -6,6 +6,9 @@ import java.util.ArrayList;
 import java.util.List;
 /**
  * Represents a room in a maze that has doors in each direction associated with questions.
+ * The state of all four doors is packed into a single short, or for the rooms of a
+ * {@link Maze} kept once per edge in the maze's {@link DoorEdges}, and the Door objects
+ * handed out by {@link #getDoor(Direction)} are views over those bits.
  *
  * @author Binal Dhaliwal, Anagha Krishna
  * @version 1.0
@@ -15,7 +18,7 @@ public class Room implements Serializable {
      * Serial version UID.
      */
     @Serial
-    private static final long serialVersionUID = 6L;
+    private static final long serialVersionUID = 7L;
     /**
      * Constant int field representing the index of the north door.
      */
@@ -33,47 +36,93 @@ public class Room implements Serializable {
      */
     private static final int WEST_DOOR = 3;
     /**
-     * Boolean field stating whether there is a north door in that direction.
+     * The direction of each side, indexed by side.
      */
-    private boolean myNorthDoor;
+    private static final Direction[] DIRECTIONS = {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
     /**
-     * Boolean field stating whether there is a south door in that direction.
+     * The number of sides a room has.
      */
-    private boolean mySouthDoor;
+    private static final int SIDES = 4;
     /**
-     * Boolean field stating whether there is an east door in that direction.
+     * The number of state bits each side takes in {@link #myDoorBits}.
      */
-    private boolean myEastDoor;
+    private static final int BITS_PER_SIDE = 4;
     /**
-     * Boolean field stating whether there is a west door in that direction.
+     * Door state bit: the door is locked.
      */
-    private boolean myWestDoor;
+    static final int LOCK = 1;
     /**
-     * Row position of the room in the maze.
+     * Door state bit: the door is closed.
      */
-    private int myRow;
+    static final int CLOSED = 2;
     /**
-     * Column position of the room in the maze.
+     * Door state bit: the door is permanently locked.
      */
-    private int myCol;
+    static final int PERMANENT = 4;
+    /**
+     * Door state bit: the side has a door at all.
+     */
+    static final int PRESENT = 8;
+    /**
+     * The state bits of one side.
+     */
+    private static final int SIDE_MASK = 0xF;
+    /**
+     * Flag bit recording that the north door has been set.
+     */
+    private static final int NORTH_SET = 1;
+    /**
+     * Flag bit recording that the south door has been set.
+     */
+    private static final int SOUTH_SET = 2;
     /**
-     * Boolean field indicating whether the room has been visited
+     * Flag bit recording that the east door has been set.
      */
-    private boolean myVisited;
+    private static final int EAST_SET = 4;
     /**
-     * Boolean field indicating whether the room is an exit to maze.
+     * Flag bit recording that the west door has been set.
      */
-    private boolean myExit;
+    private static final int WEST_SET = 8;
     /**
-     * Boolean field indicating whether the room is a start room.
+     * Flag bit recording that the room has been visited.
      */
-    private boolean myStart;
+    private static final int VISITED = 16;
     /**
-     * List of doors in the room.
+     * Flag bit recording that the room is the exit.
      */
-    private final List<Door> myDoors;
+    private static final int EXIT = 32;
     /**
-     * Constructs a Room with the specified doors.
+     * Flag bit recording that the room is the start.
+     */
+    private static final int START = 64;
+    /**
+     * The state of all four doors, four bits per side in the order north, south, east, west.
+     */
+    private short myDoorBits;
+    /**
+     * The door, visited, exit and start flags of the room.
+     */
+    private byte myFlags;
+    /**
+     * Row position of the room in the maze.
+     */
+    private int myRow;
+    /**
+     * Column position of the room in the maze.
+     */
+    private int myCol;
+    /**
+     * The shared doors of the maze the room belongs to, or null if the room keeps its own.
+     */
+    private DoorEdges myEdges;
+    /**
+     * The Door views handed out for each side, created only when a side is first asked for.
+     */
+    private Door[] myDoorViews;
+
+    /**
+     * Constructs a Room with the specified doors. Each door's state is folded into
+     * the room, and the door becomes a view of it.
      *
      * @param theNorthDoor The north door, added to list of available doors if not null.
      * @param theSouthDoor The south door, added to list of available doors if not null.
@@ -81,21 +130,45 @@ public class Room implements Serializable {
      * @param theWestDoor The west door, added to list of available doors if not null.
      */
     public Room(final Door theNorthDoor,final Door theSouthDoor, final Door theEastDoor, final Door theWestDoor) {
-        myDoors = new ArrayList<>();
-        myVisited = false;
-        if (theNorthDoor != null) {
-            myDoors.add(theNorthDoor);
-        }
-        if (theSouthDoor != null) {
-            myDoors.add(theSouthDoor);
-        }
-        if (theEastDoor != null) {
-            myDoors.add(theEastDoor);
+        attach(NORTH_DOOR, theNorthDoor);
+        attach(SOUTH_DOOR, theSouthDoor);
+        attach(EAST_DOOR, theEastDoor);
+        attach(WEST_DOOR, theWestDoor);
+    }
+
+    /**
+     * Constructs a room of a maze whose doors are stored once per edge in the maze's
+     * {@link DoorEdges}, so the room and its neighbours share them. No Door objects
+     * are created; views are made only for the sides that are asked for.
+     *
+     * @param theEdges the doors of the maze.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     */
+    Room(final DoorEdges theEdges, final int theRow, final int theCol) {
+        myEdges = theEdges;
+        setRow(theRow);
+        setCol(theCol);
+    }
+
+    /**
+     * Folds the state of a door into the given side and binds the door to this room.
+     *
+     * @param theSide the index of the side.
+     * @param theDoor the door, or null if the side has none.
+     */
+    private void attach(final int theSide, final Door theDoor) {
+        if (theDoor == null) {
+            return;
         }
-        if (theWestDoor != null) {
-            myDoors.add(theWestDoor);
+        setDoorState(theSide, theDoor.getState() | PRESENT);
+        if (myDoorViews == null) {
+            myDoorViews = new Door[SIDES];
         }
+        myDoorViews[theSide] = theDoor;
+        theDoor.bind(this, theSide);
     }
+
     /**
      * Sets the row position of the room.
      *
@@ -143,18 +216,18 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if the room is already marked as visited.
      */
     public final void setVisited(final boolean theVisited) {
-        if (theVisited && myVisited) {
+        if (theVisited && hasFlag(VISITED)) {
             throw new IllegalStateException("Room is already marked as visited");
         }
-        myVisited = theVisited;
+        setFlag(VISITED, theVisited);
     }
     /**
      * Gets the visited status of the room.
      *
-     * @return myVisited returns the visited status.
+     * @return the visited status.
      */
     public final boolean getVisited() {
-        return myVisited;
+        return hasFlag(VISITED);
     }
     /**
      * Sets whether the room is an exit.
@@ -163,18 +236,18 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if the room is already marked as an exit.
      */
     public final void setExit(final boolean theExit) {
-        if (myExit && theExit) {
+        if (hasFlag(EXIT) && theExit) {
             throw new IllegalStateException("Room is already marked as an exit.");
         }
-        myExit = theExit;
+        setFlag(EXIT, theExit);
     }
     /**
      * Gets and returns whether the room is an exit.
      *
-     * @return myExit true if the room is an exit, false otherwise.
+     * @return true if the room is an exit, false otherwise.
      */
     public final boolean getExit() {
-        return myExit;
+        return hasFlag(EXIT);
     }
     /**
      * Sets whether there is a north door.
@@ -183,10 +256,10 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if north door is already set to true.
      */
     public final void setNorthDoor(final boolean theNorthDoor) {
-        if (myNorthDoor && theNorthDoor) {
+        if (hasFlag(NORTH_SET) && theNorthDoor) {
             throw new IllegalStateException("North door is already set.");
         }
-        myNorthDoor = theNorthDoor;
+        setFlag(NORTH_SET, theNorthDoor);
     }
     /**
      * Sets whether there is a south door.
@@ -195,10 +268,10 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if south door is already set to true.
      */
     public final void setSouthDoor(final boolean theSouthDoor) {
-        if (mySouthDoor && theSouthDoor) {
+        if (hasFlag(SOUTH_SET) && theSouthDoor) {
             throw new IllegalStateException("South door is already set.");
         }
-        mySouthDoor = theSouthDoor;
+        setFlag(SOUTH_SET, theSouthDoor);
     }
     /**
      * Sets whether there is an east door.
@@ -207,10 +280,10 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if east door is already set to true.
      */
     public void setEastDoor(final boolean theEastDoor) {
-        if (myEastDoor && theEastDoor) {
+        if (hasFlag(EAST_SET) && theEastDoor) {
             throw new IllegalStateException("East door is already set.");
         }
-        myEastDoor = theEastDoor;
+        setFlag(EAST_SET, theEastDoor);
     }
     /**
      * Sets whether there is a west door.
@@ -219,41 +292,83 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if west door is already set to true.
      */
     public final void setWestDoor(final boolean theWestDoor) {
-        if (myWestDoor && theWestDoor) {
+        if (hasFlag(WEST_SET) && theWestDoor) {
             throw new IllegalStateException("West door is already set.");
         }
-        myWestDoor = theWestDoor;
+        setFlag(WEST_SET, theWestDoor);
     }
     /**
-     * Gets the door at the specific index.
+     * Gets the door at the specific index among the sides that have a door,
+     * counting north, south, east and west in that order.
      *
      * @param theDoorIdx The door index.
      * @return The door at the specified index.
+     * @throws IndexOutOfBoundsException if the room has fewer doors than that.
      */
     public final Door getDoor(final int theDoorIdx) {
-        return myDoors.get(theDoorIdx);
+        int remaining = theDoorIdx;
+        for (int side = 0; side < SIDES && remaining >= 0; side++) {
+            if ((getDoorState(side) & PRESENT) != 0 && remaining-- == 0) {
+                return view(side);
+            }
+        }
+        throw new IndexOutOfBoundsException("Room has no door at index " + theDoorIdx);
     }
     /**
      * Gets the door in the specific direction.
      *
      * @param theDir The direction of the room.
-     * @return The door in the specific direction.
+     * @return The door in the specific direction, or null if that side has no door.
      */
     public final Door getDoor(final Direction theDir) {
-        return switch (theDir) {
-            case NORTH -> getDoor(NORTH_DOOR);
-            case SOUTH -> getDoor(SOUTH_DOOR);
-            case EAST -> getDoor(EAST_DOOR);
-            case WEST -> getDoor(WEST_DOOR);
-        };
+        final int side = side(theDir);
+        return (getDoorState(side) & PRESENT) == 0 ? null : view(side);
+    }
+    /**
+     * Checks whether the door in the given direction is locked, without creating a Door view.
+     *
+     * @param theDir the side of the room.
+     * @return true if the door is locked, false otherwise.
+     */
+    public final boolean isDoorLocked(final Direction theDir) {
+        return (getDoorState(side(theDir)) & LOCK) != 0;
+    }
+    /**
+     * Checks whether the door in the given direction is closed, without creating a Door view.
+     *
+     * @param theDir the side of the room.
+     * @return true if the door is closed, false otherwise.
+     */
+    public final boolean isDoorClosed(final Direction theDir) {
+        return (getDoorState(side(theDir)) & CLOSED) != 0;
+    }
+    /**
+     * Checks whether the door in the given direction is permanently locked, without creating a Door view.
+     *
+     * @param theDir the side of the room.
+     * @return true if the door is permanently locked, false otherwise.
+     */
+    public final boolean isDoorPermanentlyLocked(final Direction theDir) {
+        return (getDoorState(side(theDir)) & PERMANENT) != 0;
+    }
+    /**
+     * Resets every door of the room to unlocked and closed, leaving permanent locks in place.
+     */
+    public final void resetDoors() {
+        for (int side = 0; side < SIDES; side++) {
+            final int state = getDoorState(side);
+            if ((state & PRESENT) != 0) {
+                setDoorState(side, (state & ~LOCK) | CLOSED);
+            }
+        }
     }
     /**
      * Checks whether the room is a start room.
      *
-     * @return myStart as true if the room is a start room, false otherwise
+     * @return true if the room is a start room, false otherwise
      */
     public final boolean getStart() {
-        return myStart;
+        return hasFlag(START);
     }
     /**
      * Sets whether the room is a start one.
@@ -262,18 +377,98 @@ public class Room implements Serializable {
      * @throws IllegalArgumentException if the room is already marked as start room.
      */
     public final void setStart(final boolean theStart) {
-        if (myStart && theStart) {
+        if (hasFlag(START) && theStart) {
             throw new IllegalStateException("Room is already marked as a start room.");
         }
-        myStart = theStart;
+        setFlag(START, theStart);
     }
     /**
      * Returns the list of doors in the room.
      *
-     * @return myDoors returns the list of doors.
+     * @return the doors of the sides that have one, in the order north, south, east, west.
      */
     public final List<Door> getDoors() {
-        return myDoors;
+        final List<Door> doors = new ArrayList<>(SIDES);
+        for (int side = 0; side < SIDES; side++) {
+            if ((getDoorState(side) & PRESENT) != 0) {
+                doors.add(view(side));
+            }
+        }
+        return doors;
+    }
+    /**
+     * Gets the state bits of one side.
+     *
+     * @param theSide the index of the side.
+     * @return the {@link #LOCK}, {@link #CLOSED}, {@link #PERMANENT} and {@link #PRESENT} bits of the side.
+     */
+    final int getDoorState(final int theSide) {
+        if (myEdges != null) {
+            return myEdges.get(myRow, myCol, DIRECTIONS[theSide]) | PRESENT;
+        }
+        return (myDoorBits >>> (theSide * BITS_PER_SIDE)) & SIDE_MASK;
+    }
+    /**
+     * Replaces the state bits of one side.
+     *
+     * @param theSide the index of the side.
+     * @param theState the new state bits of the side.
+     */
+    final void setDoorState(final int theSide, final int theState) {
+        if (myEdges != null) {
+            myEdges.set(myRow, myCol, DIRECTIONS[theSide], theState & ~PRESENT);
+            return;
+        }
+        final int shift = theSide * BITS_PER_SIDE;
+        myDoorBits = (short) ((myDoorBits & ~(SIDE_MASK << shift)) | ((theState & SIDE_MASK) << shift));
+    }
+    /**
+     * Returns the Door view of a side, creating it on first use.
+     *
+     * @param theSide the index of the side.
+     * @return the door of the side.
+     */
+    private Door view(final int theSide) {
+        if (myDoorViews == null) {
+            myDoorViews = new Door[SIDES];
+        }
+        Door door = myDoorViews[theSide];
+        if (door == null) {
+            door = new Door(this, theSide, DIRECTIONS[theSide]);
+            myDoorViews[theSide] = door;
+        }
+        return door;
+    }
+    /**
+     * Checks whether a flag is set.
+     *
+     * @param theFlag the flag bit.
+     * @return true if the flag is set.
+     */
+    private boolean hasFlag(final int theFlag) {
+        return (myFlags & theFlag) != 0;
+    }
+    /**
+     * Sets or clears a flag.
+     *
+     * @param theFlag the flag bit.
+     * @param theSet true to set the flag, false to clear it.
+     */
+    private void setFlag(final int theFlag, final boolean theSet) {
+        myFlags = (byte) (theSet ? myFlags | theFlag : myFlags & ~theFlag);
+    }
+    /**
+     * Maps a direction to the index of its side.
+     *
+     * @param theDir the direction.
+     * @return the index of the side.
+     */
+    private static int side(final Direction theDir) {
+        return switch (theDir) {
+            case NORTH -> NORTH_DOOR;
+            case SOUTH -> SOUTH_DOOR;
+            case EAST -> EAST_DOOR;
+            case WEST -> WEST_DOOR;
+        };
     }
 }
-
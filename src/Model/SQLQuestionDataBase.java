@@ -3,17 +3,29 @@ package Model;
 import org.sqlite.SQLiteDataSource;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a database manager for storing and retrieving questions using SQLite.
+ * <p>
+ * Each question is stored once, keyed by an integer ID, with its text unique and its
+ * type indexed, and the choices of a question are rows of their own. Databases made
+ * before this schema are migrated when the database is initialized: the old table's
+ * repeated rows are dropped, keeping the first of each, and its options are split out.
  *
  * @author Binal Dhaliwal, Anagha Krishna
  * @version 1.0
@@ -24,9 +36,135 @@ public class SQLQuestionDataBase {
      */
     private static final Logger LOGGER = Logger.getLogger(SQLQuestionDataBase.class.getName());
     /**
-     * The data source for the database.
+     * The file holding the database.
      */
-    private static SQLiteDataSource DS;
+    public static final String DATABASE_FILE = "questions.db";
+    /**
+     * The version of the schema, kept in the database's user_version.
+     */
+    static final int SCHEMA_VERSION = 1;
+    /**
+     * The most connections the pool keeps open.
+     */
+    private static final int POOL_SIZE = 4;
+    /**
+     * The number of rows sent to the database in one batch.
+     */
+    private static final int BATCH_SIZE = 1_000;
+    /**
+     * The statements that create the schema.
+     */
+    private static final String[] CREATE_SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS questions ( " +
+                    "ID INTEGER PRIMARY KEY, " +
+                    "QUESTION_TYPE TEXT NOT NULL, " +
+                    "QUESTION TEXT NOT NULL UNIQUE, " +
+                    "ANSWER TEXT NOT NULL" +
+                    ")",
+            "CREATE INDEX IF NOT EXISTS questions_by_type ON questions (QUESTION_TYPE)",
+            "CREATE TABLE IF NOT EXISTS question_options ( " +
+                    "QUESTION_ID INTEGER NOT NULL REFERENCES questions (ID) ON DELETE CASCADE, " +
+                    "POSITION INTEGER NOT NULL, " +
+                    "OPTION_TEXT TEXT NOT NULL, " +
+                    "PRIMARY KEY (QUESTION_ID, POSITION)" +
+                    ") WITHOUT ROWID"
+    };
+    /**
+     * The name the table of an old database is moved to while it is migrated.
+     */
+    private static final String LEGACY_TABLE = "questions_legacy";
+    /**
+     * The columns a question is read from, followed by one of its options.
+     */
+    private static final String SELECT_COLUMNS = "SELECT q.ID, q.QUESTION_TYPE, q.QUESTION, q.ANSWER, o.OPTION_TEXT " +
+            "FROM questions q LEFT JOIN question_options o ON o.QUESTION_ID = q.ID ";
+    /**
+     * The query that reads every question.
+     */
+    private static final String SELECT_QUESTIONS = SELECT_COLUMNS + "ORDER BY q.ID, o.POSITION";
+    /**
+     * The query that reads the questions of one type, through the type index.
+     */
+    private static final String SELECT_QUESTIONS_OF_TYPE = SELECT_COLUMNS +
+            "WHERE q.QUESTION_TYPE = ? ORDER BY q.ID, o.POSITION";
+    /**
+     * The query that reads one question if it has the given ID and type.
+     */
+    private static final String SELECT_QUESTION = SELECT_COLUMNS +
+            "WHERE q.ID = ? AND q.QUESTION_TYPE = ? ORDER BY o.POSITION";
+    /**
+     * The query that finds the lowest ID of a type, with one seek of the type index.
+     */
+    private static final String SELECT_FIRST_ID = "SELECT ID FROM questions WHERE QUESTION_TYPE = ? ORDER BY ID LIMIT 1";
+    /**
+     * The query that finds the highest ID of a type, with one seek of the type index.
+     */
+    private static final String SELECT_LAST_ID =
+            "SELECT ID FROM questions WHERE QUESTION_TYPE = ? ORDER BY ID DESC LIMIT 1";
+    /**
+     * The query that lists the IDs of a type from the type index alone.
+     */
+    private static final String SELECT_IDS_OF_TYPE = "SELECT ID FROM questions WHERE QUESTION_TYPE = ?";
+    /**
+     * The statement that inserts one question, unless its text is already stored.
+     */
+    private static final String INSERT_QUESTION =
+            "INSERT OR IGNORE INTO questions (QUESTION_TYPE, QUESTION, ANSWER) VALUES (?, ?, ?)";
+    /**
+     * The statement that inserts one option of the question with the given text.
+     */
+    private static final String INSERT_OPTION = "INSERT OR IGNORE INTO question_options " +
+            "(QUESTION_ID, POSITION, OPTION_TEXT) SELECT ID, ?, ? FROM questions WHERE QUESTION = ?";
+    /**
+     * The number of random IDs tried per question wanted before a sample falls back to
+     * listing the IDs of the type.
+     */
+    private static final int SAMPLE_TRIES_PER_QUESTION = 8;
+    /**
+     * The sample questions, as rows of type, question, answer and options.
+     */
+    private static final String[][] SAMPLE_QUESTIONS = {
+            {"Multiple-Choice", "Which actress played the lead role in the movie 'The Hunger Games'?", "c) Jennifer Lawrence", "a) Jennifer Aniston;b) Jennifer Garner;c) Jennifer Lawrence"},
+            {"Multiple-Choice", "Who is the main antagonist in 'The Lion King'?", "a) Scar", "a) Scar;b) Simba;c) Rafiki"},
+            {"Multiple-Choice", "In which country would you find the Great Wall?", "a) China", "a) China;b) United States;c) India"},
+            {"Multiple-Choice", "In which city is the famous Taj Mahal located?", "a) Agra, India", "a) Agra, India;b) Beijing, China;c) Cairo, Egypt"},
+            {"Multiple-Choice", "What is the capital city of Australia?", "c) Canberra", "a) Sydney;b) Melbourne;c) Canberra"},
+            {"Multiple-Choice", "What's the smallest country in the world?", "b) Vatican City", "a) Monaco;b) Vatican City;c) Luxembourg"},
+            {"Multiple-Choice", "What is the largest animal on Earth?", "a) Blue whale", "a) Blue whale;b) Elephant;c) Giraffe"},
+            {"Multiple-Choice", "What is the first element on the periodic table?", "a) Hydrogen", "a) Hydrogen;b) Oxygen;c) Carbon"},
+            {"Multiple-Choice", "Which famous scientist developed the theory of relativity?", "b) Albert Einstein", "a) Isaac Newton;b) Albert Einstein;c) Galileo Galileio"},
+            {"Multiple-Choice", "Who is the founder of Microsoft?", "a) Bill Gates", "a) Bill Gates;b) Steve Jobs;c) Mark Zuckerberg"},
+
+            {"True/False", "A chicken can live without a head long after it is chopped off.", "True", "True;False"},
+            {"True/False", "Bananas are berries.", "True", "True;False"},
+            {"True/False", "You can sneeze while asleep.", "False", "True;False"},
+            {"True/False", "Google was initially called BackRub.", "True", "True;False"},
+            {"True/False", "The Titanic sank on its maiden voyage.", "True", "True;False"},
+            {"True/False", "A group of crows is called a 'murder.'", "True", "True;False"},
+            {"True/False", "The Big Apple is a nickname given to Washington D.C in 1971.", "False", "True;False"},
+            {"True/False", "Mars is known as the 'Red Planet' due to its blue skies.", "False", "True;False"},
+            {"True/False", "A kilogram of lead is heavier than a kilogram of feathers.", "False", "True;False"},
+            {"True/False", "Leonardo da Vinci painted the Sistine Chapel ceiling.", "False", "True;False"},
+
+            {"Short Answer", "What is the largest mammal in the world?", "Blue whale", ""},
+            {"Short Answer", "What is the name of the largest ocean on Earth?", "Pacific Ocean", ""},
+            {"Short Answer", "In the story of Snow White, how many dwarfs are there?", "Seven", ""},
+            {"Short Answer", "Who is the king of the gods in Greek mythology?", "Zeus", ""},
+            {"Short Answer", "What do bees collect to make honey?", "Nectar", ""},
+            {"Short Answer", "How many wives did King Henry VIII have?", "Six", ""},
+            {"Short Answer", "In mathematics, what is the name for a number that is not a prime number and has more than two factors?", "Composite Number", ""},
+            {"Short Answer", "Who is the Greek god of war and son of Zeus and Hera?", "Ares", ""},
+            {"Short Answer", "What is the chemical symbol for the element mercury?", "Hg", ""},
+            {"Short Answer", "What is the official animal of Scotland?", "Unicorn", ""}
+    };
+    /**
+     * The data source for the database, volatile as it is read by background loaders.
+     */
+    private static volatile SQLiteDataSource DS;
+    /**
+     * The pool of connections to the database, volatile as it is read by background loaders.
+     */
+    private static volatile ConnectionPool POOL;
 
     /**
      * Entry point for the database operations.
@@ -35,7 +173,6 @@ public class SQLQuestionDataBase {
      */
     public static void main(final String[] theArgs) {
         initializeDatabase();
-        createQuestionsTable();
         insertQuestions();
         displayAllQuestions();
         readQuestionsFromDatabase();
@@ -52,37 +189,171 @@ public class SQLQuestionDataBase {
     }
 
     /**
-     * Initializes the SQLite database connection.
+     * Gets the pool of connections to the database.
+     *
+     * @return the pool, or null if the database has not been initialized
+     */
+    public static ConnectionPool getConnectionPool() {
+        return POOL;
+    }
+
+    /**
+     * Initializes the SQLite database connection and the pool of connections to it,
+     * and brings the database up to the current schema.
      */
     public static void initializeDatabase() {
+        initializeDatabase(DATABASE_FILE);
+    }
+
+    /**
+     * Initializes the connection and the pool of connections to the database in the given
+     * file instead of the game's own, and brings that database up to the current schema.
+     * The new pool is in place before the old one is closed, so a query running meanwhile
+     * on another thread either finishes on the old pool or moves to the new one.
+     *
+     * @param theFile the file holding the database.
+     * @throws IllegalArgumentException if the file is null.
+     */
+    public static synchronized void initializeDatabase(final String theFile) {
+        if (theFile == null) {
+            throw new IllegalArgumentException("Database file cannot be null");
+        }
         try {
-            DS = new SQLiteDataSource();
-            DS.setUrl("jdbc:sqlite:questions.db");
+            final SQLiteDataSource source = new SQLiteDataSource();
+            source.setUrl("jdbc:sqlite:" + theFile);
+            final ConnectionPool old = POOL;
+            DS = source;
+            POOL = new ConnectionPool(() -> open(source), POOL_SIZE);
+            if (old != null) {
+                old.close();
+            }
             System.out.println("Opened database successfully");
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error initializing database", e);
             System.exit(0);
         }
+        try {
+            migrate();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error migrating database", e);
+        }
     }
 
     /**
-     * Creates the 'questions' table if it does not exist in the database.
-     * The table structure includes QUESTION, ANSWER, and OPTIONS columns.
+     * Opens a connection to the database with foreign keys enforced, which SQLite leaves
+     * off for each new connection, so that deleting a question deletes its options.
+     *
+     * @param theSource the data source of the database.
+     * @return the new connection.
+     * @throws SQLException if the connection cannot be opened
      */
-    private static void createQuestionsTable() {
-        final String query = "CREATE TABLE IF NOT EXISTS questions ( " +
-                "QUESTION TEXT NOT NULL, " +
-                "ANSWER TEXT NOT NULL, " +
-                "OPTIONS TEXT NOT NULL" +
-                ")";
+    private static Connection open(final SQLiteDataSource theSource) throws SQLException {
+        final Connection conn = theSource.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = ON");
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        return conn;
+    }
 
-        try (Connection conn = DS.getConnection();
-             final Statement stmt = conn.createStatement()) {
-            final int rv = stmt.executeUpdate(query);
-            System.out.println("Created questions table successfully. executeUpdate() returned " + rv);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error initializing database", e);
-            System.exit(0);
+    /**
+     * Borrows a connection from the current pool, moving to the new pool if the one read
+     * is closed because the database was initialized again meanwhile.
+     *
+     * @return the lease of the connection, to be closed when done.
+     * @throws SQLException if no connection can be had from the current pool
+     */
+    private static ConnectionPool.Lease lease() throws SQLException {
+        ConnectionPool pool = POOL;
+        while (true) {
+            try {
+                return pool.lease();
+            } catch (SQLException e) {
+                final ConnectionPool current = POOL;
+                if (current == pool) {
+                    throw e;
+                }
+                pool = current;
+            }
+        }
+    }
+
+    /**
+     * Creates the schema if the database has none, or moves an old database to it in one
+     * transaction: the old table's rows are copied without repeats, keeping the first row
+     * of each question, and their semicolon separated options become rows of their own.
+     *
+     * @throws SQLException if the database cannot be migrated; it is then left unchanged
+     */
+    static void migrate() throws SQLException {
+        try (ConnectionPool.Lease lease = lease();
+             final Statement stmt = lease.getConnection().createStatement()) {
+            final Connection conn = lease.getConnection();
+            if (queryInt(stmt, "PRAGMA user_version") >= SCHEMA_VERSION) {
+                return;
+            }
+            conn.setAutoCommit(false);
+            final boolean legacy = queryInt(stmt,
+                    "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = 'questions'") > 0;
+            if (legacy) {
+                stmt.executeUpdate("ALTER TABLE questions RENAME TO " + LEGACY_TABLE);
+            }
+            for (String query : CREATE_SCHEMA) {
+                stmt.executeUpdate(query);
+            }
+            if (legacy) {
+                final List<Row> rows = readLegacyRows(stmt);
+                final int kept = insertRows(lease, rows);
+                stmt.executeUpdate("DROP TABLE " + LEGACY_TABLE);
+                LOGGER.info("Migrated questions table: kept " + kept + " distinct questions");
+            }
+            stmt.executeUpdate("PRAGMA user_version = " + SCHEMA_VERSION);
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Reads the rows of the old table, dropping every row whose question text came earlier.
+     *
+     * @param theStmt a statement on the connection migrating the database.
+     * @return the distinct rows, in the order they were inserted.
+     * @throws SQLException if the old table cannot be read
+     */
+    private static List<Row> readLegacyRows(final Statement theStmt) throws SQLException {
+        boolean hasType = false;
+        try (ResultSet rs = theStmt.executeQuery("PRAGMA table_info(" + LEGACY_TABLE + ")")) {
+            while (rs.next()) {
+                hasType |= "QUESTION_TYPE".equalsIgnoreCase(rs.getString("name"));
+            }
+        }
+        final String type = hasType ? "QUESTION_TYPE" : "'Multiple-Choice'";
+        final Map<String, Row> rows = new LinkedHashMap<>();
+        try (ResultSet rs = theStmt.executeQuery("SELECT " + type + ", QUESTION, ANSWER, OPTIONS FROM "
+                + LEGACY_TABLE + " ORDER BY rowid")) {
+            while (rs.next()) {
+                final String question = rs.getString(2);
+                if (question != null && rs.getString(3) != null && !rows.containsKey(question)) {
+                    rows.put(question, Row.of(rs.getString(1), question, rs.getString(3), rs.getString(4)));
+                }
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    /**
+     * Runs a query that returns a single number.
+     *
+     * @param theStmt the statement to run it with.
+     * @param theQuery the query.
+     * @return the number, or 0 if the query returns no rows.
+     * @throws SQLException if the query fails
+     */
+    private static int queryInt(final Statement theStmt, final String theQuery) throws SQLException {
+        try (ResultSet rs = theStmt.executeQuery(theQuery)) {
+            return rs.next() ? rs.getInt(1) : 0;
         }
     }
 
@@ -91,73 +362,143 @@ public class SQLQuestionDataBase {
      */
     private static void insertQuestions() {
         System.out.println("Inserting questions into questions table");
-        final String[] queries = {
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'Which actress played the lead role in the movie ''The Hunger Games''?', 'c) Jennifer Lawrence', 'a) Jennifer Aniston;b) Jennifer Garner;c) Jennifer Lawrence')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'Who is the main antagonist in ''The Lion King''?', 'a) Scar', 'a) Scar;b) Simba;c) Rafiki')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'In which country would you find the Great Wall?', 'a) China', 'a) China;b) United States;c) India')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'In which city is the famous Taj Mahal located?', 'a) Agra, India', 'a) Agra, India;b) Beijing, China;c) Cairo, Egypt')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'What is the capital city of Australia?', 'c) Canberra', 'a) Sydney;b) Melbourne;c) Canberra')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'What''s the smallest country in the world?', 'b) Vatican City', 'a) Monaco;b) Vatican City;c) Luxembourg')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'What is the largest animal on Earth?', 'a) Blue whale', 'a) Blue whale;b) Elephant;c) Giraffe')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'What is the first element on the periodic table?', 'a) Hydrogen', 'a) Hydrogen;b) Oxygen;c) Carbon')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'Which famous scientist developed the theory of relativity?', 'b) Albert Einstein', 'a) Isaac Newton;b) Albert Einstein;c) Galileo Galileio')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Multiple-Choice', 'Who is the founder of Microsoft?', 'a) Bill Gates', 'a) Bill Gates;b) Steve Jobs;c) Mark Zuckerberg')",
-
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'A chicken can live without a head long after it is chopped off.', 'True', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'Bananas are berries.', 'True', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'You can sneeze while asleep.', 'False', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'Google was initially called BackRub.', 'True', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'The Titanic sank on its maiden voyage.', 'True', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'A group of crows is called a ''murder.''', 'True', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'The Big Apple is a nickname given to Washington D.C in 1971.', 'False', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'Mars is known as the ''Red Planet'' due to its blue skies.', 'False', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'A kilogram of lead is heavier than a kilogram of feathers.', 'False', 'True;False')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('True/False', 'Leonardo da Vinci painted the Sistine Chapel ceiling.', 'False', 'True;False')",
-
-
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'What is the largest mammal in the world?', 'Blue whale', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'What is the name of the largest ocean on Earth?', 'Pacific Ocean', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'In the story of Snow White, how many dwarfs are there?', 'Seven', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'Who is the king of the gods in Greek mythology?', 'Zeus', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'What do bees collect to make honey?', 'Nectar', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'How many wives did King Henry VIII have?', 'Six', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'In mathematics, what is the name for a number that is not a prime number and has more than two factors?', 'Composite Number', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'Who is the Greek god of war and son of Zeus and Hera?', 'Ares', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'What is the chemical symbol for the element mercury?', 'Hg', '')",
-                "INSERT INTO questions (QUESTION_TYPE, QUESTION, ANSWER, OPTIONS) VALUES ('Short Answer', 'What is the official animal of Scotland?', 'Unicorn', '')"
-
-
-        };
-        try (Connection conn = DS.getConnection();
-             final Statement stmt = conn.createStatement()) {
-            for (String query : queries) {
-                System.out.println("Executing query: " + query);
-                final int rv = stmt.executeUpdate(query);
-                System.out.println("executeUpdate() returned " + rv);
-            }
+        final List<Row> rows = new ArrayList<>(SAMPLE_QUESTIONS.length);
+        for (String[] question : SAMPLE_QUESTIONS) {
+            rows.add(Row.of(question[0], question[1], question[2], question[3]));
+        }
+        try {
+            final int rv = insertRows(rows);
+            System.out.println("Inserted " + rv + " new questions");
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error executing SQL queries", e);
             System.exit(0);
         }
     }
 
+    /**
+     * Inserts questions into the 'questions' table in batches, all in one transaction,
+     * so either every question is stored or none is. A question whose text is already
+     * stored is skipped.
+     *
+     * @param theQuestions the questions to insert.
+     * @return the number of new questions stored, or 0 if they could not be inserted
+     * @throws IllegalArgumentException if the list or a question in it is null
+     */
+    public static int insertQuestions(final List<? extends Question> theQuestions) {
+        if (theQuestions == null || theQuestions.contains(null)) {
+            throw new IllegalArgumentException("Questions cannot be null");
+        }
+        final List<Row> rows = new ArrayList<>(theQuestions.size());
+        for (Question question : theQuestions) {
+            rows.add(new Row(question.getQuestionType(), question.getQuestionText(),
+                    question.getAnswerText(), optionsOf(question)));
+        }
+        try {
+            return insertRows(rows);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error inserting questions", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Inserts rows in one transaction.
+     *
+     * @param theRows the rows.
+     * @return the number of new questions stored.
+     * @throws SQLException if the rows cannot be inserted; none are then stored.
+     */
+    private static int insertRows(final List<Row> theRows) throws SQLException {
+        try (ConnectionPool.Lease lease = lease()) {
+            final Connection conn = lease.getConnection();
+            conn.setAutoCommit(false);
+            final int inserted = insertRows(lease, theRows);
+            conn.commit();
+            conn.setAutoCommit(true);
+            return inserted;
+        }
+    }
+
+    /**
+     * Inserts rows with one prepared statement for the questions and one for their options,
+     * sending them in batches, within the transaction already open on the lease.
+     *
+     * @param theLease the lease of the connection.
+     * @param theRows the rows.
+     * @return the number of new questions stored.
+     * @throws SQLException if the rows cannot be inserted
+     */
+    private static int insertRows(final ConnectionPool.Lease theLease, final List<Row> theRows)
+            throws SQLException {
+        final PreparedStatement questionStmt = theLease.prepare(INSERT_QUESTION);
+        final PreparedStatement optionStmt = theLease.prepare(INSERT_OPTION);
+        int inserted = 0;
+        int pending = 0;
+        for (Row row : theRows) {
+            questionStmt.setString(1, row.type());
+            questionStmt.setString(2, row.question());
+            questionStmt.setString(3, row.answer());
+            questionStmt.addBatch();
+            for (int i = 0; i < row.options().size(); i++) {
+                optionStmt.setInt(1, i);
+                optionStmt.setString(2, row.options().get(i));
+                optionStmt.setString(3, row.question());
+                optionStmt.addBatch();
+            }
+            if (++pending == BATCH_SIZE) {
+                inserted += executeBatches(questionStmt, optionStmt);
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            inserted += executeBatches(questionStmt, optionStmt);
+        }
+        return inserted;
+    }
+
+    /**
+     * Sends a batch of questions, then the batch of their options.
+     *
+     * @param theQuestionStmt the statement holding the questions.
+     * @param theOptionStmt the statement holding the options.
+     * @return the number of new questions stored.
+     * @throws SQLException if a batch fails
+     */
+    private static int executeBatches(final PreparedStatement theQuestionStmt,
+                                      final PreparedStatement theOptionStmt) throws SQLException {
+        int inserted = 0;
+        for (int count : theQuestionStmt.executeBatch()) {
+            inserted += Math.max(count, 0);
+        }
+        theOptionStmt.executeBatch();
+        return inserted;
+    }
+
+    /**
+     * Gets the options of a question: the choices of a multiple choice question,
+     * both answers of a true or false question, or none.
+     *
+     * @param theQuestion the question.
+     * @return the options.
+     */
+    private static List<String> optionsOf(final Question theQuestion) {
+        if (theQuestion instanceof MultipleChoiceQuestion mcQuestion && mcQuestion.getChoices() != null) {
+            return List.of(mcQuestion.getChoices());
+        }
+        if (theQuestion instanceof TrueFalseQuestion) {
+            return List.of("True", "False");
+        }
+        return List.of();
+    }
+
     /**
      * Displays all questions stored in the 'questions' table.
      */
     private static void displayAllQuestions() {
         System.out.println("Selecting all rows from questions table");
-        String query = "SELECT * FROM questions";
-        try (Connection conn = DS.getConnection();
-             final Statement stmt = conn.createStatement()) {
-           final  ResultSet rs = stmt.executeQuery(query);
-            while (rs.next()) {
-                final String question = rs.getString("QUESTION");
-                final String answer = rs.getString("ANSWER");
-                System.out.println("Result: Question = " + question + ", Answer = " + answer);
-            }
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Error displaying all questions", e);
-            System.exit(0);
+        for (Question question : readQuestionsFromDatabase()) {
+            System.out.println("Result: Question = " + question.getQuestionText()
+                    + ", Answer = " + question.getAnswerText());
         }
     }
 
@@ -168,42 +509,223 @@ public class SQLQuestionDataBase {
      */
     public static List<Question> readQuestionsFromDatabase() {
         final List<Question> questions = new ArrayList<>();
-        String query = "SELECT * FROM questions";
 
-        try (Connection conn = DS.getConnection();
-             final Statement stmt = conn.createStatement();
-             final ResultSet rs = stmt.executeQuery(query)) {
+        try (ConnectionPool.Lease lease = lease();
+             final ResultSet rs = lease.prepare(SELECT_QUESTIONS).executeQuery()) {
+            readQuestions(rs, questions);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reading questions from database", e);
+        }
+        return questions;
+    }
 
-            while (rs.next()) {
-                final String questionText = rs.getString("QUESTION");
-                final String answerText = rs.getString("ANSWER");
-                final String questionType = rs.getString("QUESTION_TYPE");
-
-                switch (questionType) {
-                    case "Multiple-Choice" -> {
-                        final String optionsText = rs.getString("OPTIONS");
-                        final String[] choices = optionsText.split(";");
-                        final MultipleChoiceQuestion mcQuestion = new MultipleChoiceQuestion(questionText, answerText, questionType);
-                        mcQuestion.setChoices(choices);
-                        questions.add(mcQuestion);
-                    }
-                    case "True/False" -> {
-                        final TrueFalseQuestion tfQuestion = new TrueFalseQuestion(questionText, answerText, questionType);
-                        questions.add(tfQuestion);
-                    }
-                    case "Short Answer" -> {
-                        final ShortAnswerQuestion shortAnswerQ = new ShortAnswerQuestion(questionText, answerText, questionType);
-                        questions.add(shortAnswerQ);
+    /**
+     * Reads the questions of one type, finding them through the type index rather than
+     * reading the whole table.
+     *
+     * @param theType the type of question, such as "True/False".
+     * @return the questions of the type, in the order they were stored
+     * @throws IllegalArgumentException if the type is null
+     */
+    public static List<Question> readQuestionsOfType(final String theType) {
+        if (theType == null) {
+            throw new IllegalArgumentException("Question type cannot be null");
+        }
+        final List<Question> questions = new ArrayList<>();
+        try (ConnectionPool.Lease lease = lease()) {
+            final PreparedStatement stmt = lease.prepare(SELECT_QUESTIONS_OF_TYPE);
+            stmt.setString(1, theType);
+            try (ResultSet rs = stmt.executeQuery()) {
+                readQuestions(rs, questions);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reading questions from database", e);
+        }
+        return questions;
+    }
+
+    /**
+     * Reads a random sample of the questions of one type, every question of the type being
+     * equally likely and none repeated. The cost grows with the number of questions wanted
+     * rather than the size of the table: the sample probes random IDs between the lowest
+     * and highest ID of the type, one index lookup each, and only lists the IDs of the type
+     * when probing keeps missing, as when nearly every question of the type is wanted.
+     *
+     * @param theType the type of question, such as "True/False".
+     * @param theCount the number of questions wanted.
+     * @param theRandom the source of randomness.
+     * @return the sampled questions, fewer than wanted if the type has fewer
+     * @throws IllegalArgumentException if the type or generator is null or the count is negative
+     */
+    public static List<Question> sampleQuestions(final String theType, final int theCount,
+                                                 final RandomGenerator theRandom) {
+        return sampleQuestions(theType, theCount, Set.of(), theRandom);
+    }
+
+    /**
+     * Reads a random sample of the questions of one type, leaving out the questions with
+     * the given texts, as {@link #sampleQuestions(String, int, RandomGenerator)} does.
+     * This method can serve as a {@link QuestionSampler} for stores too large to keep in memory.
+     *
+     * @param theType the type of question, such as "True/False".
+     * @param theCount the number of questions wanted.
+     * @param theExclude the texts of questions not to draw, such as those already asked.
+     * @param theRandom the source of randomness.
+     * @return the sampled questions, fewer than wanted if the type has fewer left
+     * @throws IllegalArgumentException if an argument is null or the count is negative
+     */
+    public static List<Question> sampleQuestions(final String theType, final int theCount,
+                                                 final Set<String> theExclude, final RandomGenerator theRandom) {
+        if (theType == null || theExclude == null || theRandom == null || theCount < 0) {
+            throw new IllegalArgumentException("Arguments cannot be null, nor the count negative");
+        }
+        final List<Question> questions = new ArrayList<>(theCount);
+        if (theCount == 0) {
+            return questions;
+        }
+        try (ConnectionPool.Lease lease = lease()) {
+            final long first = queryId(lease, SELECT_FIRST_ID, theType);
+            final long last = queryId(lease, SELECT_LAST_ID, theType);
+            if (first < 0 || last < 0) {
+                return questions;
+            }
+            final PreparedStatement stmt = lease.prepare(SELECT_QUESTION);
+            stmt.setString(2, theType);
+            final Set<Long> tried = new LinkedHashSet<>();
+            final long range = last - first + 1;
+            for (long tries = (long) SAMPLE_TRIES_PER_QUESTION * theCount;
+                 questions.size() < theCount && tries > 0 && tried.size() < range; tries--) {
+                final long id = theRandom.nextLong(first, last + 1);
+                if (tried.add(id)) {
+                    readQuestion(stmt, id, questions, theExclude);
+                }
+            }
+            if (questions.size() < theCount) {
+                final List<Long> rest = new ArrayList<>();
+                final PreparedStatement ids = lease.prepare(SELECT_IDS_OF_TYPE);
+                ids.setString(1, theType);
+                try (ResultSet rs = ids.executeQuery()) {
+                    while (rs.next()) {
+                        if (!tried.contains(rs.getLong(1))) {
+                            rest.add(rs.getLong(1));
+                        }
                     }
-                    default -> LOGGER.warning("Invalid question type: " + questionType);
+                }
+                QuestionFactory.shuffle(rest, theRandom);
+                for (int i = 0; i < rest.size() && questions.size() < theCount; i++) {
+                    readQuestion(stmt, rest.get(i), questions, theExclude);
                 }
             }
         } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Error reading questions from database", e);
+            LOGGER.log(Level.SEVERE, "Error sampling questions from database", e);
         }
         return questions;
     }
 
+    /**
+     * Runs a query for one ID of a type.
+     *
+     * @param theLease the lease of the connection.
+     * @param theQuery the query.
+     * @param theType the type of question.
+     * @return the ID, or -1 if there is none.
+     * @throws SQLException if the query fails
+     */
+    private static long queryId(final ConnectionPool.Lease theLease, final String theQuery, final String theType)
+            throws SQLException {
+        final PreparedStatement stmt = theLease.prepare(theQuery);
+        stmt.setString(1, theType);
+        try (ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+
+    /**
+     * Reads the question with the given ID, if it has the type already set on the statement
+     * and its text is not excluded.
+     *
+     * @param theStmt the prepared query for one question.
+     * @param theId the ID.
+     * @param theQuestions the list the question is added to.
+     * @param theExclude the texts of questions not to add.
+     * @throws SQLException if the query fails
+     */
+    private static void readQuestion(final PreparedStatement theStmt, final long theId,
+                                     final List<Question> theQuestions, final Set<String> theExclude)
+            throws SQLException {
+        final int size = theQuestions.size();
+        theStmt.setLong(1, theId);
+        try (ResultSet rs = theStmt.executeQuery()) {
+            readQuestions(rs, theQuestions);
+        }
+        if (theQuestions.size() > size && theExclude.contains(theQuestions.get(size).getQuestionText())) {
+            theQuestions.remove(size);
+        }
+    }
+
+    /**
+     * Converts the rows of a question query into questions. Each question comes in as many
+     * rows as it has options, in order, or one row with no option.
+     *
+     * @param theRs the rows of ID, type, question, answer and option.
+     * @param theQuestions the list the questions are added to.
+     * @throws SQLException if the rows cannot be read
+     */
+    private static void readQuestions(final ResultSet theRs, final List<Question> theQuestions)
+            throws SQLException {
+        final List<String> options = new ArrayList<>();
+        Row row = null;
+        long id = 0;
+        while (theRs.next()) {
+            if (row == null || theRs.getLong(1) != id) {
+                if (row != null) {
+                    addQuestion(theQuestions, row, options);
+                }
+                id = theRs.getLong(1);
+                row = new Row(theRs.getString(2), theRs.getString(3), theRs.getString(4), List.of());
+                options.clear();
+            }
+            final String option = theRs.getString(5);
+            if (option != null) {
+                options.add(option);
+            }
+        }
+        if (row != null) {
+            addQuestion(theQuestions, row, options);
+        }
+    }
+
+    /**
+     * Converts a stored question into a Question object of its type.
+     *
+     * @param theQuestions the list the question is added to.
+     * @param theRow the question.
+     * @param theOptions the options of the question.
+     */
+    private static void addQuestion(final List<Question> theQuestions, final Row theRow,
+                                    final List<String> theOptions) {
+        final String questionType = theRow.type();
+        final String questionText = theRow.question();
+        final String answerText = theRow.answer();
+
+        switch (questionType) {
+            case "Multiple-Choice" -> {
+                final MultipleChoiceQuestion mcQuestion = new MultipleChoiceQuestion(questionText, answerText, questionType);
+                mcQuestion.setChoices(theOptions.toArray(new String[0]));
+                theQuestions.add(mcQuestion);
+            }
+            case "True/False" -> {
+                final TrueFalseQuestion tfQuestion = new TrueFalseQuestion(questionText, answerText, questionType);
+                theQuestions.add(tfQuestion);
+            }
+            case "Short Answer" -> {
+                final ShortAnswerQuestion shortAnswerQ = new ShortAnswerQuestion(questionText, answerText, questionType);
+                theQuestions.add(shortAnswerQ);
+            }
+            default -> LOGGER.warning("Invalid question type: " + questionType);
+        }
+    }
+
     /**
      * Closes the scanner used for user input.
      */
@@ -212,6 +734,30 @@ public class SQLQuestionDataBase {
         final Scanner input = new Scanner(System.in);
         input.nextLine();
     }
-}
-
 
+    /**
+     * A question as stored.
+     *
+     * @param type the type of question.
+     * @param question the text of the question.
+     * @param answer the correct answer.
+     * @param options the options, in order.
+     */
+    private record Row(String type, String question, String answer, List<String> options) {
+        /**
+         * Makes a row from options separated by semicolons, as the old table kept them.
+         *
+         * @param theType the type of question.
+         * @param theQuestion the text of the question.
+         * @param theAnswer the correct answer.
+         * @param theOptions the options separated by semicolons, empty or null if none.
+         * @return the row.
+         */
+        static Row of(final String theType, final String theQuestion, final String theAnswer,
+                      final String theOptions) {
+            final List<String> options = theOptions == null || theOptions.isEmpty()
+                    ? List.of() : Arrays.asList(theOptions.split(";"));
+            return new Row(theType, theQuestion, theAnswer, options);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package Model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a maze with Wilson's algorithm: loop-erased random walks from each cell
+ * outside the maze until they hit it. Every spanning tree is equally likely, so the
+ * result has no bias towards long corridors or short dead ends.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public final class WilsonGenerator implements MazeGenerator {
+    /**
+     * The index into {@link GridCells#DIRECTIONS} of the last step taken out of each cell.
+     * Overwriting it when a walk revisits a cell is what erases the loop.
+     */
+    private byte[] myStep;
+    /**
+     * The cells already carved into the maze.
+     */
+    private long[] myInMaze;
+
+    /**
+     * Carves the maze with a loop-erased random walk from every cell not yet in it.
+     *
+     * @param theMaze the maze to carve.
+     * @param theRandom the source of randomness.
+     */
+    @Override
+    public void generate(final Maze theMaze, final RandomGenerator theRandom) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        final int cells = rows * cols;
+        if (myStep == null || myStep.length < cells) {
+            myStep = new byte[cells];
+        }
+        myInMaze = GridCells.clearedBits(myInMaze, cells);
+        GridCells.set(myInMaze, theRandom.nextInt(cells));
+
+        for (int start = 0; start < cells; start++) {
+            if (GridCells.get(myInMaze, start)) {
+                continue;
+            }
+            int cell = start;
+            while (!GridCells.get(myInMaze, cell)) {
+                int next;
+                int step;
+                do {
+                    step = theRandom.nextInt(4);
+                    next = GridCells.neighbor(cell, GridCells.DIRECTIONS[step], rows, cols);
+                } while (next < 0);
+                myStep[cell] = (byte) step;
+                cell = next;
+            }
+
+            cell = start;
+            while (!GridCells.get(myInMaze, cell)) {
+                final Direction direction = GridCells.DIRECTIONS[myStep[cell]];
+                GridCells.set(myInMaze, cell);
+                theMaze.carvePassage(cell, direction);
+                cell = GridCells.neighbor(cell, direction, rows, cols);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package Test;
+
+import Controller.Bot;
+import Controller.BotStrategy;
+import Model.BacktrackerGenerator;
+import Model.GameEngine;
+import Model.GameModel;
+import Model.GameStatus;
+import Model.Maze;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Bot class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class BotTest {
+    /**
+     * The questions every test game asks.
+     */
+    private static final List<Question> QUESTIONS = List.of(
+            new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"),
+            new ShortAnswerQuestion("Largest planet?", "Jupiter", "Short Answer"));
+
+    /**
+     * Starts a game on a seeded maze.
+     *
+     * @param theSide the side of the maze.
+     * @param theSeed the seed of the maze.
+     * @return the engine of the game.
+     */
+    private static GameEngine newGame(final int theSide, final long theSeed) {
+        return new GameEngine(new GameModel(new Maze(theSide, theSide, new BacktrackerGenerator(), theSeed)),
+                QUESTIONS);
+    }
+
+    @Test
+    public void testOptimalBotThatNeverMissesTakesAShortestRoute() {
+        final Bot bot = new Bot(BotStrategy.OPTIMAL, 1.0, new SplittableRandom(17L));
+        for (long seed = 0; seed < 20; seed++) {
+            assertEquals(GameStatus.WON, bot.play(newGame(6, seed), 1_000));
+            assertEquals(10, bot.getMoves());
+            assertEquals(10, bot.getQuestions());
+        }
+    }
+
+    @Test
+    public void testBotThatAlwaysMissesLoses() {
+        for (BotStrategy strategy : BotStrategy.values()) {
+            final Bot bot = new Bot(strategy, 0.0, new SplittableRandom(17L));
+            final GameEngine engine = newGame(5, 3L);
+            assertEquals(GameStatus.LOST, bot.play(engine, 1_000));
+            assertEquals(0, bot.getMoves());
+            assertEquals(2, bot.getQuestions());
+            assertEquals(2, engine.getGameModel().getAnsweredQuestions().size());
+        }
+    }
+
+    @Test
+    public void testEveryStrategyWinsWithPerfectAnswers() {
+        for (BotStrategy strategy : BotStrategy.values()) {
+            final Bot bot = new Bot(strategy, 1.0, new SplittableRandom(17L));
+            for (long seed = 0; seed < 10; seed++) {
+                assertEquals(GameStatus.WON, bot.play(newGame(5, seed), 100_000), strategy.name());
+                assertTrue(bot.getMoves() >= 8);
+            }
+        }
+    }
+
+    @Test
+    public void testStepLimitStopsGame() {
+        final Bot bot = new Bot(BotStrategy.RANDOM, 1.0, new SplittableRandom(17L));
+        assertEquals(GameStatus.IN_PROGRESS, bot.play(newGame(8, 1L), 3));
+        assertEquals(3, bot.getMoves());
+    }
+
+    @Test
+    public void testSameSeedPlaysSameGame() {
+        final Bot first = new Bot(BotStrategy.GREEDY, 0.6, new SplittableRandom(5L));
+        final Bot second = new Bot(BotStrategy.GREEDY, 0.6, new SplittableRandom(5L));
+        assertEquals(first.play(newGame(7, 9L), 10_000), second.play(newGame(7, 9L), 10_000));
+        assertEquals(first.getMoves(), second.getMoves());
+        assertEquals(first.getQuestions(), second.getQuestions());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        final SplittableRandom random = new SplittableRandom();
+        assertThrows(IllegalArgumentException.class, () -> new Bot(null, 0.5, random));
+        assertThrows(IllegalArgumentException.class, () -> new Bot(BotStrategy.RANDOM, 0.5, null));
+        assertThrows(IllegalArgumentException.class, () -> new Bot(BotStrategy.RANDOM, 1.5, random));
+        assertThrows(IllegalArgumentException.class, () -> new Bot(BotStrategy.RANDOM, Double.NaN, random));
+        assertThrows(IllegalStateException.class,
+                () -> new Bot(BotStrategy.RANDOM, 0.5, random).play(
+                        new GameEngine(new GameModel(new Maze(3, 3)), List.of()), 10));
+        assertEquals(BotStrategy.GREEDY, BotStrategy.fromName(" greedy "));
+        assertThrows(IllegalArgumentException.class, () -> BotStrategy.fromName("clever"));
+    }
+}
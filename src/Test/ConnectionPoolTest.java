@@ -0,0 +1,250 @@
+package Test;
+
+import Model.ConnectionPool;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ConnectionPool class, against fake connections.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class ConnectionPoolTest {
+    /**
+     * The fake connections opened by the test, in order.
+     */
+    private final List<FakeConnection> myOpened = new ArrayList<>();
+
+    /**
+     * The state of a fake connection.
+     */
+    private static final class FakeConnection {
+        /**
+         * The connection handed to the pool.
+         */
+        private Connection myProxy;
+        /**
+         * Whether the connection is closed.
+         */
+        private boolean myClosed;
+        /**
+         * Whether the connection commits every statement.
+         */
+        private boolean myAutoCommit = true;
+        /**
+         * The number of statements prepared.
+         */
+        private int myPrepared;
+        /**
+         * The number of rollbacks.
+         */
+        private int myRollbacks;
+    }
+
+    /**
+     * Opens a fake connection that records what the pool does with it.
+     *
+     * @return the connection.
+     */
+    private Connection open() {
+        final FakeConnection fake = new FakeConnection();
+        fake.myProxy = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class}, (theProxy, theMethod, theArgs) -> switch (theMethod.getName()) {
+                    case "isClosed" -> fake.myClosed;
+                    case "close" -> {
+                        fake.myClosed = true;
+                        yield null;
+                    }
+                    case "getAutoCommit" -> fake.myAutoCommit;
+                    case "setAutoCommit" -> {
+                        fake.myAutoCommit = (Boolean) theArgs[0];
+                        yield null;
+                    }
+                    case "rollback" -> {
+                        fake.myRollbacks++;
+                        yield null;
+                    }
+                    case "prepareStatement" -> {
+                        fake.myPrepared++;
+                        yield statement();
+                    }
+                    case "hashCode" -> System.identityHashCode(theProxy);
+                    case "equals" -> theProxy == theArgs[0];
+                    default -> null;
+                });
+        myOpened.add(fake);
+        return fake.myProxy;
+    }
+
+    /**
+     * Makes a fake prepared statement.
+     *
+     * @return the statement.
+     */
+    private PreparedStatement statement() {
+        final boolean[] closed = new boolean[1];
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, (theProxy, theMethod, theArgs) -> switch (theMethod.getName()) {
+                    case "isClosed" -> closed[0];
+                    case "close" -> {
+                        closed[0] = true;
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(theProxy);
+                    case "equals" -> theProxy == theArgs[0];
+                    default -> null;
+                });
+    }
+
+    @Test
+    public void testConnectionIsReused() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 2);
+        Connection first;
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            first = lease.getConnection();
+        }
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            assertSame(first, lease.getConnection());
+        }
+        assertEquals(1, myOpened.size());
+        assertEquals(1, pool.getOpenCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testStatementsAreCachedPerConnection() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 1);
+        PreparedStatement first;
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            first = lease.prepare("SELECT 1");
+            assertSame(first, lease.prepare("SELECT 1"));
+        }
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            assertSame(first, lease.prepare("SELECT 1"));
+            assertNotSame(first, lease.prepare("SELECT 2"));
+        }
+        assertEquals(2, myOpened.get(0).myPrepared);
+    }
+
+    @Test
+    public void testOpensUpToSizeThenTimesOut() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 2, TimeUnit.MILLISECONDS.toNanos(50));
+        final ConnectionPool.Lease first = pool.lease();
+        final ConnectionPool.Lease second = pool.lease();
+
+        assertNotSame(first.getConnection(), second.getConnection());
+        assertThrows(SQLTimeoutException.class, pool::lease);
+        second.close();
+        try (ConnectionPool.Lease third = pool.lease()) {
+            assertSame(myOpened.get(1).myProxy, third.getConnection());
+        }
+        first.close();
+        assertEquals(2, myOpened.size());
+    }
+
+    @Test
+    public void testWaiterGetsConnectionGivenBack() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(this::open, 1);
+        final ConnectionPool.Lease held = pool.lease();
+        final AtomicInteger got = new AtomicInteger();
+        final Thread waiter = new Thread(() -> {
+            try (ConnectionPool.Lease lease = pool.lease()) {
+                if (lease.getConnection() == myOpened.get(0).myProxy) {
+                    got.incrementAndGet();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        waiter.start();
+        Thread.sleep(50);
+        held.close();
+        waiter.join(5_000);
+
+        assertEquals(1, got.get());
+        assertEquals(1, myOpened.size());
+    }
+
+    @Test
+    public void testOpenTransactionIsRolledBack() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 1);
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            lease.getConnection().setAutoCommit(false);
+        }
+        assertEquals(1, myOpened.get(0).myRollbacks);
+        assertTrue(myOpened.get(0).myAutoCommit);
+    }
+
+    @Test
+    public void testClosedConnectionIsDropped() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 1);
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            lease.getConnection().close();
+        }
+        assertEquals(0, pool.getOpenCount());
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            assertSame(myOpened.get(1).myProxy, lease.getConnection());
+        }
+    }
+
+    @Test
+    public void testLeaseCannotBeUsedAfterClose() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 1);
+        final ConnectionPool.Lease lease = pool.lease();
+        lease.close();
+        lease.close();
+
+        assertThrows(IllegalStateException.class, lease::getConnection);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testCloseClosesConnections() throws SQLException {
+        final ConnectionPool pool = new ConnectionPool(this::open, 2);
+        final ConnectionPool.Lease held = pool.lease();
+        pool.lease().close();
+        pool.close();
+
+        assertTrue(myOpened.get(1).myClosed);
+        assertFalse(myOpened.get(0).myClosed);
+        held.close();
+        assertTrue(myOpened.get(0).myClosed);
+        assertEquals(0, pool.getOpenCount());
+        assertThrows(SQLException.class, pool::lease);
+    }
+
+    @Test
+    public void testFailedOpenFreesSlot() throws SQLException {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ConnectionPool pool = new ConnectionPool(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new SQLException("unavailable");
+            }
+            return open();
+        }, 1);
+
+        assertThrows(SQLException.class, pool::lease);
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            assertNotNull(lease.getConnection());
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPool(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPool(this::open, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPool(this::open, 1, -1));
+    }
+}
@@ -38,5 +38,12 @@ public class DirectionTest {
         assertEquals(0, direction.getRow(), "WEST direction row should be 0");
         assertEquals(-1, direction.getCol(), "WEST direction col should be -1");
     }
-}
 
+    @Test
+    void testOppositeDirection() {
+        assertEquals(Direction.SOUTH, Direction.NORTH.getOpposite(), "NORTH should be opposite SOUTH");
+        assertEquals(Direction.NORTH, Direction.SOUTH.getOpposite(), "SOUTH should be opposite NORTH");
+        assertEquals(Direction.WEST, Direction.EAST.getOpposite(), "EAST should be opposite WEST");
+        assertEquals(Direction.EAST, Direction.WEST.getOpposite(), "WEST should be opposite EAST");
+    }
+}
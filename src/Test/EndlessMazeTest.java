@@ -0,0 +1,119 @@
+package Test;
+
+import Model.Direction;
+import Model.EndlessMaze;
+import Model.MazeSearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the EndlessMaze class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class EndlessMazeTest {
+    /**
+     * The spill file used by the tests.
+     */
+    private File mySpillFile;
+    /**
+     * The EndlessMaze instance to be tested.
+     */
+    private EndlessMaze myMaze;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mySpillFile = File.createTempFile("endless", ".maze");
+        myMaze = new EndlessMaze(12, 16, new Random(42), mySpillFile);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        myMaze.close();
+        mySpillFile.delete();
+    }
+
+    @Test
+    public void testWindowSlidesForward() {
+        assertEquals(16, myMaze.getRows());
+        assertEquals(12, myMaze.getCols());
+        assertTrue(myMaze.isStart(0, 0));
+        myMaze.focus(10_000);
+        assertEquals(10_000 - 4, myMaze.getFirstRow());
+        assertEquals(10_000 - 4 + 16, myMaze.getGeneratedRows());
+        assertEquals(16, myMaze.getRows());
+        assertFalse(myMaze.isStart(0, 0));
+        assertTrue(myMaze.isExit(15, 3));
+    }
+
+    @Test
+    public void testEveryRowHasAWayDown() {
+        for (long row = 0; row < 2000; row += 8) {
+            myMaze.focus(row);
+            for (int i = 0; i < myMaze.getRows() - 1; i++) {
+                boolean down = false;
+                for (int j = 0; j < myMaze.getCols(); j++) {
+                    down |= myMaze.hasPassage(i, j, Direction.SOUTH);
+                }
+                assertTrue(down, "Row " + (myMaze.getFirstRow() + i) + " has no passage south");
+            }
+        }
+    }
+
+    @Test
+    public void testSpilledRowsComeBack() {
+        myMaze.lockDoor(1, 5, Direction.EAST);
+        myMaze.openDoor(2, 3, Direction.SOUTH);
+        final boolean[] passages = new boolean[myMaze.getCols()];
+        for (int j = 0; j < passages.length; j++) {
+            passages[j] = myMaze.hasPassage(1, j, Direction.SOUTH);
+        }
+        myMaze.focus(500);
+        assertTrue(myMaze.getFirstRow() > 2);
+        myMaze.focus(0);
+        assertEquals(0, myMaze.getFirstRow());
+        assertTrue(myMaze.isDoorLocked(1, 5, Direction.EAST));
+        assertTrue(myMaze.isDoorLocked(1, 6, Direction.WEST));
+        assertFalse(myMaze.isDoorClosed(3, 3, Direction.NORTH));
+        for (int j = 0; j < passages.length; j++) {
+            assertEquals(passages[j], myMaze.hasPassage(1, j, Direction.SOUTH));
+        }
+    }
+
+    @Test
+    public void testWindowWithoutSpillStaysPut() throws IOException {
+        try (EndlessMaze maze = new EndlessMaze(4, 8, new Random(7))) {
+            maze.focus(100);
+            final long first = maze.getFirstRow();
+            maze.focus(0);
+            assertEquals(first, maze.getFirstRow());
+        }
+    }
+
+    @Test
+    public void testSearchOverWindow() {
+        final MazeSearch search = new MazeSearch(myMaze);
+        assertTrue(search.canReachExit(0, 0));
+        for (int j = 0; j < myMaze.getCols(); j++) {
+            myMaze.lockDoor(3, j, Direction.SOUTH);
+        }
+        assertFalse(search.canReachExit(0, 0));
+        assertTrue(search.canReachExit(4, 0));
+        assertEquals(4 * 12, search.countReachable(0, 0));
+    }
+
+    @Test
+    public void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new EndlessMaze(0, 8, new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new EndlessMaze(4, 1, new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new EndlessMaze(4, 8, null));
+    }
+}
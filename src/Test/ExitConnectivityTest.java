@@ -0,0 +1,84 @@
+package Test;
+
+import Model.Direction;
+import Model.ExitConnectivity;
+import Model.Maze;
+import Model.MazeSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ExitConnectivity class and Maze.lockDoor.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class ExitConnectivityTest {
+    /**
+     * The Maze instance whose doors are locked.
+     */
+    private Maze myMaze;
+
+    @BeforeEach
+    public void setUp() {
+        myMaze = new Maze(6, 9);
+    }
+
+    @Test
+    public void testFreshMazeReachesExit() {
+        final ExitConnectivity connectivity = new ExitConnectivity(myMaze);
+        assertTrue(connectivity.canReachExit(0, 0));
+        assertTrue(connectivity.isConnected(0, 53));
+    }
+
+    @Test
+    public void testLockDoorLocksBothSides() {
+        myMaze.lockDoor(2, 3, Direction.EAST);
+        assertTrue(myMaze.myMaze[2][3].getDoor(Direction.EAST).permanentlyLocked());
+        assertTrue(myMaze.myMaze[2][4].getDoor(Direction.WEST).permanentlyLocked());
+        assertFalse(myMaze.isTraversable(2, 4, Direction.WEST));
+    }
+
+    @Test
+    public void testSealingExitSplitsMaze() {
+        assertTrue(myMaze.isExitReachable(0, 0));
+        myMaze.lockDoor(5, 8, Direction.NORTH);
+        assertTrue(myMaze.isExitReachable(0, 0));
+        myMaze.lockDoor(5, 8, Direction.WEST);
+        assertFalse(myMaze.isExitReachable(0, 0));
+        assertTrue(myMaze.isExitReachable(5, 8));
+    }
+
+    @Test
+    public void testRandomLocksMatchFullSearch() {
+        final Maze maze = new Maze(25, 30);
+        final Random random = new Random(7);
+        assertTrue(maze.isExitReachable(0, 0));
+        for (int lock = 0; lock < 600; lock++) {
+            final int row = random.nextInt(maze.getRows());
+            final int col = random.nextInt(maze.getCols());
+            final Direction direction = Direction.values()[random.nextInt(4)];
+            maze.lockDoor(row, col, direction);
+
+            final MazeSearch search = new MazeSearch(maze);
+            for (int probe = 0; probe < 20; probe++) {
+                final int probeRow = random.nextInt(maze.getRows());
+                final int probeCol = random.nextInt(maze.getCols());
+                assertEquals(search.canReachExit(probeRow, probeCol), maze.isExitReachable(probeRow, probeCol));
+            }
+        }
+    }
+
+    @Test
+    public void testResetRebuildsConnectivity() {
+        myMaze.lockDoor(5, 8, Direction.NORTH);
+        myMaze.lockDoor(5, 8, Direction.WEST);
+        assertFalse(myMaze.isExitReachable(0, 0));
+        myMaze.reset();
+        assertTrue(myMaze.isExitReachable(0, 0));
+    }
+}
@@ -0,0 +1,71 @@
+package Test;
+
+import Model.Direction;
+import Model.ExitDistances;
+import Model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ExitDistances class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class ExitDistancesTest {
+
+    @Test
+    public void testFreshMazeDistancesAreManhattan() {
+        final Maze maze = new Maze(6, 9);
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 9; col++) {
+                assertEquals(5 - row + 8 - col, maze.getExitDistance(row, col));
+            }
+        }
+        assertEquals(ExitDistances.UNREACHABLE, maze.getExitDistance(6, 0));
+    }
+
+    @Test
+    public void testLockedDoorLengthensRoute() {
+        final Maze maze = new Maze(1, 5);
+        maze.getExitDistance(0, 0);
+        maze.lockDoor(0, 3, Direction.EAST);
+        assertEquals(ExitDistances.UNREACHABLE, maze.getExitDistance(0, 0));
+
+        final Maze square = new Maze(3, 3);
+        assertEquals(1, square.getExitDistance(1, 2));
+        square.lockDoor(1, 2, Direction.SOUTH);
+        assertEquals(3, square.getExitDistance(1, 2));
+        assertEquals(4, square.getExitDistance(0, 2));
+        assertEquals(4, square.getExitDistance(0, 0));
+    }
+
+    @Test
+    public void testIncrementalMatchesRecompute() {
+        for (long seed = 0; seed < 5; seed++) {
+            final Random random = new Random(seed);
+            final Maze maze = new Maze(25, 31);
+            maze.getExitDistance(0, 0);
+            for (int lock = 0; lock < 900; lock++) {
+                maze.lockDoor(random.nextInt(25), random.nextInt(31), Direction.values()[random.nextInt(4)]);
+                if (lock % 3 == 0) {
+                    final ExitDistances fresh = new ExitDistances(maze);
+                    for (int row = 0; row < 25; row++) {
+                        for (int col = 0; col < 31; col++) {
+                            assertEquals(fresh.distanceToExit(row, col), maze.getExitDistance(row, col),
+                                    "seed " + seed + " lock " + lock + " at " + row + "," + col);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNullMazeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new ExitDistances(null));
+    }
+}
@@ -0,0 +1,215 @@
+package Test;
+
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameEvent;
+import Model.GameModel;
+import Model.GameStatus;
+import Model.Maze;
+import Model.Question;
+import Model.QuestionSource;
+import Model.ShortAnswerQuestion;
+import Model.TrueFalseQuestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameEngine class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class GameEngineTest {
+    /**
+     * The engine being tested, over a 2x2 maze with two questions.
+     */
+    private GameEngine myEngine;
+    /**
+     * The questions asked by the engine.
+     */
+    private List<Question> myQuestions;
+
+    @BeforeEach
+    public void setUp() {
+        myQuestions = List.of(new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"),
+                new TrueFalseQuestion("Is the sky blue?", "True", "True/False"));
+        myEngine = new GameEngine(new GameModel(new Maze(2, 2)), myQuestions);
+    }
+
+    @Test
+    public void testListenerHearsEveryAction() {
+        final List<String> events = new ArrayList<>();
+        myEngine.setListener((theEvent, theDirection, theValue) ->
+                events.add(theEvent + " " + theDirection + " " + theValue));
+
+        assertSame(myQuestions.get(0), myEngine.attempt(Direction.EAST));
+        myEngine.answer(Direction.EAST, "Paris");
+        myEngine.nextQuestion();
+        myEngine.move(Direction.WEST);
+        myEngine.attempt(Direction.SOUTH);
+        myEngine.answer(Direction.SOUTH, "False");
+
+        assertEquals(List.of("DOOR_ATTEMPTED EAST 0", "ANSWER_GIVEN EAST 1", "DOOR_OPENED EAST 0",
+                "PLAYER_MOVED EAST 0", "QUESTION_SHOWN null 1", "PLAYER_MOVED WEST 0",
+                "DOOR_ATTEMPTED SOUTH 0", "ANSWER_GIVEN SOUTH 0", "DOOR_LOCKED SOUTH 0"), events);
+        assertThrows(IllegalStateException.class, () -> myEngine.attempt(Direction.SOUTH));
+
+        events.clear();
+        myEngine.setListener(null);
+        myEngine.move(Direction.EAST);
+        assertTrue(events.isEmpty());
+        assertEquals(GameEvent.QUESTION_SHOWN, GameEvent.valueOf("QUESTION_SHOWN"));
+    }
+
+    @Test
+    public void testStartsInProgressAtStart() {
+        assertEquals(GameStatus.IN_PROGRESS, myEngine.getStatus());
+        assertEquals(0, myEngine.getRow());
+        assertEquals(0, myEngine.getCol());
+        assertSame(myQuestions.get(0), myEngine.getCurrentQuestion());
+    }
+
+    @Test
+    public void testOnlyClosedInteriorDoorsCanBeTried() {
+        assertTrue(myEngine.canAttempt(Direction.EAST));
+        assertTrue(myEngine.canAttempt(Direction.SOUTH));
+        assertFalse(myEngine.canAttempt(Direction.NORTH));
+        assertFalse(myEngine.canAttempt(Direction.WEST));
+        assertFalse(myEngine.canMove(Direction.EAST));
+        assertFalse(myEngine.move(Direction.EAST));
+    }
+
+    @Test
+    public void testRightAnswerOpensDoorAndMoves() {
+        assertTrue(myEngine.answer(Direction.EAST, "  paris "));
+        assertEquals(0, myEngine.getRow());
+        assertEquals(1, myEngine.getCol());
+        assertFalse(myEngine.getMaze().isDoorClosed(0, 0, Direction.EAST));
+        assertSame(myEngine.getMaze().myMaze[0][1], myEngine.getGameModel().getPlayerLocation());
+        assertEquals(1, myEngine.getGameModel().getAnsweredQuestions().size());
+
+        assertTrue(myEngine.canMove(Direction.WEST));
+        assertFalse(myEngine.canAttempt(Direction.WEST));
+        assertTrue(myEngine.move(Direction.WEST));
+        assertEquals(0, myEngine.getCol());
+    }
+
+    @Test
+    public void testWrongAnswerLocksDoor() {
+        assertFalse(myEngine.answer(Direction.EAST, "London"));
+        assertEquals(0, myEngine.getCol());
+        assertTrue(myEngine.getMaze().isDoorLocked(0, 1, Direction.WEST));
+        assertFalse(myEngine.canAttempt(Direction.EAST));
+        assertEquals(GameStatus.IN_PROGRESS, myEngine.getStatus());
+    }
+
+    @Test
+    public void testLosingWhenCutOff() {
+        myEngine.lockDoor(Direction.EAST);
+        assertTrue(myEngine.lockDoor(Direction.SOUTH));
+        assertEquals(GameStatus.LOST, myEngine.getStatus());
+        assertTrue(myEngine.isOver());
+        assertFalse(myEngine.canAttempt(Direction.SOUTH));
+        assertFalse(myEngine.lockDoor(Direction.SOUTH));
+    }
+
+    @Test
+    public void testWinningAtExit() {
+        assertTrue(myEngine.passDoor(Direction.EAST));
+        assertTrue(myEngine.passDoor(Direction.SOUTH));
+        assertEquals(GameStatus.WON, myEngine.getStatus());
+        assertFalse(myEngine.move(Direction.NORTH));
+    }
+
+    @Test
+    public void testBoundaryDoorsCannotBeChanged() {
+        assertFalse(myEngine.passDoor(Direction.NORTH));
+        assertFalse(myEngine.lockDoor(Direction.WEST));
+        assertThrows(IllegalStateException.class, () -> myEngine.answer(Direction.WEST, "Paris"));
+    }
+
+    @Test
+    public void testQuestionsAdvanceAndStopAtLast() {
+        assertTrue(myEngine.nextQuestion());
+        assertSame(myQuestions.get(1), myEngine.getCurrentQuestion());
+        assertFalse(myEngine.nextQuestion());
+        assertSame(myQuestions.get(1), myEngine.getCurrentQuestion());
+        assertTrue(myEngine.answer(Direction.SOUTH, "true"));
+    }
+
+    @Test
+    public void testNoQuestions() {
+        final GameEngine engine = new GameEngine(new GameModel(new Maze(2, 2)));
+        assertNull(engine.getCurrentQuestion());
+        assertFalse(engine.nextQuestion());
+        assertThrows(IllegalStateException.class, () -> engine.answer(Direction.EAST, "x"));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(null));
+    }
+
+    @Test
+    public void testIsCorrect() {
+        assertTrue(GameEngine.isCorrect(myQuestions.get(1), "TRUE"));
+        assertFalse(GameEngine.isCorrect(myQuestions.get(1), "false"));
+        assertFalse(GameEngine.isCorrect(myQuestions.get(1), null));
+    }
+
+    @Test
+    public void testQuestionSourceSuppliesQuestionsAfterList() {
+        final List<GameEvent> shown = new ArrayList<>();
+        myEngine.setListener((theEvent, theDirection, theValue) -> shown.add(theEvent));
+        try (QuestionSource source = new QuestionSource((theType, theCount, theExclude, theRandom) ->
+                myQuestions.stream().filter(theQuestion -> !theExclude.contains(theQuestion.getQuestionText()))
+                        .limit(theCount).toList(), List.of("Any"), 4, 16, new SplittableRandom(1))) {
+            myEngine.setQuestionSource(source);
+            final Question first = myEngine.getCurrentQuestion();
+
+            assertNotNull(first);
+            assertTrue(myEngine.nextQuestion());
+            assertEquals(1, myEngine.getQuestionIndex());
+            assertNotEquals(first.getQuestionText(), myEngine.getCurrentQuestion().getQuestionText());
+            assertEquals(Set.copyOf(myQuestions), Set.of(first, myEngine.getCurrentQuestion()));
+            assertEquals(List.of(GameEvent.QUESTION_SHOWN, GameEvent.QUESTION_SHOWN), shown);
+        }
+    }
+
+    @Test
+    public void testQuestionSourceKeepsOnlyCurrentQuestion() throws InterruptedException {
+        final AtomicInteger made = new AtomicInteger();
+        final List<WeakReference<Question>> early = new ArrayList<>();
+        try (QuestionSource source = new QuestionSource((theType, theCount, theExclude, theRandom) -> {
+            final List<Question> drawn = new ArrayList<>();
+            for (int i = 0; i < theCount; i++) {
+                drawn.add(new ShortAnswerQuestion("Question " + made.getAndIncrement() + "?", "Answer", theType));
+            }
+            return drawn;
+        }, List.of("Short Answer"))) {
+            myEngine.setQuestionSource(source);
+            early.add(new WeakReference<>(myEngine.getCurrentQuestion()));
+            final int asked = QuestionSource.DEFAULT_HISTORY + 100;
+            for (int i = 1; i < asked; i++) {
+                assertTrue(myEngine.nextQuestion(), "No question " + i);
+                assertEquals(i, myEngine.getQuestionIndex());
+                if (i < 10) {
+                    early.add(new WeakReference<>(myEngine.getCurrentQuestion()));
+                }
+            }
+            assertNotNull(myEngine.getCurrentQuestion());
+            for (int tries = 0; tries < 50 && early.stream().anyMatch(theRef -> theRef.get() != null); tries++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            for (WeakReference<Question> ref : early) {
+                assertNull(ref.get(), "An early question is still held");
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package Test;
+
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameEvent;
+import Model.GameEventLog;
+import Model.GameModel;
+import Model.Maze;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameEventLog class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class GameEventLogTest {
+    /**
+     * The questions every test game asks.
+     */
+    private static final List<Question> QUESTIONS =
+            List.of(new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"));
+
+    @Test
+    public void testActionsAreOneByteEach() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEngine engine = new GameEngine(new GameModel(new Maze(3, 3)), QUESTIONS);
+        try (GameEventLog log = new GameEventLog(out)) {
+            log.attach(engine);
+            log.flush();
+            final int start = out.size();
+            engine.attempt(Direction.EAST);
+            engine.answer(Direction.EAST, "Paris");
+            engine.move(Direction.WEST);
+            log.flush();
+            assertEquals(5, log.getEventCount());
+            assertEquals(5, out.size() - start);
+        }
+        final byte[] bytes = out.toByteArray();
+        assertEquals('T', bytes[0]);
+        assertEquals('L', bytes[1]);
+        assertEquals('O', bytes[2]);
+        assertEquals('G', bytes[3]);
+    }
+
+    @Test
+    public void testRecordsAreBatched() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEventLog log = new GameEventLog(out);
+        for (int i = 0; i < 100; i++) {
+            log.onEvent(GameEvent.PLAYER_MOVED, Direction.SOUTH, 0);
+        }
+        assertEquals(0, out.size());
+        for (int i = 0; i < 10_000; i++) {
+            log.onEvent(GameEvent.PLAYER_MOVED, Direction.SOUTH, 0);
+        }
+        assertTrue(out.size() > 0);
+        assertEquals(0, out.size() % 1024);
+        log.close();
+        assertEquals(5 + 10_100, out.size());
+    }
+
+    @Test
+    public void testAttachingAnotherGameDetachesTheFirst() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEventLog log = new GameEventLog(out);
+        final GameEngine first = new GameEngine(new GameModel(new Maze(3, 3)), QUESTIONS);
+        final GameEngine second = new GameEngine(new GameModel(new Maze(3, 3)), QUESTIONS);
+        log.attach(first);
+        log.attach(second);
+        first.lockDoor(Direction.EAST);
+        assertEquals(0, log.getEventCount());
+        second.lockDoor(Direction.EAST);
+        assertEquals(1, log.getEventCount());
+    }
+
+    @Test
+    public void testWriteFailureIsReported() {
+        final OutputStream broken = new OutputStream() {
+            @Override
+            public void write(final int theByte) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        final GameEventLog log = new GameEventLog(broken);
+        assertThrows(UncheckedIOException.class, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                log.onEvent(GameEvent.DOOR_ATTEMPTED, Direction.NORTH, 0);
+            }
+        });
+        assertThrows(IllegalArgumentException.class, () -> new GameEventLog(null));
+        assertThrows(IllegalArgumentException.class, () -> log.attach(null));
+    }
+}
@@ -0,0 +1,198 @@
+package Test;
+
+import Controller.GameHttpServer;
+import Controller.GameServer;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameHttpServer class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class GameHttpServerTest {
+    /**
+     * The questions every test game asks.
+     */
+    private static final List<Question> QUESTIONS =
+            List.of(new ShortAnswerQuestion("Capital of \"France\"?", "Paris", "Short Answer"));
+    /**
+     * The games behind the server.
+     */
+    private GameServer myGames;
+    /**
+     * The server being tested.
+     */
+    private GameHttpServer myServer;
+    /**
+     * The client talking to the server.
+     */
+    private HttpClient myClient;
+
+    @BeforeEach
+    public void setUp() {
+        GameHttpServer.tuneForLowLatency();
+        myGames = new GameServer(2);
+        myServer = new GameHttpServer(myGames,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), () -> QUESTIONS);
+        myClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        myServer.close();
+        myGames.close();
+    }
+
+    /**
+     * Sends a request and waits for the response.
+     *
+     * @param theMethod the request method.
+     * @param thePath the path and query.
+     * @param theBody the request body.
+     * @return the response.
+     */
+    private HttpResponse<String> send(final String theMethod, final String thePath, final String theBody)
+            throws Exception {
+        return myClient.send(request(theMethod, thePath, theBody), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Builds a request to the server.
+     *
+     * @param theMethod the request method.
+     * @param thePath the path and query.
+     * @param theBody the request body.
+     * @return the request.
+     */
+    private HttpRequest request(final String theMethod, final String thePath, final String theBody) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + myServer.getPort() + thePath))
+                .method(theMethod, HttpRequest.BodyPublishers.ofString(theBody))
+                .build();
+    }
+
+    /**
+     * Starts a 2 by 2 game and returns its id.
+     *
+     * @return the id of the game.
+     */
+    private long start() throws Exception {
+        final HttpResponse<String> response = send("POST", "/games?rows=2&cols=2&seed=17", "");
+        assertEquals(201, response.statusCode());
+        final String body = response.body();
+        final int from = body.indexOf("\"id\":") + 5;
+        return Long.parseLong(body.substring(from, body.indexOf(',', from)));
+    }
+
+    @Test
+    public void testStartShowsTheStartRoom() throws Exception {
+        final long id = start();
+        final String room = send("GET", "/games/" + id, "").body();
+        assertTrue(room.contains("\"status\":\"IN_PROGRESS\""));
+        assertTrue(room.contains("\"row\":0,\"col\":0"));
+        assertTrue(room.contains("\"start\":true"));
+        assertTrue(room.contains("\"NORTH\":\"LOCKED\""));
+        assertTrue(room.contains("\"WEST\":\"LOCKED\""));
+        assertTrue(room.contains("\"EAST\":\"CLOSED\""));
+        assertTrue(room.contains("\"SOUTH\":\"CLOSED\""));
+    }
+
+    @Test
+    public void testQuestionIsEscaped() throws Exception {
+        final HttpResponse<String> response = send("GET", "/games/" + start() + "/question", "");
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"text\":\"Capital of \\\"France\\\"?\",\"type\":\"Short Answer\"}", response.body());
+    }
+
+    @Test
+    public void testAnswerOpensDoorAndMoveWalksBack() throws Exception {
+        final long id = start();
+        final String answered = send("POST", "/games/" + id + "/answer?direction=east", " paris ").body();
+        assertTrue(answered.startsWith("{\"correct\":true,"));
+        assertTrue(answered.contains("\"row\":0,\"col\":1"));
+        assertTrue(answered.contains("\"WEST\":\"OPEN\""));
+
+        final String moved = send("POST", "/games/" + id + "/move?direction=WEST", "").body();
+        assertTrue(moved.startsWith("{\"moved\":true,"));
+        assertTrue(moved.contains("\"row\":0,\"col\":0"));
+    }
+
+    @Test
+    public void testWrongAnswerLocksDoor() throws Exception {
+        final long id = start();
+        final String answered = send("POST", "/games/" + id + "/answer?direction=EAST", "Rome").body();
+        assertTrue(answered.startsWith("{\"correct\":false,"));
+        assertTrue(answered.contains("\"EAST\":\"LOCKED\""));
+        assertEquals(409, send("POST", "/games/" + id + "/answer?direction=EAST", "Paris").statusCode());
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        final long id = start();
+        assertEquals(404, send("GET", "/games/999999", "").statusCode());
+        assertEquals(404, send("GET", "/games/abc", "").statusCode());
+        assertEquals(404, send("GET", "/games/" + id + "/nothing", "").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/move?direction=UP", "").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/move", "").statusCode());
+        assertEquals(400, send("POST", "/games?rows=0", "").statusCode());
+        assertEquals(405, send("GET", "/games/" + id + "/move?direction=EAST", "").statusCode());
+        assertEquals(409, send("POST", "/games/" + id + "/answer?direction=NORTH", "Paris").statusCode());
+    }
+
+    @Test
+    public void testOnlyExactRootCreatesGames() throws Exception {
+        assertEquals(404, send("POST", "/gamesXYZ", "").statusCode());
+        assertEquals(404, send("POST", "/games-anything", "").statusCode());
+        assertEquals(404, send("GET", "/games-anything/1", "").statusCode());
+        assertEquals(0, myGames.getSessionCount());
+        assertEquals(201, send("POST", "/games/", "").statusCode());
+        assertEquals(1, myGames.getSessionCount());
+    }
+
+    @Test
+    public void testDeleteEndsGame() throws Exception {
+        final long id = start();
+        assertEquals(204, send("DELETE", "/games/" + id, "").statusCode());
+        assertEquals(404, send("GET", "/games/" + id, "").statusCode());
+        assertEquals(404, send("DELETE", "/games/" + id, "").statusCode());
+        assertEquals(0, myGames.getSessionCount());
+    }
+
+    @Test
+    public void testManyConcurrentClients() throws Exception {
+        final int clients = 1_000;
+        final List<CompletableFuture<HttpResponse<String>>> started = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            started.add(myClient.sendAsync(request("POST", "/games?rows=4&cols=4", ""),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        final List<CompletableFuture<HttpResponse<String>>> rooms = new ArrayList<>();
+        for (CompletableFuture<HttpResponse<String>> response : started) {
+            final String body = response.get(30, TimeUnit.SECONDS).body();
+            final int from = body.indexOf("\"id\":") + 5;
+            final String id = body.substring(from, body.indexOf(',', from));
+            rooms.add(myClient.sendAsync(request("GET", "/games/" + id, ""), HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : rooms) {
+            assertEquals(200, response.get(30, TimeUnit.SECONDS).statusCode());
+        }
+        assertEquals(clients, myGames.getSessionCount());
+    }
+}
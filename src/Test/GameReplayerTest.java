@@ -0,0 +1,165 @@
+package Test;
+
+import Controller.Bot;
+import Controller.BotStrategy;
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameEventLog;
+import Model.GameModel;
+import Model.GameReplayer;
+import Model.GameStatus;
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameReplayer class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class GameReplayerTest {
+    /**
+     * The questions every test game asks.
+     */
+    private static final List<Question> QUESTIONS = List.of(
+            new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"),
+            new ShortAnswerQuestion("Largest planet?", "Jupiter", "Short Answer"),
+            new ShortAnswerQuestion("Chemical symbol for gold?", "Au", "Short Answer"));
+
+    /**
+     * Starts a seeded game.
+     *
+     * @param theSeed the seed of the maze.
+     * @return the engine of the game.
+     */
+    private static GameEngine newGame(final long theSeed) {
+        return new GameEngine(new GameModel(new Maze(8, 8, MazeAlgorithm.BACKTRACKER.create(), theSeed)), QUESTIONS);
+    }
+
+    /**
+     * Checks that two games are in the same state.
+     *
+     * @param theExpected the original game.
+     * @param theActual the replayed game.
+     */
+    private static void assertSameGame(final GameEngine theExpected, final GameEngine theActual) {
+        assertArrayEquals(theExpected.getMaze().encode(), theActual.getMaze().encode());
+        assertEquals(theExpected.getStatus(), theActual.getStatus());
+        assertEquals(theExpected.getRow(), theActual.getRow());
+        assertEquals(theExpected.getCol(), theActual.getCol());
+        assertEquals(theExpected.getQuestionIndex(), theActual.getQuestionIndex());
+        assertEquals(theExpected.getGameModel().getAnsweredQuestions(), theActual.getGameModel().getAnsweredQuestions());
+    }
+
+    @Test
+    public void testReplayRebuildsBotGames() throws IOException {
+        for (long seed = 0; seed < 20; seed++) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final GameEngine game = newGame(seed);
+            try (GameEventLog log = new GameEventLog(out)) {
+                log.attach(game);
+                new Bot(BotStrategy.GREEDY, 0.7, new SplittableRandom(seed)).play(game, 10_000);
+            }
+            assertSameGame(game, GameReplayer.replay(new ByteArrayInputStream(out.toByteArray()), QUESTIONS));
+        }
+    }
+
+    @Test
+    public void testReplayStopsAtAnyPoint() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEngine game = newGame(3L);
+        final GameEngine copy = newGame(3L);
+        try (GameEventLog log = new GameEventLog(out)) {
+            log.attach(game);
+            game.answer(Direction.EAST, "Paris");
+            game.nextQuestion();
+            game.answer(Direction.SOUTH, "Saturn");
+        }
+        final byte[] bytes = out.toByteArray();
+
+        assertSameGame(copy, GameReplayer.replay(new ByteArrayInputStream(bytes), QUESTIONS, 0));
+        final GameEngine afterOpen = GameReplayer.replay(new ByteArrayInputStream(bytes), QUESTIONS, 2);
+        assertFalse(afterOpen.getMaze().isDoorClosed(0, 0, Direction.EAST));
+        assertEquals(0, afterOpen.getCol());
+        final GameEngine afterMove = GameReplayer.replay(new ByteArrayInputStream(bytes), QUESTIONS, 3);
+        assertEquals(1, afterMove.getCol());
+        assertEquals(0, afterMove.getQuestionIndex());
+        final GameEngine end = GameReplayer.replay(new ByteArrayInputStream(bytes), QUESTIONS, 100);
+        assertSameGame(game, end);
+        assertTrue(end.getMaze().isDoorLocked(0, 1, Direction.SOUTH));
+    }
+
+    @Test
+    public void testReplayRecoversFromTornLog() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEngine game = newGame(5L);
+        try (GameEventLog log = new GameEventLog(out)) {
+            log.attach(game);
+            game.answer(Direction.EAST, "Paris");
+            game.nextQuestion();
+        }
+        final byte[] bytes = out.toByteArray();
+        final GameEngine replayed = GameReplayer.replay(
+                new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)), QUESTIONS);
+        assertEquals(1, replayed.getCol());
+        assertEquals(0, replayed.getQuestionIndex());
+    }
+
+    @Test
+    public void testReplayUsesLastGame() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEngine first = newGame(1L);
+        final GameEngine second = newGame(2L);
+        try (GameEventLog log = new GameEventLog(out)) {
+            log.attach(first);
+            first.answer(Direction.SOUTH, "Paris");
+            log.attach(second);
+            second.answer(Direction.EAST, "wrong");
+        }
+        final GameEngine replayed = GameReplayer.replay(new ByteArrayInputStream(out.toByteArray()), List.of());
+        assertArrayEquals(second.getMaze().encode(), replayed.getMaze().encode());
+        assertTrue(replayed.getMaze().isDoorLocked(0, 0, Direction.EAST));
+        assertFalse(replayed.getMaze().isDoorLocked(0, 0, Direction.SOUTH));
+        assertNull(replayed.getCurrentQuestion());
+    }
+
+    @Test
+    public void testReplayRebuildsLostGame() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEngine game = newGame(4L);
+        try (GameEventLog log = new GameEventLog(out)) {
+            log.attach(game);
+            game.answer(Direction.EAST, "wrong");
+            game.answer(Direction.SOUTH, "wrong");
+        }
+        assertEquals(GameStatus.LOST, game.getStatus());
+        assertEquals(GameStatus.LOST,
+                GameReplayer.replay(new ByteArrayInputStream(out.toByteArray()), QUESTIONS).getStatus());
+    }
+
+    @Test
+    public void testBadLogs() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GameReplayer.replay(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5}), QUESTIONS));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameReplayer.replay(new ByteArrayInputStream(new byte[] {'T', 'L', 'O', 'G', 9}), QUESTIONS));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameReplayer.replay(new ByteArrayInputStream(new byte[] {'T', 'L', 'O', 'G', 1}), QUESTIONS));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameReplayer.replay(new ByteArrayInputStream(new byte[] {'T', 'L', 'O', 'G', 1, 8}), QUESTIONS));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameReplayer.replay(new ByteArrayInputStream(new byte[0]), QUESTIONS, -1));
+    }
+}
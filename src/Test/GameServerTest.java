@@ -0,0 +1,142 @@
+package Test;
+
+import Controller.GameServer;
+import Model.Direction;
+import Model.GameStatus;
+import Model.Maze;
+import Model.Question;
+import Model.ShortAnswerQuestion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameServer class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class GameServerTest {
+    /**
+     * The questions every test game asks.
+     */
+    private static final List<Question> QUESTIONS =
+            List.of(new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"));
+    /**
+     * The server being tested.
+     */
+    private GameServer myServer;
+
+    @BeforeEach
+    public void setUp() {
+        myServer = new GameServer(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        myServer.close();
+    }
+
+    @Test
+    public void testActionsOnOneSessionRunInOrder() throws Exception {
+        final long id = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        final List<Integer> seen = new ArrayList<>();
+        CompletableFuture<Boolean> last = null;
+        for (int i = 0; i < 1_000; i++) {
+            final int value = i;
+            last = myServer.submit(id, theEngine -> seen.add(value));
+        }
+        last.get(10, TimeUnit.SECONDS);
+        assertEquals(1_000, seen.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(Integer.valueOf(i), seen.get(i));
+        }
+    }
+
+    @Test
+    public void testActionsOnOneSessionNeverOverlap() throws Exception {
+        final long id = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        final int[] counter = new int[1];
+        final List<Thread> clients = new ArrayList<>();
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final Thread client = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    final CompletableFuture<Integer> result = myServer.submit(id, theEngine -> ++counter[0]);
+                    synchronized (results) {
+                        results.add(result);
+                    }
+                }
+            });
+            clients.add(client);
+            client.start();
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        assertEquals(Integer.valueOf(20_000), myServer.submit(id, theEngine -> counter[0]).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSessionsAreIndependent() throws Exception {
+        final long first = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        final long second = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        assertNotEquals(first, second);
+        assertEquals(2, myServer.getSessionCount());
+
+        assertTrue(myServer.answer(first, Direction.EAST, "Paris").get(10, TimeUnit.SECONDS));
+        assertFalse(myServer.answer(second, Direction.EAST, "Rome").get(10, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(1), myServer.submit(first, theEngine -> theEngine.getCol()).get());
+        assertEquals(Integer.valueOf(0), myServer.submit(second, theEngine -> theEngine.getCol()).get());
+        assertFalse(myServer.move(second, Direction.EAST).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testWinAndRestart() throws Exception {
+        final long id = myServer.createSession(new Maze(1, 2), QUESTIONS);
+        assertTrue(myServer.answer(id, Direction.EAST, "paris").get(10, TimeUnit.SECONDS));
+        assertEquals(GameStatus.WON, myServer.status(id).get(10, TimeUnit.SECONDS));
+
+        myServer.restart(id, new Maze(1, 2), QUESTIONS);
+        assertEquals(GameStatus.IN_PROGRESS, myServer.status(id).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailedActionCompletesExceptionally() {
+        final long id = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> myServer.answer(id, Direction.NORTH, "Paris").get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testSessionKeepsRunningAfterActionThrowsError() throws Exception {
+        final long id = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> myServer.submit(id, theEngine -> {
+                    throw new AssertionError("broken action");
+                }).get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof AssertionError);
+        assertEquals(GameStatus.IN_PROGRESS, myServer.submit(id, theEngine -> theEngine.getStatus())
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testClosedSession() {
+        final long id = myServer.createSession(new Maze(2, 2), QUESTIONS);
+        assertTrue(myServer.closeSession(id));
+        assertFalse(myServer.closeSession(id));
+        assertEquals(0, myServer.getSessionCount());
+        assertThrows(IllegalArgumentException.class, () -> myServer.status(id));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(0));
+    }
+}
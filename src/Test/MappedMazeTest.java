@@ -0,0 +1,130 @@
+package Test;
+
+import Model.Direction;
+import Model.MappedMaze;
+import Model.MazeSearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MappedMaze class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MappedMazeTest {
+    /**
+     * The file the maze is mapped from.
+     */
+    private Path myFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        myFile = Files.createTempFile("mapped", ".maze");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(myFile);
+    }
+
+    @Test
+    public void testCreatedMazeIsPerfect() throws IOException {
+        try (MappedMaze maze = MappedMaze.create(myFile, 37, 23, 5L)) {
+            assertEquals(37, maze.getRows());
+            assertEquals(23, maze.getCols());
+            assertTrue(maze.isStart(0, 0));
+            assertTrue(maze.isExit(36, 22));
+            int passages = 0;
+            for (int row = 0; row < 37; row++) {
+                for (int col = 0; col < 23; col++) {
+                    passages += (maze.hasPassage(row, col, Direction.EAST) ? 1 : 0)
+                            + (maze.hasPassage(row, col, Direction.SOUTH) ? 1 : 0);
+                }
+            }
+            assertEquals(37 * 23 - 1, passages);
+            assertEquals(37 * 23, countConnected(maze));
+        }
+    }
+
+    @Test
+    public void testDoorStateSurvivesReopen() throws IOException {
+        try (MappedMaze maze = MappedMaze.create(myFile, 8, 8, 9L)) {
+            maze.openDoor(3, 3, Direction.EAST);
+            maze.lockDoor(5, 2, Direction.NORTH);
+            assertTrue(maze.isDoorLocked(4, 2, Direction.SOUTH));
+        }
+        try (MappedMaze maze = MappedMaze.open(myFile)) {
+            assertEquals(9L, maze.getSeed());
+            assertFalse(maze.isDoorClosed(3, 4, Direction.WEST));
+            assertTrue(maze.isDoorClosed(3, 3, Direction.SOUTH));
+            assertTrue(maze.isDoorLocked(5, 2, Direction.NORTH));
+            assertTrue(maze.isDoorLocked(0, 0, Direction.NORTH));
+            assertFalse(maze.isTraversable(4, 2, Direction.SOUTH));
+        }
+    }
+
+    @Test
+    public void testSameSeedSameFile() throws IOException {
+        final Path other = Files.createTempFile("mapped", ".maze");
+        try {
+            MappedMaze.create(myFile, 30, 40, 11L).close();
+            MappedMaze.create(other, 30, 40, 11L).close();
+            assertArrayEquals(Files.readAllBytes(myFile), Files.readAllBytes(other));
+        } finally {
+            Files.deleteIfExists(other);
+        }
+    }
+
+    @Test
+    public void testSearchOverMappedMaze() throws IOException {
+        try (MappedMaze maze = MappedMaze.create(myFile, 10, 10, 1L)) {
+            final MazeSearch search = new MazeSearch(maze);
+            assertTrue(search.canReachExit(0, 0));
+            maze.lockDoor(9, 9, Direction.NORTH);
+            maze.lockDoor(9, 9, Direction.WEST);
+            assertFalse(search.canReachExit(0, 0));
+        }
+    }
+
+    @Test
+    public void testOpenRejectsOtherFiles() throws IOException {
+        Files.write(myFile, new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> MappedMaze.open(myFile));
+        assertThrows(IllegalArgumentException.class, () -> MappedMaze.create(myFile, 0, 4, 1L));
+    }
+
+    /**
+     * Counts the rooms reachable from the top left room through passages.
+     */
+    private int countConnected(final MappedMaze theMaze) {
+        final int cols = theMaze.getCols();
+        final boolean[] seen = new boolean[theMaze.getRows() * cols];
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        seen[0] = true;
+        int reached = 0;
+        while (!queue.isEmpty()) {
+            final int cell = queue.poll();
+            reached++;
+            for (Direction direction : Direction.values()) {
+                if (theMaze.hasPassage(cell / cols, cell % cols, direction)) {
+                    final int next = cell + direction.getRow() * cols + direction.getCol();
+                    if (!seen[next]) {
+                        seen[next] = true;
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,158 @@
+package Test;
+
+import Model.Direction;
+import Model.Door;
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.Room;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compact binary encoding of mazes.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MazeCodecTest {
+
+    @Test
+    public void testRoundTripFreshMaze() {
+        final Maze maze = new Maze(13, 29, MazeAlgorithm.KRUSKAL.create(), 77L);
+        final Maze copy = Maze.decode(maze.encode());
+        assertSameMaze(maze, copy);
+        assertEquals(77L, copy.getSeed());
+    }
+
+    @Test
+    public void testRoundTripKeepsDoorsAndPlayer() {
+        final Maze maze = new Maze(6, 6);
+        maze.openDoor(0, 0, Direction.EAST);
+        maze.movePlayer(Direction.EAST);
+        maze.lockDoor(0, 1, Direction.SOUTH);
+        maze.openDoor(4, 4, Direction.SOUTH);
+        maze.lockDoor(4, 4, Direction.SOUTH);
+        final Maze copy = Maze.decode(maze.encode());
+        assertSameMaze(maze, copy);
+        assertEquals(0, copy.getPlayerRow());
+        assertEquals(1, copy.getPlayerCol());
+        assertTrue(copy.isDoorLocked(1, 1, Direction.NORTH));
+        assertFalse(copy.isDoorClosed(5, 4, Direction.NORTH));
+    }
+
+    @Test
+    public void testRoundTripKeepsDoorLockedWithoutPermanentLock() {
+        final Maze maze = new Maze(5, 5);
+        final Room room = maze.myMaze[2][2];
+        final Door door = room.getDoor(Direction.EAST);
+        assertNotNull(door);
+        door.doorLock();
+        maze.lockDoor(3, 3, Direction.SOUTH);
+        maze.openDoor(3, 3, Direction.SOUTH);
+        final Maze copy = Maze.decode(maze.encode());
+        assertSameMaze(maze, copy);
+        assertTrue(copy.myMaze[2][2].isDoorLocked(Direction.EAST));
+        assertTrue(copy.myMaze[2][3].isDoorLocked(Direction.WEST));
+        assertFalse(copy.isDoorLocked(2, 2, Direction.EAST));
+        assertTrue(copy.isDoorClosed(2, 2, Direction.EAST));
+        assertFalse(copy.myMaze[3][3].isDoorLocked(Direction.SOUTH));
+        assertTrue(copy.isDoorLocked(3, 3, Direction.SOUTH));
+        assertEquals(maze.isExitReachable(0, 0), copy.isExitReachable(0, 0));
+    }
+
+    @Test
+    public void testDecodesVersionOne() {
+        final Maze maze = new Maze(7, 9, MazeAlgorithm.PRIM.create(), 5L);
+        maze.openDoor(1, 1, Direction.EAST);
+        maze.lockDoor(2, 2, Direction.SOUTH);
+        final byte[] data = maze.encode();
+        data[4] = 1;
+        assertSameMaze(maze, Maze.decode(data));
+    }
+
+    @Test
+    public void testRoundTripWithManyDoorsChanged() {
+        final Maze maze = new Maze(20, 20);
+        final Random random = new Random(3);
+        for (int row = 0; row < 20; row++) {
+            for (int col = 0; col < 19; col++) {
+                if (random.nextBoolean()) {
+                    maze.openDoor(row, col, Direction.EAST);
+                }
+                if (random.nextInt(4) == 0) {
+                    maze.lockDoor(col, row, Direction.SOUTH);
+                }
+            }
+        }
+        final byte[] data = maze.encode();
+        assertSameMaze(maze, Maze.decode(data));
+        assertTrue(data.length <= 32 + 100 + 200 + 4, "Encoded " + data.length + " bytes");
+    }
+
+    @Test
+    public void testUntouchedDoorsCostTwoBitsPerRoom() {
+        final Maze maze = new Maze(200, 500);
+        assertTrue(maze.encode().length <= 32 + 200 * 500 / 4 + 4);
+    }
+
+    @Test
+    public void testJavaSerializationUsesEncoding() throws IOException, ClassNotFoundException {
+        final Maze maze = new Maze(40, 40);
+        maze.lockDoor(10, 10, Direction.WEST);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(maze);
+        }
+        assertTrue(bytes.size() < 40 * 40, "Serialized " + bytes.size() + " bytes");
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSameMaze(maze, (Maze) in.readObject());
+        }
+    }
+
+    @Test
+    public void testBadDataIsRejected() {
+        final byte[] data = new Maze(5, 5).encode();
+        assertThrows(IllegalArgumentException.class, () -> Maze.decode(Arrays.copyOf(data, data.length - 3)));
+        final byte[] badMagic = data.clone();
+        badMagic[0] = 0;
+        assertThrows(IllegalArgumentException.class, () -> Maze.decode(badMagic));
+        final byte[] badVersion = data.clone();
+        badVersion[4] = 99;
+        assertThrows(IllegalArgumentException.class, () -> Maze.decode(badVersion));
+        assertThrows(IllegalArgumentException.class, () -> Maze.decode(null));
+    }
+
+    /**
+     * Asserts that two mazes have the same size, passages and doors, including doors locked for now.
+     */
+    private void assertSameMaze(final Maze theExpected, final Maze theActual) {
+        assertEquals(theExpected.getRows(), theActual.getRows());
+        assertEquals(theExpected.getCols(), theActual.getCols());
+        assertEquals(theExpected.getPlayerRow(), theActual.getPlayerRow());
+        assertEquals(theExpected.getPlayerCol(), theActual.getPlayerCol());
+        for (int row = 0; row < theExpected.getRows(); row++) {
+            for (int col = 0; col < theExpected.getCols(); col++) {
+                for (Direction direction : Direction.values()) {
+                    final String where = row + "," + col + " " + direction;
+                    assertEquals(theExpected.hasPassage(row, col, direction),
+                            theActual.hasPassage(row, col, direction), where);
+                    assertEquals(theExpected.isDoorClosed(row, col, direction),
+                            theActual.isDoorClosed(row, col, direction), where);
+                    assertEquals(theExpected.isDoorLocked(row, col, direction),
+                            theActual.isDoorLocked(row, col, direction), where);
+                    assertEquals(theExpected.myMaze[row][col].isDoorLocked(direction),
+                            theActual.myMaze[row][col].isDoorLocked(direction), where);
+                }
+            }
+        }
+    }
+}
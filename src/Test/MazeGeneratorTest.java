@@ -0,0 +1,129 @@
+package Test;
+
+import Model.Direction;
+import Model.EllerGenerator;
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.ParallelGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MazeGenerator implementations.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MazeGeneratorTest {
+    /**
+     * The maze sizes each algorithm is checked on, as rows and columns.
+     */
+    private static final int[][] SIZES = {{1, 1}, {1, 9}, {9, 1}, {2, 2}, {13, 17}, {40, 25}};
+
+    @Test
+    public void testEveryAlgorithmMakesPerfectMazes() {
+        for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+            for (int[] size : SIZES) {
+                final Maze maze = new Maze(size[0], size[1], algorithm.create());
+                assertPerfect(maze, algorithm + " " + size[0] + "x" + size[1]);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelTilesAreStitchedIntoPerfectMazes() {
+        for (int tileSize = 1; tileSize <= 6; tileSize++) {
+            for (int[] size : SIZES) {
+                final Maze maze = new Maze(size[0], size[1], new ParallelGenerator(tileSize));
+                assertPerfect(maze, "tiles of " + tileSize + " " + size[0] + "x" + size[1]);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ParallelGenerator(0));
+    }
+
+    @Test
+    public void testRegenerateKeepsMazePerfect() {
+        final Maze maze = new Maze(12, 12, MazeAlgorithm.KRUSKAL.create());
+        maze.generateMaze();
+        maze.reset();
+        assertPerfect(maze, "regenerated");
+    }
+
+    @Test
+    public void testReusedEllerGeneratorKeepsMazesPerfect() {
+        final EllerGenerator generator = new EllerGenerator();
+        for (int i = 0; i < 5; i++) {
+            assertPerfect(new Maze(10 + i, 15, generator), "reused eller " + i);
+        }
+        assertPerfect(new Maze(6, 4, generator), "reused eller after width change");
+    }
+
+    @Test
+    public void testPassagesAreSymmetric() {
+        final Maze maze = new Maze(8, 8, MazeAlgorithm.PRIM.create());
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 7; col++) {
+                assertEquals(maze.hasPassage(row, col, Direction.EAST), maze.hasPassage(row, col + 1, Direction.WEST));
+            }
+        }
+        assertFalse(maze.hasPassage(0, 0, Direction.NORTH));
+        assertFalse(maze.hasPassage(7, 7, Direction.EAST));
+    }
+
+    @Test
+    public void testCarveOutsideMazeThrows() {
+        final Maze maze = new Maze(3, 3);
+        assertThrows(IllegalArgumentException.class, () -> maze.carvePassage(2, Direction.EAST));
+        assertThrows(IllegalArgumentException.class, () -> maze.carvePassage(0, Direction.NORTH));
+    }
+
+    @Test
+    public void testFromName() {
+        assertEquals(MazeAlgorithm.WILSON, MazeAlgorithm.fromName("wilson"));
+        assertEquals(MazeAlgorithm.ELLER, MazeAlgorithm.fromName(" Eller "));
+        assertThrows(IllegalArgumentException.class, () -> MazeAlgorithm.fromName("dfs"));
+    }
+
+    /**
+     * Asserts that the passages of a maze form a spanning tree of its rooms.
+     */
+    private void assertPerfect(final Maze theMaze, final String theLabel) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        int passages = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (theMaze.hasPassage(row, col, Direction.EAST)) {
+                    passages++;
+                }
+                if (theMaze.hasPassage(row, col, Direction.SOUTH)) {
+                    passages++;
+                }
+            }
+        }
+        assertEquals(rows * cols - 1, passages, theLabel + " passage count");
+
+        final boolean[] seen = new boolean[rows * cols];
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        seen[0] = true;
+        int reached = 0;
+        while (!queue.isEmpty()) {
+            final int cell = queue.poll();
+            reached++;
+            for (Direction direction : Direction.values()) {
+                if (theMaze.hasPassage(cell / cols, cell % cols, direction)) {
+                    final int next = cell + direction.getRow() * cols + direction.getCol();
+                    if (!seen[next]) {
+                        seen[next] = true;
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        assertEquals(rows * cols, reached, theLabel + " connected rooms");
+    }
+}
@@ -0,0 +1,85 @@
+package Test;
+
+import Model.Maze;
+import Model.MazeAlgorithm;
+import Model.MazePool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MazePool class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MazePoolTest {
+    /**
+     * The MazePool instance to be tested.
+     */
+    private MazePool myPool;
+
+    @BeforeEach
+    public void setUp() {
+        myPool = new MazePool(3, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        myPool.close();
+    }
+
+    @Test
+    public void testWarmFillsBucket() throws InterruptedException {
+        myPool.warm(20, 30, MazeAlgorithm.KRUSKAL);
+        awaitReady(20, 30, MazeAlgorithm.KRUSKAL, 3);
+        assertEquals(0, myPool.ready(20, 30, MazeAlgorithm.PRIM));
+    }
+
+    @Test
+    public void testTakeReturnsFreshMazesAndRefills() throws InterruptedException {
+        myPool.warm(10, 10, MazeAlgorithm.BACKTRACKER);
+        awaitReady(10, 10, MazeAlgorithm.BACKTRACKER, 3);
+        final Maze first = myPool.take(10, 10, MazeAlgorithm.BACKTRACKER);
+        final Maze second = myPool.take(10, 10, MazeAlgorithm.BACKTRACKER);
+        assertNotSame(first, second);
+        assertEquals(10, first.getRows());
+        assertEquals(10, first.getCols());
+        assertTrue(first.isStart(0, 0));
+        awaitReady(10, 10, MazeAlgorithm.BACKTRACKER, 3);
+    }
+
+    @Test
+    public void testTakeFromColdBucket() {
+        final Maze maze = myPool.take(4, 7, MazeAlgorithm.ELLER);
+        assertEquals(4, maze.getRows());
+        assertEquals(7, maze.getCols());
+    }
+
+    @Test
+    public void testTakeAfterClose() {
+        myPool.close();
+        assertNotNull(myPool.take(3, 3, MazeAlgorithm.WILSON));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MazePool(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> myPool.take(0, 3, MazeAlgorithm.PRIM));
+        assertThrows(IllegalArgumentException.class, () -> myPool.warm(3, 3, null));
+    }
+
+    /**
+     * Waits up to five seconds for a bucket to hold the given number of mazes.
+     */
+    private void awaitReady(final int theRows, final int theCols, final MazeAlgorithm theAlgorithm,
+                            final int theCount) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (myPool.ready(theRows, theCols, theAlgorithm) < theCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(theCount, myPool.ready(theRows, theCols, theAlgorithm));
+    }
+}
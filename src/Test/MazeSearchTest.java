@@ -0,0 +1,97 @@
+package Test;
+
+import Model.Direction;
+import Model.Maze;
+import Model.MazeSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MazeSearch class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MazeSearchTest {
+    /**
+     * The Maze instance searched.
+     */
+    private Maze myMaze;
+    /**
+     * The MazeSearch instance to be tested.
+     */
+    private MazeSearch mySearch;
+
+    @BeforeEach
+    public void setUp() {
+        myMaze = new Maze(5, 8);
+        mySearch = new MazeSearch(myMaze);
+    }
+
+    @Test
+    public void testExitReachableInFreshMaze() {
+        assertTrue(mySearch.canReachExit(0, 0));
+        assertEquals(40, mySearch.countReachable(0, 0));
+    }
+
+    @Test
+    public void testSealedExitIsUnreachable() {
+        lock(4, 7, Direction.NORTH);
+        lock(4, 7, Direction.WEST);
+        assertFalse(mySearch.canReachExit(0, 0));
+        assertEquals(39, mySearch.countReachable(0, 0));
+        assertTrue(mySearch.canReachExit(4, 7));
+    }
+
+    @Test
+    public void testWallAcrossMaze() {
+        for (int col = 0; col < myMaze.getCols(); col++) {
+            lock(2, col, Direction.SOUTH);
+        }
+        assertFalse(mySearch.canReachExit(0, 0));
+        assertEquals(24, mySearch.countReachable(1, 3));
+        assertTrue(mySearch.canReachExit(3, 0));
+    }
+
+    @Test
+    public void testRepeatedSearchesAreIndependent() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(mySearch.canReachExit(i % 5, i % 8));
+        }
+    }
+
+    @Test
+    public void testLargeMazeDoesNotOverflowStack() {
+        final MazeSearch search = new MazeSearch(new Maze(700, 700));
+        assertTrue(search.canReachExit(0, 0));
+    }
+
+    @Test
+    public void testOutOfBoundsStart() {
+        assertFalse(mySearch.canReachExit(-1, 0));
+        assertEquals(0, mySearch.countReachable(5, 0));
+    }
+
+    /**
+     * Permanently locks the door on the given side of a room and its partner.
+     */
+    private void lock(final int theRow, final int theCol, final Direction theDirection) {
+        myMaze.myMaze[theRow][theCol].getDoor(theDirection).setPermanentlyLocked(true);
+        myMaze.myMaze[theRow + theDirection.getRow()][theCol + theDirection.getCol()]
+                .getDoor(opposite(theDirection)).setPermanentlyLocked(true);
+    }
+
+    /**
+     * Returns the opposite of the given direction.
+     */
+    private Direction opposite(final Direction theDirection) {
+        return switch (theDirection) {
+            case NORTH -> Direction.SOUTH;
+            case SOUTH -> Direction.NORTH;
+            case EAST -> Direction.WEST;
+            case WEST -> Direction.EAST;
+        };
+    }
+}
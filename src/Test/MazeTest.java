@@ -2,6 +2,7 @@ package Test;
 
 import Model.Direction;
 import Model.Maze;
+import Model.MazeAlgorithm;
 import Model.Room;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -129,4 +130,114 @@ public class MazeTest {
         Room endRoom = myMaze.myMaze[myMaze.getRows() - 1][myMaze.getCols() - 1];
         assertTrue(endRoom.getExit());
     }
+
+    @Test
+    public void testRectangularMaze() {
+        final Maze maze = new Maze(4, 7);
+        assertEquals(4, maze.getRows());
+        assertEquals(7, maze.getCols());
+        assertTrue(maze.myMaze[0][0].getStart());
+        assertTrue(maze.myMaze[3][6].getExit());
+        assertEquals(5, maze.myMaze[2][5].getCol());
+        assertEquals(2, maze.myMaze[2][5].getRow());
+    }
+
+    @Test
+    public void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new Maze(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new Maze(5, -1));
+    }
+
+    @Test
+    public void testWalkToExitOfLargeMaze() {
+        final Maze maze = new Maze(20, 30);
+        for (int col = 0; col < maze.getCols() - 1; col++) {
+            maze.getCurrentRoom().getDoor(Direction.EAST).doorOpen();
+            maze.movePlayer(Direction.EAST);
+        }
+        assertFalse(maze.canMovePlayer(Direction.EAST));
+        for (int row = 0; row < maze.getRows() - 1; row++) {
+            assertFalse(maze.endOfMazeCheck());
+            maze.getCurrentRoom().getDoor(Direction.SOUTH).doorOpen();
+            maze.movePlayer(Direction.SOUTH);
+        }
+        assertFalse(maze.canMovePlayer(Direction.SOUTH));
+        assertTrue(maze.getCurrentRoom().getExit());
+        assertTrue(maze.endOfMazeCheck());
+    }
+
+    @Test
+    public void testSameSeedGivesSameMaze() {
+        for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+            final Maze first = new Maze(15, 21, algorithm.create(), 1234L);
+            final Maze second = new Maze(15, 21, algorithm.create(), 1234L);
+            assertEquals(passages(first), passages(second), algorithm + " layout");
+            assertEquals(1234L, first.getSeed());
+        }
+        assertNotEquals(passages(new Maze(15, 21, MazeAlgorithm.KRUSKAL.create(), 1L)),
+                passages(new Maze(15, 21, MazeAlgorithm.KRUSKAL.create(), 2L)));
+    }
+
+    @Test
+    public void testResetFollowsSeedSequence() {
+        final Maze first = new Maze(10, 10, MazeAlgorithm.PRIM.create(), 99L);
+        final Maze second = new Maze(10, 10, MazeAlgorithm.PRIM.create(), 99L);
+        final String start = passages(first);
+        first.reset();
+        second.reset();
+        assertNotEquals(99L, first.getSeed());
+        assertEquals(first.getSeed(), second.getSeed());
+        assertEquals(passages(first), passages(second));
+        first.reset(99L);
+        assertEquals(start, passages(first));
+    }
+
+    /**
+     * Describes the passages of a maze as a string of east and south bits, one digit per room.
+     */
+    private String passages(final Maze theMaze) {
+        final StringBuilder builder = new StringBuilder();
+        for (int row = 0; row < theMaze.getRows(); row++) {
+            for (int col = 0; col < theMaze.getCols(); col++) {
+                builder.append((theMaze.hasPassage(row, col, Direction.EAST) ? 1 : 0)
+                        + (theMaze.hasPassage(row, col, Direction.SOUTH) ? 2 : 0));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void testDoorViewsShareRoomState() {
+        final Room room = myMaze.getCurrentRoom();
+        assertSame(room.getDoor(Direction.EAST), room.getDoor(Direction.EAST));
+        assertTrue(room.getDoor(Direction.NORTH).permanentlyLocked());
+        room.getDoor(Direction.EAST).doorOpen();
+        assertFalse(myMaze.isDoorClosed(0, 0, Direction.EAST));
+        assertTrue(myMaze.canMovePlayer(Direction.EAST));
+
+        myMaze.lockDoor(0, 0, Direction.SOUTH);
+        assertTrue(room.getDoor(Direction.SOUTH).permanentlyLocked());
+        assertTrue(myMaze.myMaze[1][0].getDoor(Direction.NORTH).isLock());
+    }
+
+    @Test
+    public void testNeighboursShareDoors() {
+        final Maze maze = new Maze(4, 5);
+        maze.myMaze[1][2].getDoor(Direction.SOUTH).doorOpen();
+        assertFalse(maze.myMaze[2][2].getDoor(Direction.NORTH).isClosed());
+        maze.myMaze[3][4].getDoor(Direction.WEST).doorLock();
+        assertTrue(maze.myMaze[3][3].getDoor(Direction.EAST).isLock());
+        maze.openDoor(0, 1, Direction.WEST);
+        assertFalse(maze.isDoorClosed(0, 0, Direction.EAST));
+
+        for (int row = 0; row < 4; row++) {
+            assertTrue(maze.isDoorLocked(row, 0, Direction.WEST));
+            assertTrue(maze.isDoorLocked(row, 4, Direction.EAST));
+        }
+        for (int col = 0; col < 5; col++) {
+            assertTrue(maze.isDoorLocked(0, col, Direction.NORTH));
+            assertTrue(maze.isDoorLocked(3, col, Direction.SOUTH));
+        }
+        assertFalse(maze.isDoorLocked(1, 1, Direction.NORTH));
+    }
 }
@@ -0,0 +1,153 @@
+package Test;
+
+import Model.Direction;
+import Model.MazeGrid;
+import Model.MazeSearch;
+import Model.MultiLevelMaze;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MultiLevelMaze class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class MultiLevelMazeTest {
+
+    @Test
+    public void testEveryFloorIsPerfectAndStairsJoinThem() {
+        final MultiLevelMaze maze = new MultiLevelMaze(5, 21, 17, 3L);
+        for (int floor = 0; floor < 5; floor++) {
+            int passages = 0;
+            for (int row = 0; row < 21; row++) {
+                for (int col = 0; col < 17; col++) {
+                    passages += (maze.hasPassage(floor, row, col, Direction.EAST) ? 1 : 0)
+                            + (maze.hasPassage(floor, row, col, Direction.SOUTH) ? 1 : 0);
+                }
+            }
+            assertEquals(21 * 17 - 1, passages);
+        }
+        assertEquals(5 * 21 * 17, countConnected(maze));
+    }
+
+    @Test
+    public void testStairsGoBothWays() {
+        final MultiLevelMaze maze = new MultiLevelMaze(3, 6, 6, 8L);
+        int stairs = 0;
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                assertFalse(maze.hasStairsDown(0, row, col));
+                assertFalse(maze.hasStairsUp(2, row, col));
+                assertEquals(maze.hasStairsUp(1, row, col), maze.hasStairsDown(2, row, col));
+                stairs += maze.hasStairsUp(0, row, col) ? 1 : 0;
+            }
+        }
+        assertTrue(stairs >= 1);
+    }
+
+    @Test
+    public void testSameSeedSameMaze() {
+        final MultiLevelMaze first = new MultiLevelMaze(4, 12, 9, 42L);
+        final MultiLevelMaze second = new MultiLevelMaze(4, 12, 9, 42L);
+        for (int floor = 0; floor < 4; floor++) {
+            for (int row = 0; row < 12; row++) {
+                for (int col = 0; col < 9; col++) {
+                    assertEquals(first.hasStairsUp(floor, row, col), second.hasStairsUp(floor, row, col));
+                    for (Direction direction : Direction.values()) {
+                        assertEquals(first.hasPassage(floor, row, col, direction),
+                                second.hasPassage(floor, row, col, direction));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloorViewSharesDoors() {
+        final MultiLevelMaze maze = new MultiLevelMaze(2, 4, 4, 1L);
+        final MazeGrid top = maze.getFloor(1);
+        assertEquals(4, top.getRows());
+        assertTrue(top.isExit(3, 3));
+        assertFalse(top.isStart(0, 0));
+        assertTrue(maze.getFloor(0).isStart(0, 0));
+
+        maze.openDoor(1, 2, 2, Direction.EAST);
+        assertFalse(top.isDoorClosed(2, 3, Direction.WEST));
+        assertTrue(maze.getFloor(0).isDoorClosed(2, 2, Direction.EAST));
+        assertTrue(top.isDoorLocked(0, 0, Direction.NORTH));
+        assertEquals(16, new MazeSearch(top).countReachable(0, 0));
+    }
+
+    @Test
+    public void testLockingStairwellsCutsOffExit() {
+        final MultiLevelMaze maze = new MultiLevelMaze(2, 1, 2, 0L);
+        assertTrue(maze.canReachExit(0, 0, 0));
+        maze.lockDoor(0, 0, 0, Direction.EAST);
+        maze.lockDoor(1, 0, 0, Direction.EAST);
+        final boolean upFromFirst = maze.hasStairsUp(0, 0, 0);
+        assertEquals(upFromFirst, maze.canReachExit(0, 0, 0));
+        assertTrue(maze.canReachExit(1, 0, 1));
+        assertFalse(maze.canReachExit(2, 0, 0));
+    }
+
+    @Test
+    public void testBadDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiLevelMaze(0, 3, 3, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MultiLevelMaze(2, 3, -1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MultiLevelMaze(100_000, 100_000, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MultiLevelMaze(2, 3, 3, 1L).getFloor(2));
+    }
+
+    /**
+     * Counts the rooms joined to the start by carved passages and stairs.
+     *
+     * @param theMaze the maze.
+     * @return the number of connected rooms.
+     */
+    private static int countConnected(final MultiLevelMaze theMaze) {
+        final int rows = theMaze.getRows();
+        final int cols = theMaze.getCols();
+        final boolean[][][] seen = new boolean[theMaze.getFloors()][rows][cols];
+        final ArrayDeque<int[]> queue = new ArrayDeque<>();
+        seen[0][0][0] = true;
+        queue.add(new int[] {0, 0, 0});
+        int count = 0;
+        while (!queue.isEmpty()) {
+            final int[] room = queue.poll();
+            count++;
+            for (Direction direction : Direction.values()) {
+                if (theMaze.hasPassage(room[0], room[1], room[2], direction)) {
+                    visit(seen, queue, room[0], room[1] + direction.getRow(), room[2] + direction.getCol());
+                }
+            }
+            if (theMaze.hasStairsUp(room[0], room[1], room[2])) {
+                visit(seen, queue, room[0] + 1, room[1], room[2]);
+            }
+            if (theMaze.hasStairsDown(room[0], room[1], room[2])) {
+                visit(seen, queue, room[0] - 1, room[1], room[2]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Queues a room unless it has been seen.
+     *
+     * @param theSeen the rooms seen so far.
+     * @param theQueue the queue.
+     * @param theFloor the floor of the room.
+     * @param theRow the row of the room.
+     * @param theCol the column of the room.
+     */
+    private static void visit(final boolean[][][] theSeen, final ArrayDeque<int[]> theQueue,
+                              final int theFloor, final int theRow, final int theCol) {
+        if (!theSeen[theFloor][theRow][theCol]) {
+            theSeen[theFloor][theRow][theCol] = true;
+            theQueue.add(new int[] {theFloor, theRow, theCol});
+        }
+    }
+}
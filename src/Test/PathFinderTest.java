@@ -0,0 +1,136 @@
+package Test;
+
+import Model.Direction;
+import Model.Maze;
+import Model.MazeSearch;
+import Model.PathAlgorithm;
+import Model.PathFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the PathFinder class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class PathFinderTest {
+    /**
+     * The Maze instance searched.
+     */
+    private Maze myMaze;
+    /**
+     * The PathFinder instance to be tested.
+     */
+    private PathFinder myFinder;
+
+    @BeforeEach
+    public void setUp() {
+        myMaze = new Maze(9, 13);
+        myFinder = new PathFinder(myMaze);
+    }
+
+    @Test
+    public void testFreshMazeHasManhattanPaths() {
+        for (PathAlgorithm algorithm : PathAlgorithm.values()) {
+            final int[] path = myFinder.findPath(algorithm, 0, 0, 8, 12);
+            assertEquals(8 + 12 + 1, path.length, algorithm.toString());
+            assertValidPath(myMaze, path, 0, 8 * 13 + 12);
+            assertEquals(20, myFinder.distance(algorithm, 0, 0, 8, 12));
+            assertEquals(0, myFinder.distance(algorithm, 4, 4, 4, 4));
+        }
+    }
+
+    @Test
+    public void testAlgorithmsAgreeWithRandomLocks() {
+        final Random random = new Random(21);
+        final Maze maze = new Maze(30, 30);
+        final PathFinder finder = new PathFinder(maze);
+        final MazeSearch search = new MazeSearch(maze);
+        for (int i = 0; i < 700; i++) {
+            maze.lockDoor(random.nextInt(30), random.nextInt(30), Direction.values()[random.nextInt(4)]);
+            if (i % 50 != 0) {
+                continue;
+            }
+            for (int query = 0; query < 20; query++) {
+                final int fromRow = random.nextInt(30);
+                final int fromCol = random.nextInt(30);
+                final int toRow = random.nextInt(30);
+                final int toCol = random.nextInt(30);
+                final int expected = finder.distance(PathAlgorithm.BFS, fromRow, fromCol, toRow, toCol);
+                for (PathAlgorithm algorithm : PathAlgorithm.values()) {
+                    final int[] path = finder.findPath(algorithm, fromRow, fromCol, toRow, toCol);
+                    assertEquals(expected + 1, path.length, algorithm + " at lock " + i);
+                    if (expected >= 0) {
+                        assertValidPath(maze, path, fromRow * 30 + fromCol, toRow * 30 + toCol);
+                    }
+                }
+            }
+            assertEquals(search.canReachExit(0, 0), finder.pathToExit(0, 0).length > 0);
+        }
+    }
+
+    @Test
+    public void testSealedGoalHasNoPath() {
+        myMaze.lockDoor(8, 12, Direction.NORTH);
+        myMaze.lockDoor(8, 12, Direction.WEST);
+        for (PathAlgorithm algorithm : PathAlgorithm.values()) {
+            assertSame(PathFinder.NO_PATH, myFinder.findPath(algorithm, 0, 0, 8, 12));
+            assertEquals(-1, myFinder.distance(algorithm, 0, 0, 8, 12));
+        }
+        assertNull(myFinder.hint(0, 0));
+    }
+
+    @Test
+    public void testHintPointsAlongShortestPath() {
+        assertNull(myFinder.hint(8, 12));
+        assertTrue(myFinder.hint(0, 0) == Direction.EAST || myFinder.hint(0, 0) == Direction.SOUTH);
+        myMaze.lockDoor(8, 11, Direction.EAST);
+        assertEquals(Direction.SOUTH, myFinder.hint(7, 12));
+        assertEquals(Direction.EAST, new PathFinder(new Maze(1, 4)).hint(0, 0));
+        assertEquals(Direction.SOUTH, new PathFinder(new Maze(4, 1)).hint(0, 0));
+    }
+
+    @Test
+    public void testOpenDoorsOnly() {
+        final PathFinder finder = new PathFinder(myMaze, true);
+        assertEquals(-1, finder.distance(PathAlgorithm.BFS, 0, 0, 0, 2));
+        myMaze.openDoor(0, 0, Direction.EAST);
+        myMaze.openDoor(0, 1, Direction.EAST);
+        for (PathAlgorithm algorithm : PathAlgorithm.values()) {
+            assertEquals(2, finder.distance(algorithm, 0, 0, 0, 2));
+        }
+    }
+
+    @Test
+    public void testRoomOutsideMazeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> myFinder.findPath(PathAlgorithm.BFS, 0, 0, 9, 0));
+        assertThrows(IllegalArgumentException.class, () -> myFinder.findPath(null, 0, 0, 1, 1));
+    }
+
+    /**
+     * Asserts that a path runs from the start to the goal, one passable door at a time.
+     */
+    private void assertValidPath(final Maze theMaze, final int[] thePath, final int theStart, final int theGoal) {
+        final int cols = theMaze.getCols();
+        assertEquals(theStart, thePath[0]);
+        assertEquals(theGoal, thePath[thePath.length - 1]);
+        for (int i = 1; i < thePath.length; i++) {
+            final int row = thePath[i - 1] / cols;
+            final int col = thePath[i - 1] % cols;
+            boolean stepped = false;
+            for (Direction direction : Direction.values()) {
+                if ((row + direction.getRow()) * cols + col + direction.getCol() == thePath[i]
+                        && Math.abs(thePath[i] % cols - col) + Math.abs(thePath[i] / cols - row) == 1) {
+                    assertTrue(theMaze.isTraversable(row, col, direction), "Step " + i + " passes a locked door");
+                    stepped = true;
+                }
+            }
+            assertTrue(stepped, "Step " + i + " is not to a neighbouring room");
+        }
+    }
+}
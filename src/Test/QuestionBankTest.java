@@ -0,0 +1,177 @@
+package Test;
+
+import Model.MultipleChoiceQuestion;
+import Model.Question;
+import Model.QuestionBank;
+import Model.ShortAnswerQuestion;
+import Model.TrueFalseQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the QuestionBank class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class QuestionBankTest {
+
+    /**
+     * Makes the questions a loader returns, as the database would.
+     *
+     * @return a new list of new questions.
+     */
+    private static List<Question> load() {
+        final MultipleChoiceQuestion choice =
+                new MultipleChoiceQuestion("Largest animal?", "a) Blue whale", "Multiple-Choice");
+        choice.setChoices(new String[] {"a) Blue whale", "b) Elephant"});
+        final List<Question> questions = new ArrayList<>();
+        questions.add(choice);
+        questions.add(new TrueFalseQuestion("Bananas are berries.", "True", "True/False"));
+        questions.add(new ShortAnswerQuestion("Capital of France?", "Paris", "Short Answer"));
+        questions.add(new ShortAnswerQuestion("Bananas are berries.", "Yes", "Short Answer"));
+        return questions;
+    }
+
+    @Test
+    public void testLoadsOnceAndGroupsByType() {
+        final AtomicInteger loads = new AtomicInteger();
+        final QuestionBank bank = new QuestionBank(() -> {
+            loads.incrementAndGet();
+            return load();
+        }, null);
+
+        assertEquals(1, bank.getQuestions("Multiple-Choice").size());
+        assertEquals(1, bank.getQuestions("True/False").size());
+        assertEquals(2, bank.getQuestions("Short Answer").size());
+        assertTrue(bank.getQuestions("Essay").isEmpty());
+        assertEquals(4, bank.getAllQuestions().size());
+        assertSame(bank.getQuestions("True/False"), bank.getQuestions("True/False"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testQuestionsAreShared() {
+        final QuestionBank bank = new QuestionBank(QuestionBankTest::load, null);
+        final Question question = bank.getQuestions("Short Answer").get(0);
+
+        assertTrue(question.isFrozen());
+        assertThrows(IllegalStateException.class, () -> question.setAnswerText("Lyon"));
+        assertThrows(UnsupportedOperationException.class, () -> bank.getQuestions("Short Answer").clear());
+        assertEquals("Paris", question.getAnswerText());
+    }
+
+    @Test
+    public void testChoicesCannotBeChangedThroughBank() {
+        final QuestionBank bank = new QuestionBank(QuestionBankTest::load, null);
+        final MultipleChoiceQuestion question = (MultipleChoiceQuestion) bank.getQuestions("Multiple-Choice").get(0);
+
+        question.getChoices()[0] = "z) Shark";
+        assertEquals("a) Blue whale", question.getChoices()[0]);
+        assertThrows(IllegalStateException.class, () -> question.setChoices(new String[] {"x"}));
+    }
+
+    @Test
+    public void testRefreshLoadsAgain() {
+        final AtomicInteger loads = new AtomicInteger();
+        final QuestionBank bank = new QuestionBank(() -> {
+            loads.incrementAndGet();
+            return load();
+        }, null);
+        final Question before = bank.getAllQuestions().get(0);
+
+        bank.refresh();
+
+        assertEquals(2, loads.get());
+        assertNotSame(before, bank.getAllQuestions().get(0));
+        assertFalse(bank.refreshIfChanged());
+    }
+
+    @Test
+    public void testRefreshIfChangedFollowsSourceFile() throws IOException, InterruptedException {
+        final Path source = Files.createTempFile("questions", ".db");
+        try {
+            final AtomicInteger loads = new AtomicInteger();
+            final QuestionBank bank = new QuestionBank(() -> {
+                loads.incrementAndGet();
+                return load();
+            }, source);
+            Thread.sleep(QuestionBank.CHECK_INTERVAL_NANOS / 1_000_000 + 50);
+            assertFalse(bank.refreshIfChanged());
+
+            Files.setLastModifiedTime(source, FileTime.fromMillis(
+                    Files.getLastModifiedTime(source).toMillis() + 10_000));
+            assertFalse(bank.refreshIfChanged(), "Checked again before the interval passed");
+            Thread.sleep(QuestionBank.CHECK_INTERVAL_NANOS / 1_000_000 + 50);
+            assertEquals(4, bank.getAllQuestions().size());
+
+            assertEquals(2, loads.get());
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Test
+    public void testNullLoader() {
+        assertThrows(IllegalArgumentException.class, () -> new QuestionBank(null, null));
+    }
+
+    @Test
+    public void testSampleDrawsDistinctQuestionsOfType() {
+        final List<Question> many = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            many.add(new ShortAnswerQuestion("Question " + i + "?", "Answer", "Short Answer"));
+        }
+        final QuestionBank bank = new QuestionBank(() -> many, null);
+
+        final List<Question> drawn = bank.sample("Short Answer", 50, Set.of(), new SplittableRandom(1));
+
+        assertEquals(50, drawn.size());
+        final Set<Question> distinct = new HashSet<>(drawn);
+        assertEquals(50, distinct.size());
+        assertTrue(bank.sample("True/False", 5, Set.of(), new SplittableRandom(1)).isEmpty());
+    }
+
+    @Test
+    public void testSampleSkipsExcludedAndStopsWhenTypeRunsOut() {
+        final QuestionBank bank = new QuestionBank(QuestionBankTest::load, null);
+
+        final List<Question> drawn = bank.sample("Short Answer", 5, Set.of("Capital of France?"),
+                new SplittableRandom(2));
+
+        assertEquals(1, drawn.size());
+        assertEquals("Bananas are berries.", drawn.get(0).getQuestionText());
+    }
+
+    @Test
+    public void testSampleIsUniform() {
+        final QuestionBank bank = new QuestionBank(QuestionBankTest::load, null);
+        final SplittableRandom random = new SplittableRandom(3);
+        int france = 0;
+        for (int i = 0; i < 2_000; i++) {
+            if ("Capital of France?".equals(bank.sample("Short Answer", 1, Set.of(), random).get(0).getQuestionText())) {
+                france++;
+            }
+        }
+        assertTrue(france > 850 && france < 1_150, "Drawn " + france + " times out of 2000");
+    }
+
+    @Test
+    public void testSampleInvalidArguments() {
+        final QuestionBank bank = new QuestionBank(QuestionBankTest::load, null);
+        assertThrows(IllegalArgumentException.class, () -> bank.sample("Short Answer", -1, Set.of(), new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class, () -> bank.sample("Short Answer", 1, null, new SplittableRandom()));
+    }
+}
@@ -0,0 +1,106 @@
+package Test;
+
+import Model.Question;
+import Model.QuestionBank;
+import Model.QuestionFactory;
+import Model.ShortAnswerQuestion;
+import Model.TrueFalseQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the QuestionFactory class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class QuestionFactoryTest {
+    /**
+     * The types of question drawn.
+     */
+    private static final List<String> TYPES = List.of("True/False", "Short Answer");
+
+    /**
+     * Makes a bank with the given numbers of true or false and short answer questions.
+     *
+     * @param theTrueFalse the number of true or false questions.
+     * @param theShortAnswer the number of short answer questions.
+     * @return the bank.
+     */
+    private static QuestionBank bank(final int theTrueFalse, final int theShortAnswer) {
+        final List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < theTrueFalse; i++) {
+            questions.add(new TrueFalseQuestion("Statement " + i + ".", "True", "True/False"));
+        }
+        for (int i = 0; i < theShortAnswer; i++) {
+            questions.add(new ShortAnswerQuestion("Question " + i + "?", "Answer", "Short Answer"));
+        }
+        return new QuestionBank(() -> questions, null);
+    }
+
+    /**
+     * Counts the questions of a type.
+     *
+     * @param theQuestions the questions.
+     * @param theType the type.
+     * @return the number of questions of the type.
+     */
+    private static long count(final List<Question> theQuestions, final String theType) {
+        return theQuestions.stream().filter(theQuestion -> theType.equals(theQuestion.getQuestionType())).count();
+    }
+
+    @Test
+    public void testRandomQuestionsAreSpreadOverTypes() {
+        final List<Question> questions = QuestionFactory.getRandomQuestions(bank(100, 100), TYPES, 10,
+                Set.of(), new SplittableRandom(4));
+
+        assertEquals(10, questions.size());
+        assertEquals(5, count(questions, "True/False"));
+        assertEquals(5, count(questions, "Short Answer"));
+        assertEquals(10, new HashSet<>(questions).size());
+    }
+
+    @Test
+    public void testShortTypeIsMadeUpByOthers() {
+        final List<Question> questions = QuestionFactory.getRandomQuestions(bank(2, 100), TYPES, 10,
+                Set.of(), new SplittableRandom(5));
+
+        assertEquals(10, questions.size());
+        assertEquals(2, count(questions, "True/False"));
+        assertEquals(8, count(questions, "Short Answer"));
+    }
+
+    @Test
+    public void testExcludedQuestionsAreNotDrawn() {
+        final Set<String> asked = Set.of("Statement 0.", "Statement 1.", "Question 0?");
+        final List<Question> questions = QuestionFactory.getRandomQuestions(bank(3, 2), TYPES, 10,
+                asked, new SplittableRandom(6));
+
+        assertEquals(2, questions.size());
+        for (Question question : questions) {
+            assertFalse(asked.contains(question.getQuestionText()));
+        }
+    }
+
+    @Test
+    public void testSameSeedGivesSameQuestions() {
+        final QuestionBank bank = bank(50, 50);
+        assertEquals(QuestionFactory.getRandomQuestions(bank, TYPES, 7, Set.of(), new SplittableRandom(9)),
+                QuestionFactory.getRandomQuestions(bank, TYPES, 7, Set.of(), new SplittableRandom(9)));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> QuestionFactory.getRandomQuestions(null, TYPES, 1,
+                Set.of(), new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class, () -> QuestionFactory.getRandomQuestions(bank(1, 1), TYPES, -1,
+                Set.of(), new SplittableRandom()));
+    }
+}
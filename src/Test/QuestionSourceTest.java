@@ -0,0 +1,175 @@
+package Test;
+
+import Model.Question;
+import Model.QuestionBank;
+import Model.QuestionSampler;
+import Model.QuestionSource;
+import Model.ShortAnswerQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the QuestionSource class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class QuestionSourceTest {
+    /**
+     * The types of question drawn.
+     */
+    private static final List<String> TYPES = List.of("Short Answer");
+
+    /**
+     * Makes a bank of short answer questions.
+     *
+     * @param theCount the number of questions.
+     * @return the bank.
+     */
+    private static QuestionBank bank(final int theCount) {
+        final List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < theCount; i++) {
+            questions.add(new ShortAnswerQuestion("Question " + i + "?", "Answer", "Short Answer"));
+        }
+        return new QuestionBank(() -> questions, null);
+    }
+
+    @Test
+    public void testNeverRepeatsWithinSession() {
+        try (QuestionSource source = new QuestionSource(bank(500), TYPES, 8, 1_000, new SplittableRandom(1))) {
+            final Set<String> asked = new HashSet<>();
+            for (int i = 0; i < 500; i++) {
+                assertTrue(asked.add(source.next().getQuestionText()), "Repeated at question " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testStartsOverWhenStoreIsExhausted() {
+        try (QuestionSource source = new QuestionSource(bank(5), TYPES, 8, 1_000, new SplittableRandom(2))) {
+            final Set<String> first = new HashSet<>();
+            for (int i = 0; i < 5; i++) {
+                first.add(source.next().getQuestionText());
+            }
+            assertEquals(5, first.size());
+            for (int i = 0; i < 20; i++) {
+                assertNotNull(source.next());
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyStoreGivesNull() {
+        try (QuestionSource source = new QuestionSource(bank(0), TYPES)) {
+            assertNull(source.next());
+            assertNull(source.next());
+        }
+    }
+
+    @Test
+    public void testFetchesAheadInBatches() throws InterruptedException {
+        final AtomicInteger requested = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+        final QuestionBank bank = bank(1_000);
+        final QuestionSampler counting = (theType, theCount, theExclude, theRandom) -> {
+            calls.incrementAndGet();
+            requested.addAndGet(theCount);
+            return bank.sample(theType, theCount, theExclude, theRandom);
+        };
+        try (QuestionSource source = new QuestionSource(counting, TYPES, 10, 1_000, new SplittableRandom(3))) {
+            for (int i = 0; i < 100; i++) {
+                source.next();
+            }
+            Thread.sleep(100);
+            assertTrue(calls.get() <= 25, "Fetched " + calls.get() + " times for 100 questions");
+            assertTrue(requested.get() <= 110, "Fetched " + requested.get() + " questions for 100");
+            assertTrue(source.getReadyCount() > 5);
+        }
+    }
+
+    @Test
+    public void testNextDoesNotWaitForSlowStoreOnceAhead() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final QuestionBank bank = bank(100);
+        final AtomicInteger calls = new AtomicInteger();
+        final QuestionSampler slow = (theType, theCount, theExclude, theRandom) -> {
+            if (calls.getAndIncrement() > 0) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return bank.sample(theType, theCount, theExclude, theRandom);
+        };
+        try (QuestionSource source = new QuestionSource(slow, TYPES, 8, 1_000, new SplittableRandom(4))) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < 8; i++) {
+                assertNotNull(source.next());
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2), "Waited for the slow fetch");
+            release.countDown();
+            assertNotNull(source.next());
+        }
+    }
+
+    @Test
+    public void testAwaitReadyLeavesFirstQuestionWaiting() {
+        final QuestionBank bank = bank(10);
+        final QuestionSampler slow = (theType, theCount, theExclude, theRandom) -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return bank.sample(theType, theCount, theExclude, theRandom);
+        };
+        try (QuestionSource source = new QuestionSource(slow, TYPES, 8, 1_000, new SplittableRandom(5))) {
+            assertTrue(source.awaitReady());
+            final int ready = source.getReadyCount();
+            assertTrue(ready > 0);
+
+            final long start = System.nanoTime();
+            assertNotNull(source.next());
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100), "Waited for the store");
+            assertEquals(ready - 1, source.getReadyCount());
+        }
+        try (QuestionSource source = new QuestionSource(bank(0), TYPES)) {
+            assertFalse(source.awaitReady());
+            assertNull(source.next());
+        }
+    }
+
+    @Test
+    public void testFailingStoreGivesNull() {
+        try (QuestionSource source = new QuestionSource((theType, theCount, theExclude, theRandom) -> {
+            throw new IllegalStateException("store down");
+        }, TYPES)) {
+            assertNull(source.next());
+        }
+    }
+
+    @Test
+    public void testClosedSourceRejectsNext() {
+        final QuestionSource source = new QuestionSource(bank(10), TYPES);
+        source.close();
+        assertThrows(IllegalStateException.class, source::next);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new QuestionSource(null, TYPES));
+        assertThrows(IllegalArgumentException.class, () -> new QuestionSource(bank(1), TYPES, 0, 1,
+                new SplittableRandom()));
+    }
+}
@@ -2,10 +2,16 @@ package Test;
 
 import Model.MultipleChoiceQuestion;
 import Model.Question;
+import Model.QuestionFactory;
 import Model.ShortAnswerQuestion;
 import Model.TrueFalseQuestion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -113,4 +119,23 @@ public class QuestionTest {
                 ("Is the sky blue?", "True", "True/False");
         assertEquals("True/False", trueFalseQuestion.getQuestionType());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSeededShuffleIsReproducible() {
+        final List<Integer> first = new ArrayList<>();
+        final List<Integer> second = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            first.add(i);
+            second.add(i);
+        }
+        QuestionFactory.shuffle(first, new SplittableRandom(5));
+        QuestionFactory.shuffle(second, new SplittableRandom(5));
+        assertEquals(first, second);
+        final List<Integer> sorted = new ArrayList<>(first);
+        sorted.sort(null);
+        assertNotEquals(sorted, first);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(Integer.valueOf(i), sorted.get(i));
+        }
+    }
+}
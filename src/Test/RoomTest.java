@@ -2,10 +2,15 @@ package Test;
 
 import Model.Direction;
 import Model.Door;
+import Model.Maze;
 import Model.Room;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -185,4 +190,51 @@ public class RoomTest {
         assertTrue(doors.contains(westDoor));
     }
 
+    @Test
+    public void testDoorStateFoldedIntoRoom() {
+        assertTrue(room.isDoorLocked(Direction.NORTH));
+        assertTrue(room.isDoorClosed(Direction.NORTH));
+        northDoor.doorOpen();
+        assertFalse(room.isDoorLocked(Direction.NORTH));
+        assertFalse(room.isDoorClosed(Direction.NORTH));
+        assertTrue(room.isDoorClosed(Direction.SOUTH));
+        eastDoor.setPermanentlyLocked(true);
+        assertTrue(room.isDoorPermanentlyLocked(Direction.EAST));
+        assertFalse(room.isDoorPermanentlyLocked(Direction.WEST));
+    }
+    @Test
+    public void testResetDoors() {
+        westDoor.doorOpen();
+        westDoor.setPermanentlyLocked(true);
+        room.resetDoors();
+        assertTrue(westDoor.isClosed());
+        assertFalse(westDoor.isLock());
+        assertTrue(westDoor.permanentlyLocked());
+    }
+    @Test
+    public void testMissingDoors() {
+        room = new Room(null, southDoor, null, null);
+        assertNull(room.getDoor(Direction.NORTH));
+        assertSame(southDoor, room.getDoor(Direction.SOUTH));
+        assertSame(southDoor, room.getDoor(0));
+        assertEquals(1, room.getDoors().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> room.getDoor(1));
+    }
+
+    @Test
+    public void testMazeRoomCanBeSerialized() throws Exception {
+        final Maze maze = new Maze(3, 3);
+        maze.openDoor(0, 0, Direction.EAST);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(maze.getCurrentRoom());
+        }
+        final Room room;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            room = (Room) in.readObject();
+        }
+        assertFalse(room.isDoorClosed(Direction.EAST));
+        assertTrue(room.isDoorClosed(Direction.SOUTH));
+        assertTrue(room.isDoorPermanentlyLocked(Direction.NORTH));
+    }
 }
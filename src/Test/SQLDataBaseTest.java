@@ -1,14 +1,26 @@
 package Test;
 
+import Model.ConnectionPool;
 import Model.MultipleChoiceQuestion;
 import Model.Question;
 import Model.ShortAnswerQuestion;
 import Model.SQLQuestionDataBase;
 import Model.TrueFalseQuestion;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,11 +35,25 @@ public class SQLDataBaseTest {
      * The SQLQuestionDataBase instance to be tested.
      */
     private SQLQuestionDataBase questionDatabase;
+    /**
+     * The copy of the game's database the tests read, so the shipped file is never touched.
+     */
+    private Path myFile;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws IOException {
+        myFile = Files.createTempFile("questions", ".db");
+        Files.copy(Path.of(SQLQuestionDataBase.DATABASE_FILE), myFile, StandardCopyOption.REPLACE_EXISTING);
         questionDatabase = new SQLQuestionDataBase();
-        questionDatabase.initializeDatabase();
+        questionDatabase.initializeDatabase(myFile.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (SQLQuestionDataBase.getConnectionPool() != null) {
+            SQLQuestionDataBase.getConnectionPool().close();
+        }
+        Files.deleteIfExists(myFile);
     }
 
     @Test
@@ -79,4 +105,53 @@ public class SQLDataBaseTest {
         }
         assertTrue(containsShortAnswerQuestion, "The list of questions should contain at least one ShortAnswerQuestion");
     }
+
+    @Test
+    void testReadQuestionsFromDatabase_NoRepeatedQuestions() {
+        List<Question> questions = questionDatabase.readQuestionsFromDatabase();
+        Set<String> texts = new HashSet<>();
+        for (Question q : questions) {
+            assertTrue(texts.add(q.getQuestionText()), "Repeated question: " + q.getQuestionText());
+        }
+    }
+
+    @Test
+    void testReadQuestionsOfType_OnlyThatType() {
+        List<Question> questions = SQLQuestionDataBase.readQuestionsOfType("True/False");
+        assertFalse(questions.isEmpty(), "The list of questions should not be empty");
+        for (Question q : questions) {
+            assertEquals("True/False", q.getQuestionType());
+        }
+    }
+
+    @Test
+    void testSampleQuestions_DistinctAndOfType() {
+        int available = SQLQuestionDataBase.readQuestionsOfType("Multiple-Choice").size();
+        List<Question> sample = SQLQuestionDataBase.sampleQuestions("Multiple-Choice", 5, new SplittableRandom(3));
+        assertEquals(Math.min(5, available), sample.size());
+        Set<String> texts = new HashSet<>();
+        for (Question q : sample) {
+            assertTrue(q instanceof MultipleChoiceQuestion);
+            assertTrue(texts.add(q.getQuestionText()), "Repeated question: " + q.getQuestionText());
+        }
+        assertEquals(available,
+                SQLQuestionDataBase.sampleQuestions("Multiple-Choice", available + 10, new SplittableRandom(3)).size());
+    }
+
+    @Test
+    void testDeletingQuestionDeletesItsOptions() throws SQLException {
+        try (ConnectionPool.Lease lease = SQLQuestionDataBase.getConnectionPool().lease();
+             Statement stmt = lease.getConnection().createStatement()) {
+            long id;
+            try (ResultSet rs = stmt.executeQuery("SELECT QUESTION_ID FROM question_options LIMIT 1")) {
+                assertTrue(rs.next(), "The database should have options");
+                id = rs.getLong(1);
+            }
+            stmt.executeUpdate("DELETE FROM questions WHERE ID = " + id);
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM question_options WHERE QUESTION_ID = " + id)) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1), "The options of a deleted question should be deleted");
+            }
+        }
+    }
 }
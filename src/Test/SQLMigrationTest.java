@@ -0,0 +1,179 @@
+package Test;
+
+import Model.SQLQuestionDataBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sqlite.SQLiteDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the migration of a question database made before the current schema.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class SQLMigrationTest {
+    /**
+     * The file holding the database being migrated.
+     */
+    private Path myFile;
+
+    @BeforeEach
+    public void setUp() throws IOException, SQLException {
+        myFile = Files.createTempFile("questions", ".db");
+        try (Connection conn = connect(); Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE questions (QUESTION_TYPE TEXT, QUESTION TEXT NOT NULL, "
+                    + "ANSWER TEXT NOT NULL, OPTIONS TEXT NOT NULL)");
+            for (int i = 0; i < 3; i++) {
+                stmt.executeUpdate("INSERT INTO questions VALUES ('Multiple-Choice', "
+                        + "'What is the capital city of Australia?', 'c) Canberra', "
+                        + "'a) Sydney;b) Melbourne;c) Canberra')");
+                stmt.executeUpdate("INSERT INTO questions VALUES ('True/False', 'Bananas are berries.', "
+                        + "'True', 'True;False')");
+            }
+            stmt.executeUpdate("INSERT INTO questions VALUES ('Short Answer', "
+                    + "'What do bees collect to make honey?', 'Nectar', '')");
+            stmt.executeUpdate("INSERT INTO questions VALUES ('Multiple-Choice', "
+                    + "'What is the capital city of Australia?', 'a) Sydney', 'a) Sydney;b) Perth')");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (SQLQuestionDataBase.getConnectionPool() != null) {
+            SQLQuestionDataBase.getConnectionPool().close();
+        }
+        Files.deleteIfExists(myFile);
+    }
+
+    @Test
+    public void testMigrationDropsRepeatsAndKeepsOptionOrder() throws SQLException {
+        SQLQuestionDataBase.initializeDatabase(myFile.toString());
+        try (Connection conn = connect(); Statement stmt = conn.createStatement()) {
+            assertEquals(3, queryInt(stmt, "SELECT COUNT(*) FROM questions"));
+            assertEquals(5, queryInt(stmt, "SELECT COUNT(*) FROM question_options"));
+            assertEquals(1, queryInt(stmt, "PRAGMA user_version"));
+            assertEquals(0, queryInt(stmt,
+                    "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = 'questions_legacy'"));
+            assertEquals("c) Canberra", queryString(stmt,
+                    "SELECT ANSWER FROM questions WHERE QUESTION = 'What is the capital city of Australia?'"));
+            assertEquals(List.of("a) Sydney", "b) Melbourne", "c) Canberra"), options(stmt,
+                    "What is the capital city of Australia?"));
+            assertEquals(List.of("True", "False"), options(stmt, "Bananas are berries."));
+            assertEquals(List.of(), options(stmt, "What do bees collect to make honey?"));
+        }
+    }
+
+    @Test
+    public void testSecondMigrationChangesNothing() throws SQLException {
+        SQLQuestionDataBase.initializeDatabase(myFile.toString());
+        try (Connection conn = connect(); Statement stmt = conn.createStatement()) {
+            final List<String> before = dump(stmt);
+            final int version = queryInt(stmt, "PRAGMA data_version");
+
+            SQLQuestionDataBase.initializeDatabase(myFile.toString());
+
+            assertEquals(version, queryInt(stmt, "PRAGMA data_version"), "The second run wrote to the database");
+            assertEquals(before, dump(stmt));
+            assertEquals(1, queryInt(stmt, "PRAGMA user_version"));
+        }
+    }
+
+    /**
+     * Opens a connection to the database being migrated.
+     *
+     * @return the connection.
+     * @throws SQLException if the database cannot be opened.
+     */
+    private Connection connect() throws SQLException {
+        final SQLiteDataSource source = new SQLiteDataSource();
+        source.setUrl("jdbc:sqlite:" + myFile);
+        return source.getConnection();
+    }
+
+    /**
+     * Runs a query that returns a single number.
+     *
+     * @param theStmt the statement to run it with.
+     * @param theQuery the query.
+     * @return the number.
+     * @throws SQLException if the query fails.
+     */
+    private static int queryInt(final Statement theStmt, final String theQuery) throws SQLException {
+        try (ResultSet rs = theStmt.executeQuery(theQuery)) {
+            assertTrue(rs.next(), theQuery);
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Runs a query that returns a single string.
+     *
+     * @param theStmt the statement to run it with.
+     * @param theQuery the query.
+     * @return the string.
+     * @throws SQLException if the query fails.
+     */
+    private static String queryString(final Statement theStmt, final String theQuery) throws SQLException {
+        try (ResultSet rs = theStmt.executeQuery(theQuery)) {
+            assertTrue(rs.next(), theQuery);
+            return rs.getString(1);
+        }
+    }
+
+    /**
+     * Reads the options of a question in order.
+     *
+     * @param theStmt the statement to read them with.
+     * @param theQuestion the text of the question.
+     * @return the options.
+     * @throws SQLException if the options cannot be read.
+     */
+    private static List<String> options(final Statement theStmt, final String theQuestion) throws SQLException {
+        final List<String> options = new ArrayList<>();
+        try (ResultSet rs = theStmt.executeQuery("SELECT o.OPTION_TEXT FROM question_options o "
+                + "JOIN questions q ON q.ID = o.QUESTION_ID WHERE q.QUESTION = '"
+                + theQuestion.replace("'", "''") + "' ORDER BY o.POSITION")) {
+            while (rs.next()) {
+                options.add(rs.getString(1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Reads every question and option, with their IDs and positions.
+     *
+     * @param theStmt the statement to read them with.
+     * @return one line per question and option.
+     * @throws SQLException if the database cannot be read.
+     */
+    private static List<String> dump(final Statement theStmt) throws SQLException {
+        final List<String> lines = new ArrayList<>();
+        try (ResultSet rs = theStmt.executeQuery(
+                "SELECT ID, QUESTION_TYPE, QUESTION, ANSWER FROM questions ORDER BY ID")) {
+            while (rs.next()) {
+                lines.add(rs.getLong(1) + "|" + rs.getString(2) + "|" + rs.getString(3) + "|" + rs.getString(4));
+            }
+        }
+        try (ResultSet rs = theStmt.executeQuery(
+                "SELECT QUESTION_ID, POSITION, OPTION_TEXT FROM question_options ORDER BY QUESTION_ID, POSITION")) {
+            while (rs.next()) {
+                lines.add(rs.getLong(1) + "#" + rs.getInt(2) + "|" + rs.getString(3));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,53 @@
+package Test;
+
+import Controller.BotStrategy;
+import Controller.Simulation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Simulation class.
+ *
+ * @author Binal Dhaliwal
+ * @version 1.0
+ */
+public class SimulationTest {
+    @Test
+    public void testPerfectOptimalBotsAlwaysWinInFewestMoves() {
+        final Simulation.Result result = Simulation.run(4, 5, BotStrategy.OPTIMAL, 1.0, 3_000, 17L);
+        assertEquals(3_000, result.getGames());
+        assertEquals(3_000, result.getWins());
+        assertEquals(0, result.getLosses());
+        assertEquals(1.0, result.getWinRate());
+        assertEquals(7.0, result.getAverageMoves());
+        assertEquals(7.0, result.getAverageQuestions());
+    }
+
+    @Test
+    public void testSameSeedGivesSameTotals() {
+        final Simulation.Result first = Simulation.run(6, 6, BotStrategy.GREEDY, 0.7, 2_500, 3L);
+        final Simulation.Result second = Simulation.run(6, 6, BotStrategy.GREEDY, 0.7, 2_500, 3L);
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getLosses(), second.getLosses());
+        assertEquals(first.getAverageMoves(), second.getAverageMoves());
+        assertEquals(first.getAverageQuestions(), second.getAverageQuestions());
+        assertTrue(first.getWinRate() > 0 && first.getWinRate() < 1);
+    }
+
+    @Test
+    public void testNoGames() {
+        final Simulation.Result result = Simulation.run(3, 3, BotStrategy.RANDOM, 0.5, 0, 1L);
+        assertEquals(0, result.getGames());
+        assertEquals(0.0, result.getWinRate());
+        assertEquals(0.0, result.getAverageMoves());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Simulation.run(0, 3, BotStrategy.RANDOM, 0.5, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> Simulation.run(3, 3, null, 0.5, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> Simulation.run(3, 3, BotStrategy.RANDOM, -0.1, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> Simulation.run(3, 3, BotStrategy.RANDOM, 0.5, -1, 1L));
+    }
+}
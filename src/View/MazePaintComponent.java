@@ -2,9 +2,7 @@ package View;
 
 import Controller.Player;
 import Model.Direction;
-import Model.Door;
-import Model.Maze;
-import Model.Room;
+import Model.MazeGrid;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -21,14 +19,14 @@ public class MazePaintComponent {
      * The paintComponent method draws the maze, the player, doors, rooms and the exit.
      *
      * @param theG the Graphics object used for drawing.
-     * @param theMaze the maze object representing the structure of the maze.
+     * @param theMaze the maze to draw, either a whole maze or the window of an endless one.
      * @param thePlayerImage the image representing the player character.
      * @param theEndImage the image representing the exit point in the maze.
      * @param thePlayer the player object representing the player in the maze.
      * @param thePanelWidth the width of the panel.
      * @param thePanelHeight the height of the panel.
      */
-    protected final void paintComponent(final Graphics2D theG, final Maze theMaze,
+    protected final void paintComponent(final Graphics2D theG, final MazeGrid theMaze,
                                         final BufferedImage thePlayerImage,
                                         final BufferedImage theEndImage,
                                         final Player thePlayer, final int thePanelWidth,
@@ -56,32 +54,28 @@ public class MazePaintComponent {
 
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                final Room room = theMaze.myMaze[i][j];
-
-                if (room != null) {
-                    final int x = offsetX + (int) (j * cellSize * scalingFactor);
-                    final int y = offsetY + (int) (i * cellSize * scalingFactor);
-                    final int scaledCellSize = (int) (cellSize * scalingFactor);
-
-                    if (room.getStart()) {
-                        final int scaledBoxSize = (int) (scaledCellSize * 0.8);
-                        theG.setColor(Color.BLUE);
-                        theG.fillRect(x + (scaledCellSize - scaledBoxSize) / 2, y + (scaledCellSize - scaledBoxSize) / 2, scaledBoxSize, scaledBoxSize);
-                    } else if (room.getExit()) {
-                        final int scaledIconSize = (int) (cellSize * scalingFactor * iconScalingFactor);
-                        theG.drawImage(theEndImage, x, y, scaledIconSize, scaledIconSize, null);
-                    }
+                final int x = offsetX + (int) (j * cellSize * scalingFactor);
+                final int y = offsetY + (int) (i * cellSize * scalingFactor);
+                final int scaledCellSize = (int) (cellSize * scalingFactor);
+
+                if (theMaze.isStart(i, j)) {
+                    final int scaledBoxSize = (int) (scaledCellSize * 0.8);
+                    theG.setColor(Color.BLUE);
+                    theG.fillRect(x + (scaledCellSize - scaledBoxSize) / 2, y + (scaledCellSize - scaledBoxSize) / 2, scaledBoxSize, scaledBoxSize);
+                } else if (theMaze.isExit(i, j)) {
+                    final int scaledIconSize = (int) (cellSize * scalingFactor * iconScalingFactor);
+                    theG.drawImage(theEndImage, x, y, scaledIconSize, scaledIconSize, null);
+                }
 
-                    theG.setColor(Color.BLACK);
+                theG.setColor(Color.BLACK);
 
-                    for (Door door : room.getDoors()) {
-                        if (door.permanentlyLocked()) {
-                            drawLockedDoor(theG, x, y, scaledCellSize, door.getDirection());
-                        } else if (door.isClosed()) {
-                            drawClosedDoor(theG, x, y, scaledCellSize, door.getDirection());
-                        } else {
-                            drawUnlockedDoor(theG, x, y, scaledCellSize, door.getDirection());
-                        }
+                for (Direction direction : Direction.values()) {
+                    if (theMaze.isDoorLocked(i, j, direction)) {
+                        drawLockedDoor(theG, x, y, scaledCellSize, direction);
+                    } else if (theMaze.isDoorClosed(i, j, direction)) {
+                        drawClosedDoor(theG, x, y, scaledCellSize, direction);
+                    } else {
+                        drawUnlockedDoor(theG, x, y, scaledCellSize, direction);
                     }
                 }
             }
@@ -14,7 +14,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 /**
  * The MazePanel class represents the view for the maze game. It handles the drawing
- * of the maze, the player, and the exit, and manages player movement and game state.
+ * of the maze, the player, and the exit, and passes player moves to a {@link GameEngine},
+ * which owns the game rules.
  *
  * @author Anagha Krishna, Binal Dhaliwal, Bhavneet Bhargava
  * @version 1.0
@@ -36,6 +37,14 @@ public class MazePanel extends JPanel {
      * The maze object representing the structure of the maze.
      */
     private Maze myMaze;
+    /**
+     * The engine that applies the game rules; the panel only draws what it reports.
+     */
+    private GameEngine myEngine;
+    /**
+     * The log the actions of each game are written to, or null.
+     */
+    private GameEventLog myEventLog;
     /**
      * The image representing the player character.
      */
@@ -66,6 +75,7 @@ public class MazePanel extends JPanel {
         myPlayer = thePlayer;
         myGameModel = theGameModel;
         myMaze = myGameModel.getMaze();
+        myEngine = new GameEngine(theGameModel);
         myCurrentRoom = myGameModel.getPlayerLocation();
         myMazeComp = new MazePaintComponent();
         loadPlayerImage();
@@ -90,6 +100,10 @@ public class MazePanel extends JPanel {
         }
         myGameModel = theGameModel;
         myMaze = myGameModel.getMaze();
+        myEngine = new GameEngine(theGameModel);
+        if (myEventLog != null) {
+            myEventLog.attach(myEngine);
+        }
         myPlayer = new Player("Player1", 0, myMaze);
         myCurrentRoom = myGameModel.getPlayerLocation();
         notifyRoomChangeListener(myCurrentRoom);
@@ -97,106 +111,100 @@ public class MazePanel extends JPanel {
     }
 
     /**
-     * Opens a door in the specified direction.
-     * Updates the current room based on direction and whether it is locked or open.
+     * Gets the engine applying the rules of the current game.
      *
-     * @param theDirection The direction of the door to open.
+     * @return the game engine.
      */
-    public final void openDoor(final Direction theDirection) {
-        final Room currentRoom = myGameModel.getPlayerLocation();
-        final int currentRow = myPlayer.getCurrentRow();
-        final int currentCol = myPlayer.getCurrentCol();
-
-        int newRow = currentRow;
-        int newCol = currentCol;
+    public final GameEngine getEngine() {
+        return myEngine;
+    }
 
-        switch (theDirection) {
-            case NORTH -> newRow = currentRow - 1;
-            case SOUTH -> newRow = currentRow + 1;
-            case EAST -> newCol = currentCol + 1;
-            case WEST -> newCol = currentCol - 1;
+    /**
+     * Sets the log the actions of the current game, and of every game after it, are written to.
+     *
+     * @param theEventLog the log, or null to stop logging.
+     */
+    public final void setEventLog(final GameEventLog theEventLog) {
+        myEventLog = theEventLog;
+        if (theEventLog == null) {
+            myEngine.setListener(null);
+        } else {
+            theEventLog.attach(myEngine);
         }
+    }
 
-        if (newRow >= 0 && newRow < myMaze.myMaze.length && newCol >= 0 && newCol < myMaze.myMaze[0].length) {
-            final Room otherRoom = myMaze.myMaze[newRow][newCol];
-            final Door door = currentRoom.getDoor(theDirection);
-
-            final Direction oppositeDirection = getOppositeDirection(theDirection);
-            final Door otherDoor = otherRoom.getDoor(oppositeDirection);
-
-            if (door != null && !door.permanentlyLocked()) {
-                door.doorOpen();
-                if (otherDoor != null && !otherDoor.permanentlyLocked()) {
-                    otherDoor.doorOpen();
-                }
-                myGameModel.updateDoorState(currentRoom, theDirection, door.isLock());
-                assert otherDoor != null;
-                myGameModel.updateDoorState(otherRoom, oppositeDirection, otherDoor.isLock());
-
-                myGameModel.setPlayerLocation(otherRoom);
-                myPlayer.setCurrentLocation(newRow, newCol);
-                updateCurrentRoom(otherRoom);
+    /**
+     * Answers the current question for the door in the specified direction. A right answer
+     * opens the door and moves the player through it, a wrong one locks the door for good.
+     *
+     * @param theDirection The direction of the door.
+     * @param theAnswer The player's answer.
+     * @return true if the answer was right.
+     */
+    public final boolean answer(final Direction theDirection, final String theAnswer) {
+        if (theDirection == null || !myEngine.canAttempt(theDirection)) {
+            LOGGER.log(Level.FINE, "Door {0} cannot be tried", theDirection);
+            return false;
+        }
+        final boolean correct = myEngine.answer(theDirection, theAnswer);
+        if (correct) {
+            playerMoved();
+        } else {
+            repaint();
+            notifyRoomChangeListener(myGameModel.getPlayerLocation());
+            handleOutcome();
+        }
+        return correct;
+    }
 
-                notifyRoomChangeListener(otherRoom);
-                repaint();
-                if (otherRoom.getExit()) {
-                    handleWin();
-                } else {
-                    handleLoss();
-                }
-            } else {
-                System.out.println("This door is permanently locked and cannot be opened.");
-            }
+    /**
+     * Opens a door in the specified direction after a right answer and moves the player through it.
+     *
+     * @param theDirection The direction of the door to open.
+     */
+    public final void openDoor(final Direction theDirection) {
+        if (myEngine.passDoor(theDirection)) {
+            playerMoved();
         } else {
-            System.out.println("Cannot move in the given direction, out of maze bounds.");
+            System.out.println("This door cannot be opened.");
         }
     }
 
     /**
-     * Locks a door in the specified direction.
-     * Updates the current room based on direction and whether it is locked or open.
+     * Permanently locks a door in the specified direction after a wrong answer.
      *
      * @param theDirection The direction of the door to lock.
      */
     public final void lockDoor(final Direction theDirection) {
-        final Room currentRoom = myGameModel.getPlayerLocation();
-        final int currentRow = myPlayer.getCurrentRow();
-        final int currentCol = myPlayer.getCurrentCol();
-
-        int newRow = currentRow;
-        int newCol = currentCol;
-
-        switch (theDirection) {
-            case NORTH -> newRow = currentRow - 1;
-            case SOUTH -> newRow = currentRow + 1;
-            case EAST -> newCol = currentCol + 1;
-            case WEST -> newCol = currentCol - 1;
+        if (myEngine.lockDoor(theDirection)) {
+            repaint();
+            notifyRoomChangeListener(myGameModel.getPlayerLocation());
+            handleOutcome();
+        } else {
+            System.out.println("Cannot move in the given direction, out of maze bounds.");
         }
+    }
 
-        if (newRow >= 0 && newRow < myMaze.myMaze.length && newCol >= 0 && newCol < myMaze.myMaze[0].length) {
-            final Room otherRoom = myMaze.myMaze[newRow][newCol];
-            final Door door = currentRoom.getDoor(theDirection);
-
-            final Direction oppositeDirection = getOppositeDirection(theDirection);
-            final Door otherDoor = otherRoom.getDoor(oppositeDirection);
-
-            if (door != null) {
-                door.setPermanentlyLocked(true);
-                door.setLock(true);
-                if (otherDoor != null) {
-                    otherDoor.setPermanentlyLocked(true);
-                    otherDoor.setLock(true);
-                }
-                myGameModel.updateDoorState(currentRoom, theDirection, door.isLock());
-                assert otherDoor != null;
-                myGameModel.updateDoorState(otherRoom, oppositeDirection, otherDoor.isLock());
+    /**
+     * Brings the player, current room and listeners up to date after the engine moved the player.
+     */
+    private void playerMoved() {
+        final Room newRoom = myGameModel.getPlayerLocation();
+        myPlayer.setCurrentLocation(myEngine.getRow(), myEngine.getCol());
+        updateCurrentRoom(newRoom);
+        notifyRoomChangeListener(newRoom);
+        repaint();
+        handleOutcome();
+    }
 
-                repaint();
-                notifyRoomChangeListener(currentRoom);
-                handleLoss();
-            }
-        } else {
-            System.out.println("Cannot move in the given direction, out of maze bounds.");
+    /**
+     * Tells the player when the engine has decided the game is won or lost.
+     */
+    private void handleOutcome() {
+        if (myEngine.getStatus() == GameStatus.WON) {
+            handleWin();
+        } else if (myEngine.getStatus() == GameStatus.LOST) {
+            handleLoss();
         }
     }
 
@@ -215,89 +223,30 @@ public class MazePanel extends JPanel {
     }
 
     /**
-     * Handles the loss scenario by displaying a game over message if there is no possible path to the exit.
+     * Handles the loss scenario by displaying a game over message, as there is no possible path to the exit.
      */
     private void handleLoss() {
-        if (noPossiblePathToExit()) {
-            try {
-                MusicController.playLossSound();
-            } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Error handling loss sound", e);
-            }
-
-            JOptionPane.showMessageDialog(this,
-                    "Game Over! There is no possible path to the exit. Press 'New Game' to start again.",
-                    "End of Maze", JOptionPane.ERROR_MESSAGE);
-        }
-    }
-
-    /**
-     * Checks if there is no possible path to the exit.
-     *
-     * @return true if there is no possible path to the exit, false otherwise.
-     */
-    private boolean noPossiblePathToExit() {
-        final boolean[][] visited = new boolean[myMaze.getRows()][myMaze.getCols()];
-        return !canReachExit(myPlayer.getCurrentRow(), myPlayer.getCurrentCol(), visited);
-    }
-
-    /**
-     * Recursively checks if the exit can be reached from the specified position.
-     *
-     * @param theRow The row of the current position.
-     * @param theCol The column of the current position.
-     * @param theVisited A 2D array tracking visited positions.
-     * @return true if the exit can be reached, false otherwise.
-     */
-    private boolean canReachExit(final int theRow, final int theCol, final boolean[][] theVisited) {
-        if (theRow < 0 || theRow >= myMaze.getRows() || theCol < 0 || theCol >= myMaze.getCols()) {
-            return false;
-        }
-        if (theVisited[theRow][theCol]) {
-            return false;
-        }
-        theVisited[theRow][theCol] = true;
-
-        final Room room = myMaze.myMaze[theRow][theCol];
-        if (room.getExit()) {
-            return true;
-        }
-
-        for (Direction direction : Direction.values()) {
-            Door door = room.getDoor(direction);
-            if (door != null && !door.permanentlyLocked()) {
-                int newRow = theRow;
-                int newCol = theCol;
-
-                switch (direction) {
-                    case NORTH -> newRow = theRow - 1;
-                    case SOUTH -> newRow = theRow + 1;
-                    case EAST -> newCol = theCol + 1;
-                    case WEST -> newCol = theCol - 1;
-                }
-
-                if (canReachExit(newRow, newCol, theVisited)) {
-                    return true;
-                }
-            }
+        try {
+            MusicController.playLossSound();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error handling loss sound", e);
         }
 
-        return false;
+        JOptionPane.showMessageDialog(this,
+                "Game Over! There is no possible path to the exit. Press 'New Game' to start again.",
+                "End of Maze", JOptionPane.ERROR_MESSAGE);
     }
 
     /**
-     * Handles key events to move the player.
+     * Handles key events to move the player through open doors.
      *
      * @param theE The key event.
      */
     public final void handleKeyEvent(final KeyEvent theE) {
         final Direction direction = getDirectionFromKeyEvent(theE);
         if (direction != null) {
-            final Room currentRoom = myMaze.myMaze[myPlayer.getCurrentRow()][myPlayer.getCurrentCol()];
-            final Door door = currentRoom.getDoor(direction);
-
-            if (door != null && !door.isClosed() && !door.permanentlyLocked()) {
-                movePlayer(direction);
+            if (myEngine.move(direction)) {
+                playerMoved();
             } else {
                 System.out.println("Cannot move in the given direction, door is closed or locked.");
             }
@@ -306,21 +255,6 @@ public class MazePanel extends JPanel {
         }
     }
 
-    /**
-     * Returns the opposite direction of the given direction.
-     *
-     * @param theDirection The original direction.
-     * @return The opposite direction.
-     */
-    private Direction getOppositeDirection(final Direction theDirection) {
-        return switch (theDirection) {
-            case NORTH -> Direction.SOUTH;
-            case SOUTH -> Direction.NORTH;
-            case EAST -> Direction.WEST;
-            case WEST -> Direction.EAST;
-        };
-    }
-
     /**
      * Gets the direction from the key event.
      *
@@ -337,64 +271,6 @@ public class MazePanel extends JPanel {
         };
     }
 
-    /**
-     * Moves the player in the specified direction.
-     * Checks to see if the north door is closed or locked. If it so not,
-     * the player moves in that direction.
-     * Updates the current room and notifies changes.
-     *
-     * @param theDirection The direction to move the player.
-     */
-    private void movePlayer(final Direction theDirection) {
-        switch (theDirection) {
-            case NORTH -> {
-                if (myPlayer.getCurrentRow() > 0) {
-                    final Room currentRoom = myMaze.myMaze[myPlayer.getCurrentRow()][myPlayer.getCurrentCol()];
-                    final Door northDoor = currentRoom.getDoor(Direction.NORTH);
-                    if (!northDoor.isClosed() && !northDoor.permanentlyLocked()) {
-                        myPlayer.moveNorth();
-                    }
-                }
-            }
-            case SOUTH -> {
-                if (myPlayer.getCurrentRow() < myMaze.getRows() - 1) {
-                    final Room currentRoom = myMaze.myMaze[myPlayer.getCurrentRow()][myPlayer.getCurrentCol()];
-                    final Door southDoor = currentRoom.getDoor(Direction.SOUTH);
-                    if (!southDoor.isClosed() && !southDoor.permanentlyLocked()) {
-                        myPlayer.moveSouth();
-                    }
-                }
-            }
-            case WEST -> {
-                if (myPlayer.getCurrentCol() > 0) {
-                    final Room currentRoom = myMaze.myMaze[myPlayer.getCurrentRow()][myPlayer.getCurrentCol()];
-                    final Door westDoor = currentRoom.getDoor(Direction.WEST);
-                    if (!westDoor.isClosed() && !westDoor.permanentlyLocked()) {
-                        myPlayer.moveWest();
-                    }
-                }
-            }
-            case EAST -> {
-                if (myPlayer.getCurrentCol() < myMaze.getCols() - 1) {
-                    final Room currentRoom = myMaze.myMaze[myPlayer.getCurrentRow()][myPlayer.getCurrentCol()];
-                    final Door eastDoor = currentRoom.getDoor(Direction.EAST);
-                    if (!eastDoor.isClosed() && !eastDoor.permanentlyLocked()) {
-                        myPlayer.moveEast();
-                    }
-                }
-            }
-        }
-        final Room newRoom = myMaze.myMaze[myPlayer.getCurrentRow()][myPlayer.getCurrentCol()];
-        myGameModel.setPlayerLocation(newRoom);
-        updateCurrentRoom(newRoom);
-        notifyRoomChangeListener(newRoom);
-        if (newRoom.getExit()) {
-            handleWin();
-        } else {
-            handleLoss();
-        }
-    }
-
     /**
      * Updates the current room.
      *
@@ -480,9 +356,7 @@ public class MazePanel extends JPanel {
             for (int j = 0; j < myMaze.getCols(); j++) {
                 Room room = myMaze.myMaze[i][j];
                 if (room != null) {
-                    for (Door door : room.getDoors()) {
-                        door.reset();
-                    }
+                    room.resetDoors();
                 }
             }
         }
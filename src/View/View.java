@@ -6,10 +6,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.awt.Font;
 
 /**
@@ -21,12 +22,12 @@ import java.awt.Font;
  */
 public class View extends JFrame implements QuestionInterface, NavigationInterface, MazePanel.RoomChangeListener {
 
+    /** The logger for the game window. */
+    private static final Logger LOGGER = Logger.getLogger(View.class.getName());
+
     /** The current room the player is in. */
     private Room myCurrentRoom;
 
-    /** The index of the current question being displayed. */
-    private int myCurrentQuestionIndex = 0;
-
     /** The text area displaying the question. */
     private JTextArea myQuestionTextArea;
 
@@ -72,9 +73,6 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
     /** Panel for short answer input. */
     private JPanel myShortAnswerPanel;
 
-    /** List of questions. */
-    private List<Question> myQuestions;
-
     /** The direction the player is attempting to move. */
     private Direction myAttemptedDirection;
 
@@ -87,6 +85,15 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
     /** The game state. */
     private final GameState myGameState;
 
+    /** Mazes generated in the background so a new game starts at once. */
+    private final MazePool myMazePool;
+
+    /** Questions of the current game, fetched ahead in the background. */
+    private QuestionSource myQuestionSource;
+
+    /** Loads the questions of the current game off the event thread. */
+    private SwingWorker<QuestionSource, Void> myQuestionLoader;
+
     /**
      * Constructs a new View instance and initializes the GUI components.
      */
@@ -102,6 +109,8 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
         contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.X_AXIS));
         add(contentPanel, BorderLayout.CENTER);
 
+        myMazePool = new MazePool(2, 1);
+        myMazePool.warm(Maze.MAZE_SIZE, Maze.MAZE_SIZE, MazeAlgorithm.BACKTRACKER);
         myGameModel = new GameModel();
         myGameState = new GameState();
 
@@ -203,11 +212,11 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
         return myGameState;
     }
     /**
-     * Resets the game by reinitializing the game model and player,
-     * resetting the doors state, and updating the display.
+     * Resets the game by reinitializing the game model around a ready maze from the pool
+     * and the player, resetting the doors state, and updating the display.
      */
     public final void resetGame() {
-        myGameModel = new GameModel();
+        myGameModel = new GameModel(myMazePool.take(Maze.MAZE_SIZE, Maze.MAZE_SIZE, MazeAlgorithm.BACKTRACKER));
         myCurrentRoom = myGameModel.getMaze().getCurrentRoom();
         myCurrentPlayer = new Player("Player1", 0, myGameModel.getMaze());
         myGamePanel.setPlayer(myCurrentPlayer);
@@ -215,7 +224,6 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
         myGamePanel.resetDoorsState();
         myGamePanel.repaint();
         myNextButtonAdded = false;
-        myCurrentQuestionIndex = 0;
 
         clearInputComponents();
         GameTimer.resetTimer();
@@ -229,21 +237,31 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
     }
 
     /**
-     * Displays a question from the shuffled list of questions.
+     * Starts streaming random questions for the game, fetched a few at a time in the
+     * background. The question bank is loaded and the first questions fetched off the
+     * event thread, and the first question is displayed once it is ready.
      */
     private void questionShow() {
-        SQLQuestionDataBase.initializeDatabase();
         final List<String> questionTypes = Arrays.asList("Multiple-Choice", "True/False", "Short Answer");
-        final List<Question> questions = QuestionFactory.getQuestionsFromDatabase(questionTypes);
-        myQuestions = new ArrayList<>(questions);
-        Collections.shuffle(myQuestions);
-
-        if (!questions.isEmpty()) {
-            myCurrentQuestionIndex = 0;
-            displayQuestion(myQuestions.get(myCurrentQuestionIndex));
-        } else {
-            JOptionPane.showMessageDialog(this, "No questions found.");
+        if (myQuestionSource != null) {
+            myQuestionSource.close();
+            myQuestionSource = null;
         }
+        myGamePanel.getEngine().setQuestions(List.of());
+        myQuestionLoader = new SwingWorker<>() {
+            @Override
+            protected QuestionSource doInBackground() {
+                final QuestionSource source = new QuestionSource(QuestionBank.getDefault(), questionTypes);
+                source.awaitReady();
+                return source;
+            }
+
+            @Override
+            protected void done() {
+                showFirstQuestion(this);
+            }
+        };
+        myQuestionLoader.execute();
 
         if (!myNextButtonAdded) {
             myQuestionPanel.setBackground(new Color(255, 153, 51));
@@ -254,6 +272,42 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
         repaint();
     }
 
+    /**
+     * Hands the questions loaded in the background to the game and displays the first,
+     * unless another game has been started since they were requested.
+     *
+     * @param theLoader the loader that has finished.
+     */
+    private void showFirstQuestion(final SwingWorker<QuestionSource, Void> theLoader) {
+        QuestionSource source = null;
+        try {
+            source = theLoader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Cannot load questions", e);
+        }
+        if (theLoader != myQuestionLoader) {
+            if (source != null) {
+                source.close();
+            }
+            return;
+        }
+        myQuestionLoader = null;
+        myQuestionSource = source;
+        final GameEngine engine = myGamePanel.getEngine();
+        if (source != null) {
+            engine.setQuestionSource(source);
+        }
+        if (engine.getCurrentQuestion() != null) {
+            displayQuestion(engine.getCurrentQuestion());
+        } else {
+            JOptionPane.showMessageDialog(this, "No questions found.");
+        }
+        myQuestionPanel.revalidate();
+        myQuestionPanel.repaint();
+    }
+
     /**
      * Displays the given question.
      *
@@ -391,16 +445,16 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
 
         final String correctAnswer = myCurrentMcQuestion.getAnswerText();
 
-        if (theSelectedAnswer.equalsIgnoreCase(correctAnswer)) {
+        if (GameEngine.isCorrect(myCurrentMcQuestion, theSelectedAnswer)) {
             JOptionPane.showMessageDialog(this, "Correct!");
-            myGamePanel.openDoor(myAttemptedDirection);
+            myGamePanel.answer(myAttemptedDirection, theSelectedAnswer);
             displayNavigationOptions(myCurrentRoom);
             disableMultipleChoiceOptions();
             moveToNextQuestion();
             myGamePanel.setCanPlayerMove(true);
         } else {
             JOptionPane.showMessageDialog(this, "Incorrect. The correct answer is " + correctAnswer + ".");
-            myGamePanel.lockDoor(myAttemptedDirection);
+            myGamePanel.answer(myAttemptedDirection, theSelectedAnswer);
             moveToNextQuestion();
         }
     }
@@ -451,19 +505,19 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
      */
     private void checkAnswer(final TrueFalseQuestion theTfQuestion, final boolean theSelectedAnswer) {
         final String correctAnswer = theTfQuestion.getAnswerText();
-        final boolean isCorrect = (theSelectedAnswer && correctAnswer.equalsIgnoreCase("true")) ||
-                (!theSelectedAnswer && correctAnswer.equalsIgnoreCase("false"));
 
-        if (isCorrect) {
+        final String answer = String.valueOf(theSelectedAnswer);
+
+        if (GameEngine.isCorrect(theTfQuestion, answer)) {
             JOptionPane.showMessageDialog(this, "Correct!");
-            myGamePanel.openDoor(myAttemptedDirection);
+            myGamePanel.answer(myAttemptedDirection, answer);
             displayNavigationOptions(myCurrentRoom);
             disableTrueFalseOptions();
             moveToNextQuestion();
             myGamePanel.setCanPlayerMove(true);
         } else {
             JOptionPane.showMessageDialog(this, "Incorrect. The correct answer is " + correctAnswer + ".");
-            myGamePanel.lockDoor(myAttemptedDirection);
+            myGamePanel.answer(myAttemptedDirection, answer);
             moveToNextQuestion();
         }
     }
@@ -522,18 +576,18 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
         if (myCurrentSaQuestion == null) {
             return;
         }
-        final String userAnswer = myShortAnswerField.getText().trim();
+        final String userAnswer = myShortAnswerField.getText();
         final String correctAnswer = myCurrentSaQuestion.getAnswerText();
 
-        if (userAnswer.equalsIgnoreCase(correctAnswer)) {
+        if (GameEngine.isCorrect(myCurrentSaQuestion, userAnswer)) {
             displayFeedbackAndNextQuestion("Correct!");
-            myGamePanel.openDoor(myAttemptedDirection);
+            myGamePanel.answer(myAttemptedDirection, userAnswer);
             displayNavigationOptions(myCurrentRoom);
             moveToNextQuestion();
             myGamePanel.setCanPlayerMove(true);
         } else {
             JOptionPane.showMessageDialog(this, "Incorrect. The correct answer is " + correctAnswer + ".");
-            myGamePanel.lockDoor(myAttemptedDirection);
+            myGamePanel.answer(myAttemptedDirection, userAnswer);
             moveToNextQuestion();
         }
     }
@@ -594,9 +648,9 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
      */
     private void moveToNextQuestion() {
         clearInputComponents();
-        if (myCurrentQuestionIndex < myQuestions.size() - 1) {
-            myCurrentQuestionIndex++;
-            displayQuestion(myQuestions.get(myCurrentQuestionIndex));
+        final GameEngine engine = myGamePanel.getEngine();
+        if (engine.nextQuestion()) {
+            displayQuestion(engine.getCurrentQuestion());
         } else {
             JOptionPane.showMessageDialog(this, "You have answered all questions.");
         }
@@ -620,45 +674,21 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
             myGreenBoxPanel.add(directionLabel);
 
             final JButton northButton = new JButton("Go North");
-            northButton.addActionListener(e -> {
-                myAttemptedDirection = Direction.NORTH;
-                displayQuestion(myQuestions.get(myCurrentQuestionIndex));
-                enableMultipleChoiceOptions();
-                enableTrueFalseOptions();
-                enableShortAnswerInput();
-            });
+            northButton.addActionListener(e -> attemptDoor(Direction.NORTH));
 
             final JButton southButton = new JButton("Go South");
-            southButton.addActionListener(e -> {
-                myAttemptedDirection = Direction.SOUTH;
-                displayQuestion(myQuestions.get(myCurrentQuestionIndex));
-                enableMultipleChoiceOptions();
-                enableTrueFalseOptions();
-                enableShortAnswerInput();
-            });
+            southButton.addActionListener(e -> attemptDoor(Direction.SOUTH));
 
             final JButton eastButton = new JButton("Go East");
-            eastButton.addActionListener(e -> {
-                myAttemptedDirection = Direction.EAST;
-                displayQuestion(myQuestions.get(myCurrentQuestionIndex));
-                enableMultipleChoiceOptions();
-                enableTrueFalseOptions();
-                enableShortAnswerInput();
-            });
+            eastButton.addActionListener(e -> attemptDoor(Direction.EAST));
 
             final JButton westButton = new JButton("Go West");
-            westButton.addActionListener(e -> {
-                myAttemptedDirection = Direction.WEST;
-                displayQuestion(myQuestions.get(myCurrentQuestionIndex));
-                enableMultipleChoiceOptions();
-                enableTrueFalseOptions();
-                enableShortAnswerInput();
-            });
-
-            checkDoorStateAndBounds(northButton, theRoom, Direction.NORTH);
-            checkDoorStateAndBounds(southButton, theRoom, Direction.SOUTH);
-            checkDoorStateAndBounds(eastButton, theRoom, Direction.EAST);
-            checkDoorStateAndBounds(westButton, theRoom, Direction.WEST);
+            westButton.addActionListener(e -> attemptDoor(Direction.WEST));
+
+            checkDoorStateAndBounds(northButton, Direction.NORTH);
+            checkDoorStateAndBounds(southButton, Direction.SOUTH);
+            checkDoorStateAndBounds(eastButton, Direction.EAST);
+            checkDoorStateAndBounds(westButton, Direction.WEST);
 
             myGreenBoxPanel.add(northButton);
             myGreenBoxPanel.add(southButton);
@@ -674,19 +704,28 @@ public class View extends JFrame implements QuestionInterface, NavigationInterfa
     }
 
     /**
-     * Checks the state of the door and bounds, enabling or disabling the navigation button accordingly.
+     * Chooses the door in the given direction and shows the question to answer for it.
+     *
+     * @param theDirection the direction of the door.
+     */
+    private void attemptDoor(final Direction theDirection) {
+        myAttemptedDirection = theDirection;
+        final GameEngine engine = myGamePanel.getEngine();
+        displayQuestion(engine.canAttempt(theDirection)
+                ? engine.attempt(theDirection) : engine.getCurrentQuestion());
+        enableMultipleChoiceOptions();
+        enableTrueFalseOptions();
+        enableShortAnswerInput();
+    }
+
+    /**
+     * Enables the navigation button only if the engine allows the door in its direction to be tried.
      *
      * @param theButton the navigation button.
-     * @param room the current room.
      * @param theDirection the direction of the door.
      */
-    private void checkDoorStateAndBounds(final JButton theButton, final Room room, final Direction theDirection) {
-        final Door door = room.getDoor(theDirection);
-        if (door == null || door.permanentlyLocked() || !door.isClosed()) {
-            theButton.setEnabled(false);
-        } else {
-            theButton.setEnabled(true);
-        }
+    private void checkDoorStateAndBounds(final JButton theButton, final Direction theDirection) {
+        theButton.setEnabled(myGamePanel.getEngine().canAttempt(theDirection));
     }
 
     /**